@@ -0,0 +1,67 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of incoming OpenRTB request: JSON tree with types normalization and tree-to-value binding
+ * versus binding from request bytes with types normalization while binding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidRequestDecodingBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"5", "20"})
+    public int bidderCount;
+
+    private JacksonMapper mapper;
+    private OrtbTypesResolver ortbTypesResolver;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        mapper = BenchmarkFixtures.mapper();
+        ortbTypesResolver = new OrtbTypesResolver(0, mapper, new JsonMerger(mapper));
+
+        body = mapper.mapper().writeValueAsBytes(BenchmarkFixtures.bidRequest(impCount, bidderCount));
+    }
+
+    @Benchmark
+    public void treeDecoding(Blackhole blackhole) throws IOException {
+        final JsonNode bidRequestNode = mapper.mapper().readTree(body);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, new ArrayList<>(), null);
+        blackhole.consume(mapper.mapper().treeToValue(bidRequestNode, BidRequest.class));
+    }
+
+    @Benchmark
+    public void streamingDecoding(Blackhole blackhole) throws IOException {
+        blackhole.consume(ortbTypesResolver.decodeBidRequest(body, new ArrayList<>(), null));
+    }
+}
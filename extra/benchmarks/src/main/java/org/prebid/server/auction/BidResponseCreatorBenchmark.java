@@ -0,0 +1,147 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRequestCacheInfo;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.benchmark.BenchmarkServices;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auction response building by {@link BidResponseCreator} for a bid of every bidder on each imp: winning bids
+ * selection, targeting keywords and response extension, without caching and events. All collaborators are real
+ * services wired as application configuration does, without hooks modules and stored data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidResponseCreatorBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private Vertx vertx;
+    private Clock clock;
+    private TimeoutFactory timeoutFactory;
+    private BidResponseCreator bidResponseCreator;
+    private BidRequest bidRequest;
+    private List<AuctionParticipation> auctionParticipations;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = BenchmarkFixtures.mapper();
+        final Metrics metrics = BenchmarkFixtures.metrics();
+        vertx = Vertx.vertx();
+        clock = Clock.systemUTC();
+        timeoutFactory = new TimeoutFactory(clock);
+
+        bidResponseCreator = BenchmarkServices.bidResponseCreator(
+                vertx,
+                BenchmarkServices.bidderCatalog(bidderCount, mapper),
+                BenchmarkServices.applicationSettings(vertx, mapper),
+                BenchmarkServices.hookStageExecutor(vertx, clock, metrics, mapper),
+                clock,
+                metrics,
+                mapper);
+
+        final ExtRequestTargeting targeting = ExtRequestTargeting.builder()
+                .pricegranularity(mapper.mapper().valueToTree(ExtPriceGranularity.of(
+                        2, List.of(ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.1))))))
+                .includewinners(true)
+                .includebidderkeys(true)
+                .includeformat(false)
+                .build();
+        bidRequest = BenchmarkFixtures.bidRequest(impCount, bidderCount).toBuilder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder().targeting(targeting).build()))
+                .build();
+
+        auctionParticipations = new ArrayList<>(bidderCount);
+        final List<Imp> imps = bidRequest.getImp();
+        for (String bidder : BenchmarkFixtures.bidders(bidderCount)) {
+            final List<BidderBid> bids = new ArrayList<>(impCount);
+            for (Imp imp : imps) {
+                final int index = auctionParticipations.size() * impCount + bids.size();
+                bids.add(BidderBid.of(BenchmarkFixtures.bid(index, imp.getId()), BidType.banner, "USD"));
+            }
+
+            final BidderResponse bidderResponse = BidderResponse.of(bidder, BidderSeatBid.of(bids), 100);
+            auctionParticipations.add(AuctionParticipation.builder()
+                    .bidder(bidder)
+                    .bidderResponse(bidderResponse)
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public void create(Blackhole blackhole) {
+        blackhole.consume(bidResponseCreator.create(
+                auctionContext(), BidRequestCacheInfo.noCache(), Collections.emptyMap()).result());
+    }
+
+    // context collects warnings during the response building, so it is created for each invocation
+    private AuctionContext auctionContext() {
+        return AuctionContext.builder()
+                .account(Account.empty("accountId"))
+                .bidRequest(bidRequest)
+                .timeoutContext(TimeoutContext.of(clock.millis(), timeoutFactory.create(1000L), 0))
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .debugHttpCalls(new HashMap<>())
+                .debugWarnings(new ArrayList<>())
+                .auctionParticipations(auctionParticipations)
+                .bidRejectionTrackers(new HashMap<>())
+                .prebidErrors(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,258 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.activity.Activity;
+import org.prebid.server.activity.infrastructure.ActivityController;
+import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
+import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
+import org.prebid.server.auction.completion.AuctionCompletionTrackerFactory;
+import org.prebid.server.auction.mediatypeprocessor.CompositeMediaTypeProcessor;
+import org.prebid.server.auction.mediatypeprocessor.MultiFormatMediaTypeProcessor;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.auction.privacy.enforcement.PrivacyEnforcementService;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverterFactory;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.benchmark.BenchmarkServices;
+import org.prebid.server.bidadjustments.BidAdjustmentsProcessor;
+import org.prebid.server.bidadjustments.BidAdjustmentsResolver;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderConcurrencyLimiter;
+import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.HttpBidderRequestCompressor;
+import org.prebid.server.bidder.HttpBidderRequestEnricher;
+import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.floors.PriceFloorAdjuster;
+import org.prebid.server.floors.PriceFloorEnforcer;
+import org.prebid.server.floors.PriceFloorProcessor;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.AccountEventsConfig;
+import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.validation.BidderParamValidator;
+import org.prebid.server.validation.ImpValidator;
+import org.prebid.server.validation.ResponseBidValidator;
+import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.httpclient.HttpClient;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Whole auction by {@link ExchangeService#holdAuction(AuctionContext)}: users, bid requests and imps of every
+ * bidder are prepared, sent to {@link org.prebid.server.bidder.GenericBidder} bidders answering from memory with
+ * a bid for each imp, and auction response is built. All collaborators are real services wired as application
+ * configuration does, without hooks modules, privacy enforcements, price floors and stored data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExchangeServiceBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private Vertx vertx;
+    private Clock clock;
+    private TimeoutFactory timeoutFactory;
+    private ActivityInfrastructure activityInfrastructure;
+    private ExchangeService exchangeService;
+    private BidRequest bidRequest;
+    private Account account;
+    private UidsCookie uidsCookie;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = BenchmarkFixtures.mapper();
+        final Metrics metrics = BenchmarkFixtures.metrics();
+        vertx = Vertx.vertx();
+        clock = Clock.systemUTC();
+        timeoutFactory = new TimeoutFactory(clock);
+        bidRequest = BenchmarkFixtures.bidRequest(impCount, bidderCount);
+
+        final JsonMerger jsonMerger = new JsonMerger(mapper);
+        final BidderCatalog bidderCatalog = BenchmarkServices.bidderCatalog(bidderCount, mapper);
+        final ApplicationSettings applicationSettings = BenchmarkServices.applicationSettings(vertx, mapper);
+        final HookStageExecutor hookStageExecutor = BenchmarkServices.hookStageExecutor(vertx, clock, metrics, mapper);
+        final ImpValidator impValidator = new ImpValidator(
+                BidderParamValidator.create(new BidderCatalog(Collections.emptyList()), "static/bidder-params", mapper),
+                bidderCatalog,
+                mapper);
+
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                new StoredResponseProcessor(applicationSettings, mapper),
+                new PrivacyEnforcementService(Collections.emptyList()),
+                new FpdResolver(mapper, jsonMerger),
+                new ImpAdjuster(mapper, jsonMerger, impValidator),
+                SupplyChainResolver.create(null, mapper),
+                new DebugResolver(bidderCatalog, null),
+                new CompositeMediaTypeProcessor(Collections.singletonList(
+                        new MultiFormatMediaTypeProcessor(bidderCatalog))),
+                uidUpdater(bidderCatalog, metrics, mapper),
+                new TimeoutResolver(50L, 5000L, 30L),
+                timeoutFactory,
+                new BidRequestOrtbVersionConversionManager(new BidRequestOrtbVersionConverterFactory(mapper)),
+                httpBidderRequester(
+                        BenchmarkServices.bidderHttpClient(bidRequest, mapper), bidderCatalog, metrics, mapper),
+                AuctionCompletionTrackerFactory.noOp(),
+                BidderRequestsPreparationExecutor.noOp(),
+                BenchmarkServices.bidResponseCreator(
+                        vertx, bidderCatalog, applicationSettings, hookStageExecutor, clock, metrics, mapper),
+                BidResponsePostProcessor.noOp(),
+                hookStageExecutor,
+                new HttpInteractionLogger(mapper),
+                PriceFloorAdjuster.noOp(),
+                PriceFloorProcessor.noOp(),
+                bidsAdjuster(metrics, mapper),
+                metrics,
+                clock,
+                mapper,
+                new CriteriaLogManager(mapper),
+                false);
+
+        activityInfrastructure = activityInfrastructure(metrics, mapper);
+        account = Account.builder()
+                .id("accountId")
+                .auction(AccountAuctionConfig.builder().events(AccountEventsConfig.of(true)).build())
+                .build();
+        uidsCookie = new UidsCookie(Uids.builder().uids(Collections.emptyMap()).build(), mapper);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public void holdAuction(Blackhole blackhole) {
+        blackhole.consume(exchangeService.holdAuction(auctionContext()).result());
+    }
+
+    // context is mutated during the auction, so it is created for each invocation
+    private AuctionContext auctionContext() {
+        return AuctionContext.builder()
+                .httpRequest(HttpRequestContext.builder().headers(CaseInsensitiveMultiMap.empty()).build())
+                .uidsCookie(uidsCookie)
+                .bidRequest(bidRequest)
+                .debugWarnings(new ArrayList<>())
+                .prebidErrors(new ArrayList<>())
+                .account(account)
+                .requestTypeMetric(MetricName.openrtb2web)
+                .timeoutContext(TimeoutContext.of(clock.millis(), timeoutFactory.create(1000L), 90))
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .debugHttpCalls(new HashMap<>())
+                .bidRejectionTrackers(new HashMap<>())
+                .activityInfrastructure(activityInfrastructure)
+                .build();
+    }
+
+    // every activity is allowed, as for account without privacy configuration
+    private static ActivityInfrastructure activityInfrastructure(Metrics metrics, JacksonMapper mapper) {
+        final ActivityInfrastructureDebug debug = new ActivityInfrastructureDebug("accountId", null, metrics, mapper);
+        final Map<Activity, ActivityController> controllers = Arrays.stream(Activity.values())
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        activity -> ActivityController.of(true, Collections.emptyList(), debug)));
+
+        return new ActivityInfrastructure(controllers, debug);
+    }
+
+    private static UidUpdater uidUpdater(BidderCatalog bidderCatalog, Metrics metrics, JacksonMapper mapper) {
+        final UidsCookieService uidsCookieService = new UidsCookieService(
+                null,
+                null,
+                null,
+                null,
+                null,
+                90,
+                0,
+                1,
+                new PrioritizedCoopSyncProvider(Collections.emptySet(), bidderCatalog),
+                metrics,
+                mapper);
+
+        return new UidUpdater(null, bidderCatalog, uidsCookieService);
+    }
+
+    private static HttpBidderRequester httpBidderRequester(HttpClient httpClient,
+                                                           BidderCatalog bidderCatalog,
+                                                           Metrics metrics,
+                                                           JacksonMapper mapper) {
+
+        return new HttpBidderRequester(
+                httpClient,
+                null,
+                new BidderErrorNotifier(200, false, false, 0, httpClient, metrics),
+                new HttpBidderRequestEnricher(new PrebidVersionProvider("benchmark"), bidderCatalog),
+                new HttpBidderRequestCompressor(bidderCatalog, metrics),
+                BidderConcurrencyLimiter.noOp(),
+                mapper,
+                false,
+                0);
+    }
+
+    private static BidsAdjuster bidsAdjuster(Metrics metrics, JacksonMapper mapper) {
+        final CurrencyConversionService currencyService = new CurrencyConversionService(null);
+
+        return new BidsAdjuster(
+                new ResponseBidValidator(BidValidationEnforcement.skip, BidValidationEnforcement.skip, metrics, 0),
+                PriceFloorEnforcer.noOp(),
+                new BidAdjustmentsProcessor(
+                        currencyService,
+                        new BidAdjustmentFactorResolver(),
+                        new BidAdjustmentsResolver(currencyService),
+                        mapper),
+                new DsaEnforcer(mapper));
+    }
+}
@@ -0,0 +1,111 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.validation.BidderParamValidator;
+import org.prebid.server.validation.ImpValidator;
+import org.prebid.server.validation.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applying imp.ext.prebid.imp.BIDDER overrides for every bidder and imp: whole imp JSON tree round trip
+ * versus structural merge of overridden imp sections by {@link ImpAdjuster}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImpAdjusterBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private JacksonMapper mapper;
+    private JsonMerger jsonMerger;
+    private ImpValidator impValidator;
+    private ImpAdjuster impAdjuster;
+    private BidderAliases bidderAliases;
+    private List<String> bidders;
+    private List<Imp> imps;
+
+    @Setup
+    public void setUp() {
+        mapper = BenchmarkFixtures.mapper();
+        jsonMerger = new JsonMerger(mapper);
+
+        final BidderCatalog bidderCatalog = new BidderCatalog(Collections.emptyList());
+        impValidator = new ImpValidator(
+                BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper), bidderCatalog, mapper);
+        impAdjuster = new ImpAdjuster(mapper, jsonMerger, impValidator);
+        bidderAliases = BidderAliases.of(Collections.emptyMap(), Collections.emptyMap(), bidderCatalog);
+
+        bidders = BenchmarkFixtures.bidders(bidderCount);
+        imps = BenchmarkFixtures.bidRequest(impCount, bidderCount).getImp().stream()
+                .map(this::withBidderImps)
+                .toList();
+    }
+
+    private Imp withBidderImps(Imp imp) {
+        final ObjectNode bidderImps = ((ObjectNode) imp.getExt().get("prebid")).putObject("imp");
+        for (String bidder : bidders) {
+            bidderImps.putObject(bidder)
+                    .put("bidfloor", 0.5)
+                    .put("tagid", bidder + "-" + imp.getTagid())
+                    .putObject("banner").put("pos", 1);
+        }
+        return imp;
+    }
+
+    @Benchmark
+    public void treeRoundTrip(Blackhole blackhole) throws ValidationException {
+        for (Imp imp : imps) {
+            final JsonNode bidderImps = imp.getExt().get("prebid").get("imp");
+            for (String bidder : bidders) {
+                final JsonNode impNode = mapper.mapper().valueToTree(imp);
+                final JsonNode mergedImpNode = jsonMerger.merge(bidderImps.get(bidder), impNode);
+                ((ObjectNode) mergedImpNode.get("ext").get("prebid")).remove("imp");
+
+                final Imp resultImp = mapper.mapper().convertValue(mergedImpNode, Imp.class);
+                impValidator.validateImp(resultImp);
+                blackhole.consume(resultImp);
+            }
+        }
+    }
+
+    @Benchmark
+    public void structuralMerge(Blackhole blackhole) {
+        final List<String> debugMessages = new ArrayList<>();
+        for (Imp imp : imps) {
+            for (String bidder : bidders) {
+                blackhole.consume(impAdjuster.adjust(imp, bidder, bidderAliases, debugMessages));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.auction.model.ImpIndex;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidAdservertargetingRule;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidAdservertargetingRule.Source;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Targeting keywords creation for every bid of an auction, with and without ad server targeting rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingKeywordsCreatorBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private TargetingKeywordsCreator keywordsCreator;
+    private TargetingKeywordsCreator keywordsCreatorWithAdServerTargeting;
+    private List<Bid> bids;
+    private List<String> bidBidders;
+
+    @Setup
+    public void setUp() {
+        final BidRequest bidRequest = BenchmarkFixtures.bidRequest(impCount, bidderCount).toBuilder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .adservertargeting(List.of(
+                                ExtRequestPrebidAdservertargetingRule.of("hb_static", Source.xStatic, "value"),
+                                ExtRequestPrebidAdservertargetingRule.of("hb_domain", Source.bidrequest, "site.domain"),
+                                ExtRequestPrebidAdservertargetingRule.of("hb_gpid", Source.bidrequest, "imp.ext.gpid"),
+                                ExtRequestPrebidAdservertargetingRule.of(
+                                        "hb_crid_{{BIDDER}}", Source.bidresponse, "seatbid.bid.crid")))
+                        .build()))
+                .build();
+
+        keywordsCreator = createKeywordsCreator(null);
+        keywordsCreatorWithAdServerTargeting = createKeywordsCreator(
+                TargetingKeywordsResolver.create(
+                        bidRequest, ImpIndex.of(bidRequest.getImp()), BenchmarkFixtures.mapper()));
+
+        final List<String> bidders = BenchmarkFixtures.bidders(bidderCount);
+        bids = new ArrayList<>();
+        bidBidders = new ArrayList<>();
+        for (Imp imp : bidRequest.getImp()) {
+            for (String bidder : bidders) {
+                bids.add(BenchmarkFixtures.bid(bids.size(), imp.getId()));
+                bidBidders.add(bidder);
+            }
+        }
+    }
+
+    private static TargetingKeywordsCreator createKeywordsCreator(TargetingKeywordsResolver resolver) {
+        return TargetingKeywordsCreator.create(
+                ExtPriceGranularity.from(PriceGranularity.DEFAULT),
+                true,
+                true,
+                false,
+                true,
+                null,
+                0,
+                "cache.prebid.org",
+                "/cache",
+                resolver,
+                "hb");
+    }
+
+    @Benchmark
+    public void makeForAllBids(Blackhole blackhole) {
+        makeFor(keywordsCreator, blackhole);
+    }
+
+    @Benchmark
+    public void makeForAllBidsWithAdServerTargeting(Blackhole blackhole) {
+        makeFor(keywordsCreatorWithAdServerTargeting, blackhole);
+    }
+
+    private void makeFor(TargetingKeywordsCreator creator, Blackhole blackhole) {
+        for (int i = 0; i < bids.size(); i++) {
+            final Bid bid = bids.get(i);
+            blackhole.consume(creator.makeFor(
+                    bid, bidBidders.get(i), i % bidderCount == 0, "cache-id", "banner", null, null));
+        }
+    }
+}
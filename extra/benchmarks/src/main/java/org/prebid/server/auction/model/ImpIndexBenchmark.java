@@ -0,0 +1,72 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving every bid of an auction back to its imp: linear search over imps versus {@link ImpIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImpIndexBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private List<Imp> imps;
+    private List<Bid> bids;
+
+    @Setup
+    public void setUp() {
+        imps = BenchmarkFixtures.bidRequest(impCount, 0).getImp();
+        bids = new ArrayList<>();
+        for (Imp imp : imps) {
+            for (int i = 0; i < bidderCount; i++) {
+                bids.add(BenchmarkFixtures.bid(bids.size(), imp.getId()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void linearSearch(Blackhole blackhole) {
+        for (Bid bid : bids) {
+            blackhole.consume(imps.stream()
+                    .filter(imp -> Objects.equals(bid.getImpid(), imp.getId()))
+                    .findFirst()
+                    .orElse(null));
+        }
+    }
+
+    @Benchmark
+    public void impIndex(Blackhole blackhole) {
+        final ImpIndex impIndex = ImpIndex.of(imps);
+        for (Bid bid : bids) {
+            blackhole.consume(impIndex.get(bid.getImpid()));
+        }
+    }
+}
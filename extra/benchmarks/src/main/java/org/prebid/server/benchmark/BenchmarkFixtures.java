@@ -0,0 +1,157 @@
+package org.prebid.server.benchmark;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import com.iab.openrtb.response.Bid;
+import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorSchema;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Realistic OpenRTB payloads shared by benchmark suites, so numbers of different suites stay comparable.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String DOMAIN = "domain0.com";
+
+    public static final List<Format> FORMATS = List.of(
+            Format.builder().w(300).h(250).build(),
+            Format.builder().w(728).h(90).build(),
+            Format.builder().w(160).h(600).build(),
+            Format.builder().w(320).h(50).build(),
+            Format.builder().w(970).h(250).build());
+
+    private static final List<String> FLOOR_MEDIA_TYPES = List.of("banner", "video");
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/126.0.0.0 Safari/537.36";
+
+    private static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JacksonMapper mapper() {
+        return MAPPER;
+    }
+
+    public static Metrics metrics() {
+        return new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.basic, Collections.emptyList(), Collections.emptyList()));
+    }
+
+    public static List<String> bidders(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "bidder" + i).toList();
+    }
+
+    /**
+     * Floors model group with rules by domain, media type and size, matching imps of {@link #bidRequest}.
+     */
+    public static PriceFloorModelGroup priceFloorModelGroup(int ruleCount) {
+        final PriceFloorModelGroup.PriceFloorModelGroupBuilder modelGroupBuilder = PriceFloorModelGroup.builder()
+                .currency("USD")
+                .schema(PriceFloorSchema.of("|", List.of(
+                        PriceFloorField.siteDomain, PriceFloorField.mediaType, PriceFloorField.size)))
+                .defaultFloor(BigDecimal.valueOf(0.01));
+
+        final int combinationsPerDomain = FLOOR_MEDIA_TYPES.size() * FORMATS.size();
+        for (int i = 0; i < ruleCount; i++) {
+            final Format format = FORMATS.get(i / FLOOR_MEDIA_TYPES.size() % FORMATS.size());
+            final String rule = "domain%d.com|%s|%dx%d".formatted(
+                    i / combinationsPerDomain,
+                    FLOOR_MEDIA_TYPES.get(i % FLOOR_MEDIA_TYPES.size()),
+                    format.getW(),
+                    format.getH());
+            modelGroupBuilder.value(rule, BigDecimal.valueOf(i % 100, 2));
+        }
+
+        return modelGroupBuilder.build();
+    }
+
+    public static BidRequest bidRequest(int impCount, int bidderCount) {
+        final List<Imp> imps = new ArrayList<>(impCount);
+        for (int i = 0; i < impCount; i++) {
+            imps.add(imp(i, bidderCount));
+        }
+
+        return BidRequest.builder()
+                .id("request-id")
+                .imp(imps)
+                .site(Site.builder()
+                        .domain(DOMAIN)
+                        .page("https://" + DOMAIN + "/news/article.html")
+                        .publisher(Publisher.builder().id("publisher-id").domain(DOMAIN).build())
+                        .build())
+                .device(Device.builder()
+                        .ua(USER_AGENT)
+                        .ip("192.168.0.1")
+                        .devicetype(2)
+                        .geo(Geo.builder().country("USA").region("CA").build())
+                        .build())
+                .user(User.builder().id("user-id").buyeruid("buyer-uid").build())
+                .cur(List.of("USD"))
+                .tmax(1000L)
+                .build();
+    }
+
+    public static Imp imp(int index, int bidderCount) {
+        final ObjectNode impExt = MAPPER.mapper().createObjectNode();
+        impExt.put("gpid", "/1234/slot-" + index);
+
+        final ObjectNode biddersNode = impExt.putObject("prebid").putObject("bidder");
+        for (int i = 0; i < bidderCount; i++) {
+            biddersNode.putObject("bidder" + i)
+                    .put("placementId", 1000 + i)
+                    .put("siteId", "site-" + index);
+        }
+
+        final Format format = FORMATS.get(index % FORMATS.size());
+        return Imp.builder()
+                .id("imp-" + index)
+                .tagid("slot-" + index)
+                .banner(Banner.builder().format(FORMATS).w(format.getW()).h(format.getH()).build())
+                .bidfloor(BigDecimal.valueOf(0.25))
+                .bidfloorcur("USD")
+                .ext(impExt)
+                .build();
+    }
+
+    public static Bid bid(int index, String impId) {
+        final Format format = FORMATS.get(index % FORMATS.size());
+        return Bid.builder()
+                .id("bid-" + index)
+                .impid(impId)
+                .price(BigDecimal.valueOf(0.5 + index * 0.37))
+                .adm("<div>creative " + index + "</div>")
+                .crid("creative-" + index)
+                .adomain(List.of("advertiser" + index + ".com"))
+                .dealid(index % 3 == 0 ? "deal-" + index : null)
+                .w(format.getW())
+                .h(format.getH())
+                .build();
+    }
+}
@@ -0,0 +1,228 @@
+package org.prebid.server.benchmark;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.Vertx;
+import org.prebid.server.auction.BidResponseCreator;
+import org.prebid.server.auction.StoredRequestProcessor;
+import org.prebid.server.auction.WinningBidComparatorFactory;
+import org.prebid.server.auction.categorymapping.BasicCategoryMappingService;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.bidder.GenericBidder;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.hooks.execution.HookCatalog;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.GroupExecutionMode;
+import org.prebid.server.identity.NoneIdGenerator;
+import org.prebid.server.identity.UUIDIdGenerator;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.FileApplicationSettings;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.MediaType;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
+import org.prebid.server.vast.VastModifier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Real auction services wired the same way as application configuration does, but without modules, stored data
+ * and network, so benchmarks measure actual code paths instead of stubs.
+ */
+public final class BenchmarkServices {
+
+    private static final String EXTERNAL_URL = "http://localhost:8080";
+
+    private BenchmarkServices() {
+    }
+
+    /**
+     * Catalog of {@link BenchmarkFixtures#bidders} served by {@link GenericBidder}.
+     */
+    public static BidderCatalog bidderCatalog(int bidderCount, JacksonMapper mapper) {
+        return new BidderCatalog(BenchmarkFixtures.bidders(bidderCount).stream()
+                .map(bidder -> bidderDeps(bidder, mapper))
+                .toList());
+    }
+
+    private static BidderDeps bidderDeps(String bidder, JacksonMapper mapper) {
+        final String endpoint = "https://%s.com/openrtb2/auction".formatted(bidder);
+        final BidderInfo bidderInfo = BidderInfo.create(
+                true,
+                OrtbVersion.ORTB_2_6,
+                false,
+                endpoint,
+                null,
+                "prebid@%s.com".formatted(bidder),
+                List.of(MediaType.BANNER),
+                List.of(MediaType.BANNER),
+                null,
+                null,
+                0,
+                null,
+                false,
+                false,
+                CompressionType.NONE,
+                Ortb.of(false),
+                0L);
+
+        return BidderDeps.of(List.of(BidderInstanceDeps.builder()
+                .name(bidder)
+                .deprecatedNames(Collections.emptyList())
+                .bidderInfo(bidderInfo)
+                .usersyncer(Usersyncer.of(bidder, null, null))
+                .bidder(new GenericBidder(endpoint, mapper))
+                .build()));
+    }
+
+    /**
+     * HTTP client answering every bidder call with a bid for each imp of given request.
+     */
+    public static InMemoryHttpClient bidderHttpClient(BidRequest bidRequest, JacksonMapper mapper) {
+        final List<Imp> imps = bidRequest.getImp();
+        final List<Bid> bids = new ArrayList<>(imps.size());
+        for (int i = 0; i < imps.size(); i++) {
+            bids.add(BenchmarkFixtures.bid(i, imps.get(i).getId()));
+        }
+
+        final BidResponse bidResponse = BidResponse.builder()
+                .id(bidRequest.getId())
+                .seatbid(List.of(SeatBid.builder().bid(bids).build()))
+                .cur("USD")
+                .build();
+
+        return new InMemoryHttpClient(mapper.encodeToString(bidResponse));
+    }
+
+    /**
+     * File based settings without accounts, stored data and categories, kept in a temporary directory.
+     */
+    public static ApplicationSettings applicationSettings(Vertx vertx, JacksonMapper mapper) {
+        try {
+            final Path dir = Files.createTempDirectory("pbs-benchmark-settings");
+            final Path settingsFile = Files.writeString(dir.resolve("settings.yaml"), "accounts: []");
+            final Path storedRequestsDir = Files.createDirectory(dir.resolve("requests"));
+            final Path storedImpsDir = Files.createDirectory(dir.resolve("imps"));
+            final Path storedResponsesDir = Files.createDirectory(dir.resolve("responses"));
+            final Path categoriesDir = Files.createDirectory(dir.resolve("categories"));
+
+            return new FileApplicationSettings(
+                    vertx.fileSystem(),
+                    settingsFile.toString(),
+                    storedRequestsDir.toString(),
+                    storedImpsDir.toString(),
+                    storedResponsesDir.toString(),
+                    categoriesDir.toString(),
+                    mapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Executor with empty execution plans, so every stage passes payload through.
+     */
+    public static HookStageExecutor hookStageExecutor(Vertx vertx, Clock clock, Metrics metrics, JacksonMapper mapper) {
+        return HookStageExecutor.create(
+                null,
+                null,
+                Collections.emptyMap(),
+                new HookCatalog(Collections.emptyList()),
+                new TimeoutFactory(clock),
+                vertx,
+                clock,
+                metrics,
+                mapper,
+                false,
+                GroupExecutionMode.ordered);
+    }
+
+    public static StoredRequestProcessor storedRequestProcessor(Vertx vertx,
+                                                                ApplicationSettings applicationSettings,
+                                                                Clock clock,
+                                                                Metrics metrics,
+                                                                JacksonMapper mapper) {
+
+        return new StoredRequestProcessor(
+                50L,
+                null,
+                false,
+                vertx.fileSystem(),
+                applicationSettings,
+                new UUIDIdGenerator(),
+                metrics,
+                new TimeoutFactory(clock),
+                mapper,
+                new JsonMerger(mapper),
+                null);
+    }
+
+    public static BidResponseCreator bidResponseCreator(Vertx vertx,
+                                                        BidderCatalog bidderCatalog,
+                                                        ApplicationSettings applicationSettings,
+                                                        HookStageExecutor hookStageExecutor,
+                                                        Clock clock,
+                                                        Metrics metrics,
+                                                        JacksonMapper mapper) {
+
+        final EventsService eventsService = new EventsService(EXTERNAL_URL);
+        final VastModifier vastModifier = new VastModifier(bidderCatalog, eventsService, metrics);
+        final CoreCacheService coreCacheService = new CoreCacheService(
+                new InMemoryHttpClient("{\"responses\":[]}"),
+                CacheServiceUtil.getCacheEndpointUrl("http", "localhost:2424", "/cache"),
+                CacheServiceUtil.getCachedAssetUrlTemplate("http", "localhost:2424", "/cache", "uuid="),
+                0L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                new UUIDIdGenerator(),
+                mapper);
+
+        return new BidResponseCreator(
+                0,
+                coreCacheService,
+                bidderCatalog,
+                vastModifier,
+                eventsService,
+                storedRequestProcessor(vertx, applicationSettings, clock, metrics, mapper),
+                new WinningBidComparatorFactory(),
+                new NoneIdGenerator(),
+                new UUIDIdGenerator(),
+                hookStageExecutor,
+                new BasicCategoryMappingService(applicationSettings, mapper),
+                0,
+                false,
+                clock,
+                mapper,
+                metrics,
+                CacheTtl.of(null, null),
+                CacheDefaultTtlProperties.of(300, 1500, 1500, 300));
+    }
+}
@@ -0,0 +1,38 @@
+package org.prebid.server.benchmark;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.util.Objects;
+
+/**
+ * {@link HttpClient} answering every request with the same successful response from memory, so benchmarks
+ * measure request and response processing without network.
+ */
+public class InMemoryHttpClient implements HttpClient {
+
+    private final Future<HttpClientResponse> response;
+
+    public InMemoryHttpClient(String responseBody) {
+        response = Future.succeededFuture(HttpClientResponse.of(
+                HttpResponseStatus.OK.code(),
+                MultiMap.caseInsensitiveMultiMap(),
+                Objects.requireNonNull(responseBody)));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              String body, long timeoutMs, long maxResponseSize) {
+        return response;
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              byte[] body, long timeoutMs, long maxResponseSize) {
+        return response;
+    }
+}
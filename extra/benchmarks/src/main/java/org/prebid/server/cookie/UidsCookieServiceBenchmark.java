@@ -0,0 +1,84 @@
+package org.prebid.server.cookie;
+
+import io.vertx.core.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of incoming uids cookies and splitting of updated uids into outgoing cookies,
+ * depending on number of synced bidder families.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UidsCookieServiceBenchmark {
+
+    @Param({"5", "20", "60"})
+    public int familyCount;
+
+    private UidsCookieService uidsCookieService;
+    private Map<String, String> cookies;
+    private UidsCookie uidsCookie;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = BenchmarkFixtures.mapper();
+        uidsCookieService = new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                4096,
+                3,
+                new PrioritizedCoopSyncProvider(Collections.emptySet(), new BidderCatalog(List.of())),
+                BenchmarkFixtures.metrics(),
+                mapper);
+
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (String family : BenchmarkFixtures.bidders(familyCount)) {
+            uids.put(family, UidWithExpiry.live("uid-of-" + family + "-0123456789abcdef"));
+        }
+        uidsCookie = new UidsCookie(Uids.builder().uids(uids).build(), mapper);
+
+        final String cookieValue = Base64.getUrlEncoder()
+                .encodeToString(uidsCookie.toJson().getBytes(StandardCharsets.UTF_8));
+        cookies = Map.of("uids", cookieValue, "trp_optout", "false");
+    }
+
+    @Benchmark
+    public UidsCookie parseFromCookies() {
+        return uidsCookieService.parseFromCookies(cookies);
+    }
+
+    @Benchmark
+    public List<Cookie> splitUidsIntoCookies() {
+        return uidsCookieService.splitUidsIntoCookies(uidsCookie);
+    }
+}
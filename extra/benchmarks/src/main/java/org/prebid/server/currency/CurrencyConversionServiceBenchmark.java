@@ -0,0 +1,75 @@
+package org.prebid.server.currency;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single price conversion for each kind of rate lookup: direct, reverse, intermediate and cross rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyConversionServiceBenchmark {
+
+    private static final BigDecimal PRICE = new BigDecimal("1.2345");
+
+    private CurrencyConversionService currencyConversionService;
+    private Map<String, Map<String, BigDecimal>> requestRates;
+
+    @Setup
+    public void setUp() {
+        currencyConversionService = new CurrencyConversionService(null);
+        requestRates = Map.of(
+                "USD", Map.of(
+                        "EUR", new BigDecimal("0.9215"),
+                        "GBP", new BigDecimal("0.7891"),
+                        "JPY", new BigDecimal("149.52"),
+                        "AUD", new BigDecimal("1.5312")),
+                "EUR", Map.of(
+                        "GBP", new BigDecimal("0.8563"),
+                        "AUD", new BigDecimal("1.6617")),
+                "CAD", Map.of(
+                        "GBP", new BigDecimal("0.5781"),
+                        "CHF", new BigDecimal("0.6341")));
+    }
+
+    @Benchmark
+    public BigDecimal convertDirect() {
+        return currencyConversionService.convertCurrency(PRICE, requestRates, "USD", "EUR", false);
+    }
+
+    @Benchmark
+    public BigDecimal convertReverse() {
+        return currencyConversionService.convertCurrency(PRICE, requestRates, "JPY", "USD", false);
+    }
+
+    @Benchmark
+    public BigDecimal convertIntermediate() {
+        return currencyConversionService.convertCurrency(PRICE, requestRates, "EUR", "CAD", false);
+    }
+
+    @Benchmark
+    public BigDecimal convertCross() {
+        return currencyConversionService.convertCurrency(PRICE, requestRates, "GBP", "JPY", false);
+    }
+
+    @Benchmark
+    public BigDecimal convertSameCurrency() {
+        return currencyConversionService.convertCurrency(PRICE, requestRates, "USD", "USD", false);
+    }
+}
@@ -0,0 +1,84 @@
+package org.prebid.server.floors;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Floor resolution for every imp/bidder pair of a request against rule sets of different size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicPriceFloorResolverBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int ruleCount;
+
+    @Param({"10"})
+    public int impCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private BasicPriceFloorResolver resolver;
+    private BidRequest bidRequest;
+    private List<String> bidders;
+    private PriceFloorRules floorRules;
+
+    @Setup
+    public void setUp() {
+        resolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null),
+                new CountryCodeMapper("US, USA", "310, US"),
+                BenchmarkFixtures.metrics(),
+                BenchmarkFixtures.mapper());
+
+        bidRequest = BenchmarkFixtures.bidRequest(impCount, bidderCount);
+        bidders = BenchmarkFixtures.bidders(bidderCount);
+
+        final PriceFloorModelGroup modelGroup = BenchmarkFixtures.priceFloorModelGroup(ruleCount);
+
+        floorRules = PriceFloorRules.builder()
+                .data(PriceFloorData.builder().modelGroups(List.of(modelGroup)).build())
+                .build();
+    }
+
+    @Benchmark
+    public void resolveForAllImpsAndBidders(Blackhole blackhole) {
+        final List<String> warnings = new ArrayList<>();
+        for (Imp imp : bidRequest.getImp()) {
+            final Format format = Format.builder().w(imp.getBanner().getW()).h(imp.getBanner().getH()).build();
+            for (String bidder : bidders) {
+                blackhole.consume(resolver.resolve(
+                        bidRequest, floorRules, imp, ImpMediaType.banner, format, bidder, warnings));
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.prebid.server.floors.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-off cost of building rule index for fetched floors data of different size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceFloorRuleIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int ruleCount;
+
+    private PriceFloorModelGroup modelGroup;
+
+    @Setup
+    public void setUp() {
+        modelGroup = BenchmarkFixtures.priceFloorModelGroup(ruleCount);
+    }
+
+    @Benchmark
+    public void buildRuleIndex(Blackhole blackhole) {
+        blackhole.consume(PriceFloorRuleIndex.of(modelGroup));
+    }
+}
@@ -0,0 +1,130 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.auction.model.BidRejectionTracker;
+import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Resolution of blocked attributes for a bidder request plus blocking of the bidder response against account
+ * block lists of different size, for the same account configuration instance (account cached by settings) and for
+ * an equal copy of it (account fetched from the data source on every request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Ortb2BlockingBenchmark {
+
+    private static final String BIDDER = "bidder0";
+    private static final String ACCOUNT_ID = "account-id";
+
+    @Param({"100", "1000", "10000"})
+    public int blockListSize;
+
+    @Param({"10"})
+    public int impCount;
+
+    @Param({"20"})
+    public int bidCount;
+
+    private AccountConfigCache accountConfigCache;
+    private ObjectNode accountConfig;
+    private BidRequest bidRequest;
+    private List<BidderBid> bids;
+    private Set<String> impIds;
+
+    @Setup
+    public void setUp() {
+        bidRequest = BenchmarkFixtures.bidRequest(impCount, 1);
+        impIds = bidRequest.getImp().stream().map(Imp::getId).collect(Collectors.toSet());
+
+        bids = new ArrayList<>(bidCount);
+        for (int i = 0; i < bidCount; i++) {
+            final Bid bid = BenchmarkFixtures.bid(i, "imp-" + i % impCount).toBuilder()
+                    .cat(List.of("IAB" + i))
+                    .bundle("com.app" + i)
+                    .build();
+            bids.add(BidderBid.of(bid, BidType.banner, "USD"));
+        }
+
+        accountConfigCache = new AccountConfigCache(100, Duration.ofHours(1));
+        accountConfig = BenchmarkFixtures.mapper().mapper().createObjectNode();
+        final ObjectNode attributes = accountConfig.putObject("attributes");
+        // every 4th bid hits the block list, the rest is looked up through the whole list
+        blockedAttribute(attributes, "badv", "blocked-adomain", "advertiser%d.com", "blocked%d.com");
+        blockedAttribute(attributes, "bcat", "blocked-adv-cat", "IAB%d", "IAB-blocked-%d");
+        blockedAttribute(attributes, "bapp", "blocked-app", "com.app%d", "com.blocked%d");
+    }
+
+    private void blockedAttribute(ObjectNode attributes,
+                                  String attribute,
+                                  String field,
+                                  String bidValueFormat,
+                                  String valueFormat) {
+
+        final ArrayNode blocked = attributes.putObject(attribute)
+                .put("enforce-blocks", true)
+                .putArray(field);
+        for (int i = 0; i < blockListSize; i++) {
+            blocked.add(i < bidCount && i % 4 == 0 ? bidValueFormat.formatted(i) : valueFormat.formatted(i));
+        }
+    }
+
+    @Benchmark
+    public void resolveAndBlock(Blackhole blackhole) {
+        resolveAndBlock(accountConfig, blackhole);
+    }
+
+    @Benchmark
+    public void resolveAndBlockRefetchedAccount(Blackhole blackhole) {
+        resolveAndBlock(accountConfig.deepCopy(), blackhole);
+    }
+
+    private void resolveAndBlock(ObjectNode config, Blackhole blackhole) {
+        final AccountConfigValues configValues = accountConfigCache.valuesOf(ACCOUNT_ID, config);
+        final BlockedAttributes blockedAttributes = BlockedAttributesResolver
+                .create(bidRequest, BIDDER, OrtbVersion.ORTB_2_6, configValues, false)
+                .resolve()
+                .getValue();
+
+        blackhole.consume(BidsBlocker
+                .create(
+                        bids,
+                        BIDDER,
+                        OrtbVersion.ORTB_2_6,
+                        configValues,
+                        blockedAttributes,
+                        new BidRejectionTracker(BIDDER, impIds, 0),
+                        false)
+                .block());
+    }
+}
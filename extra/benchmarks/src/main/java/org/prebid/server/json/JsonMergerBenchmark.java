@@ -0,0 +1,73 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.settings.ParsedStoredDataCache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merging of stored imps into incoming imps: parsing stored data on every request
+ * versus reusing pre-parsed stored data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMergerBenchmark {
+
+    private static final String STORED_IMP_ID = "stored-imp";
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private JsonMerger jsonMerger;
+    private ParsedStoredDataCache parsedStoredDataCache;
+    private List<Imp> imps;
+    private String storedImp;
+
+    @Setup
+    public void setUp() {
+        final JacksonMapper mapper = BenchmarkFixtures.mapper();
+        jsonMerger = new JsonMerger(mapper);
+        parsedStoredDataCache = new ParsedStoredDataCache(60, 100, 0, mapper, BenchmarkFixtures.metrics());
+
+        imps = BenchmarkFixtures.bidRequest(impCount, 0).getImp().stream()
+                .map(imp -> Imp.builder().id(imp.getId()).build())
+                .toList();
+        storedImp = mapper.encodeToString(BenchmarkFixtures.imp(0, bidderCount));
+    }
+
+    @Benchmark
+    public void mergeStringStoredData(Blackhole blackhole) {
+        for (Imp imp : imps) {
+            blackhole.consume(jsonMerger.merge(imp, storedImp, STORED_IMP_ID, Imp.class));
+        }
+    }
+
+    @Benchmark
+    public void mergeParsedStoredData(Blackhole blackhole) {
+        for (Imp imp : imps) {
+            blackhole.consume(jsonMerger.merge(
+                    imp, parsedStoredDataCache.get(STORED_IMP_ID, storedImp), STORED_IMP_ID, Imp.class));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.settings.model.Account;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter and account metrics submitted for a single auction, updated concurrently by several threads
+ * as it happens on event loops.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MetricsBenchmark {
+
+    @Param({"exponentiallyDecaying", "lockFreeExponentiallyDecaying", "uniform"})
+    public ReservoirType reservoirType;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private Metrics metrics;
+    private Account account;
+    private List<String> bidders;
+
+    @Setup
+    public void setUp() {
+        metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.flushingCounter,
+                reservoirType,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.detailed, Collections.emptyList(), Collections.emptyList()));
+        account = Account.empty("account-id");
+        bidders = BenchmarkFixtures.bidders(bidderCount);
+
+        // register all metrics before concurrent measurement
+        updateAuctionMetrics();
+    }
+
+    @Benchmark
+    public void updateAuctionMetrics() {
+        metrics.updateRequestTypeMetric(MetricName.openrtb2web, MetricName.ok);
+        metrics.updateAccountRequestMetrics(account, MetricName.openrtb2web);
+        for (String bidder : bidders) {
+            metrics.updateAdapterRequestTypeAndNoCookieMetrics(bidder, MetricName.openrtb2web, false);
+            metrics.updateAdapterResponseTime(bidder, account, 150);
+            metrics.updateAdapterRequestGotbidsMetrics(bidder, account);
+            metrics.updateAdapterBidMetrics(bidder, account, 1500L, true, "banner");
+        }
+        metrics.updateRequestTimeMetric(MetricName.request_time, 200L);
+    }
+}
@@ -0,0 +1,81 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.encoder.TCStringEncoder;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.utils.IntIterable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * TCF v2 consent string decoding followed by purpose and vendor checks for bidders of an auction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TcfConsentDecodingBenchmark {
+
+    @Param({"50", "500"})
+    public int vendorCount;
+
+    @Param({"5", "20", "60"})
+    public int bidderCount;
+
+    private String consentString;
+    private int[] bidderVendorIds;
+
+    @Setup
+    public void setUp() {
+        final int[] vendorIds = IntStream.rangeClosed(1, vendorCount).map(i -> i * 2).toArray();
+        consentString = TCStringEncoder.newBuilder()
+                .version(2)
+                .cmpId(10)
+                .consentLanguage("EN")
+                .vendorListVersion(150)
+                .tcfPolicyVersion(4)
+                .addPurposesConsent(BitSetIntIterable.from(1, 2, 3, 4, 7, 9, 10))
+                .addPurposesLITransparency(BitSetIntIterable.from(2, 7, 9, 10))
+                .addVendorConsent(BitSetIntIterable.from(vendorIds))
+                .addVendorLegitimateInterest(BitSetIntIterable.from(vendorIds))
+                .encode();
+
+        bidderVendorIds = IntStream.range(0, bidderCount).map(i -> i * 7 + 1).toArray();
+    }
+
+    @Benchmark
+    public TCString decode() {
+        return TCString.decode(consentString);
+    }
+
+    @Benchmark
+    public int decodeAndCheckBidderVendors() {
+        final TCString tcString = TCString.decode(consentString);
+        final IntIterable purposesConsent = tcString.getPurposesConsent();
+        final IntIterable vendorConsent = tcString.getVendorConsent();
+        final IntIterable vendorLegitimateInterest = tcString.getVendorLegitimateInterest();
+
+        int allowed = 0;
+        for (int vendorId : bidderVendorIds) {
+            if (purposesConsent.contains(2)
+                    && (vendorConsent.contains(vendorId) || vendorLegitimateInterest.contains(vendorId))) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,70 @@
+package org.prebid.server.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkFixtures;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bidder request body compression: stream per payload versus {@link GzipUtil} with reusable deflaters and buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GzipUtilBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int impCount;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = BenchmarkFixtures.mapper().encodeToBytes(BenchmarkFixtures.bidRequest(impCount, 1));
+    }
+
+    @Benchmark
+    public byte[] gzipOutputStream() throws IOException {
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream();
+             GZIPOutputStream gzip = new LeveledGzipOutputStream(output, level)) {
+
+            gzip.write(body);
+            gzip.finish();
+
+            return output.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] gzipUtil() {
+        return GzipUtil.gzip(body, level);
+    }
+
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream output, int level) throws IOException {
+            super(output);
+            def.setLevel(level);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.config;
 
+import com.codahale.metrics.MetricRegistry;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
@@ -10,6 +11,7 @@ import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterServi
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
@@ -37,11 +39,15 @@ public class GreenbidsRealTimeDataConfiguration {
     }
 
     @Bean
-    GreenbidsInferenceDataService greenbidsInferenceDataService(DatabaseReaderFactory databaseReaderFactory,
+    GreenbidsInferenceDataService greenbidsInferenceDataService(GreenbidsRealTimeDataProperties properties,
+                                                                DatabaseReaderFactory databaseReaderFactory,
                                                                 CountryCodeMapper countryCodeMapper) {
 
         return new GreenbidsInferenceDataService(
-                databaseReaderFactory, ObjectMapperProvider.mapper(), countryCodeMapper);
+                databaseReaderFactory,
+                ObjectMapperProvider.mapper(),
+                countryCodeMapper,
+                properties.getGeoLiteCountryCacheSize());
     }
 
     @Bean
@@ -61,8 +67,21 @@ public class GreenbidsRealTimeDataConfiguration {
     }
 
     @Bean
-    FilterService filterService() {
-        return new FilterService();
+    OnnxInferenceBatcher onnxInferenceBatcher(GreenbidsRealTimeDataProperties properties,
+                                              Vertx vertx,
+                                              MetricRegistry metricRegistry) {
+
+        return new OnnxInferenceBatcher(
+                vertx,
+                vertx.createSharedWorkerExecutor("greenbids-inference", properties.getInferencePoolSize()),
+                properties.getInferenceBatchMaxSize(),
+                properties.getInferenceBatchWindowMs(),
+                metricRegistry);
+    }
+
+    @Bean
+    FilterService filterService(OnnxInferenceBatcher onnxInferenceBatcher) {
+        return new FilterService(onnxInferenceBatcher);
     }
 
     @Bean
@@ -72,8 +91,8 @@ public class GreenbidsRealTimeDataConfiguration {
     }
 
     @Bean
-    OnnxModelRunnerFactory onnxModelRunnerFactory() {
-        return new OnnxModelRunnerFactory();
+    OnnxModelRunnerFactory onnxModelRunnerFactory(GreenbidsRealTimeDataProperties properties) {
+        return new OnnxModelRunnerFactory(properties.getOnnxIntraOpThreads(), properties.getOnnxOptimizationLevel());
     }
 
     @Bean
@@ -90,6 +109,11 @@ public class GreenbidsRealTimeDataConfiguration {
 
         final Cache<String, OnnxModelRunner> modelCacheWithExpiration = Caffeine.newBuilder()
                 .expireAfterWrite(properties.getCacheExpirationMinutes(), TimeUnit.MINUTES)
+                .<String, OnnxModelRunner>removalListener((key, onnxModelRunner, cause) -> {
+                    if (onnxModelRunner != null) {
+                        onnxModelRunner.close();
+                    }
+                })
                 .build();
 
         return new ModelCache(
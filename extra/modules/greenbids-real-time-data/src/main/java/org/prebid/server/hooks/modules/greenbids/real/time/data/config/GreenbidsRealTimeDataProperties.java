@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.config;
 
+import ai.onnxruntime.OrtSession;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -11,6 +12,8 @@ public class GreenbidsRealTimeDataProperties {
 
     String geoLiteCountryPath;
 
+    Integer geoLiteCountryCacheSize = 10000;
+
     String tmpPath;
 
     String gcsBucketName;
@@ -24,4 +27,14 @@ public class GreenbidsRealTimeDataProperties {
     Long timeoutMs;
 
     Integer maxRedirects;
+
+    Integer inferencePoolSize = 2;
+
+    Integer inferenceBatchMaxSize = 16;
+
+    Long inferenceBatchWindowMs = 1L;
+
+    Integer onnxIntraOpThreads;
+
+    OrtSession.SessionOptions.OptLevel onnxOptimizationLevel;
 }
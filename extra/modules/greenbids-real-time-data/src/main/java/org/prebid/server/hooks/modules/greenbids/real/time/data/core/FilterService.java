@@ -4,30 +4,76 @@ import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import io.vertx.core.Future;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
 import org.springframework.util.CollectionUtils;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 public class FilterService {
 
+    private final OnnxInferenceBatcher inferenceBatcher;
+
+    public FilterService() {
+        this(null);
+    }
+
+    public FilterService(OnnxInferenceBatcher inferenceBatcher) {
+        this.inferenceBatcher = inferenceBatcher;
+    }
+
     public Map<String, Map<String, Boolean>> filterBidders(
             OnnxModelRunner onnxModelRunner,
             List<ThrottlingMessage> throttlingMessages,
             Double threshold) {
 
-        final OrtSession.Result results;
+        validateThrottlingMessages(throttlingMessages);
+
+        final float[][] probabilities = predictProbabilities(onnxModelRunner, convertToArray(throttlingMessages));
+        return processProbabilities(probabilities, throttlingMessages, threshold);
+    }
+
+    /**
+     * Same as {@link #filterBidders(OnnxModelRunner, List, Double)}, but inference is done by the batcher
+     * off the event loop, together with inference of concurrent auctions using the same model.
+     * <p>
+     * Without batcher configured, inference is done in place.
+     */
+    public Future<Map<String, Map<String, Boolean>>> filterBiddersAsync(
+            OnnxModelRunner onnxModelRunner,
+            List<ThrottlingMessage> throttlingMessages,
+            Double threshold) {
+
+        if (inferenceBatcher == null) {
+            try {
+                return Future.succeededFuture(filterBidders(onnxModelRunner, throttlingMessages, threshold));
+            } catch (PreBidException e) {
+                return Future.failedFuture(e);
+            }
+        }
+
         try {
-            final String[][] throttlingInferenceRows = convertToArray(throttlingMessages);
-            results = onnxModelRunner.runModel(throttlingInferenceRows);
-            return processModelResults(results, throttlingMessages, threshold);
+            validateThrottlingMessages(throttlingMessages);
+        } catch (PreBidException e) {
+            return Future.failedFuture(e);
+        }
+
+        return inferenceBatcher.predict(onnxModelRunner, convertToArray(throttlingMessages))
+                .map(probabilities -> processProbabilities(probabilities, throttlingMessages, threshold));
+    }
+
+    /**
+     * Runs the model for the given rows and returns probabilities of every row, native values created by
+     * the inference are released before return.
+     */
+    static float[][] predictProbabilities(OnnxModelRunner onnxModelRunner, String[][] throttlingInferenceRows) {
+        try (OrtSession.Result results = onnxModelRunner.runModel(throttlingInferenceRows)) {
+            return processModelResults(results, throttlingInferenceRows.length);
         } catch (OrtException e) {
             throw new PreBidException("Exception during model inference: ", e);
         }
@@ -47,23 +93,16 @@ public class FilterService {
                 .toArray(String[][]::new);
     }
 
-    private Map<String, Map<String, Boolean>> processModelResults(
-            OrtSession.Result results,
-            List<ThrottlingMessage> throttlingMessages,
-            Double threshold) {
-
-        validateThrottlingMessages(throttlingMessages);
-
+    private static float[][] processModelResults(OrtSession.Result results, int expectedSize) {
         return StreamSupport.stream(results.spliterator(), false)
                 .peek(FilterService::validateOnnxTensor)
                 .filter(onnxItem -> Objects.equals(onnxItem.getKey(), "probabilities"))
                 .map(Map.Entry::getValue)
                 .map(OnnxTensor.class::cast)
-                .peek(tensor -> validateTensorSize(tensor, throttlingMessages.size()))
-                .map(tensor -> extractAndProcessProbabilities(tensor, throttlingMessages, threshold))
-                .map(Map::entrySet)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                .peek(tensor -> validateTensorSize(tensor, expectedSize))
+                .map(FilterService::extractProbabilities)
+                .findFirst()
+                .orElseThrow(() -> new PreBidException("Model inference result has no probabilities"));
     }
 
     private static void validateThrottlingMessages(List<ThrottlingMessage> throttlingMessages) {
@@ -86,23 +125,14 @@ public class FilterService {
         }
     }
 
-    private Map<String, Map<String, Boolean>> extractAndProcessProbabilities(
-            OnnxTensor tensor,
-            List<ThrottlingMessage> throttlingMessages,
-            Double threshold) {
-
+    private static float[][] extractProbabilities(OnnxTensor tensor) {
         try {
-            final float[][] probabilities = extractProbabilitiesValues(tensor);
-            return processProbabilities(probabilities, throttlingMessages, threshold);
+            return (float[][]) tensor.getValue();
         } catch (OrtException e) {
             throw new PreBidException("Exception when extracting proba from OnnxTensor: ", e);
         }
     }
 
-    private float[][] extractProbabilitiesValues(OnnxTensor tensor) throws OrtException {
-        return (float[][]) tensor.getValue();
-    }
-
     private Map<String, Map<String, Boolean>> processProbabilities(
             float[][] probabilities,
             List<ThrottlingMessage> throttlingMessages,
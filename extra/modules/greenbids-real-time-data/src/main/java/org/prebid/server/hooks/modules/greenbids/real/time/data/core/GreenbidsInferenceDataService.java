@@ -8,13 +8,16 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.Geo;
 import com.iab.openrtb.request.Imp;
+import com.maxmind.db.Network;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.Country;
+import com.maxmind.geoip2.record.Traits;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.geolocation.IpPrefixCache;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.config.DatabaseReaderFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -40,12 +43,16 @@ public class GreenbidsInferenceDataService {
 
     private final CountryCodeMapper countryCodeMapper;
 
+    private final IpPrefixCache<String> countryCache;
+
     public GreenbidsInferenceDataService(DatabaseReaderFactory dbReaderFactory,
                                          ObjectMapper mapper,
-                                         CountryCodeMapper countryCodeMapper) {
+                                         CountryCodeMapper countryCodeMapper,
+                                         int countryCacheSize) {
         this.databaseReaderFactory = Objects.requireNonNull(dbReaderFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.countryCodeMapper = Objects.requireNonNull(countryCodeMapper);
+        this.countryCache = countryCacheSize > 0 ? new IpPrefixCache<>(countryCacheSize) : null;
     }
 
     public List<ThrottlingMessage> extractThrottlingMessagesFromBidRequest(BidRequest bidRequest) {
@@ -66,13 +73,14 @@ public class GreenbidsInferenceDataService {
         final Integer minuteQuadrant = (timestamp.getMinute() / 15) + 1;
 
         final String hostname = bidRequest.getSite().getDomain();
+        final String country = resolveCountry(bidRequest.getDevice());
         final List<Imp> imps = bidRequest.getImp();
 
         return imps.stream()
                 .map(imp -> extractMessagesForImp(
                         imp,
-                        bidRequest,
                         greenbidsUserAgent,
+                        country,
                         hostname,
                         hourBucket,
                         minuteQuadrant))
@@ -82,8 +90,8 @@ public class GreenbidsInferenceDataService {
 
     private List<ThrottlingMessage> extractMessagesForImp(
             Imp imp,
-            BidRequest bidRequest,
             GreenbidsUserAgent greenbidsUserAgent,
+            String country,
             String hostname,
             Integer hourBucket,
             Integer minuteQuadrant) {
@@ -91,16 +99,6 @@ public class GreenbidsInferenceDataService {
         final String impId = imp.getId();
         final ObjectNode impExt = imp.getExt();
         final JsonNode bidderNode = extImpPrebid(impExt.get("prebid")).getBidder();
-        final String ip = Optional.ofNullable(bidRequest.getDevice())
-                .map(Device::getIp)
-                .orElse(null);
-        final String country = Optional.ofNullable(bidRequest.getDevice())
-                .map(Device::getGeo)
-                .map(Geo::getCountry)
-                .map(countryCodeMapper::mapToAlpha2)
-                .map(GreenbidsInferenceDataService::getCountryNameFromAlpha2)
-                .filter(c -> !c.isEmpty())
-                .orElseGet(() -> getCountry(ip));
 
         return createThrottlingMessages(
                 bidderNode,
@@ -112,6 +110,17 @@ public class GreenbidsInferenceDataService {
                 minuteQuadrant);
     }
 
+    private String resolveCountry(Device device) {
+        final String ip = device != null ? device.getIp() : null;
+        return Optional.ofNullable(device)
+                .map(Device::getGeo)
+                .map(Geo::getCountry)
+                .map(countryCodeMapper::mapToAlpha2)
+                .map(GreenbidsInferenceDataService::getCountryNameFromAlpha2)
+                .filter(c -> !c.isEmpty())
+                .orElseGet(() -> getCountry(ip));
+    }
+
     private static String getCountryNameFromAlpha2(String isoCode) {
         return StringUtils.isBlank(isoCode)
                 ? StringUtils.EMPTY
@@ -128,14 +137,30 @@ public class GreenbidsInferenceDataService {
     private String getCountryFromIpUsingDatabase(DatabaseReader databaseReader, String ip) {
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
+            final String cachedCountry = countryCache != null ? countryCache.get(inetAddress) : null;
+            if (cachedCountry != null) {
+                return cachedCountry;
+            }
+
             final CountryResponse response = databaseReader.country(inetAddress);
             final Country country = response.getCountry();
-            return country.getName();
+            final String countryName = country.getName();
+            if (countryCache != null) {
+                countryCache.put(inetAddress, resolveNetworkPrefixLength(response), countryName);
+            }
+
+            return countryName;
         } catch (IOException | GeoIp2Exception e) {
             throw new PreBidException("Failed to fetch country from geoLite DB", e);
         }
     }
 
+    private static int resolveNetworkPrefixLength(CountryResponse response) {
+        final Traits traits = response.getTraits();
+        final Network network = traits != null ? traits.getNetwork() : null;
+        return network != null ? network.getPrefixLength() : -1;
+    }
+
     private List<ThrottlingMessage> createThrottlingMessages(
             JsonNode bidderNode,
             String impId,
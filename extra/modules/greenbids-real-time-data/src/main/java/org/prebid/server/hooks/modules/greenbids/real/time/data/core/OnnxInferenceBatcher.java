@@ -0,0 +1,179 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.config.GreenbidsRealTimeDataModule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs model inference on the dedicated worker pool instead of the event loop.
+ * <p>
+ * Inference requests of concurrent auctions using the same model are collected within a small window (or until
+ * batch is full) and are predicted by a single model run, so the cost of the run and of its native tensors is
+ * shared by the batch. Each request is completed on the context it was submitted from.
+ * <p>
+ * Every request holds a reference to the model session until its batch is run, so the model evicted from the cache
+ * in the meantime is closed only after that.
+ */
+public class OnnxInferenceBatcher {
+
+    private static final String METRIC_PREFIX = "modules.module." + GreenbidsRealTimeDataModule.CODE + ".inference.";
+
+    private final Vertx vertx;
+    private final WorkerExecutor workerExecutor;
+    private final int maxBatchSize;
+    private final long batchWindowMs;
+
+    private final Map<OnnxModelRunner, Batch> pendingBatches = new HashMap<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final Timer queueTimer;
+    private final Timer inferenceTimer;
+    private final Histogram batchSizeHistogram;
+
+    public OnnxInferenceBatcher(Vertx vertx,
+                                WorkerExecutor workerExecutor,
+                                int maxBatchSize,
+                                long batchWindowMs,
+                                MetricRegistry metricRegistry) {
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowMs = batchWindowMs;
+
+        metricRegistry.gauge(METRIC_PREFIX + "queue-size", () -> queueSize::get);
+        queueTimer = metricRegistry.timer(METRIC_PREFIX + "queue-time");
+        inferenceTimer = metricRegistry.timer(METRIC_PREFIX + "duration");
+        batchSizeHistogram = metricRegistry.histogram(METRIC_PREFIX + "batch-size");
+    }
+
+    /**
+     * Returns probabilities of the given rows, predicted by the model together with rows of other requests.
+     */
+    public Future<float[][]> predict(OnnxModelRunner onnxModelRunner, String[][] throttlingInferenceRows) {
+        if (!onnxModelRunner.acquire()) {
+            return Future.failedFuture(new PreBidException("ONNX model is already closed"));
+        }
+
+        final InferenceRequest request = new InferenceRequest(
+                throttlingInferenceRows, vertx.getOrCreateContext(), Promise.promise(), System.nanoTime());
+        queueSize.incrementAndGet();
+
+        final Batch readyBatch = enqueue(onnxModelRunner, request);
+        if (readyBatch != null) {
+            run(readyBatch);
+        }
+
+        return request.promise().future();
+    }
+
+    private Batch enqueue(OnnxModelRunner onnxModelRunner, InferenceRequest request) {
+        final Batch batch;
+        final boolean newBatch;
+
+        synchronized (pendingBatches) {
+            final Batch pendingBatch = pendingBatches.get(onnxModelRunner);
+            newBatch = pendingBatch == null;
+            batch = newBatch ? new Batch(onnxModelRunner, new ArrayList<>(maxBatchSize)) : pendingBatch;
+            batch.requests().add(request);
+
+            if (batch.requests().size() >= maxBatchSize || batchWindowMs <= 0) {
+                if (!newBatch) {
+                    pendingBatches.remove(onnxModelRunner);
+                }
+                return batch;
+            }
+
+            if (newBatch) {
+                pendingBatches.put(onnxModelRunner, batch);
+            }
+        }
+
+        if (newBatch) {
+            vertx.setTimer(batchWindowMs, ignored -> flush(batch));
+        }
+
+        return null;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (pendingBatches) {
+            // batch is already run if it got full before the window passed
+            if (pendingBatches.get(batch.onnxModelRunner()) != batch) {
+                return;
+            }
+            pendingBatches.remove(batch.onnxModelRunner());
+        }
+
+        run(batch);
+    }
+
+    private void run(Batch batch) {
+        workerExecutor.executeBlocking(() -> infer(batch), false);
+    }
+
+    private Void infer(Batch batch) {
+        final List<InferenceRequest> requests = batch.requests();
+        final long startTime = System.nanoTime();
+
+        queueSize.addAndGet(-requests.size());
+        requests.forEach(request -> queueTimer.update(startTime - request.submitTime(), TimeUnit.NANOSECONDS));
+        batchSizeHistogram.update(requests.size());
+
+        try {
+            final float[][] probabilities = FilterService.predictProbabilities(
+                    batch.onnxModelRunner(), concatRows(requests));
+
+            int offset = 0;
+            for (InferenceRequest request : requests) {
+                final int rowsCount = request.rows().length;
+                final float[][] requestProbabilities = Arrays.copyOfRange(probabilities, offset, offset + rowsCount);
+                request.context().runOnContext(ignored -> request.promise().complete(requestProbabilities));
+                offset += rowsCount;
+            }
+        } catch (RuntimeException e) {
+            requests.forEach(request -> request.context().runOnContext(ignored -> request.promise().fail(e)));
+        } finally {
+            inferenceTimer.update(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            requests.forEach(ignored -> batch.onnxModelRunner().release());
+        }
+
+        return null;
+    }
+
+    private static String[][] concatRows(List<InferenceRequest> requests) {
+        if (requests.size() == 1) {
+            return requests.getFirst().rows();
+        }
+
+        return requests.stream()
+                .map(InferenceRequest::rows)
+                .flatMap(Arrays::stream)
+                .toArray(String[][]::new);
+    }
+
+    private record InferenceRequest(String[][] rows, Context context, Promise<float[][]> promise, long submitTime) {
+    }
+
+    private record Batch(OnnxModelRunner onnxModelRunner, List<InferenceRequest> requests) {
+    }
+}
@@ -4,21 +4,88 @@ import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class OnnxModelRunner {
+/**
+ * Holds native ONNX session of the model.
+ * <p>
+ * Session is reference counted: one reference belongs to the owner of the runner (model cache) and is released
+ * by {@link #close()}, others are taken by inference requests in flight with {@link #acquire()} and
+ * {@link #release()}. Session is closed once the last reference is released, so the model evicted from the cache
+ * still serves the batches it was already submitted to.
+ */
+public class OnnxModelRunner implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OnnxModelRunner.class);
 
     private static final OrtEnvironment ENVIRONMENT = OrtEnvironment.getEnvironment();
 
     private final OrtSession session;
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public OnnxModelRunner(byte[] onnxModelBytes) throws OrtException {
-        session = ENVIRONMENT.createSession(onnxModelBytes, new OrtSession.SessionOptions());
+        this(onnxModelBytes, new OrtSession.SessionOptions());
+    }
+
+    public OnnxModelRunner(byte[] onnxModelBytes, OrtSession.SessionOptions sessionOptions) throws OrtException {
+        // options are copied into the session, so can be released right after its creation
+        try (sessionOptions) {
+            session = ENVIRONMENT.createSession(onnxModelBytes, sessionOptions);
+        }
     }
 
+    /**
+     * Runs the model for the given rows. Input tensor is released once the model is run, returned result holds
+     * native output values and should be closed by the caller.
+     */
     public OrtSession.Result runModel(String[][] throttlingInferenceRow) throws OrtException {
-        final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
-        return session.run(Collections.singletonMap("input", inputTensor));
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow)) {
+            return session.run(Collections.singletonMap("input", inputTensor));
+        }
+    }
+
+    /**
+     * Takes reference to the session, returns false if session is already closed.
+     */
+    public boolean acquire() {
+        int current = references.get();
+        while (current > 0) {
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = references.get();
+        }
+
+        return false;
+    }
+
+    public void release() {
+        if (references.decrementAndGet() == 0) {
+            closeSession();
+        }
+    }
+
+    /**
+     * Releases reference of the owner, the session is closed after requests in flight released their ones.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    private void closeSession() {
+        try {
+            session.close();
+        } catch (OrtException e) {
+            logger.warn("Failed to close ONNX model session", e);
+        }
     }
 }
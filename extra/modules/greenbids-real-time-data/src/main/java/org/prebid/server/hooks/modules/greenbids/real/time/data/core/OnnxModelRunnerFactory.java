@@ -1,10 +1,40 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
 
 public class OnnxModelRunnerFactory {
 
+    private final Integer intraOpThreads;
+    private final OrtSession.SessionOptions.OptLevel optimizationLevel;
+
+    public OnnxModelRunnerFactory() {
+        this(null, null);
+    }
+
+    public OnnxModelRunnerFactory(Integer intraOpThreads, OrtSession.SessionOptions.OptLevel optimizationLevel) {
+        this.intraOpThreads = intraOpThreads;
+        this.optimizationLevel = optimizationLevel;
+    }
+
     public OnnxModelRunner create(byte[] bytes) throws OrtException {
-        return new OnnxModelRunner(bytes);
+        return new OnnxModelRunner(bytes, sessionOptions());
+    }
+
+    private OrtSession.SessionOptions sessionOptions() throws OrtException {
+        final OrtSession.SessionOptions sessionOptions = new OrtSession.SessionOptions();
+        try {
+            if (intraOpThreads != null) {
+                sessionOptions.setIntraOpNumThreads(intraOpThreads);
+            }
+            if (optimizationLevel != null) {
+                sessionOptions.setOptimizationLevel(optimizationLevel);
+            }
+        } catch (OrtException e) {
+            sessionOptions.close();
+            throw e;
+        }
+
+        return sessionOptions;
     }
 }
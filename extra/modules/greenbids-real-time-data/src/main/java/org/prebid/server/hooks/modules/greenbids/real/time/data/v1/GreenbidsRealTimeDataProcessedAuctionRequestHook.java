@@ -127,27 +127,32 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
             OnnxModelRunner onnxModelRunner,
             Double threshold) {
 
-        final Map<String, Map<String, Boolean>> impsBiddersFilterMap;
+        final List<ThrottlingMessage> throttlingMessages;
         try {
-            final List<ThrottlingMessage> throttlingMessages = greenbidsInferenceDataService
-                    .extractThrottlingMessagesFromBidRequest(bidRequest);
-
-            impsBiddersFilterMap = filterService.filterBidders(
-                    onnxModelRunner,
-                    throttlingMessages,
-                    threshold);
+            throttlingMessages = greenbidsInferenceDataService.extractThrottlingMessagesFromBidRequest(bidRequest);
         } catch (PreBidException e) {
             return Future.succeededFuture(toInvocationResult(
                     bidRequest, null, InvocationAction.no_action));
         }
 
+        return filterService.filterBiddersAsync(onnxModelRunner, throttlingMessages, threshold)
+                .transform(result -> Future.succeededFuture(result.succeeded()
+                        ? toInvocationResult(bidRequest, greenbidsConfig, result.result())
+                        : toInvocationResult(bidRequest, null, InvocationAction.no_action)));
+    }
+
+    private InvocationResult<AuctionRequestPayload> toInvocationResult(
+            BidRequest bidRequest,
+            GreenbidsConfig greenbidsConfig,
+            Map<String, Map<String, Boolean>> impsBiddersFilterMap) {
+
         final GreenbidsInvocationResult greenbidsInvocationResult = greenbidsInvocationService
                 .createGreenbidsInvocationResult(greenbidsConfig, bidRequest, impsBiddersFilterMap);
 
-        return Future.succeededFuture(toInvocationResult(
+        return toInvocationResult(
                 greenbidsInvocationResult.getUpdatedBidRequest(),
                 greenbidsInvocationResult.getAnalyticsResult(),
-                greenbidsInvocationResult.getInvocationAction()));
+                greenbidsInvocationResult.getInvocationAction());
     }
 
     private InvocationResult<AuctionRequestPayload> toInvocationResult(
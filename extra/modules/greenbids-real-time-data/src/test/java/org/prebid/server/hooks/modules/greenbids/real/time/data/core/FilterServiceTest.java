@@ -5,6 +5,7 @@ import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.TensorInfo;
+import io.vertx.core.Future;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -24,6 +25,8 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +47,9 @@ public class FilterServiceTest {
     @Mock
     private OnnxValue onnxValue;
 
+    @Mock
+    private OnnxInferenceBatcher inferenceBatcher;
+
     private final FilterService target = new FilterService();
 
     @Test
@@ -124,6 +130,38 @@ public class FilterServiceTest {
                 .hasMessageContaining("Mismatch between tensor size and throttlingMessages size");
     }
 
+    @Test
+    public void filterBiddersAsyncShouldReturnFilteredBiddersPredictedByInferenceBatcher() {
+        // given
+        final List<ThrottlingMessage> throttlingMessages = createThrottlingMessages();
+        final Double threshold = 0.5;
+
+        when(inferenceBatcher.predict(same(onnxModelRunnerMock), any(String[][].class)))
+                .thenReturn(Future.succeededFuture(new float[][]{{0.1f, 0.9f}, {0.6f, 0.4f}, {0.8f, 0.2f}}));
+
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = new FilterService(inferenceBatcher)
+                .filterBiddersAsync(onnxModelRunnerMock, throttlingMessages, threshold);
+
+        // then
+        assertThat(result.result()).isEqualTo(Map.of(
+                "adUnit1", Map.of("bidder1", true),
+                "adUnit2", Map.of("bidder2", false),
+                "adUnit3", Map.of("bidder3", false)));
+    }
+
+    @Test
+    public void filterBiddersAsyncShouldFailWhenThrottlingMessagesIsEmpty() {
+        // when
+        final Future<Map<String, Map<String, Boolean>>> result = new FilterService(inferenceBatcher)
+                .filterBiddersAsync(onnxModelRunnerMock, Collections.emptyList(), 0.5);
+
+        // then
+        assertThat(result.cause()).isInstanceOf(PreBidException.class)
+                .hasMessageContaining("throttlingMessages cannot be null or empty");
+        verifyNoInteractions(inferenceBatcher);
+    }
+
     private OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
         final byte[] onnxModelBytes = Files.readAllBytes(Paths.get(
                 "src/test/resources/models_pbuid=test-pbuid.onnx"));
@@ -4,10 +4,12 @@ import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.Imp;
+import com.maxmind.db.Network;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.Country;
+import com.maxmind.geoip2.record.Traits;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +35,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider.givenBanner;
 import static org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider.givenBidRequest;
@@ -60,7 +64,7 @@ public class GreenbidsInferenceDataServiceTest {
     public void setUp() {
         when(databaseReaderFactory.getDatabaseReader()).thenReturn(databaseReader);
         target = new GreenbidsInferenceDataService(
-                databaseReaderFactory, TestBidRequestProvider.MAPPER, countryCodeMapper);
+                databaseReaderFactory, TestBidRequestProvider.MAPPER, countryCodeMapper, 100);
     }
 
     @Test
@@ -177,6 +181,68 @@ public class GreenbidsInferenceDataServiceTest {
         });
     }
 
+    @Test
+    public void extractThrottlingMessagesFromBidRequestShouldLookUpCountryOncePerRequest()
+            throws IOException, GeoIp2Exception {
+        // given
+        final List<Imp> imps = List.of(
+                Imp.builder().id("imp1").ext(givenImpExt()).banner(givenBanner()).build(),
+                Imp.builder().id("imp2").ext(givenImpExt()).banner(givenBanner()).build());
+        final BidRequest bidRequest = givenBidRequest(request -> request, imps, givenDevice(identity()));
+
+        givenCountryResponse("United States", 16);
+
+        // when
+        final List<ThrottlingMessage> throttlingMessages = target.extractThrottlingMessagesFromBidRequest(bidRequest);
+
+        // then
+        assertThat(throttlingMessages)
+                .extracting(ThrottlingMessage::getCountry)
+                .containsOnly("United States");
+        verify(databaseReader).country(any(InetAddress.class));
+    }
+
+    @Test
+    public void extractThrottlingMessagesFromBidRequestShouldReuseCountryFoundForSameIpPrefix()
+            throws IOException, GeoIp2Exception {
+        // given
+        final Imp imp = Imp.builder().id("adunitcodevalue").ext(givenImpExt()).banner(givenBanner()).build();
+        final BidRequest firstRequest = givenBidRequest(
+                request -> request, List.of(imp), givenDevice(device -> device.ip("151.101.194.216")));
+        final BidRequest secondRequest = givenBidRequest(
+                request -> request, List.of(imp), givenDevice(device -> device.ip("151.101.194.1")));
+
+        givenCountryResponse("United States", 16);
+
+        // when
+        target.extractThrottlingMessagesFromBidRequest(firstRequest);
+        final List<ThrottlingMessage> throttlingMessages = target.extractThrottlingMessagesFromBidRequest(
+                secondRequest);
+
+        // then
+        assertThat(throttlingMessages)
+                .extracting(ThrottlingMessage::getCountry)
+                .containsOnly("United States");
+        verify(databaseReader).country(any(InetAddress.class));
+    }
+
+    @Test
+    public void extractThrottlingMessagesFromBidRequestShouldNotReuseCountryFoundForNetworkNarrowerThanPrefix()
+            throws IOException, GeoIp2Exception {
+        // given
+        final Imp imp = Imp.builder().id("adunitcodevalue").ext(givenImpExt()).banner(givenBanner()).build();
+        final BidRequest bidRequest = givenBidRequest(request -> request, List.of(imp), givenDevice(identity()));
+
+        givenCountryResponse("United States", 28);
+
+        // when
+        target.extractThrottlingMessagesFromBidRequest(bidRequest);
+        target.extractThrottlingMessagesFromBidRequest(bidRequest);
+
+        // then
+        verify(databaseReader, times(2)).country(any(InetAddress.class));
+    }
+
     @Test
     public void extractThrottlingMessagesFromBidRequestShouldThrowPreBidExceptionWhenGeoIpFails()
             throws IOException, GeoIp2Exception {
@@ -198,6 +264,19 @@ public class GreenbidsInferenceDataServiceTest {
                 .hasMessageContaining("Failed to fetch country from geoLite DB");
     }
 
+    private void givenCountryResponse(String countryName, int networkPrefixLength)
+            throws IOException, GeoIp2Exception {
+
+        final CountryResponse countryResponse = mock(CountryResponse.class);
+        final Traits traits = mock(Traits.class);
+        when(databaseReader.country(any(InetAddress.class))).thenReturn(countryResponse);
+        when(countryResponse.getCountry()).thenReturn(country);
+        when(countryResponse.getTraits()).thenReturn(traits);
+        when(traits.getNetwork()).thenReturn(
+                new Network(InetAddress.getByName("151.101.0.0"), networkPrefixLength));
+        when(country.getName()).thenReturn(countryName);
+    }
+
     private Device givenDeviceWithoutIp(UnaryOperator<Device.DeviceBuilder> deviceCustomizer) {
         final String userAgent = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_12_6) AppleWebKit/537.36"
                 + " (KHTML, like Gecko) Chrome/59.0.3071.115 Safari/537.36";
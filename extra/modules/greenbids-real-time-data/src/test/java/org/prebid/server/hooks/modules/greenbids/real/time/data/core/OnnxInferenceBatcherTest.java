@@ -0,0 +1,217 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class OnnxInferenceBatcherTest {
+
+    private static final String[] ROW = {
+            "Chrome 59", "rubicon", "adunitcodevalue", "US", "www.leparisien.fr", "PC", "10", "1"};
+
+    @Mock(strictness = LENIENT)
+    private Vertx vertx;
+
+    @Mock(strictness = LENIENT)
+    private Context context;
+
+    @Mock(strictness = LENIENT)
+    private WorkerExecutor workerExecutor;
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        given(context.runOnContext(any())).willAnswer(invocation -> {
+            ((Handler<Void>) invocation.getArgument(0)).handle(null);
+            return null;
+        });
+        given(workerExecutor.executeBlocking(any(Callable.class), anyBoolean()))
+                .willAnswer(invocation -> execute(invocation.getArgument(0)));
+
+        metricRegistry = new MetricRegistry();
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidMaxBatchSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new OnnxInferenceBatcher(vertx, workerExecutor, 0, 1L, metricRegistry));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void predictShouldRunModelOnceForFullBatch() throws OrtException, IOException {
+        // given
+        final OnnxModelRunner onnxModelRunner = spy(givenOnnxModelRunner());
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(
+                vertx, workerExecutor, 2, 10L, metricRegistry);
+
+        // when
+        final Future<float[][]> first = target.predict(onnxModelRunner, new String[][]{ROW});
+        final Future<float[][]> second = target.predict(onnxModelRunner, new String[][]{ROW, ROW});
+
+        // then
+        verify(workerExecutor, times(1)).executeBlocking(any(Callable.class), eq(false));
+        verify(onnxModelRunner, times(1)).runModel(any());
+
+        assertThat(first.result()).hasNumberOfRows(1);
+        assertThat(second.result()).hasNumberOfRows(2);
+        assertThat(first.result()[0][1]).isBetween(0.0f, 1.0f);
+        assertThat(second.result()[1][1]).isEqualTo(first.result()[0][1]);
+
+        assertThat(metricRegistry.histogram("modules.module.greenbids-real-time-data.inference.batch-size")
+                .getSnapshot().getValues()).containsExactly(2);
+        assertThat(metricRegistry.timer("modules.module.greenbids-real-time-data.inference.queue-time").getCount())
+                .isEqualTo(2);
+        assertThat(metricRegistry.timer("modules.module.greenbids-real-time-data.inference.duration").getCount())
+                .isEqualTo(1);
+        assertThat(metricRegistry.getGauges()
+                .get("modules.module.greenbids-real-time-data.inference.queue-size").getValue())
+                .isEqualTo(0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void predictShouldRunNotFullBatchWhenWindowPassed() throws OrtException, IOException {
+        // given
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(
+                vertx, workerExecutor, 10, 5L, metricRegistry);
+
+        // when
+        final Future<float[][]> result = target.predict(givenOnnxModelRunner(), new String[][]{ROW});
+
+        // then
+        verify(workerExecutor, never()).executeBlocking(any(Callable.class), anyBoolean());
+        assertThat(result.isComplete()).isFalse();
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+
+        assertThat(result.result()).hasNumberOfRows(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void predictShouldRunEveryRequestSeparatelyWhenNoBatchWindow() throws OrtException, IOException {
+        // given
+        final OnnxModelRunner onnxModelRunner = givenOnnxModelRunner();
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(
+                vertx, workerExecutor, 10, 0L, metricRegistry);
+
+        // when
+        target.predict(onnxModelRunner, new String[][]{ROW});
+        target.predict(onnxModelRunner, new String[][]{ROW});
+
+        // then
+        verify(workerExecutor, times(2)).executeBlocking(any(Callable.class), eq(false));
+        verify(vertx, never()).setTimer(anyLong(), any());
+    }
+
+    @Test
+    public void predictShouldFailAllRequestsOfBatchWhenInferenceFailed() throws OrtException {
+        // given
+        final OnnxModelRunner onnxModelRunner = mock(OnnxModelRunner.class);
+        given(onnxModelRunner.acquire()).willReturn(true);
+        given(onnxModelRunner.runModel(any())).willThrow(new OrtException("Exception during runModel"));
+
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(
+                vertx, workerExecutor, 2, 10L, metricRegistry);
+
+        // when
+        final Future<float[][]> first = target.predict(onnxModelRunner, new String[][]{ROW});
+        final Future<float[][]> second = target.predict(onnxModelRunner, new String[][]{ROW});
+
+        // then
+        assertThat(first.cause()).isInstanceOf(PreBidException.class)
+                .hasMessageContaining("Exception during model inference");
+        assertThat(second.cause()).isSameAs(first.cause());
+        verify(onnxModelRunner, times(2)).release();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void predictShouldKeepModelClosedByCacheOpenUntilBatchIsRun() throws OrtException, IOException {
+        // given
+        final OnnxModelRunner onnxModelRunner = givenOnnxModelRunner();
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(
+                vertx, workerExecutor, 10, 5L, metricRegistry);
+
+        // when
+        final Future<float[][]> result = target.predict(onnxModelRunner, new String[][]{ROW});
+        onnxModelRunner.close();
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(result.result()).hasNumberOfRows(1);
+        assertThat(onnxModelRunner.acquire()).isFalse();
+    }
+
+    @Test
+    public void predictShouldFailWhenModelIsAlreadyClosed() throws OrtException, IOException {
+        // given
+        final OnnxModelRunner onnxModelRunner = givenOnnxModelRunner();
+        onnxModelRunner.close();
+
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(
+                vertx, workerExecutor, 1, 10L, metricRegistry);
+
+        // when
+        final Future<float[][]> result = target.predict(onnxModelRunner, new String[][]{ROW});
+
+        // then
+        assertThat(result.cause()).isInstanceOf(PreBidException.class)
+                .hasMessage("ONNX model is already closed");
+        verify(workerExecutor, never()).executeBlocking(any(Callable.class), anyBoolean());
+    }
+
+    private static Future<?> execute(Callable<?> callable) {
+        try {
+            return Future.succeededFuture(callable.call());
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private static OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
+        final byte[] onnxModelBytes = Files.readAllBytes(Paths.get(
+                "src/test/resources/models_pbuid=test-pbuid.onnx"));
+        return new OnnxModelRunner(onnxModelBytes);
+    }
+}
@@ -65,6 +65,26 @@ public class OnnxModelRunnerTest {
                 .isInstanceOf(OrtException.class);
     }
 
+    @Test
+    public void closeShouldKeepSessionOpenUntilAcquiredReferencesAreReleased() throws OrtException {
+        // given
+        final String[][] throttlingInferenceRow = {{
+                        "Chrome 59", "rubicon", "adunitcodevalue", "US", "www.leparisien.fr", "PC", "10", "1"}};
+        assertThat(target.acquire()).isTrue();
+
+        // when
+        target.close();
+
+        // then
+        try (OrtSession.Result result = target.runModel(throttlingInferenceRow)) {
+            assertThat(result).hasSize(2);
+        }
+
+        target.release();
+        assertThat(target.acquire()).isFalse();
+        assertThatThrownBy(() -> target.runModel(throttlingInferenceRow)).isInstanceOf(IllegalStateException.class);
+    }
+
     private OnnxModelRunner givenOnnxModelRunner() throws OrtException, IOException {
         final byte[] onnxModelBytes = Files.readAllBytes(Paths.get(
                 "src/test/resources/models_pbuid=test-pbuid.onnx"));
@@ -138,7 +138,8 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         final GreenbidsInferenceDataService greenbidsInferenceDataService = new GreenbidsInferenceDataService(
                 databaseReaderFactory,
                 TestBidRequestProvider.MAPPER,
-                countryCodeMapper);
+                countryCodeMapper,
+                0);
         final GreenbidsInvocationService greenbidsInvocationService = new GreenbidsInvocationService();
         target = new GreenbidsRealTimeDataProcessedAuctionRequestHook(
                 TestBidRequestProvider.MAPPER,
@@ -0,0 +1,43 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Keeps {@link AccountConfigValues} of the module per account id.
+ * <p>
+ * Cached values are reused while the account configuration stays the same, regardless of whether account itself
+ * is cached by application settings, and are replaced once the configuration changes.
+ */
+public class AccountConfigCache {
+
+    private final Cache<String, AccountConfigValues> accountIdToValues;
+
+    public AccountConfigCache(long maxAccounts, Duration expireAfterAccess) {
+        accountIdToValues = Caffeine.newBuilder()
+                .maximumSize(maxAccounts)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public AccountConfigValues valuesOf(String accountId, ObjectNode config) {
+        if (StringUtils.isEmpty(accountId) || config == null) {
+            return AccountConfigValues.of(config);
+        }
+
+        final AccountConfigValues cached = accountIdToValues.getIfPresent(accountId);
+        if (cached != null && cached.isOf(config)) {
+            return cached;
+        }
+
+        // concurrent replacements of the same account are interchangeable, the last one stays in the cache
+        final AccountConfigValues values = AccountConfigValues.of(config);
+        accountIdToValues.put(accountId, values);
+
+        return values;
+    }
+}
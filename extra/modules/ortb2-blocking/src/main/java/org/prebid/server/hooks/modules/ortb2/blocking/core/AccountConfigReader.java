@@ -28,8 +28,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class AccountConfigReader {
@@ -73,12 +75,18 @@ public class AccountConfigReader {
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
+    private final AccountConfigValues configValues;
 
-    private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
-        this.config = config;
+    private AccountConfigReader(AccountConfigValues configValues,
+                                String bidder,
+                                OrtbVersion ortbVersion,
+                                boolean debugEnabled) {
+
+        this.config = configValues.config();
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.debugEnabled = debugEnabled;
+        this.configValues = configValues;
     }
 
     public static AccountConfigReader create(ObjectNode config,
@@ -86,7 +94,15 @@ public class AccountConfigReader {
                                              OrtbVersion ortbVersion,
                                              boolean debugEnabled) {
 
-        return new AccountConfigReader(config, bidder, ortbVersion, debugEnabled);
+        return create(AccountConfigValues.of(config), bidder, ortbVersion, debugEnabled);
+    }
+
+    public static AccountConfigReader create(AccountConfigValues values,
+                                             String bidder,
+                                             OrtbVersion ortbVersion,
+                                             boolean debugEnabled) {
+
+        return new AccountConfigReader(Objects.requireNonNull(values), bidder, ortbVersion, debugEnabled);
     }
 
     public Result<BlockedAttributes> blockedAttributesFor(BidRequest bidRequest) {
@@ -186,6 +202,16 @@ public class AccountConfigReader {
                                                  String fieldName,
                                                  Set<String> actualMediaTypes) {
 
+        return cached(
+                new BlockedAttributeKey(bidder, debugEnabled, attribute, fieldName, actualMediaTypes),
+                () -> resolveBlockedAttribute(attribute, attributeType, fieldName, actualMediaTypes));
+    }
+
+    private <T> Result<List<T>> resolveBlockedAttribute(String attribute,
+                                                        Class<T> attributeType,
+                                                        String fieldName,
+                                                        Set<String> actualMediaTypes) {
+
         final JsonNode attributeConfig = attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
@@ -193,7 +219,8 @@ public class AccountConfigReader {
 
         final Result<JsonNode> override = overrideFor(attributeConfig, actualMediaTypes, fieldName);
 
-        final List<T> result = overrideArrayAttribute(attributeConfig, override.getValue(), attributeType, fieldName);
+        final List<T> result = BlockedValues.of(
+                overrideArrayAttribute(attributeConfig, override.getValue(), attributeType, fieldName));
 
         return Result.of(result, override.getMessages());
     }
@@ -279,6 +306,30 @@ public class AccountConfigReader {
                                                                                  Set<String> bidMediaTypes,
                                                                                  String dealid) {
 
+        final Result<BidAttributeBlockingConfig<T>> blockingConfigResult = cached(
+                new BlockingConfigKey(bidder, debugEnabled, attribute, blockUnknownField, bidMediaTypes),
+                () -> resolveBlockingConfig(attribute, blockUnknownField, bidMediaTypes));
+
+        // deal ids of bids are not limited by configuration, so deal exceptions are not cached per deal id
+        if (!blockingConfigResult.hasValue() || StringUtils.isBlank(dealid)) {
+            return blockingConfigResult;
+        }
+
+        final BidAttributeBlockingConfig<T> blockingConfig = blockingConfigResult.getValue();
+        final Set<T> dealExceptions = dealExceptions(attribute, attributeType, allowedForDealsField, dealid);
+
+        return Result.of(
+                BidAttributeBlockingConfig.of(
+                        blockingConfig.isEnforceBlocks(),
+                        blockingConfig.isBlockUnknownValues(),
+                        dealExceptions),
+                blockingConfigResult.getMessages());
+    }
+
+    private <T> Result<BidAttributeBlockingConfig<T>> resolveBlockingConfig(String attribute,
+                                                                            String blockUnknownField,
+                                                                            Set<String> bidMediaTypes) {
+
         final JsonNode attributeConfig = attributeConfig(attribute);
         if (attributeConfig == null) {
             return Result.empty();
@@ -296,21 +347,23 @@ public class AccountConfigReader {
         final boolean blockUnknown = blockUnknownField != null
                 && mergeBoolean(attributeConfig, blockUnknownOverrideResult.getValue(), blockUnknownField);
 
-        final Set<T> dealExceptions = StringUtils.isNotBlank(dealid)
-                ? mergeDealExceptions(
-                attributeConfig,
-                dealExceptionsFor(attributeConfig, dealid, allowedForDealsField),
-                attributeType,
-                allowedForDealsField)
-                : Collections.emptySet();
-
         final BidAttributeBlockingConfig<T> blockingConfig = BidAttributeBlockingConfig.of(
-                enforceBlocks, blockUnknown, dealExceptions);
+                enforceBlocks, blockUnknown, Collections.emptySet());
         final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksOverrideResult, blockUnknownOverrideResult);
 
         return Result.of(blockingConfig, warnings);
     }
 
+    private <T> Set<T> dealExceptions(String attribute, Class<T> type, String allowedForDealsField, String dealid) {
+        final JsonNode attributeConfig = attributeConfig(attribute);
+        final List<JsonNode> overrides = dealExceptionsFor(attributeConfig, dealid, allowedForDealsField);
+        final Set<T> defaultValue = cached(
+                new DealExceptionsKey(attribute, allowedForDealsField),
+                () -> typedSetFrom(attributeConfig, type, allowedForDealsField));
+
+        return mergeDealExceptions(defaultValue, overrides, type, allowedForDealsField);
+    }
+
     private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
                                                                                  Class<T> type,
                                                                                  String allowedForDealsField,
@@ -488,14 +541,13 @@ public class AccountConfigReader {
                 BooleanUtils.toBooleanDefaultIfNull(typedFieldFrom(parent, Boolean.class, field), false));
     }
 
-    private static <T> Set<T> mergeDealExceptions(JsonNode parent,
+    private static <T> Set<T> mergeDealExceptions(Set<T> defaultValue,
                                                   List<JsonNode> overrides,
                                                   Class<T> type,
                                                   String field) {
 
-        final List<T> defaultValue = typedArrayFrom(parent, type, field);
-        if (defaultValue == null && CollectionUtils.isEmpty(overrides)) {
-            return Collections.emptySet();
+        if (CollectionUtils.isEmpty(overrides)) {
+            return defaultValue != null ? defaultValue : Collections.emptySet();
         }
 
         final Set<T> results = new HashSet<>(CollectionUtils.emptyIfNull(defaultValue));
@@ -506,6 +558,12 @@ public class AccountConfigReader {
         return results;
     }
 
+    private static <T> Set<T> typedSetFrom(JsonNode parent, Class<T> type, String field) {
+        final List<T> values = typedArrayFrom(parent, type, field);
+
+        return values != null ? Collections.unmodifiableSet(new HashSet<>(values)) : null;
+    }
+
     private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
         final JsonNode child = parent.get(field);
         if (child == null) {
@@ -600,4 +658,25 @@ public class AccountConfigReader {
 
         return object;
     }
+
+    private <T> T cached(Object key, Supplier<T> resolver) {
+        return configValues.get(key, resolver);
+    }
+
+    private record BlockedAttributeKey(String bidder,
+                                       boolean debugEnabled,
+                                       String attribute,
+                                       String field,
+                                       Set<String> mediaTypes) {
+    }
+
+    private record BlockingConfigKey(String bidder,
+                                     boolean debugEnabled,
+                                     String attribute,
+                                     String blockUnknownField,
+                                     Set<String> mediaTypes) {
+    }
+
+    private record DealExceptionsKey(String attribute, String field) {
+    }
 }
@@ -0,0 +1,59 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Module account configuration together with values resolved from it, such as typed block lists with bidder and
+ * media type overrides applied.
+ * <p>
+ * Instance obtained from {@link AccountConfigCache} is shared by all auctions of the account while its
+ * configuration stays the same, so values are resolved once instead of every bidder request and bidder response.
+ */
+public class AccountConfigValues {
+
+    private final ObjectNode config;
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+    private AccountConfigValues(ObjectNode config) {
+        this.config = config;
+    }
+
+    public static AccountConfigValues of(ObjectNode config) {
+        return new AccountConfigValues(config);
+    }
+
+    public ObjectNode config() {
+        return config;
+    }
+
+    boolean isOf(ObjectNode config) {
+        // configuration node of cached account is the same instance, so deep comparison is done only for the
+        // account fetched from the data source on every request
+        return Objects.equals(this.config, config);
+    }
+
+    /**
+     * Returns value resolved for the given key, resolving it first if needed.
+     * <p>
+     * Resolver may fail on invalid configuration, in which case nothing is cached and the failure is repeated
+     * on the next call, the same way as it was for configuration read on every call.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(Object key, Supplier<T> resolver) {
+        final Object cached = values.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        // resolver is deterministic, so concurrently resolved values are interchangeable
+        final T resolved = resolver.get();
+        final Object previous = resolved != null ? values.putIfAbsent(key, resolved) : null;
+
+        return previous != null ? (T) previous : resolved;
+    }
+}
@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -47,7 +46,7 @@ public class BidsBlocker {
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final AccountConfigValues accountConfig;
     private final BlockedAttributes blockedAttributes;
     private final BidRejectionTracker bidRejectionTracker;
     private final boolean debugEnabled;
@@ -55,7 +54,7 @@ public class BidsBlocker {
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
-                        ObjectNode accountConfig,
+                        AccountConfigValues accountConfig,
                         BlockedAttributes blockedAttributes,
                         BidRejectionTracker bidRejectionTracker,
                         boolean debugEnabled) {
@@ -72,7 +71,7 @@ public class BidsBlocker {
     public static BidsBlocker create(List<BidderBid> bids,
                                      String bidder,
                                      OrtbVersion ortbVersion,
-                                     ObjectNode accountConfig,
+                                     AccountConfigValues accountConfig,
                                      BlockedAttributes blockedAttributes,
                                      BidRejectionTracker bidRejectionTracker,
                                      boolean debugEnabled) {
@@ -81,7 +80,7 @@ public class BidsBlocker {
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfig),
                 blockedAttributes,
                 bidRejectionTracker,
                 debugEnabled);
@@ -1,6 +1,5 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.core;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.exception.InvalidAccountConfigurationException;
@@ -15,13 +14,13 @@ public class BlockedAttributesResolver {
     private final BidRequest bidRequest;
     private final String bidder;
     private final OrtbVersion ortbVersion;
-    private final ObjectNode accountConfig;
+    private final AccountConfigValues accountConfig;
     private final boolean debugEnabled;
 
     private BlockedAttributesResolver(BidRequest bidRequest,
                                       String bidder,
                                       OrtbVersion ortbVersion,
-                                      ObjectNode accountConfig,
+                                      AccountConfigValues accountConfig,
                                       boolean debugEnabled) {
 
         this.bidRequest = bidRequest;
@@ -34,14 +33,14 @@ public class BlockedAttributesResolver {
     public static BlockedAttributesResolver create(BidRequest bidRequest,
                                                    String bidder,
                                                    OrtbVersion ortbVersion,
-                                                   ObjectNode accountConfig,
+                                                   AccountConfigValues accountConfig,
                                                    boolean debugEnabled) {
 
         return new BlockedAttributesResolver(
                 Objects.requireNonNull(bidRequest),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
-                accountConfig,
+                Objects.requireNonNull(accountConfig),
                 debugEnabled);
     }
 
@@ -0,0 +1,43 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Block list resolved from account configuration, answering {@link #contains} with a set lookup.
+ * <p>
+ * Lookup set is built together with the list when {@link AccountConfigValues} resolves it, so the list is shared
+ * by all bidder responses of the account instead of building a set for each of them.
+ */
+class BlockedValues<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<T> values;
+    private final Set<T> lookup;
+
+    private BlockedValues(List<T> values) {
+        this.values = values;
+        this.lookup = new HashSet<>(values);
+    }
+
+    static <T> List<T> of(List<T> values) {
+        return values != null ? new BlockedValues<>(values) : null;
+    }
+
+    @Override
+    public T get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return lookup.contains(value);
+    }
+}
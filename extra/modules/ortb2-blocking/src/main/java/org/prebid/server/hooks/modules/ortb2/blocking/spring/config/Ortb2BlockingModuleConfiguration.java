@@ -1,18 +1,29 @@
 package org.prebid.server.hooks.modules.ortb2.blocking.spring.config;
 
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.v1.Ortb2BlockingModule;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @ConditionalOnProperty(prefix = "hooks." + Ortb2BlockingModule.CODE, name = "enabled", havingValue = "true")
 @Configuration
 public class Ortb2BlockingModuleConfiguration {
 
     @Bean
-    Ortb2BlockingModule ortb2BlockingModule(BidderCatalog bidderCatalog) {
-        return new Ortb2BlockingModule(bidderCatalog, ObjectMapperProvider.mapper());
+    Ortb2BlockingModule ortb2BlockingModule(
+            BidderCatalog bidderCatalog,
+            @Value("${hooks.modules.ortb2-blocking.account-cache.max-size:10000}") long accountCacheMaxSize,
+            @Value("${hooks.modules.ortb2-blocking.account-cache.ttl-seconds:3600}") long accountCacheTtlSeconds) {
+
+        return new Ortb2BlockingModule(
+                bidderCatalog,
+                ObjectMapperProvider.mapper(),
+                new AccountConfigCache(accountCacheMaxSize, Duration.ofSeconds(accountCacheTtlSeconds)));
     }
 }
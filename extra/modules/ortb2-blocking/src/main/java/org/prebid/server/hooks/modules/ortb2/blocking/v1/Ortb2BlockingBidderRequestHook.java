@@ -3,10 +3,12 @@ package org.prebid.server.hooks.modules.ortb2.blocking.v1;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.hooks.execution.v1.InvocationResultImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.AccountConfigCache;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.BlockedAttributesResolver;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.RequestUpdater;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
@@ -20,6 +22,7 @@ import org.prebid.server.hooks.v1.bidder.BidderRequestHook;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Map;
 import java.util.Objects;
@@ -29,9 +32,11 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
     private static final String CODE = "ortb2-blocking-bidder-request";
 
     private final BidderCatalog bidderCatalog;
+    private final AccountConfigCache accountConfigCache;
 
-    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog) {
+    public Ortb2BlockingBidderRequestHook(BidderCatalog bidderCatalog, AccountConfigCache accountConfigCache) {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.accountConfigCache = Objects.requireNonNull(accountConfigCache);
     }
 
     @Override
@@ -50,7 +55,7 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                         bidRequest,
                         bidder,
                         moduleContext.ortbVersionOf(bidder),
-                        invocationContext.accountConfig(),
+                        accountConfigCache.valuesOf(accountId(invocationContext), invocationContext.accountConfig()),
                         invocationContext.debugEnabled())
                 .resolve();
 
@@ -80,6 +85,12 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
         return CODE;
     }
 
+    private static String accountId(BidderInvocationContext invocationContext) {
+        final AuctionContext auctionContext = invocationContext.auctionContext();
+        final Account account = auctionContext != null ? auctionContext.getAccount() : null;
+        return account != null ? account.getId() : null;
+    }
+
     private static ModuleContext moduleContext(BidderInvocationContext invocationContext) {
         return invocationContext.moduleContext() instanceof ModuleContext moduleContext
                 ? moduleContext
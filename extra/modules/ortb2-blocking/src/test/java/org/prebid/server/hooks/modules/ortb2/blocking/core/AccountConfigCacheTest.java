@@ -0,0 +1,73 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountConfigCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AccountConfigCache target = new AccountConfigCache(100, Duration.ofMinutes(1));
+
+    @Test
+    public void valuesOfShouldReturnSameValuesForEqualConfigOfNotCachedAccount() {
+        // given
+        final AccountConfigValues values = target.valuesOf("accountId", givenConfig("badv"));
+
+        // when
+        final AccountConfigValues result = target.valuesOf("accountId", givenConfig("badv"));
+
+        // then
+        assertThat(result).isSameAs(values);
+    }
+
+    @Test
+    public void valuesOfShouldReturnNewValuesWhenAccountConfigChanged() {
+        // given
+        final AccountConfigValues values = target.valuesOf("accountId", givenConfig("badv"));
+
+        // when
+        final AccountConfigValues result = target.valuesOf("accountId", givenConfig("bcat"));
+
+        // then
+        assertThat(result).isNotSameAs(values);
+        assertThat(result.config()).isEqualTo(givenConfig("bcat"));
+        assertThat(target.valuesOf("accountId", givenConfig("bcat"))).isSameAs(result);
+    }
+
+    @Test
+    public void valuesOfShouldNotShareValuesBetweenAccounts() {
+        // given
+        final AccountConfigValues values = target.valuesOf("accountId", givenConfig("badv"));
+
+        // when
+        final AccountConfigValues result = target.valuesOf("otherAccountId", givenConfig("badv"));
+
+        // then
+        assertThat(result).isNotSameAs(values);
+    }
+
+    @Test
+    public void valuesOfShouldNotCacheValuesWhenAccountIdIsMissing() {
+        // given
+        final ObjectNode config = givenConfig("badv");
+        final AccountConfigValues values = target.valuesOf(null, config);
+
+        // when
+        final AccountConfigValues result = target.valuesOf(null, config);
+
+        // then
+        assertThat(result).isNotSameAs(values);
+    }
+
+    private static ObjectNode givenConfig(String attribute) {
+        final ObjectNode config = MAPPER.createObjectNode();
+        config.putObject("attributes").putObject(attribute).put("enforce-blocks", true);
+        return config;
+    }
+}
@@ -32,6 +32,7 @@ import org.prebid.server.hooks.modules.ortb2.blocking.core.model.Result;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -960,6 +961,100 @@ public class AccountConfigReaderTest {
                 .isEqualTo(Result.withValue(BlockedAttributes.builder().cattaxComplement(6).build()));
     }
 
+    @Test
+    public void blockedAttributesForShouldReuseBlockListsResolvedForSameAccountConfig() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(asList("domain1.com", "domain2.com"))
+                        .build())
+                .build()));
+        final AccountConfigValues configValues = AccountConfigValues.of(accountConfig);
+
+        final List<String> firstBadv = AccountConfigReader.create(configValues, "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest())
+                .getValue()
+                .getBadv();
+
+        // when
+        final List<String> result = AccountConfigReader.create(configValues, "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest())
+                .getValue()
+                .getBadv();
+
+        // then
+        assertThat(result).isSameAs(firstBadv);
+    }
+
+    @Test
+    public void blockedAttributesForShouldResolveBlockListsWithLookupSet() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(asList("domain1.com", "domain2.com"))
+                        .build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        // when
+        final List<String> result = reader.blockedAttributesFor(emptyRequest()).getValue().getBadv();
+
+        // then
+        assertThat(result)
+                .isInstanceOf(BlockedValues.class)
+                .containsExactly("domain1.com", "domain2.com");
+    }
+
+    @Test
+    public void blockedAttributesForShouldResolveBlockListsAgainForNewAccountConfigRevision() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(asList("domain1.com", "domain2.com"))
+                        .build())
+                .build()));
+        final AccountConfigCache cache = new AccountConfigCache(100, Duration.ofMinutes(1));
+        AccountConfigReader.create(cache.valuesOf("accountId", accountConfig), "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+
+        final ObjectNode newAccountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(singletonList("domain3.com"))
+                        .build())
+                .build()));
+
+        // when
+        final Result<BlockedAttributes> result = AccountConfigReader
+                .create(cache.valuesOf("accountId", newAccountConfig), "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+
+        // then
+        assertThat(result).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
+    }
+
+    @Test
+    public void blockedAttributesForShouldNotShareOverridesResolvedForOtherBidder() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(asList("domain1.com", "domain2.com"))
+                        .actionOverrides(AttributeActionOverrides.blocked(singletonList(ArrayOverride.of(
+                                Conditions.of(singletonList("bidder2"), null),
+                                singletonList("domain3.com")))))
+                        .build())
+                .build()));
+        final AccountConfigValues configValues = AccountConfigValues.of(accountConfig);
+        AccountConfigReader.create(configValues, "bidder1", ORTB_VERSION, true).blockedAttributesFor(emptyRequest());
+
+        // when
+        final Result<BlockedAttributes> result = AccountConfigReader
+                .create(configValues, "bidder2", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+
+        // then
+        assertThat(result).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
+    }
+
     @Test
     public void responseBlockingConfigForShouldReturnErrorWhenDefaultEnforceBlocksIsNotBoolean() {
         // given
@@ -0,0 +1,19 @@
+package org.prebid.server.analytics;
+
+import io.vertx.core.Future;
+
+import java.util.List;
+
+/**
+ * {@link AnalyticsReporter} able to process several events at once, e.g. to serialize them in one pass.
+ */
+public interface BatchAnalyticsReporter extends AnalyticsReporter {
+
+    /**
+     * Callback method invoked for batch of events taken from analytics dispatch queue at once, instead of
+     * {@link #processEvent(Object)} for each of them. Result applies to every event of the batch.
+     * <p>
+     * Implementation note: this method is executed on Vert.x event loop thread so it must never use blocking API.
+     */
+    Future<Void> processEvents(List<?> events);
+}
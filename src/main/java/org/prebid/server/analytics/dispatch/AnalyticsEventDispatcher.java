@@ -0,0 +1,17 @@
+package org.prebid.server.analytics.dispatch;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import org.prebid.server.analytics.AnalyticsReporter;
+
+/**
+ * Decides where and when analytics reporter processes an event.
+ */
+public interface AnalyticsEventDispatcher {
+
+    /**
+     * Schedules processing of event by reporter and passes its result to given handler. Event may be dropped
+     * under pressure, handler is not called in this case.
+     */
+    <T> void dispatch(AnalyticsReporter reporter, T event, Handler<AsyncResult<Void>> resultHandler);
+}
@@ -0,0 +1,25 @@
+package org.prebid.server.analytics.dispatch;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.prebid.server.analytics.AnalyticsReporter;
+
+import java.util.Objects;
+
+/**
+ * Processes events on the current Vert.x context right after the caller's handler completes.
+ */
+public class ContextAnalyticsEventDispatcher implements AnalyticsEventDispatcher {
+
+    private final Vertx vertx;
+
+    public ContextAnalyticsEventDispatcher(Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx);
+    }
+
+    @Override
+    public <T> void dispatch(AnalyticsReporter reporter, T event, Handler<AsyncResult<Void>> resultHandler) {
+        vertx.runOnContext(ignored -> reporter.processEvent(event).onComplete(resultHandler));
+    }
+}
@@ -0,0 +1,200 @@
+package org.prebid.server.analytics.dispatch;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.BatchAnalyticsReporter;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Hands events over to bounded per-reporter queues drained in batches on the Vert.x context of the request
+ * that filled the queue, so slow or CPU-heavy reporter (event serialization, compression, etc.) takes event loop
+ * time in bounded portions interleaved with auctions, and sheds load instead of piling it up.
+ * <p>
+ * Reporters keep running on event loop, so their context bound resources (http clients, etc.) are used from
+ * the thread they belong to. Each reporter queue is drained by at most one batch at a time, so events of one
+ * reporter are processed in order. {@link BatchAnalyticsReporter} gets each batch at once, other reporters get
+ * its events one by one. When queue is under pressure, events are dropped according to {@link OverflowPolicy}.
+ */
+public class QueuedAnalyticsEventDispatcher implements AnalyticsEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueuedAnalyticsEventDispatcher.class);
+
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final double samplingRate;
+
+    private final Map<String, ReporterQueue> queues = new ConcurrentHashMap<>();
+
+    public QueuedAnalyticsEventDispatcher(Vertx vertx,
+                                          Metrics metrics,
+                                          Clock clock,
+                                          int queueCapacity,
+                                          int batchSize,
+                                          OverflowPolicy overflowPolicy,
+                                          double samplingRate) {
+
+        if (queueCapacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("queue capacity and batch size must be positive");
+        }
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("sampling rate must be in range [0, 1]");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.samplingRate = samplingRate;
+    }
+
+    @Override
+    public <T> void dispatch(AnalyticsReporter reporter, T event, Handler<AsyncResult<Void>> resultHandler) {
+        final ReporterQueue queue = queues.computeIfAbsent(reporter.name(), ignored -> createQueue(reporter));
+
+        if (enqueue(queue, new QueuedEvent(event, resultHandler, clock.millis()))) {
+            scheduleDrain(queue);
+        }
+    }
+
+    private ReporterQueue createQueue(AnalyticsReporter reporter) {
+        final ReporterQueue queue = new ReporterQueue(reporter, new ArrayBlockingQueue<>(queueCapacity));
+        metrics.createAnalyticsDispatchQueueGauge(reporter.name(), queue.events()::size);
+        return queue;
+    }
+
+    private boolean enqueue(ReporterQueue queue, QueuedEvent event) {
+        final Queue<QueuedEvent> events = queue.events();
+
+        if (overflowPolicy == OverflowPolicy.sample
+                && events.size() >= queueCapacity / 2
+                && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+
+            metrics.updateAnalyticsDispatchMetric(queue.reporter().name(), MetricName.sampled_out);
+            return false;
+        }
+
+        while (!events.offer(event)) {
+            if (overflowPolicy != OverflowPolicy.dropOldest) {
+                metrics.updateAnalyticsDispatchMetric(queue.reporter().name(), MetricName.dropped);
+                return false;
+            }
+
+            if (events.poll() != null) {
+                metrics.updateAnalyticsDispatchMetric(queue.reporter().name(), MetricName.dropped);
+            }
+        }
+
+        return true;
+    }
+
+    private void scheduleDrain(ReporterQueue queue) {
+        if (queue.draining().compareAndSet(false, true)) {
+            vertx.runOnContext(ignored -> drain(queue));
+        }
+    }
+
+    private void drain(ReporterQueue queue) {
+        try {
+            final List<QueuedEvent> batch = pollBatch(queue);
+            if (!batch.isEmpty()) {
+                process(queue.reporter(), batch);
+            }
+        } finally {
+            queue.draining().set(false);
+        }
+
+        // events could be added after the last poll, while drain was still marked as running
+        if (!queue.events().isEmpty()) {
+            scheduleDrain(queue);
+        }
+    }
+
+    private List<QueuedEvent> pollBatch(ReporterQueue queue) {
+        final List<QueuedEvent> batch = new ArrayList<>(Math.min(batchSize, queue.events().size()));
+        for (int i = 0; i < batchSize; i++) {
+            final QueuedEvent event = queue.events().poll();
+            if (event == null) {
+                break;
+            }
+
+            metrics.updateAnalyticsDispatchLag(queue.reporter().name(), clock.millis() - event.enqueuedAt());
+            batch.add(event);
+        }
+
+        return batch;
+    }
+
+    private static void process(AnalyticsReporter reporter, List<QueuedEvent> batch) {
+        if (reporter instanceof BatchAnalyticsReporter batchReporter) {
+            final List<Object> events = batch.stream().map(QueuedEvent::event).toList();
+            final Future<Void> result = process(reporter.name(), () -> batchReporter.processEvents(events));
+            batch.forEach(event -> result.onComplete(event.resultHandler()));
+            return;
+        }
+
+        for (QueuedEvent event : batch) {
+            process(reporter.name(), () -> reporter.processEvent(event.event())).onComplete(event.resultHandler());
+        }
+    }
+
+    private static Future<Void> process(String reporterName, Supplier<Future<Void>> processing) {
+        try {
+            return processing.get();
+        } catch (Exception e) {
+            logger.warn("Analytics reporter {} failed to process event", e, reporterName);
+            return Future.failedFuture(e);
+        }
+    }
+
+    public enum OverflowPolicy {
+
+        /**
+         * Drop incoming event if queue is full.
+         */
+        dropNewest,
+
+        /**
+         * Drop the oldest queued event if queue is full.
+         */
+        dropOldest,
+
+        /**
+         * Admit only sampled share of incoming events once queue is half full, drop them if queue is full.
+         */
+        sample
+    }
+
+    private record ReporterQueue(AnalyticsReporter reporter, Queue<QueuedEvent> events, AtomicBoolean draining) {
+
+        ReporterQueue(AnalyticsReporter reporter, Queue<QueuedEvent> events) {
+            this(reporter, events, new AtomicBoolean());
+        }
+    }
+
+    private record QueuedEvent(Object event, Handler<AsyncResult<Void>> resultHandler, long enqueuedAt) {
+    }
+}
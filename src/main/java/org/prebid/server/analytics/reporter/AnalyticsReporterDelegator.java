@@ -8,8 +8,6 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.User;
 import io.netty.channel.ConnectTimeoutException;
 import io.vertx.core.AsyncResult;
-import io.vertx.core.Future;
-import io.vertx.core.Vertx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
@@ -18,6 +16,7 @@ import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPaylo
 import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocationPayloadImpl;
 import org.prebid.server.activity.infrastructure.payload.impl.BidRequestActivityInvocationPayload;
 import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.dispatch.AnalyticsEventDispatcher;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.CookieSyncEvent;
@@ -58,7 +57,7 @@ public class AnalyticsReporterDelegator {
     private static final ConditionalLogger unknownAdaptersLogger = new ConditionalLogger(logger);
     private static final Set<String> ADAPTERS_PERMITTED_FOR_FULL_DATA = Collections.singleton("logAnalytics");
 
-    private final Vertx vertx;
+    private final AnalyticsEventDispatcher dispatcher;
     private final List<AnalyticsReporter> delegates;
     private final TcfEnforcement tcfEnforcement;
     private final UserFpdActivityMask mask;
@@ -70,7 +69,7 @@ public class AnalyticsReporterDelegator {
     private final Set<Integer> reporterVendorIds;
     private final Set<String> reporterNames;
 
-    public AnalyticsReporterDelegator(Vertx vertx,
+    public AnalyticsReporterDelegator(AnalyticsEventDispatcher dispatcher,
                                       List<AnalyticsReporter> delegates,
                                       TcfEnforcement tcfEnforcement,
                                       UserFpdActivityMask userFpdActivityMask,
@@ -79,7 +78,7 @@ public class AnalyticsReporterDelegator {
                                       Set<String> globalEnabledAdapters,
                                       JacksonMapper mapper) {
 
-        this.vertx = Objects.requireNonNull(vertx);
+        this.dispatcher = Objects.requireNonNull(dispatcher);
         this.delegates = Objects.requireNonNull(delegates);
         this.tcfEnforcement = Objects.requireNonNull(tcfEnforcement);
         this.mask = Objects.requireNonNull(userFpdActivityMask);
@@ -100,7 +99,7 @@ public class AnalyticsReporterDelegator {
                 continue;
             }
 
-            vertx.runOnContext(ignored -> processEventByReporter(analyticsReporter, event));
+            dispatchEvent(analyticsReporter, event);
         }
     }
 
@@ -130,7 +129,7 @@ public class AnalyticsReporterDelegator {
                 final PrivacyEnforcementAction reporterPrivacyAction = privacyEnforcementActionMap
                         .getOrDefault(reporterVendorId, PrivacyEnforcementAction.restrictAll());
                 if (!reporterPrivacyAction.isBlockAnalyticsReport()) {
-                    vertx.runOnContext(ignored -> processEventByReporter(analyticsReporter, updatedEvent));
+                    dispatchEvent(analyticsReporter, updatedEvent);
                 }
             }
         } else {
@@ -349,20 +348,24 @@ public class AnalyticsReporterDelegator {
         return !analyticsNodeCopy.isEmpty() ? analyticsNodeCopy : null;
     }
 
-    private <T> void processEventByReporter(AnalyticsReporter analyticsReporter, T event) {
+    private <T> void dispatchEvent(AnalyticsReporter analyticsReporter, T event) {
         final String reporterName = analyticsReporter.name();
 
-        analyticsReporter.processEvent(updateEventIfRequired(event, analyticsReporter.name()))
-                .map(ignored -> processSuccess(event, reporterName))
-                .otherwise(exception -> processFail(exception, event, reporterName));
+        dispatcher.dispatch(
+                analyticsReporter,
+                updateEventIfRequired(event, reporterName),
+                result -> processResult(result, event, reporterName));
     }
 
-    private <T> Future<Void> processSuccess(T event, String reporterName) {
-        updateMetricsByEventType(event, reporterName, MetricName.ok);
-        return Future.succeededFuture();
+    private <T> void processResult(AsyncResult<Void> result, T event, String reporterName) {
+        if (result.succeeded()) {
+            updateMetricsByEventType(event, reporterName, MetricName.ok);
+        } else {
+            processFail(result.cause(), event, reporterName);
+        }
     }
 
-    private <T> Future<Void> processFail(Throwable exception, T event, String reporterName) {
+    private <T> void processFail(Throwable exception, T event, String reporterName) {
         final MetricName failedResult;
         if (exception instanceof TimeoutException || exception instanceof ConnectTimeoutException) {
             failedResult = MetricName.timeout;
@@ -372,7 +375,6 @@ public class AnalyticsReporterDelegator {
             failedResult = MetricName.err;
         }
         updateMetricsByEventType(event, reporterName, failedResult);
-        return Future.failedFuture(exception);
     }
 
     private <T> void updateMetricsByEventType(T event, String analyticsCode, MetricName result) {
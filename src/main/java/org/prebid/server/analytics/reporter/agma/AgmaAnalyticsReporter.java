@@ -26,7 +26,6 @@ import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
 import org.prebid.server.analytics.reporter.agma.model.AgmaEvent;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.TimeoutContext;
-import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -34,14 +33,13 @@ import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
+import org.prebid.server.util.GzipUtil;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
@@ -50,7 +48,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.zip.GZIPOutputStream;
 
 public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
 
@@ -212,9 +209,13 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
             return;
         }
         final String payload = preparePayload(events);
-        final Future<HttpClientResponse> responseFuture = compressToGzip
-                ? httpClient.request(HttpMethod.POST, url, headers, gzip(payload), httpTimeoutMs)
-                : httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs);
+        final Future<HttpClientResponse> responseFuture;
+        if (compressToGzip) {
+            final byte[] compressedPayload = GzipUtil.gzip(payload.getBytes(StandardCharsets.UTF_8));
+            responseFuture = httpClient.request(HttpMethod.POST, url, headers, compressedPayload, httpTimeoutMs);
+        } else {
+            responseFuture = httpClient.request(HttpMethod.POST, url, headers, payload, httpTimeoutMs);
+        }
 
         responseFuture.onComplete(this::handleReportResponse);
     }
@@ -223,19 +224,6 @@ public class AgmaAnalyticsReporter implements AnalyticsReporter, Initializable {
         return "[" + String.join(",", events) + "]";
     }
 
-    private static byte[] gzip(String value) {
-        try (ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("[agmaAnalytics] failed to compress, skip the events : " + e.getMessage());
-        }
-    }
-
     private void handleReportResponse(AsyncResult<HttpClientResponse> result) {
         if (result.failed()) {
             logger.error("[agmaAnalytics] Failed to send events to endpoint {} with a reason: {}",
@@ -2,6 +2,7 @@ package org.prebid.server.analytics.reporter.log;
 
 import io.vertx.core.Future;
 import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.BatchAnalyticsReporter;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.CookieSyncEvent;
@@ -13,12 +14,15 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
  * {@link AnalyticsReporter} implementation that writes application events to a log, for illustration purpose only.
+ * <p>
+ * Batch of events is serialized at once and written to a log as single JSON array.
  */
-public class LogAnalyticsReporter implements AnalyticsReporter {
+public class LogAnalyticsReporter implements BatchAnalyticsReporter {
 
     public static final Logger logger = LoggerFactory.getLogger(LogAnalyticsReporter.class);
 
@@ -30,7 +34,20 @@ public class LogAnalyticsReporter implements AnalyticsReporter {
 
     @Override
     public <T> Future<Void> processEvent(T event) {
-        final LogEvent<?> logEvent = switch (event) {
+        logger.debug(mapper.encodeToString(toLogEvent(event)));
+
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> processEvents(List<?> events) {
+        logger.debug(mapper.encodeToString(events.stream().map(LogAnalyticsReporter::toLogEvent).toList()));
+
+        return Future.succeededFuture();
+    }
+
+    private static LogEvent<?> toLogEvent(Object event) {
+        return switch (event) {
             case AmpEvent ampEvent -> LogEvent.of("/openrtb2/amp", ampEvent.getBidResponse());
             case AuctionEvent auctionEvent -> LogEvent.of("/openrtb2/auction", auctionEvent.getBidResponse());
             case CookieSyncEvent cookieSyncEvent -> LogEvent.of("/cookie_sync", cookieSyncEvent.getBidderStatus());
@@ -42,10 +59,6 @@ public class LogAnalyticsReporter implements AnalyticsReporter {
             case VideoEvent videoEvent -> LogEvent.of("/openrtb2/video", videoEvent.getBidResponse());
             case null, default -> LogEvent.of("unknown", null);
         };
-
-        logger.debug(mapper.encodeToString(logEvent));
-
-        return Future.succeededFuture();
     }
 
     @Override
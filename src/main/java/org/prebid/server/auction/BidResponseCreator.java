@@ -32,6 +32,7 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.BidderResponseInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.CategoryMappingResult;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.PaaFormat;
 import org.prebid.server.auction.model.TargetingInfo;
@@ -85,6 +86,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidResponseFledge;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidResponsePrebid;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidderError;
+import org.prebid.server.proto.openrtb.ext.response.ExtDebugTmaxBudget;
 import org.prebid.server.proto.openrtb.ext.response.ExtDebugTrace;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -405,7 +407,7 @@ public class BidResponseCreator {
                                                            BidRequestCacheInfo cacheInfo,
                                                            AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIndex impIndex = auctionContext.getImpIndex();
         final Account account = auctionContext.getAccount();
         final List<BidderResponseInfo> result = new ArrayList<>();
         final List<BidderResponse> bidderResponses = categoryMappingResult.getBidderResponses();
@@ -455,7 +457,7 @@ public class BidResponseCreator {
                             bidderBid.getBid(),
                             bidderBid.getType(),
                             seat,
-                            imps,
+                            impIndex,
                             bidder,
                             categoryMappingResult,
                             cacheInfo,
@@ -485,13 +487,13 @@ public class BidResponseCreator {
     private BidInfo toBidInfo(Bid bid,
                               BidType type,
                               String seat,
-                              List<Imp> imps,
+                              ImpIndex impIndex,
                               String bidder,
                               CategoryMappingResult categoryMappingResult,
                               BidRequestCacheInfo cacheInfo,
                               Account account) {
 
-        final Imp correspondingImp = correspondingImp(bid, imps);
+        final Imp correspondingImp = correspondingImp(bid, impIndex);
         return BidInfo.builder()
                 .bid(bid)
                 .bidType(type)
@@ -505,20 +507,14 @@ public class BidResponseCreator {
                 .build();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    private static Imp correspondingImp(Bid bid, ImpIndex impIndex) {
         final String impId = bid.getImpid();
-        return correspondingImp(impId, imps)
+        return impIndex.find(impId)
                 // Should never occur. See ResponseBidValidator
                 .orElseThrow(
                         () -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
     }
 
-    private static Optional<Imp> correspondingImp(String impId, List<Imp> imps) {
-        return imps.stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst();
-    }
-
     private Integer resolveTtl(Bid bid, BidType type, Imp imp, BidRequestCacheInfo cacheInfo, Account account) {
         final Integer bidTtl = bid.getExp();
         final Integer impTtl = imp != null ? imp.getExp() : null;
@@ -888,9 +884,9 @@ public class BidResponseCreator {
                 : Collections.emptyList();
 
         // TODO: Remove after transition period
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIndex impIndex = auctionContext.getImpIndex();
         final List<FledgeAuctionConfig> deprecatedFledgeConfigs = bidderResponseInfos.stream()
-                .flatMap(bidderResponseInfo -> toDeprecatedFledgeConfigs(bidderResponseInfo, imps))
+                .flatMap(bidderResponseInfo -> toDeprecatedFledgeConfigs(bidderResponseInfo, impIndex))
                 .toList();
 
         final List<FledgeAuctionConfig> combinedFledgeConfigs = ListUtils.union(deprecatedFledgeConfigs, fledgeConfigs);
@@ -1004,20 +1000,20 @@ public class BidResponseCreator {
     }
 
     private Stream<FledgeAuctionConfig> toDeprecatedFledgeConfigs(BidderResponseInfo bidderResponseInfo,
-                                                                  List<Imp> imps) {
+                                                                  ImpIndex impIndex) {
 
         return Optional.ofNullable(bidderResponseInfo.getSeatBid().getFledgeAuctionConfigs())
                 .stream()
                 .flatMap(Collection::stream)
-                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, imps))
+                .filter(fledgeConfig -> validateFledgeConfig(fledgeConfig, impIndex))
                 .map(fledgeConfig -> fledgeConfigWithBidder(
                         fledgeConfig,
                         bidderResponseInfo.getSeat(),
                         bidderResponseInfo.getAdapterCode()));
     }
 
-    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, List<Imp> imps) {
-        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), imps)
+    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, ImpIndex impIndex) {
+        final ExtImpAuctionEnvironment fledgeEnabled = impIndex.find(fledgeAuctionConfig.getImpId())
                 .map(Imp::getExt)
                 .map(ext -> convertValue(ext, "ae", ExtImpAuctionEnvironment.class))
                 .orElse(ExtImpAuctionEnvironment.SERVER_SIDE_AUCTION);
@@ -1046,9 +1042,13 @@ public class BidResponseCreator {
 
         final BidRequest bidRequest = debugEnabled ? auctionContext.getBidRequest() : null;
         final ExtDebugTrace extDebugTrace = toExtDebugTrace(auctionContext);
+        final Map<String, ExtDebugTmaxBudget> tmaxBudgets = debugEnabled
+                && MapUtils.isNotEmpty(auctionContext.getTmaxBudgets())
+                ? auctionContext.getTmaxBudgets()
+                : null;
 
-        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace)
-                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace)
+        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace, tmaxBudgets)
+                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace, tmaxBudgets)
                 : null;
     }
 
@@ -1372,7 +1372,6 @@ public class BidResponseCreator {
                                       EventsContext eventsContext) {
 
         final BidRequest bidRequest = auctionContext.getBidRequest();
-        final Account account = auctionContext.getAccount();
 
         final Map<String, List<ExtBidderError>> bidErrors = new HashMap<>();
         final Map<String, List<ExtBidderError>> bidWarnings = new HashMap<>();
@@ -1383,10 +1382,9 @@ public class BidResponseCreator {
                 .map(bidInfos -> toSeatBid(
                         bidInfos,
                         targeting,
-                        bidRequest,
+                        auctionContext,
                         requestCacheInfo,
                         cacheResult.getCacheBids(),
-                        account,
                         bidErrors,
                         bidWarnings))
                 .toList();
@@ -1462,10 +1460,9 @@ public class BidResponseCreator {
      */
     private SeatBid toSeatBid(List<BidInfo> bidInfos,
                               ExtRequestTargeting targeting,
-                              BidRequest bidRequest,
+                              AuctionContext auctionContext,
                               BidRequestCacheInfo requestCacheInfo,
                               Map<Bid, CacheInfo> bidToCacheInfo,
-                              Account account,
                               Map<String, List<ExtBidderError>> bidErrors,
                               Map<String, List<ExtBidderError>> bidWarnings) {
 
@@ -1479,8 +1476,7 @@ public class BidResponseCreator {
                 .map(bidInfo -> toBid(
                         bidInfo,
                         targeting,
-                        bidRequest,
-                        account,
+                        auctionContext,
                         bidWarnings))
                 .filter(Objects::nonNull)
                 .toList();
@@ -1540,8 +1536,7 @@ public class BidResponseCreator {
      */
     private Bid toBid(BidInfo bidInfo,
                       ExtRequestTargeting targeting,
-                      BidRequest bidRequest,
-                      Account account,
+                      AuctionContext auctionContext,
                       Map<String, List<ExtBidderError>> bidWarnings) {
         final TargetingInfo targetingInfo = bidInfo.getTargetingInfo();
         final BidType bidType = bidInfo.getBidType();
@@ -1554,7 +1549,7 @@ public class BidResponseCreator {
         final Map<String, String> targetingKeywords;
         if (shouldIncludeTargetingInResponse(targeting, bidInfo.getTargetingInfo())) {
             final TargetingKeywordsCreator keywordsCreator = resolveKeywordsCreator(
-                    bidType, targeting, bidRequest, account, bidWarnings);
+                    bidType, targeting, auctionContext, bidWarnings);
 
             final boolean isWinningBid = targetingInfo.isWinningBid();
             final String seat = targetingInfo.getSeat();
@@ -1774,15 +1769,14 @@ public class BidResponseCreator {
 
     private TargetingKeywordsCreator resolveKeywordsCreator(BidType bidType,
                                                             ExtRequestTargeting targeting,
-                                                            BidRequest bidRequest,
-                                                            Account account,
+                                                            AuctionContext auctionContext,
                                                             Map<String, List<ExtBidderError>> bidWarnings) {
 
         final Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType =
-                keywordsCreatorByBidType(targeting, bidRequest, account, bidWarnings);
+                keywordsCreatorByBidType(targeting, auctionContext, bidWarnings);
 
         return keywordsCreatorByBidType.getOrDefault(
-                bidType, keywordsCreator(targeting, bidRequest, account, bidWarnings));
+                bidType, keywordsCreator(targeting, auctionContext, bidWarnings));
     }
 
     /**
@@ -1790,14 +1784,13 @@ public class BidResponseCreator {
      * instance if it is present.
      */
     private TargetingKeywordsCreator keywordsCreator(ExtRequestTargeting targeting,
-                                                     BidRequest bidRequest,
-                                                     Account account,
+                                                     AuctionContext auctionContext,
                                                      Map<String, List<ExtBidderError>> bidWarnings) {
 
         final JsonNode priceGranularityNode = targeting.getPricegranularity();
         return priceGranularityNode == null || priceGranularityNode.isNull()
                 ? null
-                : createKeywordsCreator(targeting, priceGranularityNode, bidRequest, account, bidWarnings);
+                : createKeywordsCreator(targeting, priceGranularityNode, auctionContext, bidWarnings);
     }
 
     /**
@@ -1806,8 +1799,7 @@ public class BidResponseCreator {
      */
     private Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType(
             ExtRequestTargeting targeting,
-            BidRequest bidRequest,
-            Account account,
+            AuctionContext auctionContext,
             Map<String, List<ExtBidderError>> bidWarnings) {
 
         final ExtMediaTypePriceGranularity mediaTypePriceGranularity = targeting.getMediatypepricegranularity();
@@ -1821,21 +1813,21 @@ public class BidResponseCreator {
         final boolean isBannerNull = banner == null || banner.isNull();
         if (!isBannerNull) {
             result.put(
-                    BidType.banner, createKeywordsCreator(targeting, banner, bidRequest, account, bidWarnings));
+                    BidType.banner, createKeywordsCreator(targeting, banner, auctionContext, bidWarnings));
         }
 
         final ObjectNode video = mediaTypePriceGranularity.getVideo();
         final boolean isVideoNull = video == null || video.isNull();
         if (!isVideoNull) {
             result.put(
-                    BidType.video, createKeywordsCreator(targeting, video, bidRequest, account, bidWarnings));
+                    BidType.video, createKeywordsCreator(targeting, video, auctionContext, bidWarnings));
         }
 
         final ObjectNode xNative = mediaTypePriceGranularity.getXNative();
         final boolean isNativeNull = xNative == null || xNative.isNull();
         if (!isNativeNull) {
             result.put(
-                    BidType.xNative, createKeywordsCreator(targeting, xNative, bidRequest, account, bidWarnings)
+                    BidType.xNative, createKeywordsCreator(targeting, xNative, auctionContext, bidWarnings)
             );
         }
 
@@ -1844,9 +1836,10 @@ public class BidResponseCreator {
 
     private TargetingKeywordsCreator createKeywordsCreator(ExtRequestTargeting targeting,
                                                            JsonNode priceGranularity,
-                                                           BidRequest bidRequest,
-                                                           Account account,
+                                                           AuctionContext auctionContext,
                                                            Map<String, List<ExtBidderError>> bidWarnings) {
+        final BidRequest bidRequest = auctionContext.getBidRequest();
+        final Account account = auctionContext.getAccount();
         final int resolvedTruncateAttrChars = resolveTruncateAttrChars(targeting, account);
         final String resolveKeyPrefix = resolveAndValidateKeyPrefix(
                 bidRequest, account, resolvedTruncateAttrChars, bidWarnings);
@@ -1867,7 +1860,7 @@ public class BidResponseCreator {
                 resolvedTruncateAttrChars,
                 cacheHost,
                 cachePath,
-                TargetingKeywordsResolver.create(bidRequest, mapper),
+                TargetingKeywordsResolver.create(bidRequest, auctionContext.getImpIndex(), mapper),
                 resolveKeyPrefix);
     }
 
@@ -0,0 +1,105 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.SlidingWindowReservoir;
+import com.codahale.metrics.Snapshot;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks rolling per-bidder response time quantiles over the window of last responses.
+ * <p>
+ * Quantiles are recalculated not more often than once per refresh period, since snapshot of the window is costly.
+ * <p>
+ * Every probe period-th call of the bidder is a probe which should get the whole timeout, so response times
+ * of skipped or capped bidders keep being observed and the quantiles can follow the bidder getting faster or slower.
+ */
+public class BidderLatencyTracker {
+
+    private final int windowSize;
+    private final int minSamples;
+    private final double tailQuantile;
+    private final long refreshPeriodMs;
+    private final int probePeriod;
+    private final Clock clock;
+
+    private final Map<String, BidderLatency> bidderToLatency = new ConcurrentHashMap<>();
+
+    public BidderLatencyTracker(int windowSize,
+                                int minSamples,
+                                double tailQuantile,
+                                long refreshPeriodMs,
+                                int probePeriod,
+                                Clock clock) {
+
+        if (windowSize < 1 || minSamples < 1 || minSamples > windowSize) {
+            throw new IllegalArgumentException("Window size and min samples should satisfy 1 <= min <= window");
+        }
+        if (tailQuantile < 0.5 || tailQuantile > 1) {
+            throw new IllegalArgumentException("Tail quantile should be in [0.5, 1]");
+        }
+        if (probePeriod < 1) {
+            throw new IllegalArgumentException("Probe period should be positive");
+        }
+
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+        this.tailQuantile = tailQuantile;
+        this.refreshPeriodMs = refreshPeriodMs;
+        this.probePeriod = probePeriod;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public void record(String bidder, long responseTime) {
+        bidderToLatency.computeIfAbsent(bidder, key -> new BidderLatency(windowSize)).reservoir.update(responseTime);
+    }
+
+    /**
+     * Counts the call of the bidder and returns true if it is a probe, which should not be limited by the quantiles.
+     */
+    public boolean probe(String bidder) {
+        final BidderLatency latency = bidderToLatency.get(bidder);
+        return latency != null && latency.calls.incrementAndGet() % probePeriod == 0;
+    }
+
+    /**
+     * Returns response time quantiles of the bidder or null if there are not enough responses observed yet.
+     */
+    public Quantiles quantiles(String bidder) {
+        final BidderLatency latency = bidderToLatency.get(bidder);
+        if (latency == null || latency.reservoir.size() < minSamples) {
+            return null;
+        }
+
+        final long now = clock.millis();
+        if (latency.quantiles == null || now - latency.refreshedAt >= refreshPeriodMs) {
+            final Snapshot snapshot = latency.reservoir.getSnapshot();
+            latency.quantiles = new Quantiles(
+                    (long) Math.ceil(snapshot.getMedian()),
+                    (long) Math.ceil(snapshot.getValue(tailQuantile)));
+            latency.refreshedAt = now;
+        }
+
+        return latency.quantiles;
+    }
+
+    public record Quantiles(long median, long tail) {
+    }
+
+    private static class BidderLatency {
+
+        private final SlidingWindowReservoir reservoir;
+        private final AtomicLong calls = new AtomicLong();
+
+        // concurrent refresh is harmless, it can only lead to the same snapshot taken twice
+        private volatile Quantiles quantiles;
+        private volatile long refreshedAt;
+
+        BidderLatency(int windowSize) {
+            reservoir = new SlidingWindowReservoir(windowSize);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+
+import java.util.List;
+import java.util.function.Function;
+
+public interface BidderRequestsPreparationExecutor {
+
+    /**
+     * Returns true if the auction with given number of bidders and imps is large enough to be prepared in parallel.
+     */
+    boolean isApplicable(int biddersCount, int impsCount);
+
+    /**
+     * Applies preparer to every item, result list keeps the order of items.
+     * <p>
+     * Preparer may be called concurrently, so it should not modify state shared between items.
+     */
+    <T, R> Future<List<R>> prepare(List<T> items, Function<T, R> preparer);
+
+    static NoOpBidderRequestsPreparationExecutor noOp() {
+        return new NoOpBidderRequestsPreparationExecutor();
+    }
+
+    /**
+     * Never prepares requests in parallel, so all the auctions are prepared on the event loop.
+     */
+    class NoOpBidderRequestsPreparationExecutor implements BidderRequestsPreparationExecutor {
+
+        @Override
+        public boolean isApplicable(int biddersCount, int impsCount) {
+            return false;
+        }
+
+        @Override
+        public <T, R> Future<List<R>> prepare(List<T> items, Function<T, R> preparer) {
+            return Future.succeededFuture(items.stream().map(preparer).toList());
+        }
+    }
+}
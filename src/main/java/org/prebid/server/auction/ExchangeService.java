@@ -15,11 +15,12 @@ import com.iab.openrtb.request.User;
 import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.Activity;
@@ -30,6 +31,8 @@ import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocation
 import org.prebid.server.activity.infrastructure.payload.impl.BidRequestActivityInvocationPayload;
 import org.prebid.server.auction.aliases.AlternateBidderCodesConfig;
 import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.auction.completion.AuctionCompletionTracker;
+import org.prebid.server.auction.completion.AuctionCompletionTrackerFactory;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
@@ -57,6 +60,7 @@ import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.floors.PriceFloorAdjuster;
@@ -66,6 +70,7 @@ import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.SerializedFragments;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -92,11 +97,13 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.proto.openrtb.ext.request.ExtSite;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebidMeta;
+import org.prebid.server.proto.openrtb.ext.response.ExtDebugTmaxBudget;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ListUtil;
 import org.prebid.server.util.PbsUtil;
 import org.prebid.server.util.StreamUtil;
+import org.prebid.server.util.system.ThreadCpuTime;
 
 import java.math.BigDecimal;
 import java.time.Clock;
@@ -144,6 +151,8 @@ public class ExchangeService {
     private final TimeoutFactory timeoutFactory;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
     private final HttpBidderRequester httpBidderRequester;
+    private final AuctionCompletionTrackerFactory completionTrackerFactory;
+    private final BidderRequestsPreparationExecutor requestsPreparationExecutor;
     private final BidResponseCreator bidResponseCreator;
     private final BidResponsePostProcessor bidResponsePostProcessor;
     private final HookStageExecutor hookStageExecutor;
@@ -171,6 +180,8 @@ public class ExchangeService {
                            TimeoutFactory timeoutFactory,
                            BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
                            HttpBidderRequester httpBidderRequester,
+                           AuctionCompletionTrackerFactory completionTrackerFactory,
+                           BidderRequestsPreparationExecutor requestsPreparationExecutor,
                            BidResponseCreator bidResponseCreator,
                            BidResponsePostProcessor bidResponsePostProcessor,
                            HookStageExecutor hookStageExecutor,
@@ -198,6 +209,8 @@ public class ExchangeService {
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
         this.httpBidderRequester = Objects.requireNonNull(httpBidderRequester);
+        this.completionTrackerFactory = Objects.requireNonNull(completionTrackerFactory);
+        this.requestsPreparationExecutor = Objects.requireNonNull(requestsPreparationExecutor);
         this.bidResponseCreator = Objects.requireNonNull(bidResponseCreator);
         this.bidResponsePostProcessor = Objects.requireNonNull(bidResponsePostProcessor);
         this.hookStageExecutor = Objects.requireNonNull(hookStageExecutor);
@@ -254,27 +267,8 @@ public class ExchangeService {
                                 .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(context -> Future.join(
-                                context.getAuctionParticipations().stream()
-                                        .map(auctionParticipation -> processAndRequestBids(
-                                                context,
-                                                auctionParticipation.getBidderRequest(),
-                                                timeout,
-                                                aliases)
-                                                .map(auctionParticipation::with))
-                                        .toList())
-                        // send all the requests to the bidders and gathers results
-                        .map(CompositeFuture::<AuctionParticipation>list)
-                        .map(storedResponseProcessor::updateStoredBidResponse)
-                        .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
-                                auctionParticipations,
-                                storedAuctionResponses,
-                                bidRequest.getImp(),
-                                context.getBidRejectionTrackers()))
-                        .map(auctionParticipations -> dropZeroNonDealBids(
-                                auctionParticipations, debugWarnings, debugEnabled))
-                        .map(auctionParticipations ->
-                                bidsAdjuster.validateAndAdjustBids(auctionParticipations, context, aliases))
+                // send all the requests to the bidders and gathers results
+                .compose(context -> requestAllBids(context, storedAuctionResponses, timeout, aliases)
                         .map(auctionParticipations -> updateResponsesMetrics(auctionParticipations, account, aliases))
                         .map(context::with))
                 // produce response from bidder results
@@ -502,11 +496,15 @@ public class ExchangeService {
         final ExtRequestPrebid prebid = requestExt == null ? null : requestExt.getPrebid();
         final Map<String, ExtBidderConfigOrtb> biddersToConfigs = getBiddersToConfigs(prebid);
         final Map<String, List<String>> eidPermissions = getEidPermissions(prebid);
+
+        final long usersPreparationStartCpuTime = ThreadCpuTime.current();
         final Map<String, User> bidderToUser =
                 prepareUsers(bidders, context, aliases, biddersToConfigs, eidPermissions);
+        metrics.updateBidderRequestsPreparationCpuTime(
+                MetricName.preparation_users, ThreadCpuTime.current() - usersPreparationStartCpuTime);
 
         return privacyEnforcementService.mask(context, bidderToUser, aliases)
-                .map(bidderToPrivacyResult -> getAuctionParticipation(
+                .compose(bidderToPrivacyResult -> getAuctionParticipation(
                         bidderToPrivacyResult,
                         bidRequest,
                         impBidderToStoredResponse,
@@ -644,7 +642,7 @@ public class ExchangeService {
                         || EID_ALLOWED_FOR_ALL_BIDDERS.equals(allowedBidder));
     }
 
-    private List<AuctionParticipation> getAuctionParticipation(
+    private Future<List<AuctionParticipation>> getAuctionParticipation(
             List<BidderPrivacyResult> bidderPrivacyResults,
             BidRequest bidRequest,
             Map<String, Map<String, String>> impBidderToStoredBidResponse,
@@ -655,25 +653,149 @@ public class ExchangeService {
             AuctionContext context) {
 
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(bidRequest);
-        final List<AuctionParticipation> bidderRequests = bidderPrivacyResults.stream()
-                // for each bidder create a new request that is a copy of original request except buyerid, imp
-                // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
-                // Also, check whether to pass user.ext.data, app.ext.data, dooh.ext.data and site.ext.data or not.
-                .map(bidderPrivacyResult -> createAuctionParticipation(
+        // for each bidder create a new request that is a copy of original request except buyerid, imp
+        // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
+        // Also, check whether to pass user.ext.data, app.ext.data, dooh.ext.data and site.ext.data or not.
+        final ParticipationCreator participationCreator =
+                (bidderPrivacyResult, transmitTid, floorsBidRequest, bidderContext) -> createAuctionParticipation(
                         bidderPrivacyResult,
+                        transmitTid,
+                        floorsBidRequest,
                         impBidderToStoredBidResponse,
                         imps,
                         bidderToMultiBid,
                         biddersToConfigs,
                         bidderToPrebidBidders,
                         aliases,
-                        context))
-                // Can't be removed after we prepare workflow to filter blocked
-                .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
-                .collect(Collectors.toCollection(ArrayList::new));
+                        bidderContext);
+
+        final BidRequest impsBidRequest = bidRequest.toBuilder().imp(imps).build();
+        final Future<List<AuctionParticipation>> auctionParticipations =
+                requestsPreparationExecutor.isApplicable(bidderPrivacyResults.size(), imps.size())
+                        ? createAuctionParticipationsInParallel(
+                                bidderPrivacyResults, impsBidRequest, participationCreator, context)
+                        : Future.succeededFuture(createAuctionParticipations(
+                                bidderPrivacyResults, impsBidRequest, participationCreator, context));
+
+        return auctionParticipations.map(participations -> {
+            final List<AuctionParticipation> bidderRequests = participations.stream()
+                    // Can't be removed after we prepare workflow to filter blocked
+                    .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+            Collections.shuffle(bidderRequests);
+            return bidderRequests;
+        });
+    }
+
+    private List<AuctionParticipation> createAuctionParticipations(List<BidderPrivacyResult> bidderPrivacyResults,
+                                                                   BidRequest impsBidRequest,
+                                                                   ParticipationCreator participationCreator,
+                                                                   AuctionContext context) {
+
+        final long startCpuTime = ThreadCpuTime.current();
+        final List<AuctionParticipation> auctionParticipations = bidderPrivacyResults.stream()
+                .map(bidderPrivacyResult -> bidderPrivacyResult.isBlockedRequestByTcf()
+                        ? blockedAuctionParticipation(bidderPrivacyResult, context)
+                        : participationCreator.create(
+                                bidderPrivacyResult,
+                                isTransmitTidAllowed(bidderPrivacyResult, context),
+                                enrichWithPriceFloors(impsBidRequest, bidderPrivacyResult.getRequestBidder(), context),
+                                context))
+                .toList();
+        metrics.updateBidderRequestsPreparationCpuTime(
+                MetricName.preparation_requests, ThreadCpuTime.current() - startCpuTime);
+
+        return auctionParticipations;
+    }
+
+    /**
+     * Prepares bidder requests on the worker pool. Everything touching state shared between bidders is done on
+     * the event loop beforehand: activity checks (they may be traced), rejection of bidders blocked by TCF
+     * and price floors resolving (it may start floors fetching). Each bidder gets its own errors and warnings
+     * which are merged into the auction ones in bidders order to keep the result the same as of sequential
+     * preparation.
+     */
+    private Future<List<AuctionParticipation>> createAuctionParticipationsInParallel(
+            List<BidderPrivacyResult> bidderPrivacyResults,
+            BidRequest impsBidRequest,
+            ParticipationCreator participationCreator,
+            AuctionContext context) {
+
+        final int biddersCount = bidderPrivacyResults.size();
+        final List<AuctionParticipation> auctionParticipations = new ArrayList<>(biddersCount);
+        final List<AuctionContext> bidderContexts = new ArrayList<>(biddersCount);
+        final List<BidRequest> floorsBidRequests = new ArrayList<>(biddersCount);
+        final List<Integer> indexesToPrepare = new ArrayList<>(biddersCount);
+
+        for (int i = 0; i < biddersCount; i++) {
+            final BidderPrivacyResult bidderPrivacyResult = bidderPrivacyResults.get(i);
+            final AuctionContext bidderContext = context.toBuilder()
+                    .prebidErrors(new ArrayList<>())
+                    .debugWarnings(new ArrayList<>())
+                    .build();
+            bidderContexts.add(bidderContext);
+
+            if (bidderPrivacyResult.isBlockedRequestByTcf()) {
+                auctionParticipations.add(blockedAuctionParticipation(bidderPrivacyResult, context));
+                floorsBidRequests.add(null);
+            } else {
+                auctionParticipations.add(null);
+                floorsBidRequests.add(
+                        enrichWithPriceFloors(impsBidRequest, bidderPrivacyResult.getRequestBidder(), bidderContext));
+                indexesToPrepare.add(i);
+            }
+        }
+
+        final List<Boolean> transmitTids = bidderPrivacyResults.stream()
+                .map(bidderPrivacyResult -> isTransmitTidAllowed(bidderPrivacyResult, context))
+                .toList();
+
+        return requestsPreparationExecutor.prepare(indexesToPrepare, index -> participationCreator.create(
+                        bidderPrivacyResults.get(index),
+                        transmitTids.get(index),
+                        floorsBidRequests.get(index),
+                        bidderContexts.get(index)))
+                .map(preparedParticipations -> {
+                    for (int i = 0; i < indexesToPrepare.size(); i++) {
+                        auctionParticipations.set(indexesToPrepare.get(i), preparedParticipations.get(i));
+                    }
+                    bidderContexts.forEach(bidderContext -> {
+                        context.getPrebidErrors().addAll(bidderContext.getPrebidErrors());
+                        context.getDebugWarnings().addAll(bidderContext.getDebugWarnings());
+                    });
+
+                    return auctionParticipations;
+                });
+    }
+
+    private BidRequest enrichWithPriceFloors(BidRequest impsBidRequest, String bidder, AuctionContext context) {
+        return priceFloorProcessor.enrichWithPriceFloors(
+                impsBidRequest,
+                context.getAccount(),
+                bidder,
+                context.getPrebidErrors(),
+                context.getDebugWarnings());
+    }
+
+    private static AuctionParticipation blockedAuctionParticipation(BidderPrivacyResult bidderPrivacyResult,
+                                                                    AuctionContext context) {
+
+        final String bidder = bidderPrivacyResult.getRequestBidder();
+        context.getBidRejectionTrackers()
+                .get(bidder)
+                .rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_PRIVACY);
 
-        Collections.shuffle(bidderRequests);
-        return bidderRequests;
+        return AuctionParticipation.builder()
+                .bidder(bidder)
+                .requestBlocked(true)
+                .analyticsBlocked(bidderPrivacyResult.isBlockedAnalyticsByTcf())
+                .build();
+    }
+
+    private static boolean isTransmitTidAllowed(BidderPrivacyResult bidderPrivacyResult, AuctionContext context) {
+        return !bidderPrivacyResult.isBlockedRequestByTcf()
+                && transmitTransactionId(bidderPrivacyResult.getRequestBidder(), context);
     }
 
     /**
@@ -698,6 +820,8 @@ public class ExchangeService {
 
     private AuctionParticipation createAuctionParticipation(
             BidderPrivacyResult bidderPrivacyResult,
+            boolean transmitTid,
+            BidRequest floorsBidRequest,
             Map<String, Map<String, String>> impBidderToStoredBidResponse,
             List<Imp> imps,
             Map<String, MultiBidConfig> bidderToMultiBid,
@@ -706,21 +830,7 @@ public class ExchangeService {
             BidderAliases bidderAliases,
             AuctionContext context) {
 
-        final boolean blockedRequestByTcf = bidderPrivacyResult.isBlockedRequestByTcf();
-        final boolean blockedAnalyticsByTcf = bidderPrivacyResult.isBlockedAnalyticsByTcf();
         final String bidder = bidderPrivacyResult.getRequestBidder();
-        if (blockedRequestByTcf) {
-            context.getBidRejectionTrackers()
-                    .get(bidder)
-                    .rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_PRIVACY);
-
-            return AuctionParticipation.builder()
-                    .bidder(bidder)
-                    .requestBlocked(true)
-                    .analyticsBlocked(blockedAnalyticsByTcf)
-                    .build();
-        }
-
         final OrtbVersion ortbVersion = bidderSupportedOrtbVersion(bidder, bidderAliases);
         // stored bid response supported only for single imp requests
         final String storedBidResponse = impBidderToStoredBidResponse.size() == 1
@@ -728,7 +838,8 @@ public class ExchangeService {
                 : null;
         final BidRequest preparedBidRequest = prepareBidRequest(
                 bidderPrivacyResult,
-                imps,
+                transmitTid,
+                floorsBidRequest,
                 bidderToMultiBid,
                 biddersToConfigs,
                 bidderToPrebidBidders,
@@ -746,7 +857,7 @@ public class ExchangeService {
                 .bidder(bidder)
                 .bidderRequest(bidderRequest)
                 .requestBlocked(false)
-                .analyticsBlocked(blockedAnalyticsByTcf)
+                .analyticsBlocked(bidderPrivacyResult.isBlockedAnalyticsByTcf())
                 .build();
     }
 
@@ -755,7 +866,8 @@ public class ExchangeService {
     }
 
     private BidRequest prepareBidRequest(BidderPrivacyResult bidderPrivacyResult,
-                                         List<Imp> imps,
+                                         boolean transmitTid,
+                                         BidRequest bidRequest,
                                          Map<String, MultiBidConfig> bidderToMultiBid,
                                          Map<String, ExtBidderConfigOrtb> biddersToConfigs,
                                          Map<String, JsonNode> bidderToPrebidBidders,
@@ -763,13 +875,6 @@ public class ExchangeService {
                                          AuctionContext context) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
-        final BidRequest bidRequest = priceFloorProcessor.enrichWithPriceFloors(
-                context.getBidRequest().toBuilder().imp(imps).build(),
-                context.getAccount(),
-                bidder,
-                context.getPrebidErrors(),
-                context.getDebugWarnings());
-        final boolean transmitTid = transmitTransactionId(bidder, context);
         final List<String> firstPartyDataBidders = firstPartyDataBidders(bidRequest.getExt());
         final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.stream()
                 .anyMatch(fpdBidder -> StringUtils.equalsIgnoreCase(fpdBidder, bidder));
@@ -1100,6 +1205,180 @@ public class ExchangeService {
         return context;
     }
 
+    /**
+     * Requests bids from all auction participants. Each bidder response is validated and adjusted as soon as it
+     * is received, so {@link AuctionCompletionTracker} is given only bids taking part in the auction.
+     * Auction may be completed before all the bidders responded if the tracker decides the remaining bidders
+     * are not worth waiting for, in this case bidders which have not responded yet are treated as timed out.
+     */
+    private Future<List<AuctionParticipation>> requestAllBids(AuctionContext context,
+                                                              List<SeatBid> storedAuctionResponses,
+                                                              Timeout timeout,
+                                                              BidderAliases aliases) {
+
+        final List<AuctionParticipation> auctionParticipations = context.getAuctionParticipations();
+        final Set<String> bidders = auctionParticipations.stream()
+                .map(AuctionParticipation::getBidder)
+                .collect(Collectors.toSet());
+        final List<SeatBid> storedOnlyResponses = storedAuctionResponses.stream()
+                .filter(storedSeatBid -> !bidders.contains(storedSeatBid.getSeat()))
+                .toList();
+
+        // bidders present in stored auction responses only do not need to be requested
+        final List<AuctionParticipation> storedParticipations = storedOnlyResponses.isEmpty()
+                ? Collections.emptyList()
+                : collectBids(Collections.emptyList(), storedOnlyResponses, context, aliases);
+
+        final AuctionCompletionTracker completionTracker = completionTrackerFactory.create(
+                context.getBidRequest(), auctionParticipations.size() + storedParticipations.size());
+        storedParticipations.forEach(participation ->
+                completionTracker.processBidderResponse(participation.getBidderResponse()));
+
+        final Promise<Void> completionPromise = Promise.promise();
+        final SerializedFragments serializedFragments = new SerializedFragments();
+
+        final List<Future<List<AuctionParticipation>>> participationFutures = auctionParticipations.stream()
+                .map(auctionParticipation -> requestAndCollectBids(
+                        context,
+                        auctionParticipation,
+                        serializedFragments,
+                        storedAuctionResponses,
+                        timeout,
+                        aliases,
+                        completionPromise.future(),
+                        completionTracker))
+                .toList();
+
+        Future.join(participationFutures).onComplete(result -> completionPromise.tryHandle(result.mapEmpty()));
+        completionTracker.future().onSuccess(completionPromise::tryComplete);
+
+        return completionPromise.future().compose(ignored -> completedParticipations(
+                context, auctionParticipations, participationFutures, storedParticipations, aliases));
+    }
+
+    /**
+     * Requests bids from the bidder. If auction can be completed early, bidder gets its own bid rejection tracker
+     * and hook stage outcomes, which are merged into the auction ones only if bidder responded before the auction
+     * completion, so late response does not change the auction state.
+     */
+    private Future<List<AuctionParticipation>> requestAndCollectBids(AuctionContext context,
+                                                                     AuctionParticipation auctionParticipation,
+                                                                     SerializedFragments serializedFragments,
+                                                                     List<SeatBid> storedAuctionResponses,
+                                                                     Timeout timeout,
+                                                                     BidderAliases aliases,
+                                                                     Future<Void> auctionCompletion,
+                                                                     AuctionCompletionTracker completionTracker) {
+
+        final String bidder = auctionParticipation.getBidder();
+        final boolean isolated = completionTracker.canCompleteEarly();
+        final AuctionContext bidderContext = isolated ? isolatedBidderContext(context, bidder) : context;
+        final List<SeatBid> bidderStoredResponses = storedAuctionResponses.stream()
+                .filter(storedSeatBid -> bidder.equals(storedSeatBid.getSeat()))
+                .toList();
+        final BidderRequest bidderRequest = auctionParticipation.getBidderRequest().toBuilder()
+                .serializedFragments(serializedFragments)
+                .build();
+
+        return processAndRequestBids(bidderContext, bidderRequest, timeout, aliases)
+                .map(auctionParticipation::with)
+                .compose(participation -> {
+                    if (auctionCompletion.isComplete()) {
+                        return Future.failedFuture(new PreBidException(
+                                "Auction is completed before bidder %s responded".formatted(bidder)));
+                    }
+
+                    final List<AuctionParticipation> participations =
+                            collectBids(List.of(participation), bidderStoredResponses, bidderContext, aliases);
+                    if (isolated) {
+                        mergeBidderContext(context, bidderContext, bidder);
+                    }
+
+                    return Future.succeededFuture(participations);
+                })
+                // tracker may complete the auction, so it is given the result once the participation is completed
+                .onSuccess(participations -> participations.forEach(participation ->
+                        completionTracker.processBidderResponse(participation.getBidderResponse())));
+    }
+
+    private static AuctionContext isolatedBidderContext(AuctionContext context, String bidder) {
+        final Map<String, BidRejectionTracker> bidRejectionTrackers = new HashMap<>(context.getBidRejectionTrackers());
+        bidRejectionTrackers.computeIfPresent(bidder, (ignored, bidRejectionTracker) -> bidRejectionTracker.copy());
+
+        return context.toBuilder()
+                .bidRejectionTrackers(bidRejectionTrackers)
+                .hookExecutionContext(context.getHookExecutionContext().withSeparateStageOutcomes())
+                .build();
+    }
+
+    private static void mergeBidderContext(AuctionContext context, AuctionContext bidderContext, String bidder) {
+        final BidRejectionTracker bidRejectionTracker = bidderContext.getBidRejectionTrackers().get(bidder);
+        if (bidRejectionTracker != null) {
+            context.getBidRejectionTrackers().put(bidder, bidRejectionTracker);
+        }
+        context.getHookExecutionContext().mergeStageOutcomes(bidderContext.getHookExecutionContext());
+    }
+
+    /**
+     * Applies stored auction responses to the bidder responses, then drops, validates and adjusts their bids.
+     */
+    private List<AuctionParticipation> collectBids(List<AuctionParticipation> auctionParticipations,
+                                                   List<SeatBid> storedAuctionResponses,
+                                                   AuctionContext context,
+                                                   BidderAliases aliases) {
+
+        final List<AuctionParticipation> mergedParticipations = storedResponseProcessor.mergeWithBidderResponses(
+                storedResponseProcessor.updateStoredBidResponse(auctionParticipations),
+                storedAuctionResponses,
+                context.getBidRequest().getImp(),
+                context.getBidRejectionTrackers());
+        final List<AuctionParticipation> validParticipations = dropZeroNonDealBids(
+                mergedParticipations, context.getDebugWarnings(), context.getDebugContext().isDebugEnabled());
+
+        return bidsAdjuster.validateAndAdjustBids(validParticipations, context, aliases);
+    }
+
+    private Future<List<AuctionParticipation>> completedParticipations(
+            AuctionContext context,
+            List<AuctionParticipation> auctionParticipations,
+            List<Future<List<AuctionParticipation>>> participationFutures,
+            List<AuctionParticipation> storedParticipations,
+            BidderAliases aliases) {
+
+        // bidder failed before the auction completion fails the auction the same way as if all bidders were waited
+        final Future<List<AuctionParticipation>> failedParticipation = participationFutures.stream()
+                .filter(Future::failed)
+                .findFirst()
+                .orElse(null);
+        if (failedParticipation != null) {
+            return Future.failedFuture(failedParticipation.cause());
+        }
+
+        final List<AuctionParticipation> completedParticipations = new ArrayList<>(auctionParticipations.size());
+        for (int i = 0; i < auctionParticipations.size(); i++) {
+            final Future<List<AuctionParticipation>> participationFuture = participationFutures.get(i);
+            if (participationFuture.succeeded()) {
+                completedParticipations.addAll(participationFuture.result());
+            } else {
+                completedParticipations.add(notWaitedParticipation(context, auctionParticipations.get(i), aliases));
+            }
+        }
+        completedParticipations.addAll(storedParticipations);
+
+        return Future.succeededFuture(completedParticipations);
+    }
+
+    private AuctionParticipation notWaitedParticipation(AuctionContext context,
+                                                        AuctionParticipation auctionParticipation,
+                                                        BidderAliases aliases) {
+
+        final String bidderName = auctionParticipation.getBidder();
+        context.getBidRejectionTrackers().get(bidderName).rejectAllImps(BidRejectionReason.ERROR_TIMED_OUT);
+        metrics.updateAdapterRequestErrorMetric(aliases.resolveBidder(bidderName), MetricName.not_waited);
+
+        return auctionParticipation.with(BidderResponse.of(bidderName, BidderSeatBid.empty(), 0));
+    }
+
     private Future<BidderResponse> processAndRequestBids(AuctionContext auctionContext,
                                                          BidderRequest bidderRequest,
                                                          Timeout timeout,
@@ -1224,22 +1503,58 @@ public class ExchangeService {
         final int adjustmentFactor = timeoutContext.getAdjustmentFactor();
         final long bidderRequestStartTime = clock.millis();
 
-        return Future.succeededFuture(bidderRequest.getBidRequest())
-                .map(bidRequest -> adjustTmax(
-                        bidRequest, auctionStartTime, adjustmentFactor, bidderRequestStartTime, bidderTmaxDeductionMs))
-                .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
-                        bidRequest, bidderRequest.getOrtbVersion()))
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+        final long tmax = timeoutResolver.limitToMax(bidRequest.getTmax());
+        final long bidderTmax = timeoutResolver.adjustForBidder(
+                tmax, adjustmentFactor, bidderRequestStartTime - auctionStartTime, bidderTmaxDeductionMs);
+        final Timeout bidderTimeout = adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime);
+
+        final ExtDebugTmaxBudget tmaxBudget = timeoutResolver.allocateForBidder(resolvedBidderName, bidderTmax);
+        if (tmaxBudget != null) {
+            final boolean skipped = BooleanUtils.isTrue(tmaxBudget.getSkipped());
+            auctionContext.getTmaxBudgets().put(bidderName, tmaxBudget);
+            metrics.updateAdapterTmaxBudgetMetrics(
+                    resolvedBidderName, skipped ? bidderTmax : bidderTmax - tmaxBudget.getAllocated(), skipped);
+
+            if (skipped) {
+                bidRejectionTracker.rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED);
+                return Future.succeededFuture(BidderResponse.of(bidderName, BidderSeatBid.empty(), 0));
+            }
+        }
+
+        final long allocatedTmax = tmaxBudget != null ? tmaxBudget.getAllocated() : bidderTmax;
+        final Timeout allocatedTimeout = tmaxBudget != null
+                ? limitTimeout(bidderTimeout, bidderRequestStartTime, allocatedTmax + bidderTmaxDeductionMs)
+                : bidderTimeout;
+
+        final BidRequest adjustedBidRequest = tmax != allocatedTmax
+                ? bidRequest.toBuilder().tmax(allocatedTmax).build()
+                : bidRequest;
+
+        return Future.succeededFuture(adjustedBidRequest)
+                .map(request -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
+                        request, bidderRequest.getOrtbVersion()))
                 .map(bidderRequest::with)
                 .compose(convertedBidderRequest -> httpBidderRequester.requestBids(
                         bidder,
                         convertedBidderRequest,
                         bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                        allocatedTimeout,
                         requestHeaders,
                         aliases,
                         debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
                 .map(seatBid -> populateBidderCode(seatBid, bidderName, resolvedBidderName))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+                .map(seatBid -> toBidderResponse(bidderName, resolvedBidderName, seatBid, bidderRequestStartTime));
+    }
+
+    private BidderResponse toBidderResponse(String bidderName,
+                                            String resolvedBidderName,
+                                            BidderSeatBid seatBid,
+                                            long bidderRequestStartTime) {
+
+        final int responseTime = responseTime(bidderRequestStartTime);
+        timeoutResolver.updateBidderResponseTime(resolvedBidderName, responseTime);
+        return BidderResponse.of(bidderName, seatBid, responseTime);
     }
 
     private BidderSeatBid populateBidderCode(BidderSeatBid seatBid, String bidderName, String resolvedBidderName) {
@@ -1275,27 +1590,18 @@ public class ExchangeService {
                 : (ObjectNode) childNode;
     }
 
-    private BidRequest adjustTmax(BidRequest bidRequest,
-                                  long startTime,
-                                  int adjustmentFactor,
-                                  long currentTime,
-                                  long bidderTmaxDeductionMs) {
-
-        final long tmax = timeoutResolver.limitToMax(bidRequest.getTmax());
-        final long adjustedTmax = timeoutResolver.adjustForBidder(
-                tmax, adjustmentFactor, currentTime - startTime, bidderTmaxDeductionMs);
-
-        return tmax != adjustedTmax
-                ? bidRequest.toBuilder().tmax(adjustedTmax).build()
-                : bidRequest;
-    }
-
     private Timeout adjustTimeout(Timeout timeout, long startTime, long currentTime) {
         final long adjustedTmax = timeoutResolver.adjustForRequest(
                 timeout.getDeadline() - startTime, currentTime - startTime);
         return timeoutFactory.create(currentTime, adjustedTmax);
     }
 
+    private Timeout limitTimeout(Timeout timeout, long currentTime, long limit) {
+        return timeout.getDeadline() - currentTime > limit
+                ? timeoutFactory.create(currentTime, limit)
+                : timeout;
+    }
+
     private BidderResponse rejectBidderResponseOrProceed(HookStageExecutionResult<BidderResponsePayload> stageResult,
                                                          BidderResponse bidderResponse) {
 
@@ -1407,8 +1713,18 @@ public class ExchangeService {
             case bad_server_response -> MetricName.badserverresponse;
             case failed_to_request_bids -> MetricName.failedtorequestbids;
             case timeout -> MetricName.timeout;
+            case overloaded -> MetricName.shed;
             case invalid_bid -> MetricName.bid_validation;
             case rejected_ipf, generic -> MetricName.unknown_error;
         };
     }
+
+    @FunctionalInterface
+    private interface ParticipationCreator {
+
+        AuctionParticipation create(BidderPrivacyResult bidderPrivacyResult,
+                                    boolean transmitTid,
+                                    BidRequest floorsBidRequest,
+                                    AuctionContext bidderContext);
+    }
 }
@@ -1,18 +1,33 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Audio;
+import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Metric;
+import com.iab.openrtb.request.Native;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.request.Qty;
+import com.iab.openrtb.request.Refresh;
+import com.iab.openrtb.request.Video;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.validation.ImpValidator;
 
+import java.math.BigDecimal;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public class ImpAdjuster {
 
@@ -26,6 +41,8 @@ public class ImpAdjuster {
     private final ImpValidator impValidator;
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private final JavaType metricListType;
+    private final JavaType stringListType;
 
     public ImpAdjuster(JacksonMapper jacksonMapper,
                        JsonMerger jsonMerger,
@@ -34,6 +51,9 @@ public class ImpAdjuster {
         this.impValidator = Objects.requireNonNull(impValidator);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        metricListType = jacksonMapper.mapper().getTypeFactory().constructCollectionType(List.class, Metric.class);
+        stringListType = jacksonMapper.mapper().getTypeFactory().constructCollectionType(List.class, String.class);
     }
 
     public Imp adjust(Imp originalImp, String bidder, BidderAliases bidderAliases, List<String> debugMessages) {
@@ -54,14 +74,10 @@ public class ImpAdjuster {
         removeExtPrebidBidder(bidderNode);
 
         try {
-            final JsonNode originalImpNode = jacksonMapper.mapper().valueToTree(originalImp);
-            final JsonNode mergedImpNode = jsonMerger.merge(bidderNode, originalImpNode);
-
-            removeImpExtPrebidImp(mergedImpNode.get(IMP_EXT));
-
-            final Imp resultImp = jacksonMapper.mapper().convertValue(mergedImpNode, Imp.class);
+            final Set<String> changedFields = new HashSet<>();
+            final Imp resultImp = mergeImp(originalImp, bidderNode, changedFields);
 
-            impValidator.validateImp(resultImp);
+            impValidator.validateImp(resultImp, changedFields);
             return resultImp;
         } catch (Exception e) {
             debugMessages.add("imp.ext.prebid.imp.%s can not be merged into original imp [id=%s], reason: %s"
@@ -71,6 +87,87 @@ public class ImpAdjuster {
         }
     }
 
+    /**
+     * Overlays fields present in bidder node onto the original imp following JSON merge patch rules, so only
+     * overridden imp sections are converted to and from JSON tree instead of the whole imp.
+     */
+    private Imp mergeImp(Imp originalImp, JsonNode bidderNode, Set<String> changedFields)
+            throws JsonProcessingException {
+
+        final Imp.ImpBuilder impBuilder = originalImp.toBuilder();
+        JsonNode extNode = null;
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = bidderNode.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+
+            switch (field.getKey()) {
+                case "id" -> impBuilder.id(toValue(value, String.class));
+                case "metric" -> impBuilder.metric(toValue(value, metricListType));
+                case "banner" -> impBuilder.banner(mergeValue(value, originalImp.getBanner(), Banner.class));
+                case "video" -> impBuilder.video(mergeValue(value, originalImp.getVideo(), Video.class));
+                case "audio" -> impBuilder.audio(mergeValue(value, originalImp.getAudio(), Audio.class));
+                case "native" -> impBuilder.xNative(mergeValue(value, originalImp.getXNative(), Native.class));
+                case "pmp" -> impBuilder.pmp(mergeValue(value, originalImp.getPmp(), Pmp.class));
+                case "displaymanager" -> impBuilder.displaymanager(toValue(value, String.class));
+                case "displaymanagerver" -> impBuilder.displaymanagerver(toValue(value, String.class));
+                case "instl" -> impBuilder.instl(toValue(value, Integer.class));
+                case "tagid" -> impBuilder.tagid(toValue(value, String.class));
+                case "bidfloor" -> impBuilder.bidfloor(toValue(value, BigDecimal.class));
+                case "bidfloorcur" -> impBuilder.bidfloorcur(toValue(value, String.class));
+                case "clickbrowser" -> impBuilder.clickbrowser(toValue(value, Integer.class));
+                case "secure" -> impBuilder.secure(toValue(value, Integer.class));
+                case "iframebuster" -> impBuilder.iframebuster(toValue(value, stringListType));
+                case "rwdd" -> impBuilder.rwdd(toValue(value, Integer.class));
+                case "ssai" -> impBuilder.ssai(toValue(value, Integer.class));
+                case "exp" -> impBuilder.exp(toValue(value, Integer.class));
+                case "refresh" -> impBuilder.refresh(mergeValue(value, originalImp.getRefresh(), Refresh.class));
+                case "qty" -> impBuilder.qty(mergeValue(value, originalImp.getQty(), Qty.class));
+                case "dt" -> impBuilder.dt(toValue(value, Double.class));
+                case IMP_EXT -> extNode = value;
+                default -> {
+                    // unknown imp fields are ignored, since mapper does not fail on unknown properties either
+                }
+            }
+            changedFields.add(field.getKey());
+        }
+
+        return impBuilder.ext(mergeExt(extNode, originalImp.getExt())).build();
+    }
+
+    private <T> T mergeValue(JsonNode value, T originalValue, Class<T> type) throws JsonProcessingException {
+        if (!value.isObject()) {
+            return toValue(value, type);
+        }
+
+        final JsonNode originalNode = originalValue != null
+                ? jacksonMapper.mapper().valueToTree(originalValue)
+                : NullNode.getInstance();
+        return toValue(jsonMerger.merge(value, originalNode), type);
+    }
+
+    private ObjectNode mergeExt(JsonNode extNode, ObjectNode originalExt) throws JsonProcessingException {
+        // original ext is never modified since it is shared between bidders
+        final JsonNode mergedExt = extNode != null
+                ? jsonMerger.merge(extNode, originalExt)
+                : originalExt.deepCopy();
+
+        final ObjectNode resultExt = toValue(mergedExt, ObjectNode.class);
+        if (resultExt != null) {
+            removeImpExtPrebidImp(resultExt);
+        }
+        return resultExt;
+    }
+
+    private <T> T toValue(JsonNode value, Class<T> type) throws JsonProcessingException {
+        return value.isNull() ? null : jacksonMapper.mapper().treeToValue(value, type);
+    }
+
+    private <T> T toValue(JsonNode value, JavaType type) throws JsonProcessingException {
+        return value.isNull() ? null : jacksonMapper.mapper().treeToValue(value, type);
+    }
+
     private void setAeParams(ObjectNode ext) {
         final int extAe = Optional.ofNullable(ext)
                 .map(extNode -> extNode.get(EXT_AE))
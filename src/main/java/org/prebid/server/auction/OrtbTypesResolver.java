@@ -1,12 +1,27 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.InvalidRequestException;
@@ -15,8 +30,11 @@ import org.prebid.server.json.JsonMerger;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidBidderConfig;
 import org.prebid.server.util.StreamUtil;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +44,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +66,8 @@ public class OrtbTypesResolver {
     private static final String ORTB2 = "ortb2";
     private static final String CONTEXT = "context";
     private static final String UNKNOWN_REFERER = "unknown referer";
+    private static final String BID_REQUEST_PREFIX = "bidrequest.";
+    private static final String BIDDER_CONFIG_PREFIX = "bidrequest.ext.prebid.bidderconfig.";
 
     private static final JsonPointer EXT_PREBID_BIDDER_CONFIG = JsonPointer.valueOf("/ext/prebid/bidderconfig");
     private static final JsonPointer CONFIG_ORTB2 = JsonPointer.valueOf("/config/ortb2");
@@ -72,32 +93,112 @@ public class OrtbTypesResolver {
 
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private final ObjectReader bidRequestReader;
 
     public OrtbTypesResolver(double logSamplingRate, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.logSamplingRate = logSamplingRate;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+
+        bidRequestReader = createBidRequestReader();
+    }
+
+    /**
+     * Decodes bid request from the given bytes resolving types of FPD fields while binding, so that consistent
+     * request is bound in a single pass and only inconsistent FPD containers and bidder configs are normalized
+     * the same way as {@link #normalizeBidRequest} does.
+     */
+    public BidRequest decodeBidRequest(byte[] bidRequest, List<String> warnings, String referer) throws IOException {
+        final NormalizationContext normalizationContext = new NormalizationContext();
+        final BidRequest decodedBidRequest = bidRequestReader
+                .withAttribute(NormalizationContext.class, normalizationContext)
+                .readValue(bidRequest);
+
+        if (normalizationContext.deprecatedFpdUsed) {
+            logDeprecatedFpdConfig(source(decodedBidRequest));
+        }
+
+        processWarnings(normalizationContext.warnings, warnings, referer, "bidrequest",
+                () -> new String(bidRequest, StandardCharsets.UTF_8));
+
+        return decodedBidRequest;
+    }
+
+    private ObjectReader createBidRequestReader() {
+        final SimpleModule module = new SimpleModule().setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                                                          BeanDescription beanDescription,
+                                                          JsonDeserializer<?> deserializer) {
+
+                final Class<?> type = beanDescription.getBeanClass();
+                if (type == User.class) {
+                    return new FpdContainerDeserializer(deserializer, USER);
+                } else if (type == App.class) {
+                    return new FpdContainerDeserializer(deserializer, APP);
+                } else if (type == Site.class) {
+                    return new FpdContainerDeserializer(deserializer, SITE);
+                } else if (type == ExtRequestPrebidBidderConfig.class) {
+                    return new BidderConfigDeserializer(deserializer);
+                }
+                return deserializer;
+            }
+        });
+
+        return jacksonMapper.mapper().copy().registerModule(module).readerFor(BidRequest.class);
+    }
+
+    private static String source(BidRequest bidRequest) {
+        return Optional.ofNullable(bidRequest.getApp())
+                .map(App::getBundle)
+                .or(() -> Optional.ofNullable(bidRequest.getSite()).map(Site::getPage))
+                .orElse(null);
+    }
+
+    private static boolean isFpdNormalizationRequired(JsonParser parser, String containerName) throws IOException {
+        final Set<String> firstElementFields = FIRST_ARRAY_ELEMENT_FIELDS.get(containerName);
+        final Set<String> commaSeparatedFields = COMMA_SEPARATED_ELEMENT_FIELDS.get(containerName);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+
+            if (firstElementFields.contains(fieldName) || commaSeparatedFields.contains(fieldName)) {
+                if (valueToken != JsonToken.VALUE_STRING && valueToken != JsonToken.VALUE_NULL) {
+                    return true;
+                }
+            } else if (DATA.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                return true;
+            }
+
+            parser.skipChildren();
+        }
+
+        return false;
     }
 
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
         final List<String> resolverWarnings = new ArrayList<>();
 
-        normalizeFpdFields(bidRequest, "bidrequest.", resolverWarnings);
+        normalizeFpdFields(bidRequest, BID_REQUEST_PREFIX, resolverWarnings);
 
         final String source = source(bidRequest);
         final JsonNode bidderConfigs = bidRequest.at(EXT_PREBID_BIDDER_CONFIG);
         if (!bidderConfigs.isMissingNode() && bidderConfigs.isArray()) {
             for (JsonNode bidderConfig : bidderConfigs) {
-                mergeFpdFieldsToOrtb2(bidderConfig, source);
+                if (mergeFpdFieldsToOrtb2(bidderConfig)) {
+                    logDeprecatedFpdConfig(source);
+                }
 
                 final JsonNode ortb2Config = bidderConfig.at(CONFIG_ORTB2);
                 if (!ortb2Config.isMissingNode()) {
-                    normalizeFpdFields(ortb2Config, "bidrequest.ext.prebid.bidderconfig.", resolverWarnings);
+                    normalizeFpdFields(ortb2Config, BIDDER_CONFIG_PREFIX, resolverWarnings);
                 }
             }
         }
 
-        processWarnings(resolverWarnings, warnings, referer, "bidrequest", getOriginalRowContainerNode(bidRequest));
+        processWarnings(resolverWarnings, warnings, referer, "bidrequest",
+                () -> getOriginalRowContainerNode(bidRequest));
     }
 
     private void normalizeFpdFields(JsonNode fpdContainerNode, String prefix, List<String> warnings) {
@@ -320,22 +421,23 @@ public class OrtbTypesResolver {
         containerNode.set(EXT, jacksonMapper.mapper().createObjectNode().set(DATA, data));
     }
 
-    private void mergeFpdFieldsToOrtb2(JsonNode bidderConfig, String source) {
+    /**
+     * Returns true if deprecated FPD config is used by the given bidder config.
+     */
+    private boolean mergeFpdFieldsToOrtb2(JsonNode bidderConfig) {
         final JsonNode config = bidderConfig.path(CONFIG);
         final JsonNode configFpd = config.path(FPD);
 
         if (configFpd.isMissingNode()) {
-            return;
+            return false;
         }
 
-        logDeprecatedFpdConfig(source);
-
         final JsonNode configOrtb = config.path(ORTB2);
         final JsonNode updatedOrtbSite = updatedOrtb2Node(configFpd, CONTEXT, configOrtb, SITE);
         final JsonNode updatedOrtbUser = updatedOrtb2Node(configFpd, USER, configOrtb, USER);
 
         if (updatedOrtbUser == null && updatedOrtbSite == null) {
-            return;
+            return true;
         }
 
         final ObjectNode ortbObjectNode = configOrtb.isMissingNode()
@@ -346,6 +448,7 @@ public class OrtbTypesResolver {
         setIfNotNull(ortbObjectNode, USER, updatedOrtbUser);
 
         ((ObjectNode) config).set(ORTB2, ortbObjectNode);
+        return true;
     }
 
     private void logDeprecatedFpdConfig(String source) {
@@ -371,7 +474,7 @@ public class OrtbTypesResolver {
                                  List<String> warnings,
                                  String referer,
                                  String containerName,
-                                 String containerValue) {
+                                 Supplier<String> containerValue) {
 
         if (CollectionUtils.isNotEmpty(resolverWarnings)) {
             warnings.addAll(updateWithWarningPrefix(resolverWarnings));
@@ -381,7 +484,7 @@ public class OrtbTypesResolver {
                             String.join("\n", resolverWarnings),
                             StringUtils.isNotBlank(referer) ? referer : UNKNOWN_REFERER,
                             containerName,
-                            containerValue),
+                            containerValue.get()),
                     logSamplingRate);
         }
     }
@@ -402,6 +505,103 @@ public class OrtbTypesResolver {
     public void normalizeTargeting(JsonNode targeting, List<String> warnings, String referer) {
         final List<String> resolverWarnings = new ArrayList<>();
         normalizeFpdFields(targeting, "targeting.", resolverWarnings);
-        processWarnings(resolverWarnings, warnings, referer, "targeting", getOriginalRowContainerNode(targeting));
+        processWarnings(resolverWarnings, warnings, referer, "targeting",
+                () -> getOriginalRowContainerNode(targeting));
+    }
+
+    private static JsonParser parserOnFirstToken(JsonNode node, JsonParser parser) throws IOException {
+        final JsonParser nodeParser = node.traverse(parser.getCodec());
+        nodeParser.nextToken();
+        return nodeParser;
+    }
+
+    private static NormalizationContext normalizationContext(DeserializationContext context) {
+        return (NormalizationContext) context.getAttribute(NormalizationContext.class);
+    }
+
+    private static class NormalizationContext {
+
+        private final List<String> warnings = new ArrayList<>();
+
+        private boolean deprecatedFpdUsed;
+    }
+
+    /**
+     * Binds FPD container directly when its fields are of expected types,
+     * otherwise binds it from the normalized JSON tree.
+     */
+    private class FpdContainerDeserializer extends DelegatingDeserializer {
+
+        private final String containerName;
+
+        FpdContainerDeserializer(JsonDeserializer<?> delegatee, String containerName) {
+            super(delegatee);
+            this.containerName = containerName;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new FpdContainerDeserializer(newDelegatee, containerName);
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            final NormalizationContext normalizationContext = normalizationContext(context);
+            if (normalizationContext == null) {
+                return super.deserialize(parser, context);
+            }
+
+            if (!parser.isExpectedStartObjectToken()) {
+                // not an object, so container is ignored with warning
+                normalizeNode(context.readTree(parser), containerName, normalizationContext.warnings,
+                        BID_REQUEST_PREFIX);
+                return null;
+            }
+
+            final TokenBuffer buffer = context.bufferAsCopyOfValue(parser);
+            if (!isFpdNormalizationRequired(buffer.asParserOnFirstToken(), containerName)) {
+                return super.deserialize(buffer.asParserOnFirstToken(), context);
+            }
+
+            final JsonNode containerNode = context.readTree(buffer.asParserOnFirstToken());
+            normalizeNode(containerNode, containerName, normalizationContext.warnings, BID_REQUEST_PREFIX);
+
+            return super.deserialize(parserOnFirstToken(containerNode, parser), context);
+        }
+    }
+
+    /**
+     * Binds bidder config after merging deprecated FPD config into ortb2 one and normalizing ortb2 FPD containers.
+     */
+    private class BidderConfigDeserializer extends DelegatingDeserializer {
+
+        BidderConfigDeserializer(JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new BidderConfigDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            final NormalizationContext normalizationContext = normalizationContext(context);
+            if (normalizationContext == null) {
+                return super.deserialize(parser, context);
+            }
+
+            final JsonNode bidderConfig = context.readTree(parser);
+            if (mergeFpdFieldsToOrtb2(bidderConfig)) {
+                normalizationContext.deprecatedFpdUsed = true;
+            }
+
+            final JsonNode ortb2Config = bidderConfig.at(CONFIG_ORTB2);
+            if (!ortb2Config.isMissingNode()) {
+                normalizeFpdFields(ortb2Config, BIDDER_CONFIG_PREFIX, normalizationContext.warnings);
+            }
+
+            return super.deserialize(parserOnFirstToken(bidderConfig, parser), context);
+        }
     }
 }
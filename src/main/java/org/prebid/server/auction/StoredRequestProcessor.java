@@ -1,6 +1,7 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -24,6 +25,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.util.ObjectUtil;
@@ -55,6 +57,7 @@ public class StoredRequestProcessor {
     private final TimeoutFactory timeoutFactory;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final ParsedStoredDataCache parsedStoredDataCache;
 
     public StoredRequestProcessor(long defaultTimeout,
                                   String defaultBidRequestPath,
@@ -65,7 +68,8 @@ public class StoredRequestProcessor {
                                   Metrics metrics,
                                   TimeoutFactory timeoutFactory,
                                   JacksonMapper mapper,
-                                  JsonMerger jsonMerger) {
+                                  JsonMerger jsonMerger,
+                                  ParsedStoredDataCache parsedStoredDataCache) {
 
         this.defaultTimeout = defaultTimeout;
         this.defaultBidRequest = readBidRequest(
@@ -77,6 +81,7 @@ public class StoredRequestProcessor {
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+        this.parsedStoredDataCache = parsedStoredDataCache;
     }
 
     public Future<AuctionStoredResult> processAuctionRequest(String accountId, BidRequest bidRequest) {
@@ -276,7 +281,7 @@ public class StoredRequestProcessor {
 
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
         return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
+                ? mergeStoredData(originalRequest, storedRequest, storedRequestId, BidRequest.class)
                 : originalRequest;
     }
 
@@ -297,13 +302,26 @@ public class StoredRequestProcessor {
             final String storedRequestId = impToStoredId.get(imp);
             if (storedRequestId != null) {
                 final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
+                final Imp mergedImp = mergeStoredData(imp, storedImp, storedRequestId, Imp.class);
                 mergedImps.set(i, mergedImp);
             }
         }
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    /**
+     * Merges object with stored data using pre-parsed snapshot if {@link ParsedStoredDataCache} is configured,
+     * otherwise parses stored data on each call.
+     */
+    private <T> T mergeStoredData(T originalObject, String storedData, String storedId, Class<T> classToCast) {
+        if (parsedStoredDataCache == null) {
+            return jsonMerger.merge(originalObject, storedData, storedId, classToCast);
+        }
+
+        final JsonNode storedDataNode = parsedStoredDataCache.get(storedId, storedData);
+        return jsonMerger.merge(originalObject, storedDataNode, storedId, classToCast);
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
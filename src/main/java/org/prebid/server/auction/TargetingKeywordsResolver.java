@@ -1,11 +1,13 @@
 package org.prebid.server.auction;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.TypedJsonPointer;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidAdservertargetingRule;
@@ -29,11 +31,13 @@ public class TargetingKeywordsResolver {
     private final JacksonMapper mapper;
 
     private final Map<String, String> staticAndRequestKeywords;
-    private final List<ExtRequestPrebidAdservertargetingRule> impRequestRules;
-    private final List<ExtRequestPrebidAdservertargetingRule> responseRules;
+    private final List<CompiledRule> impRequestRules;
+    private final List<CompiledRule> responseRules;
+    private final ImpIndex impIndex;
 
-    private TargetingKeywordsResolver(BidRequest bidRequest, JacksonMapper mapper) {
+    private TargetingKeywordsResolver(BidRequest bidRequest, ImpIndex impIndex, JacksonMapper mapper) {
         this.bidRequest = Objects.requireNonNull(bidRequest);
+        this.impIndex = Objects.requireNonNull(impIndex);
         this.mapper = Objects.requireNonNull(mapper);
 
         final Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource = rulesBySource();
@@ -43,8 +47,12 @@ public class TargetingKeywordsResolver {
         this.staticAndRequestKeywords = resolveStaticAndRequestKeywords(rulesBySource);
     }
 
-    public static TargetingKeywordsResolver create(BidRequest bidRequest, JacksonMapper mapper) {
-        return new TargetingKeywordsResolver(bidRequest, mapper);
+    /**
+     * Creates resolver for the bid request, imps of which are looked up in the given {@link ImpIndex}
+     * of this request.
+     */
+    public static TargetingKeywordsResolver create(BidRequest bidRequest, ImpIndex impIndex, JacksonMapper mapper) {
+        return new TargetingKeywordsResolver(bidRequest, impIndex, mapper);
     }
 
     public Map<String, String> resolve(Bid bid, String bidder) {
@@ -66,19 +74,21 @@ public class TargetingKeywordsResolver {
                 .collect(Collectors.groupingBy(ExtRequestPrebidAdservertargetingRule::getSource));
     }
 
-    private static List<ExtRequestPrebidAdservertargetingRule> impRequestRules(
+    private List<CompiledRule> impRequestRules(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
         return rulesBySource.getOrDefault(Source.bidrequest, Collections.emptyList()).stream()
                 .filter(TargetingKeywordsResolver::hasImpPath)
+                .map(rule -> compile(rule, value -> StringUtils.substringAfter(value, IMP_PREFIX)))
                 .toList();
     }
 
-    private static List<ExtRequestPrebidAdservertargetingRule> responseRules(
+    private List<CompiledRule> responseRules(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
         return rulesBySource.getOrDefault(Source.bidresponse, Collections.emptyList()).stream()
                 .filter(TargetingKeywordsResolver::hasSeatbidBidPath)
+                .map(rule -> compile(rule, value -> StringUtils.substringAfter(value, SEATBID_BID_PREFIX)))
                 .toList();
     }
 
@@ -104,63 +114,44 @@ public class TargetingKeywordsResolver {
     private Map<String, String> resolveRequestKeywords(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
-        final List<ExtRequestPrebidAdservertargetingRule> requestRules = requestRules(rulesBySource);
+        final List<CompiledRule> requestRules = requestRules(rulesBySource);
 
         if (!requestRules.isEmpty()) {
-            return lookupValues(
-                    mapper.mapper().valueToTree(bidRequest),
-                    requestRules,
-                    Function.identity(),
-                    Function.identity());
+            return lookupValues(bidRequest, requestRules, Function.identity());
         }
 
         return Collections.emptyMap();
     }
 
-    private static List<ExtRequestPrebidAdservertargetingRule> requestRules(
+    private List<CompiledRule> requestRules(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
         return rulesBySource.getOrDefault(Source.bidrequest, Collections.emptyList()).stream()
                 .filter(rule -> !hasImpPath(rule))
+                .map(rule -> compile(rule, Function.identity()))
                 .toList();
     }
 
     private Map<String, String> resolveImpRequestKeywords(Bid bid) {
         if (!impRequestRules.isEmpty()) {
-            final JsonNode impNode = locateImp(bid);
-
-            if (impNode != null) {
-                return lookupValues(
-                        impNode,
-                        impRequestRules,
-                        value -> StringUtils.substringAfter(value, IMP_PREFIX),
-                        Function.identity());
+            final Imp imp = locateImp(bid);
+
+            if (imp != null) {
+                return lookupValues(imp, impRequestRules, Function.identity());
             }
         }
 
         return Collections.emptyMap();
     }
 
-    private JsonNode locateImp(Bid bid) {
+    private Imp locateImp(Bid bid) {
         final String impid = bid.getImpid();
-        if (StringUtils.isBlank(impid)) {
-            return null;
-        }
-
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), impid))
-                .findFirst()
-                .<JsonNode>map(imp -> mapper.mapper().valueToTree(imp))
-                .orElse(null);
+        return StringUtils.isNotBlank(impid) ? impIndex.get(impid) : null;
     }
 
     private Map<String, String> resolveResponseKeywords(Bid bid, String bidder) {
         if (!responseRules.isEmpty()) {
-            return lookupValues(
-                    mapper.mapper().valueToTree(bid),
-                    responseRules,
-                    value -> StringUtils.substringAfter(value, SEATBID_BID_PREFIX),
-                    key -> StringUtils.replace(key, BIDDER_MACRO, bidder));
+            return lookupValues(bid, responseRules, key -> StringUtils.replace(key, BIDDER_MACRO, bidder));
         }
 
         return Collections.emptyMap();
@@ -180,28 +171,31 @@ public class TargetingKeywordsResolver {
         return rule.getValue().startsWith(SEATBID_BID_PREFIX);
     }
 
-    private static Map<String, String> lookupValues(
-            JsonNode node,
-            List<ExtRequestPrebidAdservertargetingRule> rules,
-            Function<String, String> pathValueMapper,
-            Function<String, String> keyMapper) {
+    /**
+     * Compiles rule path into pointer evaluated against typed OpenRTB objects, so the whole bid request, imp or bid
+     * is not converted to JSON tree to read a few values.
+     */
+    private CompiledRule compile(ExtRequestPrebidAdservertargetingRule rule, Function<String, String> pathMapper) {
+        final String path = toPath(pathMapper.apply(rule.getValue()));
+        return new CompiledRule(rule.getKey(), TypedJsonPointer.compile(path, mapper));
+    }
+
+    private static Map<String, String> lookupValues(Object target,
+                                                    List<CompiledRule> rules,
+                                                    Function<String, String> keyMapper) {
 
         final Map<String, String> result = new HashMap<>();
 
-        for (final ExtRequestPrebidAdservertargetingRule rule : rules) {
-            final String lookupResult = lookupValue(node, pathValueMapper.apply(rule.getValue()));
+        for (final CompiledRule rule : rules) {
+            final String lookupResult = rule.pointer().asText(target);
             if (StringUtils.isNotBlank(lookupResult)) {
-                result.put(keyMapper.apply(rule.getKey()), lookupResult);
+                result.put(keyMapper.apply(rule.key()), lookupResult);
             }
         }
 
         return result;
     }
 
-    private static String lookupValue(JsonNode impNode, String value) {
-        return impNode.at(toPath(value)).asText();
-    }
-
     private static String toPath(String value) {
         return "/" + value.replaceAll("\\.", "/");
     }
@@ -209,4 +203,7 @@ public class TargetingKeywordsResolver {
     private static <T, U> U get(T target, Function<T, U> getter) {
         return target != null ? getter.apply(target) : null;
     }
+
+    private record CompiledRule(String key, TypedJsonPointer pointer) {
+    }
 }
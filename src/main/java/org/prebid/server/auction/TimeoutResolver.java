@@ -1,17 +1,29 @@
 package org.prebid.server.auction;
 
+import org.prebid.server.proto.openrtb.ext.response.ExtDebugTmaxBudget;
+
 public class TimeoutResolver {
 
     private final long minTimeout;
     private final long maxTimeout;
     private final long upstreamResponseTime;
+    private final BidderLatencyTracker latencyTracker;
 
     public TimeoutResolver(long minTimeout, long maxTimeout, long upstreamResponseTime) {
+        this(minTimeout, maxTimeout, upstreamResponseTime, null);
+    }
+
+    public TimeoutResolver(long minTimeout,
+                           long maxTimeout,
+                           long upstreamResponseTime,
+                           BidderLatencyTracker latencyTracker) {
+
         validateTimeouts(minTimeout, maxTimeout);
 
         this.minTimeout = minTimeout;
         this.maxTimeout = maxTimeout;
         this.upstreamResponseTime = upstreamResponseTime;
+        this.latencyTracker = latencyTracker;
     }
 
     private static void validateTimeouts(long minTimeout, long maxTimeout) {
@@ -40,6 +52,39 @@ public class TimeoutResolver {
         return adjustWithFactor(timeout, 1.0, spentTime, 0L);
     }
 
+    /**
+     * Allocates timeout for the bidder from its observed response times: bidder gets its tail response time
+     * instead of the whole given timeout and should be skipped if even its median response time exceeds it.
+     * Probe calls get the whole given timeout, so the bidder is never skipped or capped forever.
+     * <p>
+     * Returns null if latency-aware allocation is disabled or bidder response times are not known yet.
+     */
+    public ExtDebugTmaxBudget allocateForBidder(String bidder, long timeout) {
+        final BidderLatencyTracker.Quantiles quantiles = latencyTracker != null
+                ? latencyTracker.quantiles(bidder)
+                : null;
+        if (quantiles == null) {
+            return null;
+        }
+
+        if (latencyTracker.probe(bidder)) {
+            return ExtDebugTmaxBudget.of(timeout, quantiles.median(), timeout, false);
+        }
+
+        if (quantiles.median() > timeout) {
+            return ExtDebugTmaxBudget.of(timeout, quantiles.median(), null, true);
+        }
+
+        final long allocated = Math.min(timeout, limitToMin(quantiles.tail()));
+        return ExtDebugTmaxBudget.of(timeout, quantiles.median(), allocated, false);
+    }
+
+    public void updateBidderResponseTime(String bidder, long responseTime) {
+        if (latencyTracker != null) {
+            latencyTracker.record(bidder, responseTime);
+        }
+    }
+
     private long adjustWithFactor(long timeout, double adjustFactor, long spentTime, long deductionTime) {
         return limitToMin((long) (timeout * adjustFactor) - spentTime - deductionTime - upstreamResponseTime);
     }
@@ -28,6 +28,7 @@ import org.prebid.server.proto.response.VideoResponse;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -85,7 +86,7 @@ public class VideoResponseFactory {
     }
 
     private List<ExtAdPod> adPodsWithTargetingFrom(List<Bid> bids) {
-        final List<ExtAdPod> adPods = new ArrayList<>();
+        final Map<Integer, ExtAdPod> podIdToAdPod = new LinkedHashMap<>();
         for (Bid bid : bids) {
             final Map<String, String> targeting = targeting(bid);
             if (findByPrefix(targeting, "_uuid") == null) {
@@ -103,18 +104,11 @@ public class VideoResponseFactory {
                     findByPrefix(targeting, "_pb_cat_dur"),
                     findByPrefix(targeting, "_uuid"));
 
-            ExtAdPod adPod = adPods.stream()
-                    .filter(extAdPod -> extAdPod.getPodid().equals(podId))
-                    .findFirst()
-                    .orElse(null);
-
-            if (adPod == null) {
-                adPod = ExtAdPod.of(podId, new ArrayList<>(), null);
-                adPods.add(adPod);
-            }
-            adPod.getTargeting().add(videoTargeting);
+            podIdToAdPod.computeIfAbsent(podId, id -> ExtAdPod.of(id, new ArrayList<>(), null))
+                    .getTargeting()
+                    .add(videoTargeting);
         }
-        return adPods;
+        return new ArrayList<>(podIdToAdPod.values());
     }
 
     private Map<String, String> targeting(Bid bid) {
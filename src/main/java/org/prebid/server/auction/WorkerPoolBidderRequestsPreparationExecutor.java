@@ -0,0 +1,84 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.system.ThreadCpuTime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Prepares per-bidder requests of large auctions on the bounded worker pool instead of the event loop.
+ * <p>
+ * Bidders are split into chunks, one per pool thread, which are prepared in parallel and joined back
+ * on the event loop in original order, so the outcome doesn't depend on the order chunks are completed in.
+ */
+public class WorkerPoolBidderRequestsPreparationExecutor implements BidderRequestsPreparationExecutor {
+
+    private final WorkerExecutor workerExecutor;
+    private final int parallelism;
+    private final long minBiddersImps;
+    private final Metrics metrics;
+
+    public WorkerPoolBidderRequestsPreparationExecutor(WorkerExecutor workerExecutor,
+                                             int parallelism,
+                                             long minBiddersImps,
+                                             Metrics metrics) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be positive");
+        }
+
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.parallelism = parallelism;
+        this.minBiddersImps = minBiddersImps;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public boolean isApplicable(int biddersCount, int impsCount) {
+        return biddersCount > 1 && (long) biddersCount * impsCount >= minBiddersImps;
+    }
+
+    @Override
+    public <T, R> Future<List<R>> prepare(List<T> items, Function<T, R> preparer) {
+        if (items.isEmpty()) {
+            return Future.succeededFuture(List.of());
+        }
+
+        final int chunkSize = (items.size() + parallelism - 1) / parallelism;
+        final AtomicLong cpuTime = new AtomicLong();
+
+        final List<Future<List<R>>> chunkFutures = new ArrayList<>(parallelism);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            final List<T> chunk = items.subList(from, Math.min(items.size(), from + chunkSize));
+            chunkFutures.add(workerExecutor.executeBlocking(() -> prepareChunk(chunk, preparer, cpuTime), false));
+        }
+
+        metrics.updateBidderRequestsParallelPreparationMetric();
+        return Future.all(chunkFutures).map(ignored -> {
+            metrics.updateBidderRequestsPreparationCpuTime(MetricName.preparation_requests, cpuTime.get());
+            return chunkFutures.stream()
+                    .map(Future::result)
+                    .flatMap(List::stream)
+                    .toList();
+        });
+    }
+
+    private static <T, R> List<R> prepareChunk(List<T> chunk, Function<T, R> preparer, AtomicLong cpuTime) {
+        final long startCpuTime = ThreadCpuTime.current();
+
+        final List<R> result = new ArrayList<>(chunk.size());
+        for (T item : chunk) {
+            result.add(preparer.apply(item));
+        }
+
+        cpuTime.addAndGet(ThreadCpuTime.current() - startCpuTime);
+        return result;
+    }
+}
@@ -0,0 +1,14 @@
+package org.prebid.server.auction.completion;
+
+public enum AuctionCompletionPolicy {
+
+    /**
+     * Auction is completed when configured number of priced bids is collected for each imp.
+     */
+    top_bids,
+
+    /**
+     * Auction is completed when deal bid is received for each imp.
+     */
+    deals
+}
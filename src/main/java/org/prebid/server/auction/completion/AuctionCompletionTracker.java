@@ -0,0 +1,25 @@
+package org.prebid.server.auction.completion;
+
+import io.vertx.core.Future;
+import org.prebid.server.auction.model.BidderResponse;
+
+/**
+ * Decides if auction can be completed before all bidders responded.
+ */
+public interface AuctionCompletionTracker {
+
+    /**
+     * Returns future which succeeds as soon as remaining bidders are not worth waiting for.
+     */
+    Future<Void> future();
+
+    void processBidderResponse(BidderResponse bidderResponse);
+
+    /**
+     * Returns false if auction is never completed before all bidders responded,
+     * so bidders do not need to be isolated from each other.
+     */
+    default boolean canCompleteEarly() {
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package org.prebid.server.auction.completion;
+
+import com.iab.openrtb.request.BidRequest;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.prebid.server.auction.model.BidderResponse;
+
+@FunctionalInterface
+public interface AuctionCompletionTrackerFactory {
+
+    AuctionCompletionTracker create(BidRequest bidRequest, int biddersCount);
+
+    static NoOpAuctionCompletionTrackerFactory noOp() {
+        return new NoOpAuctionCompletionTrackerFactory();
+    }
+
+    /**
+     * Creates trackers never completing auction early, so auction waits for all the bidders.
+     */
+    class NoOpAuctionCompletionTrackerFactory implements AuctionCompletionTrackerFactory {
+
+        @Override
+        public AuctionCompletionTracker create(BidRequest bidRequest, int biddersCount) {
+            return new NoOpAuctionCompletionTracker();
+        }
+    }
+
+    class NoOpAuctionCompletionTracker implements AuctionCompletionTracker {
+
+        // never completed, dropped together with the auction
+        private final Promise<Void> promise = Promise.promise();
+
+        @Override
+        public Future<Void> future() {
+            return promise.future();
+        }
+
+        @Override
+        public void processBidderResponse(BidderResponse bidderResponse) {
+            // auction is never completed before all bidders responded
+        }
+
+        @Override
+        public boolean canCompleteEarly() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.prebid.server.auction.completion;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates trackers completing auction as soon as enough bids satisfying {@link AuctionCompletionPolicy}
+ * are collected for every imp, so remaining bidders are not expected to change the auction outcome.
+ * <p>
+ * Optionally, auction is not completed until configured share of the bidders responded.
+ */
+public class CollectedBidsCompletionTrackerFactory implements AuctionCompletionTrackerFactory {
+
+    private final AuctionCompletionPolicy policy;
+    private final int bidsPerImp;
+    private final double minRespondedRatio;
+
+    public CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy policy,
+                                                 int bidsPerImp,
+                                                 double minRespondedRatio) {
+
+        if (bidsPerImp < 1) {
+            throw new IllegalArgumentException("Bids per imp should be positive");
+        }
+        if (minRespondedRatio < 0 || minRespondedRatio > 1) {
+            throw new IllegalArgumentException("Min responded ratio should be in [0, 1]");
+        }
+
+        this.policy = Objects.requireNonNull(policy);
+        this.bidsPerImp = policy == AuctionCompletionPolicy.deals ? 1 : bidsPerImp;
+        this.minRespondedRatio = minRespondedRatio;
+    }
+
+    @Override
+    public AuctionCompletionTracker create(BidRequest bidRequest, int biddersCount) {
+        final Set<String> impIds = bidRequest.getImp().stream()
+                .map(Imp::getId)
+                .collect(Collectors.toSet());
+
+        return new CollectedBidsCompletionTracker(impIds, (int) Math.ceil(biddersCount * minRespondedRatio));
+    }
+
+    private boolean isCollectable(Bid bid) {
+        final BigDecimal price = bid.getPrice();
+        if (price == null || price.signum() <= 0) {
+            return false;
+        }
+
+        return policy != AuctionCompletionPolicy.deals || StringUtils.isNotBlank(bid.getDealid());
+    }
+
+    private class CollectedBidsCompletionTracker implements AuctionCompletionTracker {
+
+        private final Set<String> impIds;
+        private final int minResponded;
+
+        private final Promise<Void> promise = Promise.promise();
+        private final Map<String, Integer> impIdToBidsCount = new HashMap<>();
+        private int completedImps;
+        private int responded;
+
+        CollectedBidsCompletionTracker(Set<String> impIds, int minResponded) {
+            this.impIds = impIds;
+            this.minResponded = minResponded;
+        }
+
+        @Override
+        public Future<Void> future() {
+            return promise.future();
+        }
+
+        @Override
+        public synchronized void processBidderResponse(BidderResponse bidderResponse) {
+            responded++;
+
+            final BidderSeatBid seatBid = bidderResponse.getSeatBid();
+            final List<BidderBid> bids = seatBid != null ? seatBid.getBids() : null;
+            if (bids != null) {
+                for (BidderBid bidderBid : bids) {
+                    processBid(bidderBid.getBid());
+                }
+            }
+
+            if (completedImps == impIds.size() && responded >= minResponded) {
+                promise.tryComplete();
+            }
+        }
+
+        private void processBid(Bid bid) {
+            final String impId = bid != null ? bid.getImpid() : null;
+            if (!impIds.contains(impId) || !isCollectable(bid)) {
+                return;
+            }
+
+            final int bidsCount = impIdToBidsCount.merge(impId, 1, Integer::sum);
+            if (bidsCount == bidsPerImp) {
+                completedImps++;
+            }
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.auction.gpp.model.GppContext;
@@ -16,6 +19,7 @@ import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
+import org.prebid.server.proto.openrtb.ext.response.ExtDebugTmaxBudget;
 import org.prebid.server.settings.model.Account;
 
 import java.util.Collections;
@@ -51,6 +55,9 @@ public class AuctionContext {
 
     Map<String, BidRejectionTracker> bidRejectionTrackers;
 
+    @JsonIgnore
+    Map<String, ExtDebugTmaxBudget> tmaxBudgets;
+
     @JsonIgnore
     TimeoutContext timeoutContext;
 
@@ -77,6 +84,13 @@ public class AuctionContext {
     @Builder.Default
     BidAdjustments bidAdjustments = BidAdjustments.of(Collections.emptyMap());
 
+    // derived from bid request, so built once per context and never copied to the context built from this one
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Getter(lazy = true)
+    ImpIndex impIndex = ImpIndex.of(bidRequest != null ? bidRequest.getImp() : null);
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
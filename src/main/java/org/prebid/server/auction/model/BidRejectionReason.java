@@ -53,6 +53,12 @@ public enum BidRejectionReason {
      */
     REQUEST_BLOCKED_UNSUPPORTED_MEDIA_TYPE(202),
 
+    /**
+     * If the bidder was not called due to server-side optimization,
+     * e.g. request was shed because the bidder concurrency limit is reached.
+     */
+    REQUEST_BLOCKED_OPTIMIZED(203),
+
     /**
      * If the bidder was not called due to GDPR purpose 2
      */
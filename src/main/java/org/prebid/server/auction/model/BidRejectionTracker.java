@@ -47,6 +47,16 @@ public class BidRejectionTracker {
         rejectedBids = new HashMap<>();
     }
 
+    /**
+     * Returns independent tracker with the same state, further changes of which do not affect this one.
+     */
+    public BidRejectionTracker copy() {
+        final BidRejectionTracker copy = new BidRejectionTracker(bidder, involvedImpIds, logSamplingRate);
+        succeededBidsIds.forEach((impId, bidIds) -> copy.succeededBidsIds.put(impId, new HashSet<>(bidIds)));
+        rejectedBids.forEach((impId, rejections) -> copy.rejectedBids.put(impId, new ArrayList<>(rejections)));
+        return copy;
+    }
+
     public void succeed(Collection<BidderBid> bids) {
         bids.stream()
                 .map(BidderBid::getBid)
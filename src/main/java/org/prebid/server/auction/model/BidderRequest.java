@@ -2,8 +2,11 @@ package org.prebid.server.auction.model;
 
 import com.iab.openrtb.request.BidRequest;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.json.SerializedFragments;
 
 @Builder(toBuilder = true)
 @Value
@@ -17,6 +20,13 @@ public class BidderRequest {
 
     BidRequest bidRequest;
 
+    /**
+     * Encoded request fragments shared by all bidders of the auction, doesn't affect the request itself.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    SerializedFragments serializedFragments;
+
     public BidderRequest with(BidRequest bidRequest) {
         return toBuilder().bidRequest(bidRequest).build();
     }
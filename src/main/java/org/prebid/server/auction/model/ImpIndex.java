@@ -0,0 +1,79 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.Imp;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Lookup of {@link Imp} by its id.
+ * <p>
+ * Index of auction bid request is built once per {@link AuctionContext} (see {@link AuctionContext#getImpIndex()})
+ * and passed down to components resolving bids back to their imps, which makes response processing linear
+ * by number of bids instead of imps × bids.
+ */
+public class ImpIndex {
+
+    private static final ImpIndex EMPTY = new ImpIndex(Collections.emptyList(), Collections.emptyMap(), false);
+
+    private final List<Imp> imps;
+    private final Map<String, Imp> idToImp;
+    private final boolean duplicatedIds;
+
+    private ImpIndex(List<Imp> imps, Map<String, Imp> idToImp, boolean duplicatedIds) {
+        this.imps = imps;
+        this.idToImp = idToImp;
+        this.duplicatedIds = duplicatedIds;
+    }
+
+    public static ImpIndex of(List<Imp> imps) {
+        if (CollectionUtils.isEmpty(imps)) {
+            return EMPTY;
+        }
+
+        final Map<String, Imp> idToImp = new HashMap<>(imps.size() * 4 / 3 + 1);
+        boolean duplicatedIds = false;
+        for (Imp imp : imps) {
+            // first imp wins in case of duplicated ids, as it was for linear search
+            if (imp != null && idToImp.putIfAbsent(imp.getId(), imp) != null) {
+                duplicatedIds = true;
+            }
+        }
+
+        return new ImpIndex(imps, Collections.unmodifiableMap(idToImp), duplicatedIds);
+    }
+
+    public Imp get(String impId) {
+        return impId != null ? idToImp.get(impId) : null;
+    }
+
+    public Optional<Imp> find(String impId) {
+        return Optional.ofNullable(get(impId));
+    }
+
+    /**
+     * Returns first imp with given id matching the filter. Imps with duplicated ids
+     * (possible only for not validated requests) are looked up sequentially.
+     */
+    public Optional<Imp> find(String impId, Predicate<Imp> filter) {
+        if (!duplicatedIds || impId == null) {
+            return find(impId).filter(filter);
+        }
+
+        return imps.stream()
+                .filter(Objects::nonNull)
+                .filter(imp -> impId.equals(imp.getId()))
+                .filter(filter)
+                .findFirst();
+    }
+
+    public boolean contains(String impId) {
+        return get(impId) != null;
+    }
+}
@@ -1,10 +1,9 @@
 package org.prebid.server.auction.requestfactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Regs;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
@@ -20,7 +19,6 @@ import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversio
 import org.prebid.server.bidadjustments.BidAdjustmentsRetriever;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
-import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
@@ -28,6 +26,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.settings.model.Account;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -48,7 +47,6 @@ public class AuctionRequestFactory {
     private final InterstitialProcessor interstitialProcessor;
     private final AuctionPrivacyContextFactory auctionPrivacyContextFactory;
     private final DebugResolver debugResolver;
-    private final JacksonMapper mapper;
     private final OrtbTypesResolver ortbTypesResolver;
     private final GeoLocationServiceWrapper geoLocationServiceWrapper;
     private final BidAdjustmentsRetriever bidAdjustmentsRetriever;
@@ -67,7 +65,6 @@ public class AuctionRequestFactory {
                                  OrtbTypesResolver ortbTypesResolver,
                                  AuctionPrivacyContextFactory auctionPrivacyContextFactory,
                                  DebugResolver debugResolver,
-                                 JacksonMapper mapper,
                                  GeoLocationServiceWrapper geoLocationServiceWrapper,
                                  BidAdjustmentsRetriever bidAdjustmentsRetriever) {
 
@@ -83,7 +80,6 @@ public class AuctionRequestFactory {
         this.ortbTypesResolver = Objects.requireNonNull(ortbTypesResolver);
         this.auctionPrivacyContextFactory = Objects.requireNonNull(auctionPrivacyContextFactory);
         this.debugResolver = Objects.requireNonNull(debugResolver);
-        this.mapper = Objects.requireNonNull(mapper);
         this.geoLocationServiceWrapper = Objects.requireNonNull(geoLocationServiceWrapper);
         this.bidAdjustmentsRetriever = Objects.requireNonNull(bidAdjustmentsRetriever);
     }
@@ -102,8 +98,10 @@ public class AuctionRequestFactory {
         final AuctionContext initialAuctionContext = ortb2RequestFactory.createAuctionContext(
                 Endpoint.openrtb2_auction, MetricName.openrtb2web);
 
+        final Buffer rawBody = routingContext.body().buffer();
         return ortb2RequestFactory.executeEntrypointHooks(routingContext, body, initialAuctionContext)
-                .compose(httpRequest -> parseBidRequest(httpRequest, initialAuctionContext.getPrebidErrors())
+                .compose(httpRequest -> parseBidRequest(
+                        httpRequest, body, rawBody, initialAuctionContext.getPrebidErrors())
                         .map(bidRequest -> ortb2RequestFactory
                                 .enrichAuctionContext(initialAuctionContext, httpRequest, bidRequest, startTime)
                                 .with(requestTypeMetric(bidRequest))))
@@ -169,34 +167,28 @@ public class AuctionRequestFactory {
         return body;
     }
 
-    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
+    private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest,
+                                               String receivedBody,
+                                               Buffer rawBody,
+                                               List<String> errors) {
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
-
+            final byte[] body = bodyBytes(httpRequest.getBody(), receivedBody, rawBody);
             final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+            final BidRequest bidRequest = ortbTypesResolver.decodeBidRequest(body, errors, referer);
 
-            return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode))
-                    .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
+            return Future.succeededFuture(fillWithValuesFromHttpRequest(bidRequest, httpRequest));
+        } catch (IOException e) {
+            return Future.failedFuture(new InvalidRequestException("Error decoding bidRequest: " + e.getMessage()));
         } catch (Exception e) {
             return Future.failedFuture(e);
         }
     }
 
-    private JsonNode bodyAsJsonNode(String body) {
-        try {
-            return mapper.mapper().readTree(body);
-        } catch (IOException e) {
-            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
-        }
-    }
-
-    private BidRequest jsonNodeAsBidRequest(JsonNode bidRequestNode) {
-        try {
-            return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
-        } catch (JsonProcessingException e) {
-            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
-        }
+    // received bytes are decoded as is, unless body was replaced by entrypoint hooks
+    private static byte[] bodyBytes(String body, String receivedBody, Buffer rawBody) {
+        return rawBody != null && body == receivedBody
+                ? rawBody.getBytes()
+                : body.getBytes(StandardCharsets.UTF_8);
     }
 
     private BidRequest fillWithValuesFromHttpRequest(BidRequest bidRequest, HttpRequestContext httpRequest) {
@@ -151,6 +151,7 @@ public class Ortb2RequestFactory {
                 .requestRejected(false)
                 .debugHttpCalls(new HashMap<>())
                 .bidRejectionTrackers(new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                .tmaxBudgets(new HashMap<>())
                 .build();
     }
 
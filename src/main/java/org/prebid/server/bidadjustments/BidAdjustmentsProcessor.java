@@ -11,6 +11,7 @@ import org.prebid.server.auction.ImpMediaTypeResolver;
 import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
 import org.prebid.server.auction.model.AuctionParticipation;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.bidadjustments.model.BidAdjustments;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
@@ -73,9 +74,10 @@ public class BidAdjustmentsProcessor {
 
         final List<BidderError> errors = new ArrayList<>(seatBid.getErrors());
         final String bidder = auctionParticipation.getBidder();
+        final ImpIndex impIndex = ImpIndex.of(bidRequest.getImp());
 
         final List<BidderBid> updatedBidderBids = bidderBids.stream()
-                .map(bidderBid -> applyBidAdjustments(bidderBid, bidRequest, bidder, bidAdjustments, errors))
+                .map(bidderBid -> applyBidAdjustments(bidderBid, bidRequest, impIndex, bidder, bidAdjustments, errors))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
@@ -89,6 +91,7 @@ public class BidAdjustmentsProcessor {
 
     private BidderBid applyBidAdjustments(BidderBid bidderBid,
                                           BidRequest bidRequest,
+                                          ImpIndex impIndex,
                                           String bidder,
                                           BidAdjustments bidAdjustments,
                                           List<BidderError> errors) {
@@ -97,7 +100,7 @@ public class BidAdjustmentsProcessor {
 
             final ImpMediaType mediaType = ImpMediaTypeResolver.resolve(
                     bidderBid.getBid().getImpid(),
-                    bidRequest.getImp(),
+                    impIndex,
                     bidderBid.getType());
 
             final Price priceWithFactorsApplied = applyBidAdjustmentFactors(
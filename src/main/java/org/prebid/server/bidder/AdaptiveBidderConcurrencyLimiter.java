@@ -0,0 +1,119 @@
+package org.prebid.server.bidder;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive (AIMD) limiter of in-flight HTTP requests per bidder.
+ * <p>
+ * Limit grows by one per window of requests answered in time and is multiplicatively decreased
+ * if request failed or its latency exceeded configured share of the timeout given to the request.
+ * Requests above the limit should not be sent to the bidder at all.
+ */
+public class AdaptiveBidderConcurrencyLimiter implements BidderConcurrencyLimiter {
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyThresholdRatio;
+    private final double backoffRatio;
+    private final Clock clock;
+
+    private final Map<String, Limit> bidderToLimit = new ConcurrentHashMap<>();
+
+    public AdaptiveBidderConcurrencyLimiter(int initialLimit,
+                                            int minLimit,
+                                            int maxLimit,
+                                            double latencyThresholdRatio,
+                                            double backoffRatio,
+                                            Clock clock) {
+
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Concurrency limits should satisfy 1 <= min <= initial <= max");
+        }
+        if (latencyThresholdRatio <= 0 || latencyThresholdRatio > 1) {
+            throw new IllegalArgumentException("Latency threshold ratio should be in (0, 1]");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio should be in (0, 1)");
+        }
+
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdRatio = latencyThresholdRatio;
+        this.backoffRatio = backoffRatio;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public Permit tryAcquire(String bidder, long timeout) {
+        final Limit limit = bidderToLimit.computeIfAbsent(bidder, ignored -> new Limit(initialLimit));
+        return limit.tryAcquire()
+                ? new LimitPermit(limit, clock.millis(), (long) (timeout * latencyThresholdRatio))
+                : null;
+    }
+
+    /**
+     * Returns current limit of the bidder, for unknown bidder initial limit is returned.
+     */
+    public int limit(String bidder) {
+        final Limit limit = bidderToLimit.get(bidder);
+        return limit != null ? limit.current() : initialLimit;
+    }
+
+    private class LimitPermit implements Permit {
+
+        private final Limit limit;
+        private final long startTime;
+        private final long latencyThreshold;
+
+        private LimitPermit(Limit limit, long startTime, long latencyThreshold) {
+            this.limit = limit;
+            this.startTime = startTime;
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        @Override
+        public void release(boolean failed) {
+            final boolean congested = failed || clock.millis() - startTime > latencyThreshold;
+            limit.release(congested);
+        }
+    }
+
+    private class Limit {
+
+        private double limit;
+        private int inFlight;
+
+        Limit(int initialLimit) {
+            this.limit = initialLimit;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+
+            inFlight++;
+            return true;
+        }
+
+        synchronized void release(boolean congested) {
+            if (congested) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlight * 2 >= limit) {
+                // limit is grown only while it is actually used, otherwise it would be unbounded for idle bidder
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+
+            inFlight--;
+        }
+
+        synchronized int current() {
+            return (int) limit;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.bidder;
 
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.prebid.server.util.GzipUtil;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -146,6 +147,26 @@ public class BidderCatalog {
                 .orElse(null);
     }
 
+    /**
+     * Returns dedicated HTTP client options registered by the given name or null if bidder uses shared HTTP client.
+     */
+    public BidderHttpClientProfile httpClientProfileByName(String name) {
+        return Optional.ofNullable(name)
+                .map(bidderDepsMap::get)
+                .map(BidderInstanceDeps::getHttpClientProfile)
+                .orElse(null);
+    }
+
+    /**
+     * Returns request body compression level registered by the given name or default one if there is none.
+     */
+    public int compressionLevelByName(String name) {
+        return Optional.ofNullable(name)
+                .map(bidderDepsMap::get)
+                .map(BidderInstanceDeps::getCompressionLevel)
+                .orElse(GzipUtil.DEFAULT_LEVEL);
+    }
+
     /**
      * Returns an VendorId registered by the given name or null if there is none.
      * <p>
@@ -0,0 +1,39 @@
+package org.prebid.server.bidder;
+
+/**
+ * Limiter of in-flight HTTP requests per bidder.
+ */
+public interface BidderConcurrencyLimiter {
+
+    /**
+     * Returns {@link Permit} to send request to the bidder with given timeout or null if bidder limit is reached.
+     */
+    Permit tryAcquire(String bidder, long timeout);
+
+    static NoOpBidderConcurrencyLimiter noOp() {
+        return new NoOpBidderConcurrencyLimiter();
+    }
+
+    interface Permit {
+
+        /**
+         * Returns permit back, should be called exactly once when request is completed.
+         */
+        void release(boolean failed);
+    }
+
+    /**
+     * Permits every request, so bidders are not limited at all.
+     */
+    class NoOpBidderConcurrencyLimiter implements BidderConcurrencyLimiter {
+
+        private static final Permit PERMIT = failed -> {
+            // nothing was acquired
+        };
+
+        @Override
+        public Permit tryAcquire(String bidder, long timeout) {
+            return PERMIT;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.prebid.server.bidder;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Options of the dedicated HTTP client used for bidder hosts instead of the shared one.
+ * <p>
+ * Null options are taken from global http-client configuration.
+ */
+@Builder(toBuilder = true)
+@Value
+public class BidderHttpClientProfile {
+
+    /**
+     * Hosts served by this client.
+     */
+    List<String> hosts;
+
+    Boolean http2;
+
+    Integer http2MaxPoolSize;
+
+    Integer http2MultiplexingLimit;
+
+    Integer maxPoolSize;
+
+    Boolean keepAlive;
+
+    Integer keepAliveTimeoutSec;
+
+    Boolean pipelining;
+
+    Integer pipeliningLimit;
+}
@@ -2,6 +2,7 @@ package org.prebid.server.bidder;
 
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.util.GzipUtil;
 
 import java.util.List;
 
@@ -43,4 +44,15 @@ public class BidderInstanceDeps {
      * Bidder implementation is used in auction handling.
      */
     Bidder<?> bidder;
+
+    /**
+     * Dedicated HTTP client options for the bidder hosts, null if bidder uses the shared HTTP client.
+     */
+    BidderHttpClientProfile httpClientProfile;
+
+    /**
+     * Compression level of the bidder request body if bidder endpoint accepts compressed requests.
+     */
+    @Builder.Default
+    int compressionLevel = GzipUtil.DEFAULT_LEVEL;
 }
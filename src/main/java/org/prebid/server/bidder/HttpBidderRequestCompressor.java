@@ -0,0 +1,43 @@
+package org.prebid.server.bidder;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.MultiMap;
+import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.GzipUtil;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+
+/**
+ * Compresses bidder request body if compression was chosen for the bidder by {@link HttpBidderRequestEnricher}
+ * and reports compression efficiency per bidder, so it can be decided whether compression pays off.
+ */
+public class HttpBidderRequestCompressor {
+
+    private final BidderCatalog bidderCatalog;
+    private final Metrics metrics;
+
+    public HttpBidderRequestCompressor(BidderCatalog bidderCatalog, Metrics metrics) {
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public byte[] compressIfRequired(String bidderName, BidderAliases aliases, byte[] body, MultiMap headers) {
+        if (body == null || !HttpHeaderValues.GZIP.contentEqualsIgnoreCase(
+                headers.get(HttpUtil.CONTENT_ENCODING_HEADER))) {
+
+            return body;
+        }
+
+        final int level = bidderCatalog.compressionLevelByName(aliases.resolveBidder(bidderName));
+
+        final long startTime = System.nanoTime();
+        final byte[] compressed = GzipUtil.gzip(body, level);
+        final long compressionTime = System.nanoTime() - startTime;
+
+        metrics.updateAdapterRequestCompressionMetrics(bidderName, body.length, compressed.length, compressionTime);
+
+        return compressed;
+    }
+}
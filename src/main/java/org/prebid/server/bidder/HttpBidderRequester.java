@@ -2,8 +2,8 @@ package org.prebid.server.bidder;
 
 import com.iab.openrtb.request.BidRequest;
 import io.netty.channel.ConnectTimeoutException;
-import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import org.apache.commons.collections4.CollectionUtils;
@@ -22,9 +22,9 @@ import org.prebid.server.bidder.model.CompositeBidderResponse;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
-import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.SerializedFragments;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -36,8 +36,6 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,7 +47,6 @@ import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Implements HTTP communication functionality common for {@link Bidder}'s.
@@ -69,21 +66,30 @@ public class HttpBidderRequester {
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
+    private final HttpBidderRequestCompressor requestCompressor;
+    private final BidderConcurrencyLimiter concurrencyLimiter;
     private final JacksonMapper mapper;
+    private final boolean shareSerializedFragments;
     private final double logSamplingRate;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
+                               HttpBidderRequestCompressor requestCompressor,
+                               BidderConcurrencyLimiter concurrencyLimiter,
                                JacksonMapper mapper,
+                               boolean shareSerializedFragments,
                                double logSamplingRate) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
+        this.requestCompressor = Objects.requireNonNull(requestCompressor);
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter);
         this.mapper = Objects.requireNonNull(mapper);
+        this.shareSerializedFragments = shareSerializedFragments;
         this.logSamplingRate = logSamplingRate;
     }
 
@@ -101,7 +107,7 @@ public class HttpBidderRequester {
         final String bidderName = bidderRequest.getBidder();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
-        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
+        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = makeHttpRequests(bidder, bidderRequest);
         final List<BidderError> errors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests = enrichRequests(
                 bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest);
@@ -117,7 +123,7 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest -> doRequest(bidderName, aliases, httpRequest, timeout));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -137,6 +143,15 @@ public class HttpBidderRequester {
                 .onSuccess(seatBid -> bidRejectionTracker.restoreFromRejection(seatBid.getBids()));
     }
 
+    private <T> Result<List<HttpRequest<T>>> makeHttpRequests(Bidder<T> bidder, BidderRequest bidderRequest) {
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+        final SerializedFragments serializedFragments = bidderRequest.getSerializedFragments();
+
+        return shareSerializedFragments && serializedFragments != null
+                ? serializedFragments.apply(() -> bidder.makeHttpRequests(bidRequest))
+                : bidder.makeHttpRequests(bidRequest);
+    }
+
     private <T> List<HttpRequest<T>> enrichRequests(String bidderName,
                                                     List<HttpRequest<T>> httpRequests,
                                                     CaseInsensitiveMultiMap requestHeaders,
@@ -199,20 +214,36 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(String bidderName,
+                                                BidderAliases aliases,
+                                                HttpRequest<T> httpRequest,
+                                                Timeout timeout) {
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        final BidderConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(bidderName, remainingTimeout);
+        if (permit == null) {
+            return Future.succeededFuture(BidderCall.failedHttp(httpRequest, BidderError.overloaded(
+                    "Request was not sent: concurrency limit of %s bidder is reached".formatted(bidderName))));
+        }
+
+        return createRequest(bidderName, aliases, httpRequest, remainingTimeout)
+                .onComplete(result -> permit.release(isFailedOrUnavailable(result)))
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    private <T> Future<HttpClientResponse> createRequest(String bidderName,
+                                                         BidderAliases aliases,
+                                                         HttpRequest<T> httpRequest,
+                                                         long remainingTimeout) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
-        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+        final byte[] preparedBody = requestCompressor.compressIfRequired(
+                bidderName, aliases, httpRequest.getBody(), requestHeaders);
 
         return httpClient.request(
                 httpRequest.getMethod(),
@@ -222,25 +253,8 @@ public class HttpBidderRequester {
                 remainingTimeout);
     }
 
-    private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
-        final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
-        return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
-                ? gzip(body)
-                : body;
-    }
-
-    private static byte[] gzip(byte[] value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
-
-            gzip.write(value);
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException("Failed to compress request : " + e.getMessage());
-        }
+    private static boolean isFailedOrUnavailable(AsyncResult<HttpClientResponse> result) {
+        return result.failed() || result.result().getStatusCode() == HttpResponseStatus.SERVICE_UNAVAILABLE.code();
     }
 
     /**
@@ -269,7 +283,8 @@ public class HttpBidderRequester {
                                                              HttpRequest<T> httpRequest) {
 
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final HttpResponse httpResponse = HttpResponse.ofHttpBody(
+                statusCode, response.getHeaders(), response.getHttpBody());
         return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
@@ -420,6 +435,8 @@ public class HttpBidderRequester {
 
             if (callErrorType == BidderError.Type.timeout) {
                 bidRejectionTracker.rejectImps(requestedImpIds, BidRejectionReason.ERROR_TIMED_OUT);
+            } else if (callErrorType == BidderError.Type.overloaded) {
+                bidRejectionTracker.rejectImps(requestedImpIds, BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED);
             } else {
                 bidRejectionTracker.rejectImps(requestedImpIds, BidRejectionReason.ERROR_GENERAL);
             }
@@ -132,7 +132,7 @@ public class AdopplerBidder implements Bidder<BidRequest> {
 
     private BidResponse decodeBodyToBidResponse(BidderCall<BidRequest> httpCall) {
         try {
-            return mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            return mapper.decodeValue(httpCall.getResponse().getHttpBody(), BidResponse.class);
         } catch (DecodeException e) {
             throw new PreBidException("invalid body: " + e.getMessage());
         }
@@ -96,7 +96,7 @@ public class ApacdexBidder implements Bidder<BidRequest> {
         final BidResponse bidResponse;
 
         try {
-            bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            bidResponse = mapper.decodeValue(httpCall.getResponse().getHttpBody(), BidResponse.class);
         } catch (DecodeException | PreBidException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
         }
@@ -53,6 +53,10 @@ public class BidderError {
         return BidderError.of(message, Type.timeout);
     }
 
+    public static BidderError overloaded(String message) {
+        return BidderError.of(message, Type.overloaded);
+    }
+
     public enum Type {
         /**
          * Should be used when returning errors which are caused by bad input.
@@ -95,6 +99,11 @@ public class BidderError {
          */
         rejected_ipf(6),
 
+        /**
+         * Covers the case where a request was not sent because concurrency limit of the bidder is reached.
+         */
+        overloaded(7),
+
         timeout(1),
         generic(999);
 
@@ -2,16 +2,27 @@ package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
 import lombok.Value;
+import org.prebid.server.model.HttpBody;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Bidders should prefer decoding {@link #getHttpBody()} over {@link #getBody()}, which creates body string.
  */
-@Value(staticConstructor = "of")
+@Value(staticConstructor = "ofHttpBody")
 public class HttpResponse {
 
     int statusCode;
 
     MultiMap headers;
 
-    String body;
+    HttpBody httpBody;
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return ofHttpBody(statusCode, headers, HttpBody.of(body));
+    }
+
+    public String getBody() {
+        return httpBody.asString();
+    }
 }
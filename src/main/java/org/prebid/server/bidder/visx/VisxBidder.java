@@ -60,7 +60,8 @@ public class VisxBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final VisxResponse visxResponse = mapper.decodeValue(httpCall.getResponse().getBody(), VisxResponse.class);
+            final VisxResponse visxResponse = mapper.decodeValue(
+                    httpCall.getResponse().getHttpBody(), VisxResponse.class);
             return Result.withValues(extractBids(httpCall.getRequest().getPayload(), visxResponse));
         } catch (DecodeException | PreBidException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -1,5 +1,7 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -26,9 +28,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -42,12 +41,18 @@ public class CurrencyConversionService implements Initializable {
     private static final String DEFAULT_BID_CURRENCY = "USD";
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
     private static final int DEFAULT_PRICE_PRECISION = 3;
+    private static final int REQUEST_CURRENCY_RATES_CACHE_SIZE = 1024;
 
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
+    // weak keys are compared by identity, so rates of each request are resolved once
+    private final Cache<Map<String, Map<String, BigDecimal>>, CurrencyRates> requestCurrencyRatesCache =
+            Caffeine.newBuilder().weakKeys().maximumSize(REQUEST_CURRENCY_RATES_CACHE_SIZE).build();
+
     private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private CurrencyRates compiledExternalCurrencyRates;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -119,6 +124,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
+            compiledExternalCurrencyRates = CurrencyRates.compile(receivedCurrencyRates);
             externalCurrencyRates = receivedCurrencyRates;
             lastUpdated = now();
         }
@@ -134,6 +140,7 @@ public class CurrencyConversionService implements Initializable {
 
         if (externalRatesAreStale()) {
             externalCurrencyRates = null;
+            compiledExternalCurrencyRates = null;
         }
 
         return null;
@@ -199,15 +206,18 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
+        final CurrencyRates requestRates = requestRates(requestCurrencyRates);
+        final CurrencyRates externalRates = compiledExternalCurrencyRates;
+
+        final CurrencyRates firstPriorityRates;
+        final CurrencyRates secondPriorityRates;
 
         if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
+            firstPriorityRates = requestRates;
+            secondPriorityRates = externalRates;
         } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+            firstPriorityRates = externalRates;
+            secondPriorityRates = requestRates;
         }
 
         final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
@@ -243,8 +253,8 @@ public class CurrencyConversionService implements Initializable {
     /**
      * Returns conversion rate from the given currency rates according to priority.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
+    private static BigDecimal getConversionRateByPriority(CurrencyRates firstPriorityRates,
+                                                          CurrencyRates secondPriorityRates,
                                                           String fromCurrency,
                                                           String toCurrency) {
 
@@ -253,108 +263,20 @@ public class CurrencyConversionService implements Initializable {
                 getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
     }
 
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String fromCurrency,
-                                                String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
-
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
-                reverseCurrencyRates);
-        if (intermediateConversionRate != null) {
-            return intermediateConversionRate;
-        }
-
-        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+    private static BigDecimal getConversionRate(CurrencyRates currencyRates, String fromCurrency, String toCurrency) {
+        return currencyRates != null ? currencyRates.rate(fromCurrency, toCurrency) : null;
     }
 
     /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     * Request rates are resolved lazily, only pairs actually converted in the request are resolved and each of
+     * them once, since the same rates instance is passed for all the request conversions.
      */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
-                : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate,
-                getRatePrecision(reverseConversionRate),
-                RoundingMode.HALF_EVEN)
+    private CurrencyRates requestRates(Map<String, Map<String, BigDecimal>> requestCurrencyRates) {
+        return MapUtils.isNotEmpty(requestCurrencyRates)
+                ? requestCurrencyRatesCache.get(requestCurrencyRates, CurrencyRates::lazy)
                 : null;
     }
 
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.getFirst();
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose the largest precision among intermediate rates
-                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
-    }
-
-    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                      String fromCurrency,
-                                                      String toCurrency) {
-        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
-            final BigDecimal fromRate = rates.get(fromCurrency);
-            final BigDecimal toRate = rates.get(toCurrency);
-            if (fromRate != null && toRate != null) {
-                return toRate.divide(fromRate,
-                        getRatePrecision(fromRate, toRate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-
-        return null;
-    }
-
-    private static int getRatePrecision(BigDecimal... rates) {
-        final int precision = Arrays.stream(rates)
-                .map(BigDecimal::precision)
-                .max(Integer::compareTo)
-                .orElse(DEFAULT_PRICE_PRECISION);
-
-        return Math.max(precision, DEFAULT_PRICE_PRECISION);
-    }
-
     private boolean isRatesStale() {
         if (lastUpdated == null) {
             return false;
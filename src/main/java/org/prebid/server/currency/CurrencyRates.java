@@ -0,0 +1,224 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Currency conversion rates resolved into matrix of currency pairs.
+ * <p>
+ * Rate of the pair is resolved using direct, reverse, intermediate and cross rates in that order and kept in
+ * the matrix, so further getting the rate is just a lookup by currency indexes. Compiled rates have all the pairs
+ * resolved up front, lazy rates resolve each pair on its first lookup, which is cheaper for the rates used
+ * for a few conversions only, like rates passed in the request.
+ */
+public class CurrencyRates {
+
+    // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
+    private static final int DEFAULT_PRICE_PRECISION = 3;
+
+    // marks resolved pair, rate of which can not be resolved
+    private static final Object UNRESOLVABLE = new Object();
+
+    private final Map<String, Map<String, BigDecimal>> currencyConversionRates;
+    private final List<String> currencies;
+    private final Map<String, Integer> currencyIndexes;
+
+    // rows and cells are filled on first lookup, concurrent lookup can only lead to the same rate resolved twice
+    private final Object[][] rates;
+
+    private CurrencyRates(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        this.currencyConversionRates = currencyConversionRates;
+
+        currencies = currencies(currencyConversionRates);
+        currencyIndexes = new HashMap<>(currencies.size() * 2);
+        for (int i = 0; i < currencies.size(); i++) {
+            currencyIndexes.put(currencies.get(i), i);
+        }
+
+        rates = new Object[currencies.size()][];
+    }
+
+    /**
+     * Compiles given rates resolving all the currency pairs, returns null if there are no rates.
+     */
+    public static CurrencyRates compile(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        final CurrencyRates currencyRates = lazy(currencyConversionRates);
+        if (currencyRates != null) {
+            for (int from = 0; from < currencyRates.currencies.size(); from++) {
+                for (int to = 0; to < currencyRates.currencies.size(); to++) {
+                    currencyRates.rate(from, to);
+                }
+            }
+        }
+
+        return currencyRates;
+    }
+
+    /**
+     * Returns given rates resolving each currency pair on its first lookup, or null if there are no rates.
+     */
+    public static CurrencyRates lazy(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        return MapUtils.isNotEmpty(currencyConversionRates) ? new CurrencyRates(currencyConversionRates) : null;
+    }
+
+    private static List<String> currencies(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        final Set<String> currencies = new LinkedHashSet<>();
+        for (Map.Entry<String, Map<String, BigDecimal>> entry : currencyConversionRates.entrySet()) {
+            currencies.add(entry.getKey());
+            if (entry.getValue() != null) {
+                currencies.addAll(entry.getValue().keySet());
+            }
+        }
+        currencies.remove(null);
+
+        return new ArrayList<>(currencies);
+    }
+
+    /**
+     * Returns conversion rate for currency pair, or null if it can not be resolved from the rates.
+     */
+    public BigDecimal rate(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+
+        return toIndex != null ? rate(fromIndex, toIndex) : null;
+    }
+
+    private BigDecimal rate(int fromIndex, int toIndex) {
+        Object[] fromRates = rates[fromIndex];
+        if (fromRates == null) {
+            fromRates = new Object[currencies.size()];
+            rates[fromIndex] = fromRates;
+        }
+
+        Object rate = fromRates[toIndex];
+        if (rate == null) {
+            final BigDecimal resolvedRate = resolveConversionRate(
+                    currencyConversionRates, currencies.get(fromIndex), currencies.get(toIndex));
+            rate = resolvedRate != null ? resolvedRate : UNRESOLVABLE;
+            fromRates[toIndex] = rate;
+        }
+
+        return rate != UNRESOLVABLE ? (BigDecimal) rate : null;
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     * <p>
+     * Invalid rate (zero or absent value) makes only pairs depending on it unresolvable.
+     */
+    private static BigDecimal resolveConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                    String fromCurrency,
+                                                    String toCurrency) {
+
+        BigDecimal conversionRate;
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+
+        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                reverseCurrencyRates);
+        if (intermediateConversionRate != null) {
+            return intermediateConversionRate;
+        }
+
+        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
+                                                        String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return isValidRate(reverseConversionRate)
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.getFirst();
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                if (directCurrencyRateIntermediate != null && isValidRate(reverseCurrencyRateIntermediate)) {
+                    conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                            // chose the largest precision among intermediate rates
+                            getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                            RoundingMode.HALF_EVEN);
+                }
+            }
+        }
+        return conversionRate;
+    }
+
+    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                      String fromCurrency,
+                                                      String toCurrency) {
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            if (rates == null) {
+                continue;
+            }
+
+            final BigDecimal fromRate = rates.get(fromCurrency);
+            final BigDecimal toRate = rates.get(toCurrency);
+            if (isValidRate(fromRate) && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isValidRate(BigDecimal rate) {
+        return rate != null && rate.signum() != 0;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(DEFAULT_PRICE_PRECISION);
+
+        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+    }
+}
@@ -4,7 +4,6 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -13,6 +12,7 @@ import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
@@ -155,6 +155,7 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
         final List<BidderError> warnings = new ArrayList<>(seatBid.getWarnings());
 
         final boolean enforceDealFloors = enforceDealFloors(auctionParticipation, account);
+        final ImpIndex impIndex = ImpIndex.of(bidderBidRequest.getImp());
 
         for (BidderBid bidderBid : bidderBids) {
             final Bid bid = bidderBid.getBid();
@@ -170,6 +171,7 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
                     account,
                     bidderBid,
                     bidderBidRequest,
+                    impIndex,
                     bidRequest,
                     errors);
 
@@ -215,6 +217,7 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
                                     Account account,
                                     BidderBid bidderBid,
                                     BidRequest bidderBidRequest,
+                                    ImpIndex bidderImpIndex,
                                     BidRequest bidRequest,
                                     List<BidderError> errors) {
 
@@ -226,7 +229,7 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
                 return convertIfRequired(customBidderFloor, priceFloorInfo.getCurrency(), bidderBidRequest, bidRequest);
             }
 
-            final Imp imp = correspondingImp(bidderBid.getBid(), bidderBidRequest.getImp());
+            final Imp imp = correspondingImp(bidderBid.getBid(), bidderImpIndex);
             final Price correctedImpFloor = priceFloorAdjuster.revertAdjustmentForImp(imp, bidder, bidRequest, account);
             final String bidRequestCurrency = resolveBidRequestCurrency(bidRequest);
 
@@ -286,11 +289,9 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
         return CollectionUtils.isEmpty(currencies) ? null : currencies.getFirst();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    private static Imp correspondingImp(Bid bid, ImpIndex impIndex) {
         final String impId = bid.getImpid();
-        return ListUtils.emptyIfNull(imps).stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst()
+        return impIndex.find(impId)
                 // Should never happen, see ResponseBidValidator usage.
                 .orElseThrow(() -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
     }
@@ -28,6 +28,7 @@ import org.prebid.server.floors.model.PriceFloorData;
 import org.prebid.server.floors.model.PriceFloorField;
 import org.prebid.server.floors.model.PriceFloorModelGroup;
 import org.prebid.server.floors.model.PriceFloorResult;
+import org.prebid.server.floors.model.PriceFloorRuleIndex;
 import org.prebid.server.floors.model.PriceFloorRules;
 import org.prebid.server.floors.model.PriceFloorSchema;
 import org.prebid.server.geolocation.CountryCodeMapper;
@@ -49,19 +50,15 @@ import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
 import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
 import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
 import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
 import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -72,8 +69,6 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
     private static final String DEFAULT_RULES_CURRENCY = "USD";
-    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
-    private static final String WILDCARD_CATCH_ALL = "*";
 
     private static final String VIDEO_ALIAS = "video-instream";
 
@@ -137,15 +132,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
-        final PrebidConfigSource source = SimpleSource.of(
-                WILDCARD_CATCH_ALL,
-                ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
-                values.keySet());
+        final PriceFloorRuleIndex ruleIndex = modelGroup.getRuleIndex();
         final PrebidConfigParameters parameters = createParameters(schema, bidRequest, imp, mediaType, format, bidder);
 
-        final String rule = matchingStrategy.match(source, parameters);
-        final BigDecimal floorForRule = rule != null ? values.get(rule) : null;
+        final String rule = matchingStrategy.match(ruleIndex.source(), parameters);
+        final BigDecimal floorForRule = ruleIndex.floor(rule);
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
         final String floorCurrency = StringUtils.isNotEmpty(modelGroupCurrency)
@@ -188,14 +179,6 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
-    private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
-        return map.entrySet().stream()
-                .collect(
-                        HashMap::new,
-                        (hashMap, entry) -> hashMap.put(entry.getKey().toLowerCase(), entry.getValue()),
-                        HashMap::putAll);
-    }
-
     private PrebidConfigParameters createParameters(PriceFloorSchema schema,
                                                     BidRequest bidRequest,
                                                     Imp imp,
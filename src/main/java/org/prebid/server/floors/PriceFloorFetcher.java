@@ -108,7 +108,8 @@ public class PriceFloorFetcher {
             logger.error("Malformed fetch.url: '%s', passed for account %s".formatted(fetchUrl, accountId));
             return FetchResult.of(null, FetchStatus.error);
         }
-        if (!fetchInProgress.contains(accountId)) {
+        // add() is atomic, so only one caller starts fetching and scheduling periodic fetch for the account
+        if (fetchInProgress.add(accountId)) {
             fetchPriceFloorDataAsynchronous(fetchConfig, accountId);
         }
 
@@ -146,7 +147,6 @@ public class PriceFloorFetcher {
                 ObjectUtil.getIfNotNull(fetchConfig, AccountPriceFloorsFetchConfig::getMaxFileSizeKb);
         final String fetchUrl = fetchConfig.getUrl();
 
-        fetchInProgress.add(accountId);
         httpClient.get(fetchUrl, timeout, resolveMaxFileSize(maxFetchFileSizeKb))
                 .map(httpClientResponse -> parseFloorResponse(httpClientResponse, fetchConfig, accountId))
                 .recover(throwable -> recoverFromFailedFetching(throwable, fetchUrl, accountId))
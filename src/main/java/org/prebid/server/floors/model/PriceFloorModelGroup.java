@@ -1,8 +1,12 @@
 package org.prebid.server.floors.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Singular;
+import lombok.ToString;
 import lombok.Value;
 
 import java.math.BigDecimal;
@@ -34,4 +38,12 @@ public class PriceFloorModelGroup {
 
     @JsonProperty("noFloorSignalBidders")
     List<String> noFloorSignalBidders;
+
+    // model groups of fetched floors live as long as fetched data is cached, and request floors as long as request,
+    // so rule index is built once per model group and shared by all imps, bidders and media types
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Getter(lazy = true)
+    PriceFloorRuleIndex ruleIndex = PriceFloorRuleIndex.of(this);
 }
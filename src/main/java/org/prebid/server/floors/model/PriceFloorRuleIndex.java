@@ -0,0 +1,49 @@
+package org.prebid.server.floors.model;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.util.dsl.config.PrebidConfigSource;
+import org.prebid.server.util.dsl.config.impl.SimpleSource;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable lookup structure built once per {@link PriceFloorModelGroup} (see
+ * {@link PriceFloorModelGroup#getRuleIndex()}): rules are normalized to lower case
+ * and kept in a hash map, so resolving a floor for imp/bidder/media type costs only a few hash lookups for
+ * generated rule combinations instead of rebuilding the whole rule set on every call.
+ */
+public class PriceFloorRuleIndex {
+
+    private static final String WILDCARD_CATCH_ALL = "*";
+    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
+
+    private final Map<String, BigDecimal> ruleToFloor;
+    private final PrebidConfigSource source;
+
+    private PriceFloorRuleIndex(Map<String, BigDecimal> ruleToFloor, String delimiter) {
+        this.ruleToFloor = Collections.unmodifiableMap(ruleToFloor);
+        this.source = SimpleSource.of(WILDCARD_CATCH_ALL, delimiter, this.ruleToFloor.keySet());
+    }
+
+    static PriceFloorRuleIndex of(PriceFloorModelGroup modelGroup) {
+        final Map<String, BigDecimal> values = modelGroup.getValues();
+        final Map<String, BigDecimal> ruleToFloor = new HashMap<>(values.size() * 4 / 3 + 1);
+        values.forEach((rule, floor) -> ruleToFloor.put(rule.toLowerCase(), floor));
+
+        final PriceFloorSchema schema = modelGroup.getSchema();
+        final String delimiter = schema != null ? schema.getDelimiter() : null;
+
+        return new PriceFloorRuleIndex(ruleToFloor, ObjectUtils.defaultIfNull(delimiter, SCHEMA_DEFAULT_DELIMITER));
+    }
+
+    public PrebidConfigSource source() {
+        return source;
+    }
+
+    public BigDecimal floor(String rule) {
+        return rule != null ? ruleToFloor.get(rule) : null;
+    }
+}
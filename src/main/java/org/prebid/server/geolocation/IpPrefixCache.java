@@ -0,0 +1,68 @@
+package org.prebid.server.geolocation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+
+/**
+ * Bounded cache of IP lookup results keyed by /24 prefix for IPv4 and /48 prefix for IPv6 addresses, since
+ * traffic is usually concentrated on a limited number of such prefixes.
+ * <p>
+ * Result is cached only if it is known to be the same for the whole prefix, i.e. network it was found for
+ * is not narrower than the prefix. So cache never changes lookup results.
+ */
+public class IpPrefixCache<V> {
+
+    public static final int IPV4_PREFIX_LENGTH = 24;
+    public static final int IPV6_PREFIX_LENGTH = 48;
+
+    // IPv6 keys are marked by the bit above 48 prefix bits, so they never match IPv4 keys
+    private static final long IPV6_KEY_MARKER = 1L << IPV6_PREFIX_LENGTH;
+
+    private final Cache<Long, V> cache;
+
+    public IpPrefixCache(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+
+        cache = Caffeine.newBuilder().maximumSize(size).build();
+    }
+
+    public V get(InetAddress address) {
+        return cache.getIfPresent(key(address));
+    }
+
+    /**
+     * Caches value found for the network with given prefix length, if that network covers the whole prefix.
+     */
+    public void put(InetAddress address, int networkPrefixLength, V value) {
+        final int prefixLength = address instanceof Inet4Address ? IPV4_PREFIX_LENGTH : IPV6_PREFIX_LENGTH;
+        if (value != null && networkPrefixLength >= 0 && networkPrefixLength <= prefixLength) {
+            cache.put(key(address), value);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static long key(InetAddress address) {
+        final byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            return prefix(bytes, IPV4_PREFIX_LENGTH / Byte.SIZE);
+        }
+
+        return IPV6_KEY_MARKER | prefix(bytes, IPV6_PREFIX_LENGTH / Byte.SIZE);
+    }
+
+    private static long prefix(byte[] bytes, int length) {
+        long prefix = 0;
+        for (int i = 0; i < length; i++) {
+            prefix = (prefix << Byte.SIZE) | (bytes[i] & 0xFF);
+        }
+        return prefix;
+    }
+}
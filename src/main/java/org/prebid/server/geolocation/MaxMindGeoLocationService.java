@@ -1,14 +1,17 @@
 package org.prebid.server.geolocation;
 
+import com.maxmind.db.Network;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
+import com.maxmind.geoip2.model.AbstractCountryResponse;
 import com.maxmind.geoip2.model.CityResponse;
 import com.maxmind.geoip2.record.City;
 import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.geoip2.record.Traits;
 import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
@@ -17,16 +20,22 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.List;
+import java.util.Objects;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * Lookup results can be cached per IP prefix (see {@link IpPrefixCache}), the cache is dropped together with
+ * the database it was filled from. If only the country is needed, cheaper country lookup can be used instead of
+ * the city one.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, FileProcessor {
 
@@ -34,7 +43,29 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private final Metrics metrics;
+    private final int cacheSize;
+    private final boolean countryOnly;
+
+    // cache is replaced after database reader, and read before it, so it never gets results of previous database
+    private volatile DatabaseReader databaseReader;
+    private volatile IpPrefixCache<GeoInfo> cache;
+
+    public MaxMindGeoLocationService() {
+        this.metrics = null;
+        this.cacheSize = 0;
+        this.countryOnly = false;
+    }
+
+    public MaxMindGeoLocationService(Metrics metrics, int cacheSize, boolean countryOnly) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cache size must not be negative");
+        }
+
+        this.metrics = Objects.requireNonNull(metrics);
+        this.cacheSize = cacheSize;
+        this.countryOnly = countryOnly;
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -54,6 +85,7 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
             }
 
             databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            cache = cacheSize > 0 ? new IpPrefixCache<>(cacheSize) : null;
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -63,38 +95,77 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
 
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final IpPrefixCache<GeoInfo> currentCache = cache;
+        final DatabaseReader currentDatabaseReader = databaseReader;
+        if (currentDatabaseReader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
-            final Location location = cityResponse != null ? cityResponse.getLocation() : null;
-
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(resolveContinent(cityResponse))
-                    .country(resolveCountry(cityResponse))
-                    .region(resolveRegion(cityResponse))
-                    // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(resolveCity(cityResponse))
-                    .lat(resolveLatitude(location))
-                    .lon(resolveLongitude(location))
-                    .build());
+
+            final GeoInfo cachedGeoInfo = currentCache != null ? currentCache.get(inetAddress) : null;
+            if (currentCache != null) {
+                metrics.updateGeoLocationCacheMetric(cachedGeoInfo != null);
+            }
+            if (cachedGeoInfo != null) {
+                return Future.succeededFuture(cachedGeoInfo);
+            }
+
+            final AbstractCountryResponse response = countryOnly
+                    ? currentDatabaseReader.country(inetAddress)
+                    : currentDatabaseReader.city(inetAddress);
+            final GeoInfo geoInfo = response instanceof CityResponse cityResponse
+                    ? toGeoInfo(cityResponse)
+                    : toGeoInfo(response);
+
+            if (currentCache != null) {
+                currentCache.put(inetAddress, resolveNetworkPrefixLength(response), geoInfo);
+            }
+
+            return Future.succeededFuture(geoInfo);
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
         }
     }
 
-    private static String resolveContinent(CityResponse cityResponse) {
-        final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
+    private static GeoInfo toGeoInfo(AbstractCountryResponse countryResponse) {
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(resolveContinent(countryResponse))
+                .country(resolveCountry(countryResponse))
+                .build();
+    }
+
+    private static GeoInfo toGeoInfo(CityResponse cityResponse) {
+        final Location location = cityResponse != null ? cityResponse.getLocation() : null;
+
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(resolveContinent(cityResponse))
+                .country(resolveCountry(cityResponse))
+                .region(resolveRegion(cityResponse))
+                // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(resolveCity(cityResponse))
+                .lat(resolveLatitude(location))
+                .lon(resolveLongitude(location))
+                .build();
+    }
+
+    private static int resolveNetworkPrefixLength(AbstractCountryResponse response) {
+        final Traits traits = response != null ? response.getTraits() : null;
+        final Network network = traits != null ? traits.getNetwork() : null;
+        return network != null ? network.getPrefixLength() : -1;
+    }
+
+    private static String resolveContinent(AbstractCountryResponse response) {
+        final Continent continent = response != null ? response.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
         return StringUtils.lowerCase(code);
     }
 
-    private static String resolveCountry(CityResponse cityResponse) {
-        final Country country = cityResponse != null ? cityResponse.getCountry() : null;
+    private static String resolveCountry(AbstractCountryResponse response) {
+        final Country country = response != null ? response.getCountry() : null;
         final String isoCode = country != null ? country.getIsoCode() : null;
         return StringUtils.lowerCase(isoCode);
     }
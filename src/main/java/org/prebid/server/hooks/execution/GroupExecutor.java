@@ -5,43 +5,63 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
+import org.prebid.server.hooks.execution.model.GroupExecutionMode;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
+import org.prebid.server.hooks.execution.model.Stage;
 import org.prebid.server.hooks.execution.provider.HookProvider;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.InvocationResult;
+import org.prebid.server.metric.Metrics;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Supplier;
 
+/**
+ * Executes hooks of the group simultaneously with the same initial payload.
+ * <p>
+ * All hooks of the group share the same timeout, so single timer per group is used to time out hooks
+ * that are still running.
+ */
 class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private final Vertx vertx;
     private final Clock clock;
+    private final Metrics metrics;
     private final Map<String, Boolean> modulesExecution;
 
+    private Stage stage;
     private ExecutionGroup group;
+    private GroupExecutionMode executionMode = GroupExecutionMode.ordered;
     private PAYLOAD initialPayload;
     private HookProvider<PAYLOAD, CONTEXT> hookProvider;
     private InvocationContextProvider<CONTEXT> invocationContextProvider;
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
 
-    private GroupExecutor(Vertx vertx, Clock clock, Map<String, Boolean> modulesExecution) {
+    private GroupExecutor(Vertx vertx, Clock clock, Metrics metrics, Map<String, Boolean> modulesExecution) {
         this.vertx = vertx;
         this.clock = clock;
+        this.metrics = metrics;
         this.modulesExecution = modulesExecution;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> GroupExecutor<PAYLOAD, CONTEXT> create(
             Vertx vertx,
             Clock clock,
+            Metrics metrics,
             Map<String, Boolean> modulesExecution) {
 
-        return new GroupExecutor<>(vertx, clock, modulesExecution);
+        return new GroupExecutor<>(vertx, clock, metrics, modulesExecution);
+    }
+
+    public GroupExecutor<PAYLOAD, CONTEXT> withStage(Stage stage) {
+        this.stage = stage;
+        return this;
     }
 
     public GroupExecutor<PAYLOAD, CONTEXT> withGroup(ExecutionGroup group) {
@@ -49,6 +69,11 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public GroupExecutor<PAYLOAD, CONTEXT> withExecutionMode(GroupExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return this;
+    }
+
     public GroupExecutor<PAYLOAD, CONTEXT> withInitialPayload(PAYLOAD initialPayload) {
         this.initialPayload = initialPayload;
         return this;
@@ -77,97 +102,116 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     public Future<GroupResult<PAYLOAD>> execute() {
-        final GroupResult<PAYLOAD> initialGroupResult = GroupResult.of(initialPayload, rejectAllowed);
-        Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
+        final GroupResult<PAYLOAD> groupResult = GroupResult.of(initialPayload, rejectAllowed);
 
+        final List<HookInvocation<PAYLOAD>> invocations = new ArrayList<>();
         for (final HookId hookId : group.getHookSequence()) {
-            if (!modulesExecution.get(hookId.getModuleCode())) {
-                continue;
+            if (modulesExecution.get(hookId.getModuleCode())) {
+                invocations.add(invoke(hookId));
             }
+        }
 
-            final Future<Hook<PAYLOAD, CONTEXT>> hookFuture = hook(hookId);
+        if (invocations.isEmpty()) {
+            return Future.succeededFuture(groupResult);
+        }
 
-            final long startTime = clock.millis();
-            final Future<InvocationResult<PAYLOAD>> invocationResult = hookFuture
-                    .compose(hook -> executeHook(hook, group.getTimeout(), initialGroupResult, hookId));
+        final long timeoutTimerId = vertx.setTimer(group.getTimeout(), id -> failWithTimeout(invocations));
 
-            groupFuture = groupFuture.compose(groupResult ->
-                    applyInvocationResult(invocationResult, hookId, startTime, groupResult));
-        }
+        final Future<GroupResult<PAYLOAD>> groupFuture = executionMode == GroupExecutionMode.fail_fast
+                ? applyOnArrival(invocations, groupResult)
+                : applyInOrder(invocations, groupResult);
 
-        return groupFuture.recover(GroupExecutor::restoreResultFromRejection);
+        return groupFuture.onComplete(ignored -> vertx.cancelTimer(timeoutTimerId));
+    }
+
+    private HookInvocation<PAYLOAD> invoke(HookId hookId) {
+        final HookInvocation<PAYLOAD> invocation = new HookInvocation<>(hookId, clock.millis());
+
+        // result is ignored if timeout exceeds before it becomes ready
+        executeSafely(hookId).onComplete(result -> invocation.tryComplete(result, clock.millis()));
+
+        return invocation;
     }
 
-    private Future<Hook<PAYLOAD, CONTEXT>> hook(HookId hookId) {
+    private Future<InvocationResult<PAYLOAD>> executeSafely(HookId hookId) {
         try {
-            return Future.succeededFuture(hookProvider.apply(hookId));
+            final Hook<PAYLOAD, CONTEXT> hook = hookProvider.apply(hookId);
+            final CONTEXT invocationContext = invocationContextProvider.apply(
+                    group.getTimeout(), hookId, moduleContextFor(hookId));
+
+            try {
+                final Future<InvocationResult<PAYLOAD>> result = hook.call(initialPayload, invocationContext);
+                return result != null
+                        ? result
+                        : Future.failedFuture(new FailedException("Action returned null"));
+            } catch (Throwable e) {
+                return Future.failedFuture(new FailedException(e));
+            }
         } catch (Exception e) {
             return Future.failedFuture(new FailedException(e.getMessage()));
         }
     }
 
-    private Future<InvocationResult<PAYLOAD>> executeHook(Hook<PAYLOAD, CONTEXT> hook,
-                                                          Long timeout,
-                                                          GroupResult<PAYLOAD> groupResult,
-                                                          HookId hookId) {
-
-        final CONTEXT invocationContext = invocationContextProvider.apply(timeout, hookId, moduleContextFor(hookId));
-        return executeWithTimeout(() -> hook.call(groupResult.payload(), invocationContext), timeout);
+    private void failWithTimeout(List<HookInvocation<PAYLOAD>> invocations) {
+        final long now = clock.millis();
+        for (HookInvocation<PAYLOAD> invocation : invocations) {
+            invocation.tryComplete(
+                    Future.failedFuture(new TimeoutException("Timed out while executing action")), now);
+        }
     }
 
-    private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
-        final Promise<T> promise = Promise.promise();
-
-        final long timeoutTimerId = vertx.setTimer(timeout, id -> failWithTimeout(promise));
+    private Future<GroupResult<PAYLOAD>> applyInOrder(List<HookInvocation<PAYLOAD>> invocations,
+                                                      GroupResult<PAYLOAD> initialGroupResult) {
 
-        executeSafely(action)
-                .onComplete(result -> completeWithActionResult(promise, timeoutTimerId, result));
+        Future<GroupResult<PAYLOAD>> groupFuture = Future.succeededFuture(initialGroupResult);
+        for (final HookInvocation<PAYLOAD> invocation : invocations) {
+            groupFuture = groupFuture.compose(groupResult -> invocation.promise.future()
+                    .transform(result -> propagateRejection(applyInvocationResult(invocation, groupResult))));
+        }
 
-        return promise.future();
+        return groupFuture.recover(GroupExecutor::restoreResultFromRejection);
     }
 
-    private static <T> void failWithTimeout(Promise<T> promise) {
-        // no need for synchronization since timer is fired on the same event loop thread
-        if (!promise.future().isComplete()) {
-            promise.fail(new TimeoutException("Timed out while executing action"));
+    private Future<GroupResult<PAYLOAD>> applyOnArrival(List<HookInvocation<PAYLOAD>> invocations,
+                                                        GroupResult<PAYLOAD> groupResult) {
+
+        final Promise<GroupResult<PAYLOAD>> groupPromise = Promise.promise();
+        final int[] remaining = {invocations.size()};
+
+        for (final HookInvocation<PAYLOAD> invocation : invocations) {
+            invocation.promise.future().onComplete(ignored -> {
+                synchronized (groupResult) {
+                    // results of hooks still running when group is rejected are skipped
+                    if (groupPromise.future().isComplete()) {
+                        return;
+                    }
+
+                    applyInvocationResult(invocation, groupResult);
+                    if (groupResult.shouldReject() || --remaining[0] == 0) {
+                        groupPromise.complete(groupResult);
+                    }
+                }
+            });
         }
-    }
 
-    private static <T> Future<T> executeSafely(Supplier<Future<T>> action) {
-        try {
-            final Future<T> result = action.get();
-            return result != null ? result : Future.failedFuture(new FailedException("Action returned null"));
-        } catch (Throwable e) {
-            return Future.failedFuture(new FailedException(e));
-        }
+        return groupPromise.future();
     }
 
-    private <T> void completeWithActionResult(Promise<T> promise, long timeoutTimerId, AsyncResult<T> result) {
-        vertx.cancelTimer(timeoutTimerId);
+    private GroupResult<PAYLOAD> applyInvocationResult(HookInvocation<PAYLOAD> invocation,
+                                                       GroupResult<PAYLOAD> groupResult) {
 
-        // check is to avoid harmless exception if timeout exceeds before successful result becomes ready
-        if (!promise.future().isComplete()) {
-            promise.handle(result);
-        }
-    }
-
-    private long executionTime(long startTime) {
-        return clock.millis() - startTime;
-    }
+        final HookId hookId = invocation.hookId;
+        metrics.updateHooksQueueTime(
+                hookId.getModuleCode(), stage, hookId.getHookImplCode(), clock.millis() - invocation.completedAt);
 
-    private Future<GroupResult<PAYLOAD>> applyInvocationResult(
-            Future<InvocationResult<PAYLOAD>> invocationResult,
-            HookId hookId,
-            long startTime,
-            GroupResult<PAYLOAD> groupResult) {
+        final Future<InvocationResult<PAYLOAD>> result = invocation.promise.future();
+        final long executionTime = invocation.completedAt - invocation.startedAt;
+        if (result.failed()) {
+            return groupResult.applyFailure(result.cause(), hookId, executionTime);
+        }
 
-        return invocationResult
-                .map(result -> {
-                    saveModuleContext(hookId, result);
-                    return groupResult.applyInvocationResult(result, hookId, executionTime(startTime));
-                })
-                .otherwise(throwable -> groupResult.applyFailure(throwable, hookId, executionTime(startTime)))
-                .compose(this::propagateRejection);
+        saveModuleContext(hookId, result.result());
+        return groupResult.applyInvocationResult(result.result(), hookId, executionTime);
     }
 
     private Object moduleContextFor(HookId hookId) {
@@ -192,4 +236,24 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
         return Future.failedFuture(throwable);
     }
+
+    private static class HookInvocation<PAYLOAD> {
+
+        private final HookId hookId;
+        private final long startedAt;
+        private final Promise<InvocationResult<PAYLOAD>> promise = Promise.promise();
+        private long completedAt;
+
+        HookInvocation(HookId hookId, long startedAt) {
+            this.hookId = hookId;
+            this.startedAt = startedAt;
+        }
+
+        synchronized void tryComplete(AsyncResult<InvocationResult<PAYLOAD>> result, long completedAt) {
+            if (!promise.future().isComplete()) {
+                this.completedAt = completedAt;
+                promise.handle(result);
+            }
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.prebid.server.hooks.execution.model.ABTest;
 import org.prebid.server.hooks.execution.model.EndpointExecutionPlan;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.ExecutionPlan;
+import org.prebid.server.hooks.execution.model.GroupExecutionMode;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
@@ -54,6 +55,7 @@ import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.settings.model.Account;
@@ -87,8 +89,10 @@ public class HookStageExecutor {
     private final TimeoutFactory timeoutFactory;
     private final Vertx vertx;
     private final Clock clock;
+    private final Metrics metrics;
     private final ObjectMapper mapper;
     private final boolean isConfigToInvokeRequired;
+    private final GroupExecutionMode groupExecutionMode;
 
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
@@ -97,8 +101,10 @@ public class HookStageExecutor {
                               TimeoutFactory timeoutFactory,
                               Vertx vertx,
                               Clock clock,
+                              Metrics metrics,
                               ObjectMapper mapper,
-                              boolean isConfigToInvokeRequired) {
+                              boolean isConfigToInvokeRequired,
+                              GroupExecutionMode groupExecutionMode) {
 
         this.hostExecutionPlan = hostExecutionPlan;
         this.defaultAccountExecutionPlan = defaultAccountExecutionPlan;
@@ -106,8 +112,10 @@ public class HookStageExecutor {
         this.timeoutFactory = timeoutFactory;
         this.vertx = vertx;
         this.clock = clock;
+        this.metrics = metrics;
         this.mapper = mapper;
         this.isConfigToInvokeRequired = isConfigToInvokeRequired;
+        this.groupExecutionMode = groupExecutionMode;
         this.hostModuleExecution = hostModuleExecution;
     }
 
@@ -118,8 +126,10 @@ public class HookStageExecutor {
                                            TimeoutFactory timeoutFactory,
                                            Vertx vertx,
                                            Clock clock,
+                                           Metrics metrics,
                                            JacksonMapper mapper,
-                                           boolean isConfigToInvokeRequired) {
+                                           boolean isConfigToInvokeRequired,
+                                           GroupExecutionMode groupExecutionMode) {
 
         Objects.requireNonNull(hookCatalog);
         Objects.requireNonNull(mapper);
@@ -132,8 +142,10 @@ public class HookStageExecutor {
                 Objects.requireNonNull(timeoutFactory),
                 Objects.requireNonNull(vertx),
                 Objects.requireNonNull(clock),
+                Objects.requireNonNull(metrics),
                 mapper.mapper(),
-                isConfigToInvokeRequired);
+                isConfigToInvokeRequired,
+                Objects.requireNonNull(groupExecutionMode));
     }
 
     private static ExecutionPlan parseAndValidateExecutionPlan(String executionPlan,
@@ -344,7 +356,7 @@ public class HookStageExecutor {
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, metrics, groupExecutionMode)
                 .withStage(stage)
                 .withEntity(entity)
                 .withHookExecutionContext(context);
@@ -3,6 +3,7 @@ package org.prebid.server.hooks.execution;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
+import org.prebid.server.hooks.execution.model.GroupExecutionMode;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
 import org.prebid.server.hooks.execution.model.StageExecutionPlan;
@@ -10,6 +11,7 @@ import org.prebid.server.hooks.execution.model.StageWithHookType;
 import org.prebid.server.hooks.execution.provider.HookProvider;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
+import org.prebid.server.metric.Metrics;
 
 import java.time.Clock;
 import java.util.ArrayList;
@@ -19,6 +21,8 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
     private final Vertx vertx;
     private final Clock clock;
+    private final Metrics metrics;
+    private final GroupExecutionMode groupExecutionMode;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
     private String entity;
@@ -30,16 +34,20 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private boolean rejectAllowed;
     private Map<String, Boolean> modulesExecution;
 
-    private StageExecutor(Vertx vertx, Clock clock) {
+    private StageExecutor(Vertx vertx, Clock clock, Metrics metrics, GroupExecutionMode groupExecutionMode) {
         this.vertx = vertx;
         this.clock = clock;
+        this.metrics = metrics;
+        this.groupExecutionMode = groupExecutionMode;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
             Vertx vertx,
-            Clock clock) {
+            Clock clock,
+            Metrics metrics,
+            GroupExecutionMode groupExecutionMode) {
 
-        return new StageExecutor<>(vertx, clock);
+        return new StageExecutor<>(vertx, clock, metrics, groupExecutionMode);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -90,6 +98,7 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     }
 
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
+        final long startTime = clock.millis();
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
         for (final ExecutionGroup group : executionPlan.getGroups()) {
@@ -101,12 +110,15 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
         return stageFuture
                 .recover(StageExecutor::restoreResultFromRejection)
+                .onSuccess(ignored -> updateStageDurationMetric(startTime))
                 .map(this::toHookStageExecutionResult);
     }
 
     private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, modulesExecution)
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, metrics, modulesExecution)
+                .withStage(stage.stage())
                 .withGroup(group)
+                .withExecutionMode(groupExecutionMode)
                 .withInitialPayload(initialPayload)
                 .withHookProvider(hookProvider)
                 .withInvocationContextProvider(invocationContextProvider)
@@ -115,6 +127,12 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
                 .execute();
     }
 
+    private void updateStageDurationMetric(long startTime) {
+        if (!executionPlan.getGroups().isEmpty()) {
+            metrics.updateHooksStageDuration(stage.stage(), clock.millis() - startTime);
+        }
+    }
+
     private static <PAYLOAD> Future<StageResult<PAYLOAD>> propagateRejection(StageResult<PAYLOAD> stageResult) {
         return stageResult.shouldReject()
                 ? Future.failedFuture(new RejectedException(stageResult))
@@ -0,0 +1,13 @@
+package org.prebid.server.hooks.execution.model;
+
+/**
+ * Defines how results of hooks of the same execution group are applied.
+ * <p>
+ * ordered - results are applied in the order of hooks in the group;
+ * <p>
+ * fail_fast - results are applied as soon as they arrive, the group is completed right after any hook rejects.
+ */
+public enum GroupExecutionMode {
+
+    ordered, fail_fast
+}
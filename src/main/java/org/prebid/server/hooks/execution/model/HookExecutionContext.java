@@ -1,23 +1,46 @@
 package org.prebid.server.hooks.execution.model;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.prebid.server.model.Endpoint;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-@Value(staticConstructor = "of")
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class HookExecutionContext {
 
     Endpoint endpoint;
 
     EnumMap<Stage, List<StageExecutionOutcome>> stageOutcomes;
 
-    Map<String, Object> moduleContexts = new HashMap<>();
+    Map<String, Object> moduleContexts;
 
     public static HookExecutionContext of(Endpoint endpoint) {
         return of(endpoint, new EnumMap<>(Stage.class));
     }
+
+    public static HookExecutionContext of(Endpoint endpoint,
+                                          EnumMap<Stage, List<StageExecutionOutcome>> stageOutcomes) {
+
+        return new HookExecutionContext(endpoint, stageOutcomes, new HashMap<>());
+    }
+
+    /**
+     * Returns context sharing module contexts with this one, but collecting stage outcomes on its own,
+     * so they can be added to this context later by {@link #mergeStageOutcomes(HookExecutionContext)} or dropped.
+     */
+    public HookExecutionContext withSeparateStageOutcomes() {
+        return new HookExecutionContext(endpoint, new EnumMap<>(Stage.class), moduleContexts);
+    }
+
+    public void mergeStageOutcomes(HookExecutionContext other) {
+        other.stageOutcomes.forEach((stage, outcomes) ->
+                stageOutcomes.computeIfAbsent(stage, key -> new ArrayList<>()).addAll(outcomes));
+    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
+import org.prebid.server.model.HttpBody;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
@@ -56,6 +57,14 @@ public class JacksonMapper {
         }
     }
 
+    public <T> T decodeValue(HttpBody body, Class<T> clazz) throws DecodeException {
+        try {
+            return body.decode(mapper, clazz);
+        } catch (IOException e) {
+            throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()));
+        }
+    }
+
     public <T> T decodeValue(String str, TypeReference<T> type) throws DecodeException {
         try {
             return mapper.readValue(str, type);
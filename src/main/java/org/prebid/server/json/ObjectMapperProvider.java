@@ -26,7 +26,8 @@ public final class ObjectMapperProvider {
                 .registerModule(new BlackbirdModule())
                 .registerModule(new ZonedDateTimeModule())
                 .registerModule(new MissingJsonNodeModule())
-                .registerModule(new LongAdderModule());
+                .registerModule(new LongAdderModule())
+                .registerModule(new SerializedFragmentsModule());
     }
 
     private ObjectMapperProvider() {
@@ -0,0 +1,56 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Holds JSON encoded request sub-objects (site, app, device, regs, schain, imp media types etc.) shared by
+ * the outgoing requests of a single auction, so every such object is encoded once regardless of bidders count.
+ * <p>
+ * Fragments are looked up by object identity: OpenRTB models are immutable, so a bidder-specific change of
+ * the sub-object (privacy masking, FPD, ORTB version downgrade, adapter own modifications) produces a new
+ * instance which is encoded separately.
+ * <p>
+ * Fragments are used only by encoding done within {@link #apply(Supplier)}, see {@link SerializedFragmentsModule}.
+ */
+public class SerializedFragments {
+
+    private static final ThreadLocal<SerializedFragments> CURRENT = new ThreadLocal<>();
+
+    private Map<Object, SerializableString> fragments;
+
+    /**
+     * Runs the given action with fragments of this instance available to JSON encoding done on current thread.
+     */
+    public <T> T apply(Supplier<T> action) {
+        final SerializedFragments previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static SerializedFragments current() {
+        return CURRENT.get();
+    }
+
+    synchronized SerializableString get(Object value) {
+        return fragments != null ? fragments.get(value) : null;
+    }
+
+    synchronized void put(Object value, SerializableString fragment) {
+        if (fragments == null) {
+            fragments = new IdentityHashMap<>();
+        }
+        fragments.put(value, fragment);
+    }
+}
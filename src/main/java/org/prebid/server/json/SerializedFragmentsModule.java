@@ -0,0 +1,135 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Audio;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Native;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.SupplyChain;
+import com.iab.openrtb.request.Video;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Set;
+
+/**
+ * Encodes OpenRTB request sub-objects, which are usually the same for all bidders, once per auction and writes
+ * them into every outgoing request as raw JSON, see {@link SerializedFragments}.
+ * <p>
+ * Without {@link SerializedFragments} in scope, as well as for conversions to JSON tree, objects are encoded
+ * as usual.
+ */
+class SerializedFragmentsModule extends SimpleModule {
+
+    private static final Set<Class<?>> SHARED_TYPES = Set.of(
+            Site.class,
+            App.class,
+            Dooh.class,
+            Device.class,
+            Regs.class,
+            SupplyChain.class,
+            Banner.class,
+            Video.class,
+            Audio.class,
+            Native.class,
+            Pmp.class);
+
+    SerializedFragmentsModule() {
+        setSerializerModifier(new BeanSerializerModifier() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+
+                return SHARED_TYPES.contains(beanDesc.getBeanClass())
+                        ? new SerializedFragmentSerializer((JsonSerializer<Object>) serializer)
+                        : serializer;
+            }
+        });
+    }
+
+    private static class SerializedFragmentSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        SerializedFragmentSerializer(JsonSerializer<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            final SerializedFragments fragments = SerializedFragments.current();
+            final ObjectCodec codec = generator.getCodec();
+            if (fragments == null || codec == null || generator instanceof TokenBuffer) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            SerializableString fragment = fragments.get(value);
+            if (fragment == null) {
+                fragment = new SerializedString(encode(value, codec, provider));
+                fragments.put(value, fragment);
+            }
+
+            generator.writeRawValue(fragment);
+        }
+
+        private String encode(Object value, ObjectCodec codec, SerializerProvider provider) throws IOException {
+            final StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = codec.getFactory().createGenerator(writer)) {
+                provider.getConfig().initialize(generator);
+                delegate.serialize(value, generator, provider);
+            }
+            return writer.toString();
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            if (!(delegate instanceof ContextualSerializer contextualSerializer)) {
+                return this;
+            }
+
+            final JsonSerializer<?> contextualDelegate = contextualSerializer.createContextual(provider, property);
+            return contextualDelegate == delegate
+                    ? this
+                    : new SerializedFragmentSerializer((JsonSerializer<Object>) contextualDelegate);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvableSerializer) {
+                resolvableSerializer.resolve(provider);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JSON Pointer evaluated directly against typed object, with the same result as evaluating it against JSON tree of
+ * that object, but without serializing the whole object into a tree.
+ * <p>
+ * Pointer segments are resolved through bean properties known to Jackson serializer (so property naming and
+ * annotations are respected), list elements and {@link FlexibleExtension} properties. Only values which can not
+ * be walked this way (maps, custom serializers, etc.) are converted to a tree, starting from the deepest
+ * reached object.
+ * <p>
+ * Resolved properties are remembered per pointer segment, so pointer is expected to be compiled once and
+ * evaluated against objects of the same types many times.
+ */
+public class TypedJsonPointer {
+
+    private final JacksonMapper mapper;
+    private final JsonPointer pointer;
+    private final ResolvedProperty[] resolvedProperties;
+
+    private TypedJsonPointer(JacksonMapper mapper, JsonPointer pointer) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.pointer = Objects.requireNonNull(pointer);
+
+        resolvedProperties = new ResolvedProperty[segmentsCount(pointer)];
+    }
+
+    /**
+     * Compiles pointer expression, throws {@link IllegalArgumentException} if it is not a valid JSON Pointer.
+     */
+    public static TypedJsonPointer compile(String expression, JacksonMapper mapper) {
+        return new TypedJsonPointer(mapper, JsonPointer.compile(expression));
+    }
+
+    private static int segmentsCount(JsonPointer pointer) {
+        int count = 0;
+        for (JsonPointer current = pointer; !current.matches(); current = current.tail()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns node the pointer refers to in JSON tree of given object, or {@link MissingNode} if there is no such.
+     */
+    public JsonNode find(Object root) {
+        return find(root, pointer, 0);
+    }
+
+    /**
+     * Returns text representation of node the pointer refers to, the same as {@link JsonNode#asText()} does.
+     */
+    public String asText(Object root) {
+        return find(root).asText();
+    }
+
+    private JsonNode find(Object value, JsonPointer current, int segment) {
+        if (value == null) {
+            return current.matches() ? NullNode.getInstance() : MissingNode.getInstance();
+        }
+        if (value instanceof JsonNode node) {
+            return node.at(current);
+        }
+        if (current.matches()) {
+            return toTree(value);
+        }
+
+        if (value instanceof List<?> list) {
+            final int index = current.getMatchingIndex();
+            return index >= 0 && index < list.size()
+                    ? find(list.get(index), current.tail(), segment + 1)
+                    : MissingNode.getInstance();
+        }
+
+        final BeanPropertyWriter property = property(value.getClass(), current.getMatchingProperty(), segment);
+        if (property != null) {
+            final Object propertyValue = propertyValue(property, value);
+            // null properties are not serialized
+            return propertyValue != null
+                    ? find(propertyValue, current.tail(), segment + 1)
+                    : MissingNode.getInstance();
+        }
+
+        if (value instanceof FlexibleExtension extension) {
+            final JsonNode extensionProperty = extension.getProperty(current.getMatchingProperty());
+            if (extensionProperty != null) {
+                return extensionProperty.at(current.tail());
+            }
+        }
+
+        return toTree(value).at(current);
+    }
+
+    private BeanPropertyWriter property(Class<?> type, String name, int segment) {
+        final ResolvedProperty resolvedProperty = resolvedProperties[segment];
+        if (resolvedProperty != null && resolvedProperty.type() == type) {
+            return resolvedProperty.writer();
+        }
+
+        final BeanPropertyWriter writer = findProperty(type, name);
+        resolvedProperties[segment] = new ResolvedProperty(type, writer);
+        return writer;
+    }
+
+    private BeanPropertyWriter findProperty(Class<?> type, String name) {
+        final JsonSerializer<Object> serializer;
+        try {
+            serializer = mapper.mapper().getSerializerProviderInstance().findValueSerializer(type);
+        } catch (JsonMappingException e) {
+            return null;
+        }
+
+        if (!(serializer instanceof BeanSerializerBase beanSerializer)
+                || beanSerializer.isUnwrappingSerializer()
+                || beanSerializer.usesObjectId()) {
+
+            return null;
+        }
+
+        final Iterator<PropertyWriter> properties = beanSerializer.properties();
+        while (properties.hasNext()) {
+            final PropertyWriter property = properties.next();
+            if (property.getName().equals(name)) {
+                return property instanceof BeanPropertyWriter writer && isSerializedAsIs(writer) ? writer : null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Properties having custom serialization rules are resolved through the tree of their owner.
+     */
+    private static boolean isSerializedAsIs(BeanPropertyWriter writer) {
+        return writer.getAnnotation(JsonSerialize.class) == null
+                && writer.getAnnotation(JsonFormat.class) == null
+                && writer.getAnnotation(JsonInclude.class) == null
+                && writer.getAnnotation(JsonRawValue.class) == null
+                && writer.getTypeSerializer() == null;
+    }
+
+    private static Object propertyValue(BeanPropertyWriter property, Object bean) {
+        try {
+            return property.get(bean);
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Can't read property %s of %s".formatted(property.getName(), bean.getClass().getName()), e);
+        }
+    }
+
+    private JsonNode toTree(Object value) {
+        final JsonNode node = mapper.mapper().valueToTree(value);
+        return node != null ? node : MissingNode.getInstance();
+    }
+
+    private record ResolvedProperty(Class<?> type, BeanPropertyWriter writer) {
+    }
+}
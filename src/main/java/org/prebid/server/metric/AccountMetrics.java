@@ -24,12 +24,16 @@ class AccountMetrics extends UpdatableMetrics {
     private final HooksMetrics hooksMetrics;
     private final ActivitiesMetrics activitiesMetrics;
 
-    AccountMetrics(MetricRegistry metricRegistry, CounterType counterType, String account) {
+    AccountMetrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   ReservoirType reservoirType,
+                   String account) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
                 nameCreator(createPrefix(Objects.requireNonNull(account))));
         requestTypeMetricsCreator = requestType ->
                 new RequestTypeMetrics(metricRegistry, counterType, createPrefix(account), requestType);
-        adapterMetrics = new AdapterMetrics(metricRegistry, counterType, createPrefix(account));
+        adapterMetrics = new AdapterMetrics(metricRegistry, counterType, reservoirType, createPrefix(account));
         requestTypeMetrics = new HashMap<>();
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix(account));
         cacheMetrics = new CacheMetrics(metricRegistry, counterType, createPrefix(account));
@@ -15,12 +15,16 @@ class AdapterMetrics extends UpdatableMetrics {
     private final Function<String, AdapterTypeMetrics> adapterMetricsCreator;
     private final Map<String, AdapterTypeMetrics> adapterMetrics;
 
-    AdapterMetrics(MetricRegistry metricRegistry, CounterType counterType, String accountPrefix) {
+    AdapterMetrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   ReservoirType reservoirType,
+                   String accountPrefix) {
+
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
                 nameCreator(createAdapterSuffix(Objects.requireNonNull(accountPrefix))));
 
         adapterMetrics = new CaseInsensitiveMap<>();
-        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType,
+        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType, reservoirType,
                 createAdapterSuffix(Objects.requireNonNull(accountPrefix)), adapterType);
     }
 
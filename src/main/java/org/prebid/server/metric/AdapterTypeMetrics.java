@@ -19,11 +19,17 @@ class AdapterTypeMetrics extends UpdatableMetrics {
     private final Map<String, BidTypeMetrics> bidTypeMetrics;
     private final ResponseMetrics responseMetrics;
     private final ActivitiesMetrics activitiesMetrics;
+    private final CompressionMetrics compressionMetrics;
+
+    AdapterTypeMetrics(MetricRegistry metricRegistry,
+                       CounterType counterType,
+                       ReservoirType reservoirType,
+                       String adapterType) {
 
-    AdapterTypeMetrics(MetricRegistry metricRegistry, CounterType counterType, String adapterType) {
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirType),
                 nameCreator(createAdapterPrefix(Objects.requireNonNull(adapterType))));
 
         bidTypeMetricsCreator = bidType ->
@@ -35,16 +41,20 @@ class AdapterTypeMetrics extends UpdatableMetrics {
         bidTypeMetrics = new HashMap<>();
         responseMetrics = new ResponseMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
         activitiesMetrics = new ActivitiesMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
+        compressionMetrics = new CompressionMetrics(
+                metricRegistry, counterType, reservoirType, createAdapterPrefix(adapterType));
     }
 
     AdapterTypeMetrics(MetricRegistry metricRegistry,
                        CounterType counterType,
+                       ReservoirType reservoirType,
                        String accountAdapterPrefix,
                        String adapterType) {
 
         super(
                 Objects.requireNonNull(metricRegistry),
                 Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirType),
                 nameCreator(createAdapterPrefix(
                         Objects.requireNonNull(accountAdapterPrefix),
                         Objects.requireNonNull(adapterType))));
@@ -61,6 +71,7 @@ class AdapterTypeMetrics extends UpdatableMetrics {
         bidTypeMetrics = null;
         responseMetrics = null;
         activitiesMetrics = null;
+        compressionMetrics = null;
     }
 
     private static String createAdapterPrefix(String adapterType) {
@@ -94,4 +105,8 @@ class AdapterTypeMetrics extends UpdatableMetrics {
     ActivitiesMetrics activities() {
         return activitiesMetrics;
     }
+
+    CompressionMetrics compression() {
+        return compressionMetrics;
+    }
 }
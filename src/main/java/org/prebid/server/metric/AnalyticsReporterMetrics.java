@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -14,14 +14,21 @@ class AnalyticsReporterMetrics extends UpdatableMetrics {
 
     private final Function<MetricName, EventTypeMetrics> eventTypeMetricsCreator;
     private final Map<MetricName, EventTypeMetrics> eventTypeMetrics;
+    private final UpdatableMetrics dispatchMetrics;
+
+    AnalyticsReporterMetrics(MetricRegistry metricRegistry,
+                             CounterType counterType,
+                             ReservoirType reservoirType,
+                             String analyticCode) {
 
-    AnalyticsReporterMetrics(MetricRegistry metricRegistry, CounterType counterType, String analyticCode) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
                 nameCreator(createAdapterPrefix(Objects.requireNonNull(analyticCode))));
 
         eventTypeMetricsCreator = eventType ->
                 new EventTypeMetrics(metricRegistry, counterType, createAdapterPrefix(analyticCode), eventType);
-        eventTypeMetrics = new HashMap<>();
+        eventTypeMetrics = new ConcurrentHashMap<>();
+        dispatchMetrics = new UpdatableMetrics(metricRegistry, counterType, Objects.requireNonNull(reservoirType),
+                nameCreator(createAdapterPrefix(analyticCode) + ".dispatch"));
     }
 
     private static String createAdapterPrefix(String reporterName) {
@@ -35,4 +42,8 @@ class AnalyticsReporterMetrics extends UpdatableMetrics {
     EventTypeMetrics forEventType(MetricName eventType) {
         return eventTypeMetrics.computeIfAbsent(eventType, eventTypeMetricsCreator);
     }
+
+    UpdatableMetrics dispatch() {
+        return dispatchMetrics;
+    }
 }
@@ -73,11 +73,6 @@ class CircuitBreakerMetrics extends UpdatableMetrics {
             return metricName -> "%s.named.%s.%s%s".formatted(prefix, name, metricName, SUFFIX);
         }
 
-        @Override
-        void incCounter(MetricName metricName) {
-            throw new UnsupportedOperationException();
-        }
-
         @Override
         void incCounter(MetricName metricName, long value) {
             throw new UnsupportedOperationException();
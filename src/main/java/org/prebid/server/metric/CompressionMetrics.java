@@ -0,0 +1,45 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Request body compression metrics support.
+ * <p>
+ * Metrics are registered on the first compression only, so they are not reported for bidders which do not
+ * compress requests.
+ */
+class CompressionMetrics extends UpdatableMetrics {
+
+    CompressionMetrics(MetricRegistry metricRegistry,
+                       CounterType counterType,
+                       ReservoirType reservoirType,
+                       String prefix) {
+
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                Objects.requireNonNull(reservoirType),
+                nameCreator(createPrefix(Objects.requireNonNull(prefix))));
+    }
+
+    private static String createPrefix(String prefix) {
+        return prefix + ".compression";
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+
+    void update(int uncompressedSize, int compressedSize, long compressionTimeNanos) {
+        updateHistogram(MetricName.compression_bytes, compressedSize);
+        updateTimer(MetricName.compression_time, compressionTimeNanos, TimeUnit.NANOSECONDS);
+        if (uncompressedSize > 0) {
+            // percent of the original size, the lower the better
+            updateHistogram(MetricName.compression_ratio, (long) compressedSize * 100 / uncompressedSize);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * HTTP client connection pool metrics support.
+ */
+class HttpClientMetrics {
+
+    private final Function<String, HostHttpClientMetrics> hostMetricsCreator;
+    // updated by HTTP clients of all event loops, so map is concurrent
+    private final Map<String, HostHttpClientMetrics> hostMetrics;
+
+    HttpClientMetrics(MetricRegistry metricRegistry, CounterType counterType, ReservoirType reservoirType) {
+        Objects.requireNonNull(metricRegistry);
+        Objects.requireNonNull(counterType);
+        Objects.requireNonNull(reservoirType);
+
+        hostMetricsCreator = host -> new HostHttpClientMetrics(metricRegistry, counterType, reservoirType, host);
+        hostMetrics = new ConcurrentHashMap<>();
+    }
+
+    HostHttpClientMetrics forHost(String host) {
+        return hostMetrics.computeIfAbsent(host, hostMetricsCreator);
+    }
+
+    static class HostHttpClientMetrics extends UpdatableMetrics {
+
+        private final LongAdder inUse = new LongAdder();
+        private final LongAdder queued = new LongAdder();
+
+        HostHttpClientMetrics(MetricRegistry metricRegistry,
+                              CounterType counterType,
+                              ReservoirType reservoirType,
+                              String host) {
+
+            super(metricRegistry, counterType, reservoirType, nameCreator(hostId(Objects.requireNonNull(host))));
+
+            createGauge(MetricName.pool_in_use, inUse::sum);
+            createGauge(MetricName.pool_queued, queued::sum);
+        }
+
+        private static String hostId(String host) {
+            return host.replaceAll("[^\\w]+", "_");
+        }
+
+        private static Function<MetricName, String> nameCreator(String hostId) {
+            return metricName -> "http-client.host.%s.%s".formatted(hostId, metricName);
+        }
+
+        void updateInUse(int delta) {
+            inUse.add(delta);
+        }
+
+        void updateQueued(int delta) {
+            queued.add(delta);
+        }
+    }
+}
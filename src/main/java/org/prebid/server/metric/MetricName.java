@@ -13,6 +13,15 @@ public enum MetricName {
     http,
     opened,
     existing,
+    rejected,
+    transitions_open("transitions.open"),
+    transitions_half_open("transitions.half-open"),
+    transitions_closed("transitions.closed"),
+
+    // http client pool
+    pool_wait,
+    pool_in_use,
+    pool_queued,
 
     // database
     db_query_time,
@@ -22,6 +31,8 @@ public enum MetricName {
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
 
     // auction
     requests,
@@ -30,12 +41,20 @@ public enum MetricName {
     no_cookie_requests,
     request_time,
     prices,
+    tmax_saved("tmax.saved"),
+    tmax_skipped("tmax.skipped"),
+    preparation_users("bidder-requests.preparation.users.cpu-time"),
+    preparation_requests("bidder-requests.preparation.requests.cpu-time"),
+    preparation_parallel("bidder-requests.preparation.parallel"),
     imps_requested,
     imps_banner,
     imps_video,
     imps_native,
     imps_audio,
     bids_received,
+    compression_bytes("bytes"),
+    compression_ratio("ratio"),
+    compression_time("time"),
     adm_bids_received,
     nurl_bids_received,
 
@@ -57,6 +76,12 @@ public enum MetricName {
     event_setuid("setuid"),
     event_unknown("unknown"),
 
+    // analytics dispatch
+    queue_depth,
+    dropped,
+    sampled_out,
+    lag,
+
     // request and adapter statuses
     ok,
     failed,
@@ -70,6 +95,8 @@ public enum MetricName {
     badserverresponse,
     failedtorequestbids,
     timeout,
+    shed,
+    not_waited,
     bid_validation,
     unknown_error,
     err,
@@ -110,6 +137,8 @@ public enum MetricName {
     // vendor list
     missing,
     fallback,
+    cached_versions("cached-versions"),
+    cached_bytes("cached-bytes"),
 
     // stored data
     stored_requests_found,
@@ -133,11 +162,16 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    video_stored_request("video-stored-request"),
     account,
     initialize,
     update,
     hit,
     miss,
+    coalesced,
+    refresh_ahead,
+    parsed_stored_data("parsed-stored-data"),
+    parse_time,
 
     // hooks
     call,
@@ -149,6 +183,7 @@ public enum MetricName {
     failure,
     execution_error("execution-error"),
     duration,
+    queue_time("queue-time"),
 
     // price-floors
     price_floors("price-floors"),
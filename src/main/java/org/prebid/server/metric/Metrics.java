@@ -14,10 +14,11 @@ import org.prebid.server.settings.model.Account;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -41,7 +42,8 @@ public class Metrics extends UpdatableMetrics {
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
+    // thread-safe. Account and adapter maps are looked up several times per bidder on each auction, so they are
+    // concurrent to keep metric handles bound by their holders.
     private final RequestsMetrics requestsMetrics;
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
@@ -59,22 +61,32 @@ public class Metrics extends UpdatableMetrics {
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
     private final HooksMetrics hooksMetrics;
+    private final HttpClientMetrics httpClientMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
                    CounterType counterType,
                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
 
-        super(metricRegistry, counterType, MetricName::toString);
+        this(metricRegistry, counterType, ReservoirType.exponentiallyDecaying, accountMetricsVerbosityResolver);
+    }
+
+    public Metrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   ReservoirType reservoirType,
+                   AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
+
+        super(metricRegistry, counterType, Objects.requireNonNull(reservoirType), MetricName::toString);
 
         this.accountMetricsVerbosityResolver = Objects.requireNonNull(accountMetricsVerbosityResolver);
 
         requestMetricsCreator = requestType -> new RequestStatusMetrics(metricRegistry, counterType, requestType);
-        accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, account);
-        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(metricRegistry, counterType, adapterType);
+        accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, reservoirType, account);
+        adapterMetricsCreator = adapterType -> new AdapterTypeMetrics(
+                metricRegistry, counterType, reservoirType, adapterType);
         bidderCardinalityMetricsCreator = cardinality -> new BidderCardinalityMetrics(
                 metricRegistry, counterType, cardinality);
         analyticMetricsCreator = analyticCode -> new AnalyticsReporterMetrics(
-                metricRegistry, counterType, analyticCode);
+                metricRegistry, counterType, reservoirType, analyticCode);
         priceFloorsMetricsCreator = moduleType -> new PriceFloorMetrics(
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
@@ -82,21 +94,22 @@ public class Metrics extends UpdatableMetrics {
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
-        adapterMetrics = new HashMap<>();
-        analyticMetrics = new HashMap<>();
-        priceFloorsMetrics = new HashMap<>();
+        accountMetrics = new ConcurrentHashMap<>();
+        adapterMetrics = new ConcurrentHashMap<>();
+        analyticMetrics = new ConcurrentHashMap<>();
+        priceFloorsMetrics = new ConcurrentHashMap<>();
         alertsMetrics = new AlertsConfigMetrics(metricRegistry, counterType);
-        bidderCardinailtyMetrics = new HashMap<>();
+        bidderCardinailtyMetrics = new ConcurrentHashMap<>();
         userSyncMetrics = new UserSyncMetrics(metricRegistry, counterType);
         cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType);
         privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
-        circuitBreakerMetrics = new HashMap<>();
+        circuitBreakerMetrics = new ConcurrentHashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
-        settingsCacheMetrics = new HashMap<>();
+        settingsCacheMetrics = new ConcurrentHashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
+        httpClientMetrics = new HttpClientMetrics(metricRegistry, counterType, reservoirType);
     }
 
     RequestsMetrics requests() {
@@ -167,6 +180,10 @@ public class Metrics extends UpdatableMetrics {
         return hooksMetrics;
     }
 
+    HttpClientMetrics httpClient() {
+        return httpClientMetrics;
+    }
+
     public void updateDebugRequestMetrics(boolean debugEnabled) {
         if (debugEnabled) {
             incCounter(MetricName.debug_requests);
@@ -227,6 +244,14 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateBidderRequestsPreparationCpuTime(MetricName phase, long cpuTimeNanos) {
+        updateTimer(phase, cpuTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateBidderRequestsParallelPreparationMetric() {
+        incCounter(MetricName.preparation_parallel);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -303,6 +328,14 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterTmaxBudgetMetrics(String bidder, long savedTime, boolean skipped) {
+        final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
+        adapterTypeMetrics.updateHistogram(MetricName.tmax_saved, savedTime);
+        if (skipped) {
+            adapterTypeMetrics.incCounter(MetricName.tmax_skipped);
+        }
+    }
+
     public void updateAdapterRequestNobidMetrics(String bidder, Account account) {
         forAdapter(bidder).request().incCounter(MetricName.nobid);
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -332,6 +365,14 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterRequestCompressionMetrics(String bidder,
+                                                       int uncompressedSize,
+                                                       int compressedSize,
+                                                       long compressionTimeNanos) {
+
+        forAdapter(bidder).compression().update(uncompressedSize, compressedSize, compressionTimeNanos);
+    }
+
     public void updateAdapterRequestErrorMetric(String bidder, MetricName errorMetric) {
         forAdapter(bidder).request().incCounter(errorMetric);
     }
@@ -356,6 +397,18 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void createAnalyticsDispatchQueueGauge(String analyticCode, LongSupplier queueDepthSupplier) {
+        forAnalyticReporter(analyticCode).dispatch().createGauge(MetricName.queue_depth, queueDepthSupplier);
+    }
+
+    public void updateAnalyticsDispatchMetric(String analyticCode, MetricName result) {
+        forAnalyticReporter(analyticCode).dispatch().incCounter(result);
+    }
+
+    public void updateAnalyticsDispatchLag(String analyticCode, long millis) {
+        forAnalyticReporter(analyticCode).dispatch().updateTimer(MetricName.lag, millis);
+    }
+
     public void updatePriceFloorFetchMetric(MetricName result) {
         forPriceFloorFetch().incCounter(result);
     }
@@ -549,6 +602,17 @@ public class Metrics extends UpdatableMetrics {
         tcfMetrics.fromVersion(version).vendorList().incCounter(metricName);
     }
 
+    public void createPrivacyTcfVendorListCacheGauges(int version,
+                                                     String generation,
+                                                     LongSupplier cachedVersionsSupplier,
+                                                     LongSupplier cachedBytesSupplier) {
+
+        final UpdatableMetrics generationMetrics = privacy().tcf().fromVersion(version).vendorList()
+                .forGeneration(generation);
+        generationMetrics.createGauge(MetricName.cached_versions, cachedVersionsSupplier);
+        generationMetrics.createGauge(MetricName.cached_bytes, cachedBytesSupplier);
+    }
+
     public void updateConnectionAcceptErrors() {
         incCounter(MetricName.connection_accept_errors);
     }
@@ -572,10 +636,30 @@ public class Metrics extends UpdatableMetrics {
         forCircuitBreakerType(MetricName.http).forName(name).removeMetric(MetricName.opened);
     }
 
+    public void updateHttpClientCircuitBreakerRejectedMetric(String name) {
+        forCircuitBreakerType(MetricName.http).forName(name).incCounter(MetricName.rejected);
+    }
+
+    public void updateHttpClientCircuitBreakerTransitionMetric(String name, MetricName transition) {
+        forCircuitBreakerType(MetricName.http).forName(name).incCounter(transition);
+    }
+
     public void createHttpClientCircuitBreakerNumberGauge(LongSupplier numberSupplier) {
         forCircuitBreakerType(MetricName.http).createGauge(MetricName.existing, numberSupplier);
     }
 
+    public void updateHttpClientPoolWaitTime(String host, long millis) {
+        httpClient().forHost(host).updateTimer(MetricName.pool_wait, millis);
+    }
+
+    public void updateHttpClientPoolInUse(String host, int delta) {
+        httpClient().forHost(host).updateInUse(delta);
+    }
+
+    public void updateHttpClientPoolQueued(String host, int delta) {
+        httpClient().forHost(host).updateQueued(delta);
+    }
+
     public void updateGeoLocationMetric(boolean successful) {
         incCounter(MetricName.geolocation_requests);
         if (successful) {
@@ -585,6 +669,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -645,6 +733,10 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsCacheParseTime(MetricName cacheType, long timeElapsedNanos) {
+        forSettingsCacheType(cacheType).updateTimer(MetricName.parse_time, timeElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -671,6 +763,14 @@ public class Metrics extends UpdatableMetrics {
 
     }
 
+    public void updateHooksQueueTime(String moduleCode, Stage stage, String hookImplCode, long queueTime) {
+        hooks().module(moduleCode).stage(stage).hookImpl(hookImplCode).updateTimer(MetricName.queue_time, queueTime);
+    }
+
+    public void updateHooksStageDuration(Stage stage, long duration) {
+        hooks().stage(stage).updateTimer(MetricName.duration, duration);
+    }
+
     public void updateAccountHooksMetrics(
             Account account,
             String moduleCode,
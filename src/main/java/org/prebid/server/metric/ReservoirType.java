@@ -0,0 +1,47 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.LockFreeExponentiallyDecayingReservoir;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
+import com.codahale.metrics.UniformReservoir;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reservoir used by histograms and timers measuring per-request values (bid prices, request times).
+ */
+public enum ReservoirType {
+
+    /**
+     * Default Dropwizard reservoir (size=1028, alpha=0.015), guarded by lock on each update.
+     */
+    exponentiallyDecaying,
+
+    /**
+     * Same statistical behaviour as {@link #exponentiallyDecaying}, but updated without locking.
+     */
+    lockFreeExponentiallyDecaying,
+
+    /**
+     * Random sampling (size=1028) over the whole lifetime of the metric, cheapest to update.
+     */
+    uniform,
+
+    /**
+     * All values of the last minute, precise but memory usage grows with throughput.
+     */
+    slidingTimeWindow;
+
+    private static final int SLIDING_TIME_WINDOW_SECONDS = 60;
+
+    Reservoir create() {
+        return switch (this) {
+            case exponentiallyDecaying -> new ExponentiallyDecayingReservoir();
+            case lockFreeExponentiallyDecaying -> LockFreeExponentiallyDecayingReservoir.builder().build();
+            case uniform -> new UniformReservoir();
+            case slidingTimeWindow -> new SlidingTimeWindowArrayReservoir(
+                    SLIDING_TIME_WINDOW_SECONDS, TimeUnit.SECONDS);
+        };
+    }
+}
@@ -3,7 +3,9 @@ package org.prebid.server.metric;
 import com.codahale.metrics.MetricRegistry;
 import org.prebid.server.exception.PreBidException;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -72,11 +74,22 @@ class TcfMetrics extends UpdatableMetrics {
 
     static class VendorListMetrics extends UpdatableMetrics {
 
+        private final Function<String, VendorListGenerationMetrics> generationMetricsCreator;
+        private final Map<String, VendorListGenerationMetrics> generationMetrics;
+
         VendorListMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
             super(
                     metricRegistry,
                     counterType,
                     nameCreator(createVersionPrefix(prefix)));
+
+            generationMetricsCreator = generation -> new VendorListGenerationMetrics(
+                    metricRegistry, counterType, createVersionPrefix(prefix), generation);
+            generationMetrics = new ConcurrentHashMap<>();
+        }
+
+        VendorListGenerationMetrics forGeneration(String generation) {
+            return generationMetrics.computeIfAbsent(generation, generationMetricsCreator);
         }
 
         private static String createVersionPrefix(String prefix) {
@@ -87,4 +100,22 @@ class TcfMetrics extends UpdatableMetrics {
             return metricName -> "%s.%s".formatted(prefix, metricName);
         }
     }
+
+    static class VendorListGenerationMetrics extends UpdatableMetrics {
+
+        VendorListGenerationMetrics(MetricRegistry metricRegistry,
+                                    CounterType counterType,
+                                    String prefix,
+                                    String generation) {
+
+            super(
+                    metricRegistry,
+                    counterType,
+                    nameCreator("%s.%s".formatted(prefix, Objects.requireNonNull(generation))));
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.%s".formatted(prefix, metricName);
+        }
+    }
 }
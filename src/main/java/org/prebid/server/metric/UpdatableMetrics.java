@@ -1,35 +1,46 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
+    private static final int METRIC_NAMES_COUNT = MetricName.values().length;
+
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
     private final MetricIncrementer incrementer;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    private final ReservoirType reservoirType;
+    // handles are bound to registry metrics on first update and then reused without registry lookup by name
+    private final AtomicReferenceArray<MetricHandle> handles;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
+        this(metricRegistry, counterType, ReservoirType.exponentiallyDecaying, nameCreator);
+    }
+
+    UpdatableMetrics(MetricRegistry metricRegistry,
+                     CounterType counterType,
+                     ReservoirType reservoirType,
+                     Function<MetricName, String> nameCreator) {
+
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
+        this.reservoirType = reservoirType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        handles = new AtomicReferenceArray<>(METRIC_NAMES_COUNT);
 
         incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+            case flushingCounter -> (registry, metricName) -> registry.counter(metricName, ResettingCounter::new)::inc;
+            case counter -> (registry, metricName) -> registry.counter(metricName)::inc;
+            case meter -> (registry, metricName) -> registry.meter(metricName)::mark;
         };
     }
 
@@ -44,14 +55,21 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        handle(metricName).counter().accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value in given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit timeUnit) {
+        handle(metricName).timer().update(duration, timeUnit);
     }
 
     /**
@@ -59,19 +77,29 @@ class UpdatableMetrics {
      */
     void updateHistogram(MetricName metricName, long value) {
         // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        handle(metricName).histogram().update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
-        metricRegistry.gauge(name(metricName), () -> supplier::getAsLong);
+        metricRegistry.gauge(handle(metricName).name, () -> supplier::getAsLong);
     }
 
     void removeMetric(MetricName metricName) {
-        metricRegistry.remove(name(metricName));
+        metricRegistry.remove(handle(metricName).name);
+        // drop bound metrics, so next update registers them again
+        handles.set(metricName.ordinal(), null);
     }
 
-    private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+    private MetricHandle handle(MetricName metricName) {
+        final int index = metricName.ordinal();
+        final MetricHandle handle = handles.get(index);
+        if (handle != null) {
+            return handle;
+        }
+
+        final MetricHandle newHandle = new MetricHandle(nameCreator.apply(metricName));
+        final MetricHandle existingHandle = handles.compareAndExchange(index, null, newHandle);
+        return existingHandle != null ? existingHandle : newHandle;
     }
 
     public CounterType getCounterType() {
@@ -80,6 +108,52 @@ class UpdatableMetrics {
 
     @FunctionalInterface
     private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+        LongConsumer bind(MetricRegistry metricRegistry, String metricName);
+    }
+
+    /**
+     * Metrics of the registry bound to a single metric name.
+     * <p>
+     * Fields are lazily initialized without synchronization: in case of race each thread resolves the same
+     * metric instance from thread-safe registry, and bound metrics are safely published by their final fields.
+     */
+    private final class MetricHandle {
+
+        private final String name;
+
+        private LongConsumer counter;
+        private Timer timer;
+        private Histogram histogram;
+
+        private MetricHandle(String name) {
+            this.name = name;
+        }
+
+        private LongConsumer counter() {
+            LongConsumer result = counter;
+            if (result == null) {
+                result = incrementer.bind(metricRegistry, name);
+                counter = result;
+            }
+            return result;
+        }
+
+        private Timer timer() {
+            Timer result = timer;
+            if (result == null) {
+                result = metricRegistry.timer(name, () -> new Timer(reservoirType.create()));
+                timer = result;
+            }
+            return result;
+        }
+
+        private Histogram histogram() {
+            Histogram result = histogram;
+            if (result == null) {
+                result = metricRegistry.histogram(name, () -> new Histogram(reservoirType.create()));
+                histogram = result;
+            }
+            return result;
+        }
     }
 }
@@ -0,0 +1,68 @@
+package org.prebid.server.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Immutable body of http message.
+ * <p>
+ * Body received from the network is held as raw bytes and is decoded directly from them, its string representation
+ * is created lazily once, e.g. for debug output. Raw bytes are never exposed, so the body can be safely shared.
+ */
+public final class HttpBody {
+
+    private static final HttpBody EMPTY = new HttpBody(null, null);
+
+    private final byte[] bytes;
+
+    // racy single-check idiom is fine here: String is immutable and re-creating it is harmless
+    private String string;
+
+    private HttpBody(byte[] bytes, String string) {
+        this.bytes = bytes;
+        this.string = string;
+    }
+
+    public static HttpBody of(String body) {
+        return body != null ? new HttpBody(null, body) : EMPTY;
+    }
+
+    /**
+     * Creates body owning the given array, so it should not be modified by the caller afterwards.
+     */
+    public static HttpBody ofBytes(byte[] body) {
+        return body != null ? new HttpBody(body, null) : EMPTY;
+    }
+
+    public String asString() {
+        if (string == null && bytes != null) {
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    public <T> T decode(ObjectMapper mapper, Class<T> type) throws IOException {
+        return bytes != null ? mapper.readValue(bytes, type) : mapper.readValue(string, type);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof HttpBody that && Objects.equals(asString(), that.asString());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(asString());
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
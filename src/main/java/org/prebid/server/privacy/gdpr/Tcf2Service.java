@@ -12,9 +12,10 @@ import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.specialfeature.SpecialFeaturesStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.CompactVendorList;
+import org.prebid.server.privacy.gdpr.vendorlist.GvlVendor;
 import org.prebid.server.privacy.gdpr.vendorlist.VersionedVendorListService;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
-import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.EnforcePurpose;
 import org.prebid.server.settings.model.GdprConfig;
@@ -30,7 +31,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -107,14 +107,14 @@ public class Tcf2Service {
                 toVendorPermissionsByType(vendorPermissions, accountGdprConfig);
 
         return versionedVendorListService.forConsent(tcfConsent)
-                .compose(vendorGvlPermissions -> processSupportedPurposeStrategies(
+                .compose(vendorList -> processSupportedPurposeStrategies(
                                 tcfConsent,
-                                wrapWithGVL(vendorPermissionsByType, vendorGvlPermissions),
+                                wrapWithGVL(vendorPermissionsByType, vendorList),
                                 mergedPurposes,
                                 mergedPurposeOneTreatmentInterpretation),
                         ignored -> processDowngradedSupportedPurposeStrategies(
                                 tcfConsent,
-                                wrapWithGVL(vendorPermissionsByType, Collections.emptyMap()),
+                                wrapWithGVL(vendorPermissionsByType, CompactVendorList.EMPTY),
                                 mergedPurposes,
                                 mergedPurposeOneTreatmentInterpretation))
                 .map(ignored -> enforcePurpose4IfRequired(mergedPurposes, vendorPermissionsByType))
@@ -146,29 +146,26 @@ public class Tcf2Service {
 
     private static VendorPermissionsByType<VendorPermissionWithGvl> wrapWithGVL(
             VendorPermissionsByType<VendorPermission> vendorPermissionsByType,
-            Map<Integer, Vendor> vendorGvlPermissions) {
+            CompactVendorList vendorList) {
 
         final List<VendorPermissionWithGvl> weakPermissions = vendorPermissionsByType.getWeakPermissions().stream()
-                .map(vendorPermission -> wrapWithGVL(vendorPermission, vendorGvlPermissions))
+                .map(vendorPermission -> wrapWithGVL(vendorPermission, vendorList))
                 .toList();
 
         final List<VendorPermissionWithGvl> standardPermissions = vendorPermissionsByType.getStandardPermissions()
                 .stream()
-                .map(vendorPermission -> wrapWithGVL(vendorPermission, vendorGvlPermissions))
+                .map(vendorPermission -> wrapWithGVL(vendorPermission, vendorList))
                 .toList();
 
         return VendorPermissionsByType.of(weakPermissions, standardPermissions);
     }
 
     private static VendorPermissionWithGvl wrapWithGVL(VendorPermission vendorPermission,
-                                                       Map<Integer, Vendor> vendorGvlPermissions) {
+                                                       CompactVendorList vendorList) {
 
-        final Integer vendorId = vendorPermission.getVendorId();
-        final Vendor vendorGvlByVendorId = Optional.ofNullable(vendorId)
-                .map(vendorGvlPermissions::get)
-                .orElseGet(() -> Vendor.empty(vendorId));
+        final GvlVendor vendorGvl = vendorList.vendor(vendorPermission.getVendorId());
 
-        return VendorPermissionWithGvl.of(vendorPermission, vendorGvlByVendorId);
+        return VendorPermissionWithGvl.of(vendorPermission, vendorGvl != null ? vendorGvl : GvlVendor.EMPTY);
     }
 
     private Future<Void> processSupportedPurposeStrategies(
@@ -1,12 +1,12 @@
 package org.prebid.server.privacy.gdpr.model;
 
 import lombok.Value;
-import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+import org.prebid.server.privacy.gdpr.vendorlist.GvlVendor;
 
 @Value(staticConstructor = "of")
 public class VendorPermissionWithGvl {
 
     VendorPermission vendorPermission;
 
-    Vendor vendor;
+    GvlVendor vendor;
 }
@@ -2,15 +2,13 @@ package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
 import com.iabtcf.decoder.TCString;
 import com.iabtcf.v2.RestrictionType;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.map.DefaultedMap;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
+import org.prebid.server.privacy.gdpr.vendorlist.GvlVendor;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
-import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 
 import java.util.Collection;
-import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -76,7 +74,7 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
     }
 
     /**
-     * Purpose is flexible when {@link Vendor} flexiblePurposes contains it.
+     * Purpose is flexible when {@link GvlVendor} flexiblePurposes contains it.
      * When it is not flexible:
      * <li>When it is contained in GVL purposes we reject REQUIRE_LEGITIMATE_INTEREST {@link RestrictionType}
      * and check purposeConsent and vendorConsent;</li>
@@ -101,20 +99,17 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
         }
 
         final Integer vendorId = vendorPermissionWithGvl.getVendorPermission().getVendorId();
-        final Vendor vendorGvl = vendorPermissionWithGvl.getVendor();
+        final GvlVendor vendorGvl = vendorPermissionWithGvl.getVendor();
 
-        final EnumSet<PurposeCode> flexiblePurposes = vendorGvl.getFlexiblePurposes();
-        final boolean isFlexible = CollectionUtils.isNotEmpty(flexiblePurposes) && flexiblePurposes.contains(purpose);
+        final boolean isFlexible = vendorGvl.hasFlexiblePurpose(purpose);
 
-        final EnumSet<PurposeCode> gvlPurposeCodes = vendorGvl.getPurposes();
-        if (gvlPurposeCodes != null && gvlPurposeCodes.contains(purpose)) {
+        if (vendorGvl.hasPurpose(purpose)) {
             return isFlexible
                     ? isAllowedByFlexible(purpose, vendorId, isEnforceVendor, tcString, restrictionType)
                     : isAllowedByNotFlexiblePurpose(purpose, vendorId, isEnforceVendor, tcString, restrictionType);
         }
 
-        final EnumSet<PurposeCode> legIntGvlPurposeCodes = vendorGvl.getLegIntPurposes();
-        if (legIntGvlPurposeCodes != null && legIntGvlPurposeCodes.contains(purpose)) {
+        if (vendorGvl.hasLegIntPurpose(purpose)) {
             return isFlexible
                     ? isAllowedByFlexible(purpose, vendorId, isEnforceVendor, tcString, restrictionType)
                     : isAllowedByNotFlexibleLegitimateInterest(
@@ -0,0 +1,72 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+
+import java.util.Map;
+
+/**
+ * Immutable memory-compact slice of vendor list version: vendors are kept in array with vendor ID as an index.
+ * <p>
+ * Vendor IDs are limited by 16 bits of TCF consent string, so vendors with greater IDs are never asked and skipped.
+ */
+public class CompactVendorList {
+
+    public static final CompactVendorList EMPTY = new CompactVendorList(new GvlVendor[0], 0);
+
+    private static final int MAX_VENDOR_ID = 0xFFFF;
+
+    // rough size of array header and reference, vendors itself are shared between versions
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 8;
+
+    private final GvlVendor[] vendors;
+    private final int size;
+
+    private CompactVendorList(GvlVendor[] vendors, int size) {
+        this.vendors = vendors;
+        this.size = size;
+    }
+
+    public static CompactVendorList of(Map<Integer, Vendor> idToVendor) {
+        int maxVendorId = -1;
+        for (Integer vendorId : idToVendor.keySet()) {
+            if (isValidVendorId(vendorId)) {
+                maxVendorId = Math.max(maxVendorId, vendorId);
+            }
+        }
+
+        final GvlVendor[] vendors = new GvlVendor[maxVendorId + 1];
+        int size = 0;
+        for (Map.Entry<Integer, Vendor> entry : idToVendor.entrySet()) {
+            final Integer vendorId = entry.getKey();
+            if (isValidVendorId(vendorId)) {
+                vendors[vendorId] = GvlVendor.of(entry.getValue());
+                size++;
+            }
+        }
+
+        return new CompactVendorList(vendors, size);
+    }
+
+    private static boolean isValidVendorId(Integer vendorId) {
+        return vendorId != null && vendorId >= 0 && vendorId <= MAX_VENDOR_ID;
+    }
+
+    /**
+     * Returns vendor declarations or null if vendor is absent in this vendor list version.
+     */
+    public GvlVendor vendor(Integer vendorId) {
+        return vendorId != null && vendorId >= 0 && vendorId < vendors.length ? vendors[vendorId] : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns approximate number of bytes retained by this version only.
+     */
+    public long estimatedSizeBytes() {
+        return ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * vendors.length;
+    }
+}
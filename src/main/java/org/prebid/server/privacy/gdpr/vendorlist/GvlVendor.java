@@ -0,0 +1,78 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import com.github.benmanes.caffeine.cache.Interner;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+
+import java.util.Set;
+
+/**
+ * Immutable GVL declarations of the vendor needed for purposes enforcement, with purposes kept as bitsets
+ * indexed by purpose code.
+ * <p>
+ * Instances are interned, so vendors with equal declarations share the same instance
+ * across all vendor list versions.
+ */
+@EqualsAndHashCode
+@ToString
+public class GvlVendor {
+
+    public static final GvlVendor EMPTY = new GvlVendor(0, 0, 0);
+
+    private static final Interner<GvlVendor> INTERNER = Interner.newWeakInterner();
+
+    private final int purposes;
+    private final int legIntPurposes;
+    private final int flexiblePurposes;
+
+    private GvlVendor(int purposes, int legIntPurposes, int flexiblePurposes) {
+        this.purposes = purposes;
+        this.legIntPurposes = legIntPurposes;
+        this.flexiblePurposes = flexiblePurposes;
+    }
+
+    public static GvlVendor of(Vendor vendor) {
+        if (vendor == null) {
+            return EMPTY;
+        }
+
+        final GvlVendor gvlVendor = new GvlVendor(
+                toBits(vendor.getPurposes()),
+                toBits(vendor.getLegIntPurposes()),
+                toBits(vendor.getFlexiblePurposes()));
+
+        return gvlVendor.equals(EMPTY) ? EMPTY : INTERNER.intern(gvlVendor);
+    }
+
+    public boolean hasPurpose(PurposeCode purpose) {
+        return contains(purposes, purpose);
+    }
+
+    public boolean hasLegIntPurpose(PurposeCode purpose) {
+        return contains(legIntPurposes, purpose);
+    }
+
+    public boolean hasFlexiblePurpose(PurposeCode purpose) {
+        return contains(flexiblePurposes, purpose);
+    }
+
+    private static int toBits(Set<PurposeCode> purposeCodes) {
+        int bits = 0;
+        if (purposeCodes != null) {
+            for (PurposeCode purposeCode : purposeCodes) {
+                bits |= bit(purposeCode);
+            }
+        }
+        return bits;
+    }
+
+    private static boolean contains(int bits, PurposeCode purpose) {
+        return purpose != null && (bits & bit(purpose)) != 0;
+    }
+
+    private static int bit(PurposeCode purposeCode) {
+        return 1 << purposeCode.code();
+    }
+}
@@ -1,5 +1,6 @@
 package org.prebid.server.privacy.gdpr.vendorlist;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
@@ -21,6 +22,7 @@ import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.VendorList;
+import org.prebid.server.settings.helper.SingleFlight;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -29,6 +31,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -46,6 +49,9 @@ import java.util.stream.Collectors;
  * So, on service creation we initialize in-memory cache from previously loaded vendor list on file system.
  * If request asks version that is absent in cache, we respond with failed result but start background process
  * to download new version and then put it to cache.
+ * <p>
+ * In-memory cache keeps {@link CompactVendorList} of limited number of versions, version evicted from it
+ * is loaded again from file system on demand.
  */
 public class VendorListService {
 
@@ -62,6 +68,7 @@ public class VendorListService {
     private final String endpointTemplate;
     private final int defaultTimeoutMs;
     private final long refreshMissingListPeriodMs;
+    private final int cacheMaxSize;
     private final boolean deprecated;
     private final Vertx vertx;
     private final FileSystem fileSystem;
@@ -72,11 +79,14 @@ public class VendorListService {
 
     /**
      * This is memory/performance optimized model slice:
-     * map of vendor list version -> map of vendor ID -> Vendors
+     * vendor list version -> vendor declarations indexed by vendor ID
      */
-    private final Map<Integer, Map<Integer, Vendor>> cache;
+    private final Cache<Integer, CompactVendorList> cache;
+
+    private final Set<Integer> persistedVersions;
+    private final SingleFlight<CompactVendorList> fileLoads;
 
-    private final Map<Integer, Vendor> fallbackVendorList;
+    private final CompactVendorList fallbackVendorList;
     private final Set<Integer> versionsToFallback;
     private final VendorListFetchThrottler fetchThrottler;
 
@@ -85,6 +95,7 @@ public class VendorListService {
                              String endpointTemplate,
                              int defaultTimeoutMs,
                              long refreshMissingListPeriodMs,
+                             int cacheMaxSize,
                              boolean deprecated,
                              String fallbackVendorListPath,
                              Vertx vertx,
@@ -100,6 +111,7 @@ public class VendorListService {
         this.endpointTemplate = Objects.requireNonNull(endpointTemplate);
         this.defaultTimeoutMs = defaultTimeoutMs;
         this.refreshMissingListPeriodMs = refreshMissingListPeriodMs;
+        this.cacheMaxSize = validateCacheMaxSize(cacheMaxSize);
         this.deprecated = deprecated;
         this.generationVersion = generationVersion;
         this.vertx = Objects.requireNonNull(vertx);
@@ -110,7 +122,13 @@ public class VendorListService {
         this.fetchThrottler = Objects.requireNonNull(fetchThrottler);
 
         createAndCheckWritePermissionsFor(fileSystem, cacheDir);
-        cache = Objects.requireNonNull(createCache(fileSystem, cacheDir));
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .executor(Runnable::run)
+                .build();
+        persistedVersions = ConcurrentHashMap.newKeySet();
+        fileLoads = new SingleFlight<>();
+        initCache(fileSystem, cacheDir);
 
         fallbackVendorList = StringUtils.isNotBlank(fallbackVendorListPath)
                 ? readFallbackVendorList(fallbackVendorListPath) : null;
@@ -119,6 +137,16 @@ public class VendorListService {
         }
         versionsToFallback = fallbackVendorList != null
                 ? ConcurrentHashMap.newKeySet() : null;
+
+        metrics.createPrivacyTcfVendorListCacheGauges(
+                getTcfVersion(), generationVersion, cache::estimatedSize, this::cachedBytes);
+    }
+
+    private static int validateCacheMaxSize(int cacheMaxSize) {
+        if (cacheMaxSize <= 0) {
+            throw new IllegalArgumentException("Vendor list cache max size must be positive");
+        }
+        return cacheMaxSize;
     }
 
     private void validateFallbackVendorListIfDeprecatedVersion() {
@@ -128,17 +156,21 @@ public class VendorListService {
     }
 
     /**
-     * Returns a map with vendor ID as a key and a set of purposes as a value for given vendor list version.
+     * Returns vendor declarations for given vendor list version.
      */
-    public Future<Map<Integer, Vendor>> forVersion(int version) {
+    public Future<CompactVendorList> forVersion(int version) {
         if (version <= 0) {
             return Future.failedFuture("TCF %d vendor list for version %s.%d not valid."
                     .formatted(getTcfVersion(), generationVersion, version));
         }
 
-        final Map<Integer, Vendor> idToVendor = cache.get(version);
-        if (idToVendor != null) {
-            return Future.succeededFuture(idToVendor);
+        final CompactVendorList vendorList = cache.getIfPresent(version);
+        if (vendorList != null) {
+            return Future.succeededFuture(vendorList);
+        }
+
+        if (persistedVersions.contains(version)) {
+            return fileLoads.execute(String.valueOf(version), () -> loadFromFile(version), VendorListService::noOp);
         }
 
         final int tcf = getTcfVersion();
@@ -176,11 +208,10 @@ public class VendorListService {
     }
 
     /**
-     * Returns a Map of vendor id to Vendors.
+     * Returns compact representation of vendors.
      */
-    private Map<Integer, Vendor> filterVendorIdToVendors(VendorList vendorList) {
-        return vendorList.getVendors().entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private static CompactVendorList toCompactVendorList(VendorList vendorList) {
+        return CompactVendorList.of(vendorList.getVendors());
     }
 
     /**
@@ -229,43 +260,72 @@ public class VendorListService {
     }
 
     /**
-     * Creates the cache from previously downloaded vendor lists.
+     * Initializes the cache from previously downloaded vendor lists, the latest versions are loaded
+     * up to the cache size, the rest are loaded on demand.
      */
-    private Map<Integer, Map<Integer, Vendor>> createCache(FileSystem fileSystem, String cacheDir) {
-        final Map<String, String> versionToFileContent = readFileSystemCache(fileSystem, cacheDir);
-
-        final Map<Integer, Map<Integer, Vendor>> cache = Caffeine.newBuilder()
-                .<Integer, Map<Integer, Vendor>>build()
-                .asMap();
-
-        for (Map.Entry<String, String> versionAndFileContent : versionToFileContent.entrySet()) {
-            final VendorList vendorList = toVendorList(versionAndFileContent.getValue());
-            final Map<Integer, Vendor> vendorIdToVendors = filterVendorIdToVendors(vendorList);
-
-            cache.put(Integer.valueOf(versionAndFileContent.getKey()), vendorIdToVendors);
-        }
-        return cache;
+    private void initCache(FileSystem fileSystem, String cacheDir) {
+        final Map<Integer, String> versionToFilepath = readFileSystemCache(fileSystem, cacheDir);
+        persistedVersions.addAll(versionToFilepath.keySet());
+
+        versionToFilepath.entrySet().stream()
+                .sorted(Map.Entry.<Integer, String>comparingByKey(Comparator.reverseOrder()))
+                .limit(cacheMaxSize)
+                .forEach(versionAndFilepath -> cache.put(
+                        versionAndFilepath.getKey(),
+                        toCompactVendorList(toVendorList(
+                                fileSystem.readFileBlocking(versionAndFilepath.getValue()).toString()))));
     }
 
     /**
-     * Reads files with .json extension in configured directory and
-     * returns a {@link Map} where key is a file name without .json extension and value is file content.
+     * Reads file names with .json extension in configured directory and
+     * returns a {@link Map} where key is a file name without .json extension and value is file path.
      */
-    private Map<String, String> readFileSystemCache(FileSystem fileSystem, String dir) {
+    private static Map<Integer, String> readFileSystemCache(FileSystem fileSystem, String dir) {
         return fileSystem.readDirBlocking(dir).stream()
                 .filter(filepath -> filepath.endsWith(JSON_SUFFIX))
-                .collect(Collectors.toMap(filepath -> StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX),
-                        filename -> fileSystem.readFileBlocking(filename).toString()));
+                .collect(Collectors.toMap(
+                        filepath -> Integer.valueOf(StringUtils.removeEnd(new File(filepath).getName(), JSON_SUFFIX)),
+                        filepath -> filepath));
+    }
+
+    /**
+     * Loads previously downloaded vendor list evicted from in-memory cache.
+     */
+    private Future<CompactVendorList> loadFromFile(int version) {
+        return fileSystem.readFile(filepath(version))
+                .map(buffer -> toCompactVendorList(toVendorList(buffer.toString())))
+                .onSuccess(vendorList -> cache.put(version, vendorList))
+                .onFailure(exception -> {
+                    // file is broken or removed, so version will be downloaded again on next request
+                    persistedVersions.remove(version);
+                    conditionalLogger.warn(
+                            "Could not load TCF %d vendor list for version %s.%d from file: %s"
+                                    .formatted(getTcfVersion(), generationVersion, version, exception.getMessage()),
+                            logSamplingRate);
+                });
+    }
+
+    private static void noOp() {
+    }
+
+    private String filepath(int version) {
+        return new File(cacheDir, version + JSON_SUFFIX).getPath();
+    }
+
+    private long cachedBytes() {
+        return cache.asMap().values().stream()
+                .mapToLong(CompactVendorList::estimatedSizeBytes)
+                .sum();
     }
 
-    private Map<Integer, Vendor> readFallbackVendorList(String fallbackVendorListPath) {
+    private CompactVendorList readFallbackVendorList(String fallbackVendorListPath) {
         final String vendorListContent = fileSystem.readFileBlocking(fallbackVendorListPath).toString();
         final VendorList vendorList = toVendorList(vendorListContent);
         if (!isValid(vendorList)) {
             throw new PreBidException("Fallback vendor list parsed but has invalid data: " + vendorListContent);
         }
 
-        return filterVendorIdToVendors(vendorList);
+        return toCompactVendorList(vendorList);
     }
 
     private boolean shouldFallback(int version) {
@@ -319,10 +379,11 @@ public class VendorListService {
     private Future<VendorListResult<VendorList>> saveToFile(VendorListResult<VendorList> vendorListResult) {
         final Promise<VendorListResult<VendorList>> promise = Promise.promise();
         final int version = vendorListResult.getVersion();
-        final String filepath = new File(cacheDir, version + JSON_SUFFIX).getPath();
+        final String filepath = filepath(version);
 
         fileSystem.writeFile(filepath, Buffer.buffer(vendorListResult.getVendorListAsString()), result -> {
             if (result.succeeded()) {
+                persistedVersions.add(version);
                 promise.complete(vendorListResult);
             } else {
                 conditionalLogger.error(
@@ -339,7 +400,7 @@ public class VendorListService {
     private Void updateCache(VendorListResult<VendorList> vendorListResult) {
         final int version = vendorListResult.getVersion();
 
-        cache.put(version, filterVendorIdToVendors(vendorListResult.getVendorList()));
+        cache.put(version, toCompactVendorList(vendorListResult.getVendorList()));
 
         final int tcf = getTcfVersion();
 
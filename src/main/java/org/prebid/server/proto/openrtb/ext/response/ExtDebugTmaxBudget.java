@@ -0,0 +1,30 @@
+package org.prebid.server.proto.openrtb.ext.response;
+
+import lombok.Value;
+
+/**
+ * Defines the contract for bidresponse.ext.debug.tmaxbudget.{bidder}
+ */
+@Value(staticConstructor = "of")
+public class ExtDebugTmaxBudget {
+
+    /**
+     * Timeout available for the bidder before latency-aware allocation.
+     */
+    Long budget;
+
+    /**
+     * Observed median response time of the bidder.
+     */
+    Long p50;
+
+    /**
+     * Timeout allocated for the bidder, absent if the bidder was skipped.
+     */
+    Long allocated;
+
+    /**
+     * True if the bidder was not called since its median response time exceeds the budget.
+     */
+    Boolean skipped;
+}
@@ -1,5 +1,6 @@
 package org.prebid.server.settings;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import io.vertx.core.Future;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
@@ -8,6 +9,7 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.helper.SingleFlight;
 import org.prebid.server.settings.helper.StoredDataFetcher;
 import org.prebid.server.settings.helper.StoredItemResolver;
 import org.prebid.server.settings.model.Account;
@@ -21,11 +23,18 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Adds caching functionality for {@link ApplicationSettings} implementation.
+ * <p>
+ * Concurrent misses of the same account, categories or stored data batch are coalesced into a single call to
+ * the delegate. If refresh ahead is enabled, entries requested shortly before their expiration are reloaded
+ * in background while the cached value is still served.
  */
 public class CachingApplicationSettings implements ApplicationSettings {
 
@@ -33,14 +42,19 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private final ApplicationSettings delegate;
 
-    private final Map<String, Account> accountCache;
+    private final Cache<String, Account> accountCache;
     private final Map<String, String> accountToErrorCache;
     private final Map<String, String> adServerPublisherToErrorCache;
-    private final Map<String, Map<String, String>> categoryConfigCache;
+    private final Cache<String, Map<String, String>> categoryConfigCache;
     private final SettingsCache cache;
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
     private final Metrics metrics;
+    private final long refreshAheadNanos;
+
+    private final SingleFlight<Account> accountLoads = new SingleFlight<>();
+    private final SingleFlight<Map<String, String>> categoryConfigLoads = new SingleFlight<>();
+    private final SingleFlight<StoredDataResult> storedDataLoads = new SingleFlight<>();
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
@@ -49,7 +63,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                       Metrics metrics,
                                       int ttl,
                                       int size,
-                                      int jitter) {
+                                      int jitter,
+                                      int refreshAhead) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -57,16 +72,20 @@ public class CachingApplicationSettings implements ApplicationSettings {
         if (jitter < 0 || jitter >= ttl) {
             throw new IllegalArgumentException("jitter must match the inequality: 0 <= jitter < ttl");
         }
+        if (refreshAhead < 0 || refreshAhead >= ttl) {
+            throw new IllegalArgumentException("refresh ahead must match the inequality: 0 <= refresh ahead < ttl");
+        }
 
         this.delegate = Objects.requireNonNull(delegate);
-        this.accountCache = SettingsCache.createCache(ttl, size, jitter);
+        this.accountCache = SettingsCache.buildCache(ttl, size, jitter);
         this.accountToErrorCache = SettingsCache.createCache(ttl, size, jitter);
         this.adServerPublisherToErrorCache = SettingsCache.createCache(ttl, size, jitter);
-        this.categoryConfigCache = SettingsCache.createCache(ttl, size, jitter);
+        this.categoryConfigCache = SettingsCache.buildCache(ttl, size, jitter);
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.metrics = Objects.requireNonNull(metrics);
+        this.refreshAheadNanos = TimeUnit.SECONDS.toNanos(refreshAhead);
     }
 
     /**
@@ -77,6 +96,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                accountLoads,
                 StringUtils.isBlank(accountId) ? StringUtils.EMPTY : accountId,
                 timeout,
                 delegate::getAccountById,
@@ -92,7 +112,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                   Set<String> impIds,
                                                   Timeout timeout) {
 
-        return getFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getFromCacheOrDelegate(
+                cache, MetricName.stored_request, accountId, requestIds, impIds, timeout, delegate::getStoredData);
     }
 
     /**
@@ -104,7 +125,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                      Set<String> impIds,
                                                      Timeout timeout) {
 
-        return getFromCacheOrDelegate(ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+        return getFromCacheOrDelegate(
+                ampCache, MetricName.amp_stored_request, accountId, requestIds, impIds, timeout,
+                delegate::getAmpStoredData);
     }
 
     @Override
@@ -113,7 +136,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                        Set<String> impIds,
                                                        Timeout timeout) {
 
-        return getFromCacheOrDelegate(videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+        return getFromCacheOrDelegate(
+                videoCache, MetricName.video_stored_request, accountId, requestIds, impIds, timeout,
+                delegate::getVideoStoredData);
     }
 
     /**
@@ -130,22 +155,35 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 ? "%s_%s".formatted(primaryAdServer, publisher)
                 : primaryAdServer;
 
-        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, compoundKey, timeout,
+        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, categoryConfigLoads,
+                compoundKey, timeout,
                 (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
                 CachingApplicationSettings::noOp);
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+    private <T> Future<T> getFromCacheOrDelegate(Cache<String, T> cache,
+                                                 Map<String, String> accountToErrorCache,
+                                                 SingleFlight<T> loads,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 Consumer<MetricName> metricUpdater) {
+
+        final Supplier<Future<T>> loader = () -> retriever.apply(key, timeout)
+                .map(value -> {
+                    cache.put(key, value);
+                    return value;
+                })
+                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
 
-        final T cachedValue = cache.get(key);
+        final T cachedValue = cache.getIfPresent(key);
         if (cachedValue != null) {
             metricUpdater.accept(MetricName.hit);
 
+            if (isRefreshAheadRequired(cache, key)) {
+                loads.execute(key, refreshAheadLoader(loader, metricUpdater), CachingApplicationSettings::noOp);
+            }
+
             return Future.succeededFuture(cachedValue);
         }
 
@@ -156,12 +194,23 @@ public class CachingApplicationSettings implements ApplicationSettings {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
-        return retriever.apply(key, timeout)
-                .map(value -> {
-                    cache.put(key, value);
-                    return value;
-                })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+        return loads.execute(key, loader, () -> metricUpdater.accept(MetricName.coalesced));
+    }
+
+    private boolean isRefreshAheadRequired(Cache<String, ?> cache, String key) {
+        return refreshAheadNanos > 0 && SettingsCache.isExpiringWithin(cache, key, refreshAheadNanos);
+    }
+
+    /**
+     * Reloads entry in background, cached value stays in use until reload succeeds or entry expires.
+     */
+    private static <T> Supplier<Future<T>> refreshAheadLoader(Supplier<Future<T>> loader,
+                                                              Consumer<MetricName> metricUpdater) {
+
+        return () -> {
+            metricUpdater.accept(MetricName.refresh_ahead);
+            return loader.get();
+        };
     }
 
     /**
@@ -169,9 +218,12 @@ public class CachingApplicationSettings implements ApplicationSettings {
      * source, combines results and updates cache with missed stored item. In case when origin source returns failed
      * {@link Future} propagates its result to caller. In successive call return {@link Future&lt;StoredDataResult&gt;}
      * with all found stored items and error from origin source id call was made.
+     * <p>
+     * Concurrent look ups of the same missed ids batch are made once.
      */
-    private static Future<StoredDataResult> getFromCacheOrDelegate(
+    private Future<StoredDataResult> getFromCacheOrDelegate(
             SettingsCache cache,
+            MetricName cacheType,
             String accountId,
             Set<String> requestIds,
             Set<String> impIds,
@@ -194,28 +246,99 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 missedImpIds);
 
         if (missedRequestIds.isEmpty() && missedImpIds.isEmpty()) {
+            metrics.updateSettingsCacheEventMetric(cacheType, MetricName.hit);
+            refreshAheadIfRequired(cache, cacheType, normalizedAccountId, requestIds, impIds, timeout, retriever);
+
             return Future.succeededFuture(
                     StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList()));
         }
 
+        metrics.updateSettingsCacheEventMetric(cacheType, MetricName.miss);
+
         // delegate call to original source for missed ids and update cache with it
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, String> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
+        final Supplier<Future<StoredDataResult>> loader =
+                storedDataLoader(cache, normalizedAccountId, missedRequestIds, missedImpIds, timeout, retriever);
+
+        return storedDataLoads.execute(
+                        storedDataKey(cacheType, normalizedAccountId, missedRequestIds, missedImpIds),
+                        loader,
+                        () -> metrics.updateSettingsCacheEventMetric(cacheType, MetricName.coalesced))
+                .map(result -> {
+                    storedIdToRequest.putAll(result.getStoredIdToRequest());
+                    storedIdToImp.putAll(result.getStoredIdToImp());
+
+                    return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
+                });
+    }
+
+    private void refreshAheadIfRequired(
+            SettingsCache cache,
+            MetricName cacheType,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever) {
+
+        if (refreshAheadNanos <= 0) {
+            return;
+        }
+
+        final Set<String> expiringRequestIds = new HashSet<>();
+        for (String requestId : requestIds) {
+            if (cache.isRequestExpiringWithin(requestId, refreshAheadNanos)) {
+                expiringRequestIds.add(requestId);
             }
+        }
+
+        final Set<String> expiringImpIds = new HashSet<>();
+        for (String impId : impIds) {
+            if (cache.isImpExpiringWithin(impId, refreshAheadNanos)) {
+                expiringImpIds.add(impId);
+            }
+        }
+
+        if (expiringRequestIds.isEmpty() && expiringImpIds.isEmpty()) {
+            return;
+        }
+
+        final Supplier<Future<StoredDataResult>> loader =
+                storedDataLoader(cache, accountId, expiringRequestIds, expiringImpIds, timeout, retriever);
+
+        storedDataLoads.execute(
+                storedDataKey(cacheType, accountId, expiringRequestIds, expiringImpIds),
+                refreshAheadLoader(loader, event -> metrics.updateSettingsCacheEventMetric(cacheType, event)),
+                CachingApplicationSettings::noOp);
+    }
 
-            final Map<String, String> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
+    private static Supplier<Future<StoredDataResult>> storedDataLoader(
+            SettingsCache cache,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever) {
+
+        return () -> retriever.apply(accountId, requestIds, impIds, timeout).map(result -> {
+            for (Map.Entry<String, String> entry : result.getStoredIdToRequest().entrySet()) {
+                cache.saveRequestCache(accountId, entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, String> entry : result.getStoredIdToImp().entrySet()) {
+                cache.saveImpCache(accountId, entry.getKey(), entry.getValue());
             }
 
-            return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
+            return result;
         });
     }
 
+    private static String storedDataKey(MetricName cacheType,
+                                        String accountId,
+                                        Set<String> requestIds,
+                                        Set<String> impIds) {
+
+        return "%s|%s|%s|%s".formatted(cacheType, accountId, new TreeSet<>(requestIds), new TreeSet<>(impIds));
+    }
+
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
                                                             String key,
                                                             Map<String, String> cache) {
@@ -247,11 +370,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     public void invalidateAccountCache(String accountId) {
-        accountCache.remove(accountId);
+        accountCache.invalidate(accountId);
         accountToErrorCache.remove(accountId);
         logger.debug("Account with id {} was invalidated", accountId);
     }
 
+    private static void noOp() {
+    }
+
     private static <ANY> void noOp(ANY any) {
     }
 }
@@ -0,0 +1,72 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps pre-parsed {@link JsonNode} snapshots of stored requests and imps, so the same stored document
+ * is not parsed again on every auction.
+ * <p>
+ * Snapshots are keyed by the raw stored data they were parsed from, so any update of the underlying
+ * settings (re-fetch, cache notification, invalidation) naturally results in a new snapshot.
+ * <p>
+ * Returned nodes are shared between requests and must never be mutated, use
+ * {@link org.prebid.server.json.JsonMerger#merge(Object, JsonNode, String, Class)} which works on a copy.
+ */
+public class ParsedStoredDataCache {
+
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+
+    private final Map<String, JsonNode> cache;
+
+    public ParsedStoredDataCache(int ttl, int size, int jitter, JacksonMapper mapper, Metrics metrics) {
+        if (ttl <= 0 || size <= 0) {
+            throw new IllegalArgumentException("ttl and size must be positive");
+        }
+        if (jitter < 0 || jitter >= ttl) {
+            throw new IllegalArgumentException("jitter must match the inequality: 0 <= jitter < ttl");
+        }
+
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = SettingsCache.createCache(ttl, size, jitter);
+    }
+
+    /**
+     * Returns parsed snapshot of given stored data. In case of invalid JSON throws {@link InvalidRequestException}
+     * with the same message {@link org.prebid.server.json.JsonMerger} uses for unparseable stored data.
+     */
+    public JsonNode get(String id, String storedData) {
+        final JsonNode cachedNode = storedData != null ? cache.get(storedData) : null;
+        if (cachedNode != null) {
+            metrics.updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.hit);
+            return cachedNode;
+        }
+
+        metrics.updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.miss);
+
+        final long startTime = System.nanoTime();
+        final JsonNode parsedNode = parse(id, storedData);
+        metrics.updateSettingsCacheParseTime(MetricName.parsed_stored_data, System.nanoTime() - startTime);
+
+        cache.put(storedData, parsedNode);
+        return parsedNode;
+    }
+
+    private JsonNode parse(String id, String storedData) {
+        try {
+            return mapper.mapper().readTree(storedData);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+    }
+}
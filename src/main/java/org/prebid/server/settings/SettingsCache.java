@@ -1,9 +1,9 @@
 package org.prebid.server.settings;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.prebid.server.settings.model.StoredItem;
 
@@ -11,16 +11,18 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Just a simple wrapper over in-memory caches for requests and imps.
  */
 public class SettingsCache implements CacheNotificationListener {
 
-    private final Map<String, Set<StoredItem>> requestCache;
-    private final Map<String, Set<StoredItem>> impCache;
+    private final Cache<String, Set<StoredItem>> requestCache;
+    private final Cache<String, Set<StoredItem>> impCache;
 
     public SettingsCache(int ttl, int size, int jitter) {
         if (ttl <= 0 || size <= 0) {
@@ -35,6 +37,10 @@ public class SettingsCache implements CacheNotificationListener {
     }
 
     public static <T> Map<String, T> createCache(int ttlSeconds, int size, int jitterSeconds) {
+        return SettingsCache.<T>buildCache(ttlSeconds, size, jitterSeconds).asMap();
+    }
+
+    static <T> Cache<String, T> buildCache(int ttlSeconds, int size, int jitterSeconds) {
         final long expireAfterNanos = (long) (ttlSeconds * 1e9);
         final long jitterNanos = jitterSeconds == 0 ? 0L : (long) (jitterSeconds * 1e9);
 
@@ -43,16 +49,33 @@ public class SettingsCache implements CacheNotificationListener {
                         ? new StaticExpiry<>(expireAfterNanos)
                         : new ExpiryWithJitter<>(expireAfterNanos, jitterNanos))
                 .maximumSize(size)
-                .<String, T>build()
-                .asMap();
+                .build();
+    }
+
+    /**
+     * Returns true if entry with given key is present in cache and will expire in less than given time.
+     */
+    static boolean isExpiringWithin(Cache<String, ?> cache, String key, long nanos) {
+        return cache.policy().expireVariably()
+                .map(expiry -> expiry.getExpiresAfter(key, TimeUnit.NANOSECONDS))
+                .map(expiresAfter -> expiresAfter.isPresent() && expiresAfter.getAsLong() <= nanos)
+                .orElse(false);
     }
 
     Map<String, Set<StoredItem>> getRequestCache() {
-        return requestCache;
+        return requestCache.asMap();
     }
 
     Map<String, Set<StoredItem>> getImpCache() {
-        return impCache;
+        return impCache.asMap();
+    }
+
+    boolean isRequestExpiringWithin(String requestId, long nanos) {
+        return isExpiringWithin(requestCache, requestId, nanos);
+    }
+
+    boolean isImpExpiringWithin(String impId, long nanos) {
+        return isExpiringWithin(impCache, impId, nanos);
     }
 
     void saveRequestCache(String accountId, String requestId, String requestValue) {
@@ -63,12 +86,24 @@ public class SettingsCache implements CacheNotificationListener {
         saveCachedValue(impCache, accountId, impId, impValue);
     }
 
-    private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
+    /**
+     * Replaces stored item of the account (if any), so refreshed value does not coexist with the previous one.
+     * Cached set is never modified in place, since it may be read concurrently.
+     */
+    private static void saveCachedValue(Cache<String, Set<StoredItem>> cache,
                                         String accountId,
                                         String id,
                                         String value) {
 
-        final Set<StoredItem> values = ObjectUtils.defaultIfNull(cache.get(id), new HashSet<>());
+        final Set<StoredItem> cachedValues = cache.getIfPresent(id);
+        final Set<StoredItem> values = new HashSet<>();
+        if (cachedValues != null) {
+            for (StoredItem storedItem : cachedValues) {
+                if (!Objects.equals(storedItem.getAccountId(), accountId)) {
+                    values.add(storedItem);
+                }
+            }
+        }
         values.add(StoredItem.of(accountId, value));
         cache.put(id, values);
     }
@@ -90,8 +125,8 @@ public class SettingsCache implements CacheNotificationListener {
 
     @Override
     public void invalidate(List<String> requests, List<String> imps) {
-        requests.forEach(requestCache.keySet()::remove);
-        imps.forEach(impCache.keySet()::remove);
+        requestCache.invalidateAll(requests);
+        impCache.invalidateAll(imps);
     }
 
     private static class StaticExpiry<K, V> implements Expiry<K, V> {
@@ -0,0 +1,78 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent loads of the same key: while load is in flight, all callers asking for the same key
+ * wait for that load instead of starting their own one, so expiration of popular cache entry results
+ * in a single call to the data source.
+ * <p>
+ * Each caller gets its own future completed on the caller context. Load is started with the timeout of the
+ * caller started it, so the caller joined the load which timed out starts its own load with its own loader.
+ */
+public class SingleFlight<T> {
+
+    private final Map<String, Future<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Returns future of the load in flight for given key (notifying coalesced listener), or starts a new one.
+     */
+    public Future<T> execute(String key, Supplier<Future<T>> loader, Runnable coalescedListener) {
+        final Promise<T> promise = Promise.promise();
+        final Future<T> future = promise.future();
+
+        final Future<T> inFlightFuture = inFlight.putIfAbsent(key, future);
+        if (inFlightFuture != null) {
+            coalescedListener.run();
+            return completedOnCallerContext(inFlightFuture)
+                    .recover(throwable -> throwable instanceof TimeoutException
+                            ? load(loader)
+                            : Future.failedFuture(throwable));
+        }
+
+        load(loader).onComplete(result -> {
+            inFlight.remove(key, future);
+            promise.handle(result);
+        });
+
+        return completedOnCallerContext(future);
+    }
+
+    private static <T> Future<T> load(Supplier<Future<T>> loader) {
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private static <T> Future<T> completedOnCallerContext(Future<T> future) {
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            return future;
+        }
+
+        final Promise<T> promise = Promise.promise();
+        future.onComplete(result -> {
+            if (Vertx.currentContext() == context) {
+                promise.handle(result);
+            } else {
+                context.runOnContext(ignored -> promise.handle(result));
+            }
+        });
+
+        return promise.future();
+    }
+
+    public boolean isInFlight(String key) {
+        return inFlight.containsKey(key);
+    }
+}
@@ -7,6 +7,9 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.dispatch.AnalyticsEventDispatcher;
+import org.prebid.server.analytics.dispatch.ContextAnalyticsEventDispatcher;
+import org.prebid.server.analytics.dispatch.QueuedAnalyticsEventDispatcher;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.analytics.reporter.agma.AgmaAnalyticsReporter;
 import org.prebid.server.analytics.reporter.agma.model.AgmaAnalyticsProperties;
@@ -29,6 +32,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.time.Clock;
@@ -40,9 +44,40 @@ import java.util.stream.Collectors;
 @Configuration
 public class AnalyticsConfiguration {
 
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "analytics.dispatch", name = "enabled", havingValue = "false", matchIfMissing = true)
+    AnalyticsEventDispatcher contextAnalyticsEventDispatcher(Vertx vertx) {
+        return new ContextAnalyticsEventDispatcher(vertx);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "analytics.dispatch", name = "enabled", havingValue = "true")
+    AnalyticsEventDispatcher queuedAnalyticsEventDispatcher(Vertx vertx,
+                                                            AnalyticsDispatchProperties properties,
+                                                            Metrics metrics,
+                                                            Clock clock) {
+
+        return new QueuedAnalyticsEventDispatcher(
+                vertx,
+                metrics,
+                clock,
+                properties.getQueueCapacity(),
+                properties.getBatchSize(),
+                properties.getOverflowPolicy(),
+                properties.getSamplingRate());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "analytics.dispatch", name = "enabled", havingValue = "true")
+    @ConfigurationProperties(prefix = "analytics.dispatch")
+    AnalyticsDispatchProperties analyticsDispatchProperties() {
+        return new AnalyticsDispatchProperties();
+    }
+
     @Bean
     AnalyticsReporterDelegator analyticsReporterDelegator(
-            Vertx vertx,
+            AnalyticsEventDispatcher analyticsEventDispatcher,
             @Autowired(required = false) List<AnalyticsReporter> delegates,
             TcfEnforcement tcfEnforcement,
             UserFpdActivityMask userFpdActivityMask,
@@ -52,7 +87,7 @@ public class AnalyticsConfiguration {
             JacksonMapper mapper) {
 
         return new AnalyticsReporterDelegator(
-                vertx,
+                analyticsEventDispatcher,
                 ListUtils.emptyIfNull(delegates),
                 tcfEnforcement,
                 userFpdActivityMask,
@@ -62,6 +97,23 @@ public class AnalyticsConfiguration {
                 mapper);
     }
 
+    @Validated
+    @NoArgsConstructor
+    @Data
+    private static class AnalyticsDispatchProperties {
+
+        @Min(1)
+        private int queueCapacity;
+
+        @Min(1)
+        private int batchSize;
+
+        @NotNull
+        private QueuedAnalyticsEventDispatcher.OverflowPolicy overflowPolicy;
+
+        private double samplingRate;
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "analytics.log", name = "enabled", havingValue = "true")
     LogAnalyticsReporter logAnalyticsReporter(JacksonMapper mapper) {
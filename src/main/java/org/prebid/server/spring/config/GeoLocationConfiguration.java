@@ -59,9 +59,13 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+                                                   Vertx vertx,
+                                                   Metrics metrics,
+                                                   @Value("${geolocation.maxmind.cache-size:0}") int cacheSize,
+                                                   @Value("${geolocation.maxmind.country-only:false}")
+                                                   boolean countryOnly) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, vertx, metrics, cacheSize, countryOnly);
         }
 
         @Bean
@@ -71,16 +75,24 @@ public class GeoLocationConfiguration {
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
-                Clock clock) {
+                Clock clock,
+                @Value("${geolocation.maxmind.cache-size:0}") int cacheSize,
+                @Value("${geolocation.maxmind.country-only:false}") boolean countryOnly) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, vertx, metrics, cacheSize, countryOnly), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+        private GeoLocationService createGeoLocationService(FileSyncerProperties properties,
+                                                            Vertx vertx,
+                                                            Metrics metrics,
+                                                            int cacheSize,
+                                                            boolean countryOnly) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService =
+                    new MaxMindGeoLocationService(metrics, cacheSize, countryOnly);
             final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
             fileSyncer.sync();
             return maxMindGeoLocationService;
@@ -6,8 +6,10 @@ import lombok.NoArgsConstructor;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.hooks.execution.HookCatalog;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.GroupExecutionMode;
 import org.prebid.server.hooks.v1.Module;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.HooksAdminConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -15,6 +17,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.NotNull;
+
 import java.time.Clock;
 import java.util.Collection;
 import java.util.Collections;
@@ -34,6 +38,7 @@ public class HooksConfiguration {
                                         TimeoutFactory timeoutFactory,
                                         Vertx vertx,
                                         Clock clock,
+                                        Metrics metrics,
                                         JacksonMapper mapper,
                                         @Value("${settings.modules.require-config-to-invoke:false}")
                                         boolean isConfigToInvokeRequired) {
@@ -48,8 +53,10 @@ public class HooksConfiguration {
                 timeoutFactory,
                 vertx,
                 clock,
+                metrics,
                 mapper,
-                isConfigToInvokeRequired);
+                isConfigToInvokeRequired,
+                hooksConfiguration.getGroupExecutionMode());
     }
 
     @Bean
@@ -68,5 +75,8 @@ public class HooksConfiguration {
         String defaultAccountExecutionPlan;
 
         HooksAdminConfig admin;
+
+        @NotNull
+        GroupExecutionMode groupExecutionMode = GroupExecutionMode.ordered;
     }
 }
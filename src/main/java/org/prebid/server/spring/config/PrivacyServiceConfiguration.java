@@ -82,6 +82,7 @@ public class PrivacyServiceConfiguration {
                 vendorListServiceV2Properties.getHttpEndpointTemplate(),
                 defaultTimeoutMs,
                 vendorListServiceV2Properties.getRefreshMissingListPeriodMs(),
+                vendorListServiceV2Properties.getCacheMaxSize(),
                 vendorListServiceV2Properties.getDeprecated(),
                 vendorListServiceV2Properties.getFallbackVendorListPath(),
                 vertx,
@@ -117,6 +118,7 @@ public class PrivacyServiceConfiguration {
                 vendorListServiceV3Properties.getHttpEndpointTemplate(),
                 defaultTimeoutMs,
                 vendorListServiceV3Properties.getRefreshMissingListPeriodMs(),
+                vendorListServiceV3Properties.getCacheMaxSize(),
                 vendorListServiceV3Properties.getDeprecated(),
                 vendorListServiceV3Properties.getFallbackVendorListPath(),
                 vertx,
@@ -412,6 +414,9 @@ public class PrivacyServiceConfiguration {
         @Min(1)
         int refreshMissingListPeriodMs;
 
+        @Min(1)
+        int cacheMaxSize;
+
         String fallbackVendorListPath;
 
         @NotNull
@@ -5,7 +5,9 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
@@ -13,6 +15,8 @@ import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureC
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderLatencyTracker;
+import org.prebid.server.auction.BidderRequestsPreparationExecutor;
 import org.prebid.server.auction.BidsAdjuster;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.DsaEnforcer;
@@ -34,10 +38,14 @@ import org.prebid.server.auction.UidUpdater;
 import org.prebid.server.auction.VideoResponseFactory;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.auction.WinningBidComparatorFactory;
+import org.prebid.server.auction.WorkerPoolBidderRequestsPreparationExecutor;
 import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
 import org.prebid.server.auction.categorymapping.BasicCategoryMappingService;
 import org.prebid.server.auction.categorymapping.CategoryMappingService;
 import org.prebid.server.auction.categorymapping.NoOpCategoryMappingService;
+import org.prebid.server.auction.completion.AuctionCompletionPolicy;
+import org.prebid.server.auction.completion.AuctionCompletionTrackerFactory;
+import org.prebid.server.auction.completion.CollectedBidsCompletionTrackerFactory;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.gpp.CookieSyncGppService;
@@ -67,10 +75,14 @@ import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverter
 import org.prebid.server.bidadjustments.BidAdjustmentsProcessor;
 import org.prebid.server.bidadjustments.BidAdjustmentsResolver;
 import org.prebid.server.bidadjustments.BidAdjustmentsRetriever;
+import org.prebid.server.bidder.AdaptiveBidderConcurrencyLimiter;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderConcurrencyLimiter;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderHttpClientProfile;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
+import org.prebid.server.bidder.HttpBidderRequestCompressor;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
@@ -107,10 +119,12 @@ import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
+import org.prebid.server.spring.config.model.HttpClientConcurrencyLimitProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
@@ -124,6 +138,7 @@ import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.ProfiledHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -140,8 +155,10 @@ import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -280,9 +297,62 @@ public class ServiceConfiguration {
     TimeoutResolver auctionTimeoutResolver(
             @Value("${auction.biddertmax.min}") long minTimeout,
             @Value("${auction.biddertmax.max:#{0}}") long maxTimeout,
-            @Value("${auction.tmax-upstream-response-time}") long upstreamResponseTime) {
+            @Value("${auction.tmax-upstream-response-time}") long upstreamResponseTime,
+            @Autowired(required = false) BidderLatencyTracker bidderLatencyTracker) {
 
-        return new TimeoutResolver(minTimeout, maxTimeout, upstreamResponseTime);
+        return new TimeoutResolver(minTimeout, maxTimeout, upstreamResponseTime, bidderLatencyTracker);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.biddertmax.latency-aware", name = "enabled", havingValue = "true")
+    BidderLatencyTracker bidderLatencyTracker(
+            @Value("${auction.biddertmax.latency-aware.window-size}") int windowSize,
+            @Value("${auction.biddertmax.latency-aware.min-samples}") int minSamples,
+            @Value("${auction.biddertmax.latency-aware.tail-quantile}") double tailQuantile,
+            @Value("${auction.biddertmax.latency-aware.refresh-period-ms}") long refreshPeriodMs,
+            @Value("${auction.biddertmax.latency-aware.probe-period}") int probePeriod,
+            Clock clock) {
+
+        return new BidderLatencyTracker(windowSize, minSamples, tailQuantile, refreshPeriodMs, probePeriod, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.early-completion", name = "enabled", havingValue = "true")
+    AuctionCompletionTrackerFactory auctionCompletionTrackerFactory(
+            @Value("${auction.early-completion.policy}") AuctionCompletionPolicy policy,
+            @Value("${auction.early-completion.bids-per-imp}") int bidsPerImp,
+            @Value("${auction.early-completion.min-responded-ratio}") double minRespondedRatio) {
+
+        return new CollectedBidsCompletionTrackerFactory(policy, bidsPerImp, minRespondedRatio);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "auction.early-completion", name = "enabled", havingValue = "false", matchIfMissing = true)
+    AuctionCompletionTrackerFactory noOpAuctionCompletionTrackerFactory() {
+        return AuctionCompletionTrackerFactory.noOp();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.parallel-preparation", name = "enabled", havingValue = "true")
+    BidderRequestsPreparationExecutor bidderRequestsPreparationExecutor(
+            Vertx vertx,
+            @Value("${auction.parallel-preparation.pool-size}") int poolSize,
+            @Value("${auction.parallel-preparation.min-bidders-imps}") long minBiddersImps,
+            Metrics metrics) {
+
+        return new WorkerPoolBidderRequestsPreparationExecutor(
+                vertx.createSharedWorkerExecutor("bidder-requests-preparation", poolSize),
+                poolSize,
+                minBiddersImps,
+                metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "auction.parallel-preparation", name = "enabled", havingValue = "false", matchIfMissing = true)
+    BidderRequestsPreparationExecutor noOpBidderRequestsPreparationExecutor() {
+        return BidderRequestsPreparationExecutor.noOp();
     }
 
     @Bean
@@ -429,7 +499,6 @@ public class ServiceConfiguration {
             OrtbTypesResolver ortbTypesResolver,
             AuctionPrivacyContextFactory auctionPrivacyContextFactory,
             DebugResolver debugResolver,
-            JacksonMapper mapper,
             GeoLocationServiceWrapper geoLocationServiceWrapper,
             BidAdjustmentsRetriever bidAdjustmentsRetriever) {
 
@@ -446,7 +515,6 @@ public class ServiceConfiguration {
                 ortbTypesResolver,
                 auctionPrivacyContextFactory,
                 debugResolver,
-                mapper,
                 geoLocationServiceWrapper,
                 bidAdjustmentsRetriever);
     }
@@ -585,8 +653,13 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    HttpClient basicHttpClient(Vertx vertx,
+                               HttpClientProperties httpClientProperties,
+                               BidderCatalog bidderCatalog,
+                               Metrics metrics,
+                               Clock clock) {
+
+        return createHttpClient(vertx, httpClientProperties, bidderCatalog, metrics, clock);
     }
 
     @Bean
@@ -605,22 +678,67 @@ public class ServiceConfiguration {
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            BidderCatalog bidderCatalog,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createHttpClient(vertx, httpClientProperties, bidderCatalog, metrics, clock);
 
         return new CircuitBreakerSecuredHttpClient(
-                vertx,
                 httpClient,
                 metrics,
                 circuitBreakerProperties.getOpeningThreshold(),
                 circuitBreakerProperties.getOpeningIntervalMs(),
+                circuitBreakerProperties.getFailureRateThreshold(),
+                circuitBreakerProperties.getSlowCallDurationMs(),
+                circuitBreakerProperties.getSlowCallRateThreshold(),
                 circuitBreakerProperties.getClosingIntervalMs(),
+                circuitBreakerProperties.getHalfOpenMaxProbes(),
                 circuitBreakerProperties.getIdleExpireHours(),
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static HttpClient createHttpClient(Vertx vertx,
+                                               HttpClientProperties httpClientProperties,
+                                               BidderCatalog bidderCatalog,
+                                               Metrics metrics,
+                                               Clock clock) {
+
+        final Metrics poolMetrics = BooleanUtils.isTrue(httpClientProperties.getPoolMetricsEnabled()) ? metrics : null;
+        final HttpClient defaultHttpClient = createBasicHttpClient(
+                vertx, httpClientOptions(httpClientProperties), poolMetrics, clock);
+
+        // hosts are excluded from the client key, so bidders with equal profiles share the same client
+        final Map<BidderHttpClientProfile, HttpClient> profileToHttpClient = new HashMap<>();
+        final Map<String, HttpClient> hostToHttpClient = new HashMap<>();
+        for (String bidder : bidderCatalog.names()) {
+            final BidderHttpClientProfile profile = bidderCatalog.isActive(bidder)
+                    ? bidderCatalog.httpClientProfileByName(bidder)
+                    : null;
+            if (profile == null) {
+                continue;
+            }
+
+            final HttpClient profiledHttpClient = profileToHttpClient.computeIfAbsent(
+                    profile.toBuilder().hosts(null).build(),
+                    key -> createBasicHttpClient(
+                            vertx, httpClientOptions(httpClientProperties, key), poolMetrics, clock));
+            profile.getHosts().forEach(host -> hostToHttpClient.putIfAbsent(host, profiledHttpClient));
+        }
+
+        return hostToHttpClient.isEmpty()
+                ? defaultHttpClient
+                : new ProfiledHttpClient(defaultHttpClient, hostToHttpClient);
+    }
+
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         HttpClientOptions options,
+                                                         Metrics poolMetrics,
+                                                         Clock clock) {
+
+        return new BasicHttpClient(vertx, vertx.createHttpClient(options), poolMetrics, clock);
+    }
+
+    private static HttpClientOptions httpClientOptions(HttpClientProperties httpClientProperties) {
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -642,7 +760,49 @@ public class ServiceConfiguration {
                     .setKeyCertOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return options;
+    }
+
+    /**
+     * Creates options of the dedicated client: profile options override global ones. TLS sessions are resumed
+     * by the session cache of the client SSL context, so hosts of the profile share it within single client.
+     */
+    private static HttpClientOptions httpClientOptions(HttpClientProperties httpClientProperties,
+                                                       BidderHttpClientProfile profile) {
+
+        final HttpClientOptions options = httpClientOptions(httpClientProperties);
+
+        if (BooleanUtils.isTrue(profile.getHttp2())) {
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    // ALPN is needed to negotiate HTTP/2 over TLS, plain text connections are upgraded
+                    .setUseAlpn(true);
+        }
+        if (profile.getHttp2MaxPoolSize() != null) {
+            options.setHttp2MaxPoolSize(profile.getHttp2MaxPoolSize());
+        }
+        if (profile.getHttp2MultiplexingLimit() != null) {
+            options.setHttp2MultiplexingLimit(profile.getHttp2MultiplexingLimit());
+        }
+        if (profile.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(profile.getMaxPoolSize());
+        }
+        if (profile.getKeepAlive() != null) {
+            options.setKeepAlive(profile.getKeepAlive());
+        }
+        if (profile.getKeepAliveTimeoutSec() != null) {
+            options
+                    .setKeepAliveTimeout(profile.getKeepAliveTimeoutSec())
+                    .setHttp2KeepAliveTimeout(profile.getKeepAliveTimeoutSec());
+        }
+        if (profile.getPipelining() != null) {
+            options.setPipelining(profile.getPipelining());
+        }
+        if (profile.getPipeliningLimit() != null) {
+            options.setPipeliningLimit(profile.getPipeliningLimit());
+        }
+
+        return options;
     }
 
     @Bean
@@ -754,20 +914,52 @@ public class ServiceConfiguration {
         return new CompositeMediaTypeProcessor(mediaTypeProcessors);
     }
 
+    @Bean
+    @ConfigurationProperties(prefix = "http-client.concurrency-limit")
+    @ConditionalOnProperty(prefix = "http-client.concurrency-limit", name = "enabled", havingValue = "true")
+    HttpClientConcurrencyLimitProperties httpClientConcurrencyLimitProperties() {
+        return new HttpClientConcurrencyLimitProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "http-client.concurrency-limit", name = "enabled", havingValue = "true")
+    BidderConcurrencyLimiter bidderConcurrencyLimiter(HttpClientConcurrencyLimitProperties properties, Clock clock) {
+        return new AdaptiveBidderConcurrencyLimiter(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getLatencyThresholdRatio(),
+                properties.getBackoffRatio(),
+                clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "http-client.concurrency-limit", name = "enabled", havingValue = "false", matchIfMissing = true)
+    BidderConcurrencyLimiter noOpBidderConcurrencyLimiter() {
+        return BidderConcurrencyLimiter.noOp();
+    }
+
     @Bean
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            HttpBidderRequestCompressor requestCompressor,
+            BidderConcurrencyLimiter bidderConcurrencyLimiter,
+            JacksonMapper mapper,
+            @Value("${auction.share-serialized-fragments:false}") boolean shareSerializedFragments) {
 
         return new HttpBidderRequester(
                 httpClient,
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
+                requestCompressor,
+                bidderConcurrencyLimiter,
                 mapper,
+                shareSerializedFragments,
                 logSamplingRate);
     }
 
@@ -783,6 +975,11 @@ public class ServiceConfiguration {
         return new HttpBidderRequestEnricher(prebidVersionProvider, bidderCatalog);
     }
 
+    @Bean
+    HttpBidderRequestCompressor httpBidderRequestCompressor(BidderCatalog bidderCatalog, Metrics metrics) {
+        return new HttpBidderRequestCompressor(bidderCatalog, metrics);
+    }
+
     @Bean
     BidderErrorNotifier bidderErrorNotifier(
             @Value("${auction.timeout-notification.timeout-ms}") int timeoutNotificationTimeoutMs,
@@ -869,6 +1066,8 @@ public class ServiceConfiguration {
             TimeoutFactory timeoutFactory,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
             HttpBidderRequester httpBidderRequester,
+            AuctionCompletionTrackerFactory auctionCompletionTrackerFactory,
+            BidderRequestsPreparationExecutor bidderRequestsPreparationExecutor,
             BidResponseCreator bidResponseCreator,
             BidResponsePostProcessor bidResponsePostProcessor,
             HookStageExecutor hookStageExecutor,
@@ -897,6 +1096,8 @@ public class ServiceConfiguration {
                 timeoutFactory,
                 bidRequestOrtbVersionConversionManager,
                 httpBidderRequester,
+                auctionCompletionTrackerFactory,
+                bidderRequestsPreparationExecutor,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 hookStageExecutor,
@@ -929,7 +1130,8 @@ public class ServiceConfiguration {
             Metrics metrics,
             TimeoutFactory timeoutFactory,
             JacksonMapper mapper,
-            JsonMerger jsonMerger) {
+            JsonMerger jsonMerger,
+            @Autowired(required = false) ParsedStoredDataCache parsedStoredDataCache) {
 
         return new StoredRequestProcessor(
                 defaultTimeoutMs,
@@ -941,7 +1143,8 @@ public class ServiceConfiguration {
                 metrics,
                 timeoutFactory,
                 mapper,
-                jsonMerger);
+                jsonMerger,
+                parsedStoredDataCache);
     }
 
     @Bean
@@ -23,6 +23,7 @@ import org.prebid.server.settings.DatabaseApplicationSettings;
 import org.prebid.server.settings.EnrichingApplicationSettings;
 import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.S3ApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
@@ -437,7 +438,8 @@ public class SettingsConfiguration {
                     metrics,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    cacheProperties.getRefreshAheadSeconds());
         }
     }
 
@@ -482,6 +484,23 @@ public class SettingsConfiguration {
                     cacheProperties.getCacheSize(),
                     cacheProperties.getJitterSeconds());
         }
+
+        @Bean
+        @ConditionalOnProperty(
+                prefix = "settings.in-memory-cache",
+                name = "parsed-stored-data-enabled",
+                havingValue = "true")
+        ParsedStoredDataCache parsedStoredDataCache(ApplicationSettingsCacheProperties cacheProperties,
+                                                    JacksonMapper mapper,
+                                                    Metrics metrics) {
+
+            return new ParsedStoredDataCache(
+                    cacheProperties.getTtlSeconds(),
+                    cacheProperties.getCacheSize(),
+                    cacheProperties.getJitterSeconds(),
+                    mapper,
+                    metrics);
+        }
     }
 
     @Component
@@ -500,5 +519,8 @@ public class SettingsConfiguration {
         private Integer cacheSize;
         @Min(0)
         private int jitterSeconds;
+        @Min(0)
+        private int refreshAheadSeconds;
+        private boolean parsedStoredDataEnabled;
     }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.spring.config.bidder.model;
 
 import lombok.Data;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.util.GzipUtil;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotNull;
@@ -38,4 +39,6 @@ public class DefaultBidderConfigurationProperties {
     private final Map<String, String> extraInfo = Collections.emptyMap();
 
     private CompressionType endpointCompression = CompressionType.NONE;
+
+    private Integer endpointCompressionLevel = GzipUtil.DEFAULT_LEVEL;
 }
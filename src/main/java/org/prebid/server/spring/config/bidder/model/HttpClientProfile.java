@@ -0,0 +1,47 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import java.util.List;
+
+/**
+ * Options of the dedicated HTTP client used for bidder hosts instead of the shared one.
+ * <p>
+ * Not specified options are taken from global http-client configuration.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HttpClientProfile {
+
+    /**
+     * Hosts served by this client, bidder endpoint host is used if empty.
+     */
+    List<String> hosts;
+
+    Boolean http2;
+
+    @Min(1)
+    Integer http2MaxPoolSize;
+
+    @Min(1)
+    Integer http2MultiplexingLimit;
+
+    @Min(1)
+    Integer maxPoolSize;
+
+    Boolean keepAlive;
+
+    @Min(0)
+    Integer keepAliveTimeoutSec;
+
+    Boolean pipelining;
+
+    @Min(1)
+    Integer pipeliningLimit;
+}
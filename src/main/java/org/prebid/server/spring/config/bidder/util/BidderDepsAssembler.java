@@ -12,16 +12,19 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderHttpClientProfile;
 import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.bidder.BidderInstanceDeps;
 import org.prebid.server.bidder.DisabledBidder;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.HttpClientProfile;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.MetaInfo;
 import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
 import org.prebid.server.spring.config.bidder.model.usersync.UsersyncConfigurationProperties;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
+import org.prebid.server.util.HttpUtil;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.core.io.InputStreamResource;
@@ -143,9 +146,47 @@ public class BidderDepsAssembler<CFG extends BidderConfigurationProperties> {
                 .bidderInfo(bidderInfo)
                 .usersyncer(usersyncer)
                 .bidder(bidder(configProperties))
+                .httpClientProfile(httpClientProfile(bidderName, configProperties))
+                .compressionLevel(configProperties.getEndpointCompressionLevel())
                 .build();
     }
 
+    private static BidderHttpClientProfile httpClientProfile(String bidderName,
+                                                             BidderConfigurationProperties properties) {
+
+        final HttpClientProfile httpClientProfile = properties.getHttpClient();
+        if (httpClientProfile == null) {
+            return null;
+        }
+
+        return BidderHttpClientProfile.builder()
+                .hosts(CollectionUtils.isNotEmpty(httpClientProfile.getHosts())
+                        ? httpClientProfile.getHosts()
+                        : Collections.singletonList(endpointHost(bidderName, properties.getEndpoint())))
+                .http2(httpClientProfile.getHttp2())
+                .http2MaxPoolSize(httpClientProfile.getHttp2MaxPoolSize())
+                .http2MultiplexingLimit(httpClientProfile.getHttp2MultiplexingLimit())
+                .maxPoolSize(httpClientProfile.getMaxPoolSize())
+                .keepAlive(httpClientProfile.getKeepAlive())
+                .keepAliveTimeoutSec(httpClientProfile.getKeepAliveTimeoutSec())
+                .pipelining(httpClientProfile.getPipelining())
+                .pipeliningLimit(httpClientProfile.getPipeliningLimit())
+                .build();
+    }
+
+    private static String endpointHost(String bidderName, String endpoint) {
+        final String host = !StringUtils.contains(endpoint, HttpUtil.MACROS_OPEN)
+                ? HttpUtil.getHostFromUrl(endpoint)
+                : null;
+        if (StringUtils.isBlank(host)) {
+            throw new IllegalArgumentException(
+                    "Bidder %s has http-client profile without hosts, and its endpoint host can not be resolved"
+                            .formatted(bidderName));
+        }
+
+        return host;
+    }
+
     private Usersyncer usersyncer(CFG configProperties, CookieFamilySource cookieFamilySource) {
         final UsersyncConfigurationProperties usersync = configProperties.getUsersync();
         final boolean usersyncPresent = usersync != null
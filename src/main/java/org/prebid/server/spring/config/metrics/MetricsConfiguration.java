@@ -19,6 +19,7 @@ import org.prebid.server.auction.HooksMetricsService;
 import org.prebid.server.metric.AccountMetricsVerbosityResolver;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirType;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
 import org.slf4j.LoggerFactory;
@@ -108,10 +109,11 @@ public class MetricsConfiguration {
 
     @Bean
     Metrics metrics(@Value("${metrics.metricType}") CounterType counterType,
+                    @Value("${metrics.reservoirType}") ReservoirType reservoirType,
                     MetricRegistry metricRegistry,
                     AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
 
-        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver);
+        return new Metrics(metricRegistry, counterType, reservoirType, accountMetricsVerbosityResolver);
     }
 
     @Bean
@@ -17,4 +17,18 @@ public class HttpClientCircuitBreakerProperties extends CircuitBreakerProperties
     @NotNull
     @Min(1)
     private Integer idleExpireHours;
+
+    @NotNull
+    private Double failureRateThreshold = 0.0;
+
+    @NotNull
+    @Min(0)
+    private Long slowCallDurationMs = 0L;
+
+    @NotNull
+    private Double slowCallRateThreshold = 1.0;
+
+    @NotNull
+    @Min(1)
+    private Integer halfOpenMaxProbes = 1;
 }
@@ -33,4 +33,6 @@ public class HttpClientProperties {
     private String jksPath;
 
     private String jksPassword;
+
+    private Boolean poolMetricsEnabled;
 }
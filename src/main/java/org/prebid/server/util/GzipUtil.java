@@ -0,0 +1,115 @@
+package org.prebid.server.util;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * GZIP compression with per-thread reusable {@link Deflater}s and output buffer.
+ * <p>
+ * Produces the same format as {@link java.util.zip.GZIPOutputStream}, but does not set up native deflater
+ * and allocate intermediate streams per payload. Deflater is created once per thread and compression level
+ * and is reset between payloads. Threads are event loop and worker ones, so number of pooled deflaters
+ * is bounded by number of threads and levels. Native state of the deflaters is ended by their cleaner once
+ * the owning thread is gone.
+ */
+public final class GzipUtil {
+
+    public static final int DEFAULT_LEVEL = Deflater.DEFAULT_COMPRESSION;
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, // magic number
+            Deflater.DEFLATED, // compression method
+            0, // flags
+            0, 0, 0, 0, // modification time
+            0, // extra flags
+            0 // operating system
+    };
+    private static final int TRAILER_LENGTH = 8;
+    private static final int MIN_BUFFER_SIZE = 512;
+    // larger buffers are not kept by thread to not hold memory after rare big payloads
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+    private static final ThreadLocal<Compressor> COMPRESSOR = ThreadLocal.withInitial(Compressor::new);
+
+    private GzipUtil() {
+    }
+
+    public static byte[] gzip(byte[] value) {
+        return gzip(value, DEFAULT_LEVEL);
+    }
+
+    /**
+     * Compresses given value with given level, from 0 (no compression) to 9 (best compression)
+     * or -1 for default one.
+     */
+    public static byte[] gzip(byte[] value, int level) {
+        if (level < DEFAULT_LEVEL || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid gzip compression level: " + level);
+        }
+
+        return COMPRESSOR.get().compress(value, level);
+    }
+
+    private static final class Compressor {
+
+        // indexed by level + 1
+        private final Deflater[] deflaters = new Deflater[Deflater.BEST_COMPRESSION + 2];
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[MIN_BUFFER_SIZE];
+
+        private byte[] compress(byte[] value, int level) {
+            final Deflater deflater = deflater(level);
+            // deflated data of incompressible input is slightly bigger than input itself
+            byte[] output = buffer(HEADER.length + value.length + (value.length >> 7) + 64 + TRAILER_LENGTH);
+            System.arraycopy(HEADER, 0, output, 0, HEADER.length);
+            int length = HEADER.length;
+
+            try {
+                deflater.setInput(value);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    if (output.length - length < TRAILER_LENGTH + 1) {
+                        output = Arrays.copyOf(output, output.length * 2);
+                    }
+                    length += deflater.deflate(output, length, output.length - length - TRAILER_LENGTH);
+                }
+            } finally {
+                deflater.reset();
+            }
+
+            crc.reset();
+            crc.update(value);
+            length = writeIntLe(output, length, (int) crc.getValue());
+            length = writeIntLe(output, length, value.length);
+
+            if (output.length <= MAX_RETAINED_BUFFER_SIZE) {
+                buffer = output;
+            }
+
+            return Arrays.copyOf(output, length);
+        }
+
+        private Deflater deflater(int level) {
+            final int index = level + 1;
+            Deflater deflater = deflaters[index];
+            if (deflater == null) {
+                deflater = new Deflater(level, true);
+                deflaters[index] = deflater;
+            }
+            return deflater;
+        }
+
+        private byte[] buffer(int size) {
+            return buffer.length >= size ? buffer : new byte[Math.max(size, MIN_BUFFER_SIZE)];
+        }
+
+        private static int writeIntLe(byte[] output, int offset, int value) {
+            output[offset] = (byte) value;
+            output[offset + 1] = (byte) (value >> 8);
+            output[offset + 2] = (byte) (value >> 16);
+            output[offset + 3] = (byte) (value >> 24);
+            return offset + 4;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.prebid.server.util.system;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public final class ThreadCpuTime {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private ThreadCpuTime() {
+    }
+
+    /**
+     * Returns CPU time consumed by the current thread in nanoseconds or 0 if JVM doesn't support its measurement.
+     */
+    public static long current() {
+        return SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0L;
+    }
+}
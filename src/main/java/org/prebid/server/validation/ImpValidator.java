@@ -55,6 +55,17 @@ public class ImpValidator {
             + "OpenRTB-Native-Ads-Specification-Final-1.2.pdf";
     private static final String IMP_EXT = "imp";
 
+    private static final String IMP_ID = "id";
+    private static final String IMP_METRIC = "metric";
+    private static final String IMP_BANNER = "banner";
+    private static final String IMP_VIDEO = "video";
+    private static final String IMP_AUDIO = "audio";
+    private static final String IMP_NATIVE = "native";
+    private static final String IMP_PMP = "pmp";
+    private static final String IMP_INSTL = "instl";
+    private static final Set<String> VALIDATED_IMP_FIELDS = Set.of(
+            IMP_ID, IMP_METRIC, IMP_BANNER, IMP_VIDEO, IMP_AUDIO, IMP_NATIVE, IMP_PMP, IMP_INSTL);
+
     private final BidderParamValidator bidderParamValidator;
     private final BidderCatalog bidderCatalog;
     private final JacksonMapper mapper;
@@ -78,27 +89,57 @@ public class ImpValidator {
     }
 
     public void validateImp(Imp imp) throws ValidationException {
-        validateImp(imp, "imp[id=%s]".formatted(imp.getId()));
+        validateImp(imp, "imp[id=%s]".formatted(imp.getId()), VALIDATED_IMP_FIELDS);
+    }
+
+    /**
+     * Validates only those parts of already validated imp that depend on given changed imp fields (named as in
+     * OpenRTB), so imp with a couple of overridden fields is not revalidated as a whole.
+     */
+    public void validateImp(Imp imp, Set<String> changedFields) throws ValidationException {
+        validateImp(imp, "imp[id=%s]".formatted(imp.getId()), changedFields);
     }
 
     private void validateImp(Imp imp, String msgPrefix) throws ValidationException {
-        if (StringUtils.isBlank(imp.getId())) {
+        validateImp(imp, msgPrefix, VALIDATED_IMP_FIELDS);
+    }
+
+    private void validateImp(Imp imp, String msgPrefix, Set<String> fields) throws ValidationException {
+        if (fields.contains(IMP_ID) && StringUtils.isBlank(imp.getId())) {
             throw new ValidationException("%s missing required field: \"id\"", msgPrefix);
         }
-        if (imp.getMetric() != null && !imp.getMetric().isEmpty()) {
+        if (fields.contains(IMP_METRIC) && imp.getMetric() != null && !imp.getMetric().isEmpty()) {
             validateMetrics(imp.getMetric(), msgPrefix);
         }
-        if (imp.getBanner() == null && imp.getVideo() == null && imp.getAudio() == null && imp.getXNative() == null) {
+        if (isAnyMediaTypeChanged(fields)
+                && imp.getBanner() == null && imp.getVideo() == null && imp.getAudio() == null
+                && imp.getXNative() == null) {
+
             throw new ValidationException(
                     "%s must contain at least one of \"banner\", \"video\", \"audio\", or \"native\"",
                     msgPrefix);
         }
 
-        final boolean isInterstitialImp = Objects.equals(imp.getInstl(), 1);
-        validateBanner(imp.getBanner(), isInterstitialImp, msgPrefix);
-        validateVideoMimes(imp.getVideo(), msgPrefix);
-        validateAudioMimes(imp.getAudio(), msgPrefix);
-        validatePmp(imp.getPmp(), msgPrefix);
+        if (fields.contains(IMP_BANNER) || fields.contains(IMP_INSTL)) {
+            final boolean isInterstitialImp = Objects.equals(imp.getInstl(), 1);
+            validateBanner(imp.getBanner(), isInterstitialImp, msgPrefix);
+        }
+        if (fields.contains(IMP_VIDEO)) {
+            validateVideoMimes(imp.getVideo(), msgPrefix);
+        }
+        if (fields.contains(IMP_AUDIO)) {
+            validateAudioMimes(imp.getAudio(), msgPrefix);
+        }
+        if (fields.contains(IMP_PMP)) {
+            validatePmp(imp.getPmp(), msgPrefix);
+        }
+    }
+
+    private static boolean isAnyMediaTypeChanged(Set<String> fields) {
+        return fields.contains(IMP_BANNER)
+                || fields.contains(IMP_VIDEO)
+                || fields.contains(IMP_AUDIO)
+                || fields.contains(IMP_NATIVE);
     }
 
     private void fillAndValidateNative(Native xNative, int impIndex) throws ValidationException {
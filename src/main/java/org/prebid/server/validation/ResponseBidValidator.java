@@ -13,6 +13,7 @@ import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
@@ -86,7 +87,7 @@ public class ResponseBidValidator {
             validateCurrency(bidderBid.getBidCurrency());
             validateSeat(bidderBid, bidder, account, bidRejectionTracker, aliases);
 
-            final Imp correspondingImp = findCorrespondingImp(bid, bidRequest);
+            final Imp correspondingImp = findCorrespondingImp(bid, auctionContext.getImpIndex());
             if (bidderBid.getType() == BidType.banner) {
                 warnings.addAll(validateBannerFields(
                         bidderBid,
@@ -172,10 +173,8 @@ public class ResponseBidValidator {
         }
     }
 
-    private Imp findCorrespondingImp(Bid bid, BidRequest bidRequest) throws ValidationException {
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), bid.getImpid()))
-                .findFirst()
+    private Imp findCorrespondingImp(Bid bid, ImpIndex impIndex) throws ValidationException {
+        return impIndex.find(bid.getImpid())
                 .orElseThrow(() -> exceptionAndLogOnePercent(
                         "Bid \"%s\" has no corresponding imp in request".formatted(bid.getId())));
     }
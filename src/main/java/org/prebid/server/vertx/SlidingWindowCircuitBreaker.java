@@ -0,0 +1,255 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Handler;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Lightweight circuit breaker deciding on call outcomes observed over the sliding time window.
+ * <p>
+ * Unlike {@link CircuitBreaker} it doesn't wrap the operation: caller asks for a {@link Permit} with
+ * {@link #tryAcquire()} and reports the outcome with {@link #recordResult(Permit, boolean, long)}, so no extra
+ * futures are created per call.
+ * <p>
+ * Circuit is opened when either failures or slow calls reach configured number and share of the calls
+ * made within the window. After the closing interval a limited number of probe calls is let through:
+ * circuit is closed if all of them succeeded in time and is opened again otherwise.
+ */
+public class SlidingWindowCircuitBreaker {
+
+    private static final int BUCKETS_COUNT = 10;
+
+    private static final Permit CALL_PERMIT = new Permit();
+
+    private final int openingThreshold;
+    private final double failureRateThreshold;
+    private final long slowCallDurationMs;
+    private final double slowCallRateThreshold;
+    private final long closingIntervalMs;
+    private final int halfOpenMaxProbes;
+    private final long bucketDurationMs;
+    private final Clock clock;
+
+    // window is kept as a ring of buckets, each bucket holds outcomes of the calls completed within its time slot
+    private final long[] bucketSlots = new long[BUCKETS_COUNT];
+    private final int[] bucketCalls = new int[BUCKETS_COUNT];
+    private final int[] bucketFailures = new int[BUCKETS_COUNT];
+    private final int[] bucketSlowCalls = new int[BUCKETS_COUNT];
+
+    private Handler<Void> openHandler;
+    private Handler<Void> halfOpenHandler;
+    private Handler<Void> closeHandler;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    // issued anew on each half-opening, so outcomes of probes of the previous half-open state are not counted
+    private Permit probePermit;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    public SlidingWindowCircuitBreaker(int openingThreshold,
+                                       long openingIntervalMs,
+                                       double failureRateThreshold,
+                                       long slowCallDurationMs,
+                                       double slowCallRateThreshold,
+                                       long closingIntervalMs,
+                                       int halfOpenMaxProbes,
+                                       Clock clock) {
+
+        if (openingThreshold < 1 || halfOpenMaxProbes < 1) {
+            throw new IllegalArgumentException("Opening threshold and half-open max probes should be positive");
+        }
+        if (openingIntervalMs < BUCKETS_COUNT) {
+            throw new IllegalArgumentException("Opening interval should be at least " + BUCKETS_COUNT + " ms");
+        }
+        if (failureRateThreshold < 0 || failureRateThreshold > 1
+                || slowCallRateThreshold < 0 || slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("Failure and slow call rate thresholds should be in [0, 1]");
+        }
+
+        this.openingThreshold = openingThreshold;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDurationMs = slowCallDurationMs;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.closingIntervalMs = closingIntervalMs;
+        this.halfOpenMaxProbes = halfOpenMaxProbes;
+        this.bucketDurationMs = openingIntervalMs / BUCKETS_COUNT;
+        this.clock = Objects.requireNonNull(clock);
+
+        Arrays.fill(bucketSlots, -1);
+    }
+
+    /**
+     * Returns permit if the call is permitted or null otherwise. Outcome of the permitted call should be reported
+     * with {@link #recordResult(Permit, boolean, long)}.
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.CLOSED) {
+            return CALL_PERMIT;
+        }
+
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < closingIntervalMs) {
+                return null;
+            }
+            halfOpen();
+        }
+
+        if (probesInFlight >= halfOpenMaxProbes) {
+            return null;
+        }
+
+        probesInFlight++;
+        return probePermit;
+    }
+
+    /**
+     * Records the outcome of the call permitted with given {@link Permit}.
+     * <p>
+     * Only calls permitted in the current state are taken into account: calls started before the circuit was
+     * opened and probes of the previous half-open state are ignored.
+     */
+    public synchronized void recordResult(Permit permit, boolean failed, long durationMs) {
+        final boolean slow = !failed && slowCallDurationMs > 0 && durationMs > slowCallDurationMs;
+
+        switch (state) {
+            case CLOSED -> {
+                if (permit == CALL_PERMIT) {
+                    recordInWindow(failed, slow);
+                }
+            }
+            case HALF_OPEN -> {
+                if (permit == probePermit) {
+                    recordProbe(failed || slow);
+                }
+            }
+            case OPEN -> {
+                // circuit state is not changed until closing interval is passed
+            }
+        }
+    }
+
+    private void recordInWindow(boolean failed, boolean slow) {
+        final long now = clock.millis();
+        final long slot = now / bucketDurationMs;
+        final int bucket = (int) (slot % BUCKETS_COUNT);
+        if (bucketSlots[bucket] != slot) {
+            bucketSlots[bucket] = slot;
+            bucketCalls[bucket] = 0;
+            bucketFailures[bucket] = 0;
+            bucketSlowCalls[bucket] = 0;
+        }
+
+        bucketCalls[bucket]++;
+        if (failed) {
+            bucketFailures[bucket]++;
+        } else if (slow) {
+            bucketSlowCalls[bucket]++;
+        } else {
+            // successful call can't open the circuit
+            return;
+        }
+
+        int calls = 0;
+        int failures = 0;
+        int slowCalls = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            if (slot - bucketSlots[i] < BUCKETS_COUNT) {
+                calls += bucketCalls[i];
+                failures += bucketFailures[i];
+                slowCalls += bucketSlowCalls[i];
+            }
+        }
+
+        if (exceedsThreshold(failures, calls, failureRateThreshold)
+                || (slowCallDurationMs > 0 && exceedsThreshold(slowCalls, calls, slowCallRateThreshold))) {
+            open(now);
+        }
+    }
+
+    private boolean exceedsThreshold(int badCalls, int calls, double rateThreshold) {
+        return badCalls >= openingThreshold && badCalls >= calls * rateThreshold;
+    }
+
+    private void recordProbe(boolean failed) {
+        probesInFlight--;
+        if (failed) {
+            open(clock.millis());
+        } else if (++probesSucceeded >= halfOpenMaxProbes) {
+            close();
+        }
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+        notify(openHandler);
+    }
+
+    private void halfOpen() {
+        state = State.HALF_OPEN;
+        probePermit = new Permit();
+        probesInFlight = 0;
+        probesSucceeded = 0;
+        notify(halfOpenHandler);
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        Arrays.fill(bucketSlots, -1);
+        Arrays.fill(bucketCalls, 0);
+        Arrays.fill(bucketFailures, 0);
+        Arrays.fill(bucketSlowCalls, 0);
+        notify(closeHandler);
+    }
+
+    private static void notify(Handler<Void> handler) {
+        if (handler != null) {
+            handler.handle(null);
+        }
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
+     */
+    public SlidingWindowCircuitBreaker openHandler(Handler<Void> handler) {
+        openHandler = handler;
+        return this;
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
+     */
+    public SlidingWindowCircuitBreaker halfOpenHandler(Handler<Void> handler) {
+        halfOpenHandler = handler;
+        return this;
+    }
+
+    /**
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
+     */
+    public SlidingWindowCircuitBreaker closeHandler(Handler<Void> handler) {
+        closeHandler = handler;
+        return this;
+    }
+
+    public boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    private enum State {
+
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Permission for a single call, identifies the circuit state the call was permitted in.
+     */
+    public static final class Permit {
+
+        private Permit() {
+        }
+    }
+}
@@ -10,25 +10,38 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.HttpBody;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * If metrics are given, connection pool usage is reported per host: request is queued until
+ * Vert.x client obtains connection (or HTTP/2 stream) for it and is in use until response is completed.
  */
 public class BasicHttpClient implements HttpClient {
 
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final Metrics metrics;
+    private final Clock clock;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, null, null);
+    }
+
+    public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient, Metrics metrics, Clock clock) {
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = metrics;
+        this.clock = metrics != null ? Objects.requireNonNull(clock) : null;
     }
 
     @Override
@@ -71,7 +84,11 @@ public class BasicHttpClient implements HttpClient {
                 .setAbsoluteURI(absoluteUrl)
                 .setHeaders(headers);
 
+        final long requestStartTime = metrics != null ? clock.millis() : 0L;
         final Future<HttpClientRequest> requestFuture = makeRequest(options);
+        if (metrics != null) {
+            updatePoolMetrics(absoluteUrl.getHost(), requestStartTime, requestFuture, responsePromise.future());
+        }
 
         requestFuture
                 .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
@@ -92,6 +109,24 @@ public class BasicHttpClient implements HttpClient {
         }
     }
 
+    private void updatePoolMetrics(String host,
+                                   long requestStartTime,
+                                   Future<HttpClientRequest> requestFuture,
+                                   Future<HttpClientResponse> responseFuture) {
+
+        metrics.updateHttpClientPoolQueued(host, 1);
+        requestFuture
+                .onComplete(ignored -> {
+                    metrics.updateHttpClientPoolQueued(host, -1);
+                    metrics.updateHttpClientPoolWaitTime(host, clock.millis() - requestStartTime);
+                })
+                .onSuccess(ignored -> metrics.updateHttpClientPoolInUse(host, 1));
+
+        // handlers are called in order of registration, so in-use is decreased only after it was increased
+        responseFuture.onComplete(ignored ->
+                requestFuture.onSuccess(request -> metrics.updateHttpClientPoolInUse(host, -1)));
+    }
+
     private Future<HttpClientResponse> toInternalResponse(io.vertx.core.http.HttpClientResponse response,
                                                           long maxResponseSize) {
 
@@ -103,10 +138,10 @@ public class BasicHttpClient implements HttpClient {
         }
 
         return response.body()
-                .map(body -> HttpClientResponse.of(
+                .map(body -> HttpClientResponse.ofHttpBody(
                         response.statusCode(),
                         response.headers(),
-                        body.toString(StandardCharsets.UTF_8)));
+                        HttpBody.ofBytes(body.getBytes())));
 
     }
 }
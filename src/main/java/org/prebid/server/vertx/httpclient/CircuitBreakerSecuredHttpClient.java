@@ -1,16 +1,17 @@
 package org.prebid.server.vertx.httpclient;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.circuitbreaker.OpenCircuitException;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
-import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
-import org.prebid.server.vertx.CircuitBreaker;
+import org.prebid.server.vertx.SlidingWindowCircuitBreaker;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
@@ -20,9 +21,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Wrapper over {@link HttpClient} with circuit breaker functionality.
+ * <p>
+ * Circuit breaker is kept per host, calls to the host with open circuit are rejected without being sent.
  */
 public class CircuitBreakerSecuredHttpClient implements HttpClient {
 
@@ -30,28 +34,45 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
     private static final int LOG_PERIOD_SECONDS = 5;
 
-    private final Function<String, CircuitBreaker> circuitBreakerCreator;
-    private final Map<String, CircuitBreaker> circuitBreakerByName;
+    private final Function<String, SlidingWindowCircuitBreaker> circuitBreakerCreator;
+    private final Map<String, SlidingWindowCircuitBreaker> circuitBreakerByName;
 
     private final HttpClient httpClient;
+    private final Metrics metrics;
+    private final Clock clock;
 
-    public CircuitBreakerSecuredHttpClient(Vertx vertx,
-                                           HttpClient httpClient,
+    public CircuitBreakerSecuredHttpClient(HttpClient httpClient,
                                            Metrics metrics,
                                            int openingThreshold,
                                            long openingIntervalMs,
+                                           double failureRateThreshold,
+                                           long slowCallDurationMs,
+                                           double slowCallRateThreshold,
                                            long closingIntervalMs,
+                                           int halfOpenMaxProbes,
                                            int idleExpireHours,
                                            Clock clock) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
 
         circuitBreakerCreator = name -> createCircuitBreaker(
-                name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
+                name,
+                new SlidingWindowCircuitBreaker(
+                        openingThreshold,
+                        openingIntervalMs,
+                        failureRateThreshold,
+                        slowCallDurationMs,
+                        slowCallRateThreshold,
+                        closingIntervalMs,
+                        halfOpenMaxProbes,
+                        clock));
 
         circuitBreakerByName = Caffeine.newBuilder()
                 .expireAfterAccess(idleExpireHours, TimeUnit.HOURS)
-                .<String, CircuitBreaker>removalListener((name, cb, cause) -> removeCircuitBreakerGauge(name, metrics))
+                .<String, SlidingWindowCircuitBreaker>removalListener(
+                        (name, cb, cause) -> removeCircuitBreakerGauge(name, metrics))
                 .build()
                 .asMap();
 
@@ -68,10 +89,7 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                               long timeoutMs,
                                               long maxResponseSize) {
 
-        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
-                .execute(promise ->
-                        httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
-                                .onComplete(promise));
+        return executeSecured(url, () -> httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize));
     }
 
     @Override
@@ -81,45 +99,45 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                               byte[] body,
                                               long timeoutMs,
                                               long maxResponseSize) {
-        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
-                .execute(promise ->
-                        httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize)
-                                .onComplete(promise));
+        return executeSecured(url, () -> httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize));
     }
 
-    private CircuitBreaker createCircuitBreaker(String name,
-                                                Vertx vertx,
-                                                int openingThreshold,
-                                                long openingIntervalMs,
-                                                long closingIntervalMs,
-                                                Clock clock,
-                                                Metrics metrics) {
-
-        final CircuitBreaker circuitBreaker = new CircuitBreaker(
-                "http_cb_" + name,
-                Objects.requireNonNull(vertx),
-                openingThreshold,
-                openingIntervalMs,
-                closingIntervalMs,
-                Objects.requireNonNull(clock))
+    private Future<HttpClientResponse> executeSecured(String url, Supplier<Future<HttpClientResponse>> call) {
+        final String name = nameFrom(url);
+        final SlidingWindowCircuitBreaker circuitBreaker = circuitBreakerByName.computeIfAbsent(
+                name, circuitBreakerCreator);
+        final SlidingWindowCircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            return rejectCall(name);
+        }
+
+        final long startTime = clock.millis();
+        return call.get().onComplete(result ->
+                circuitBreaker.recordResult(permit, result.failed(), clock.millis() - startTime));
+    }
+
+    private <T> Future<T> rejectCall(String name) {
+        metrics.updateHttpClientCircuitBreakerRejectedMetric(idFrom(name));
+        return Future.failedFuture(OpenCircuitException.INSTANCE);
+    }
+
+    private SlidingWindowCircuitBreaker createCircuitBreaker(String name, SlidingWindowCircuitBreaker circuitBreaker) {
+        circuitBreaker
                 .openHandler(ignored -> circuitOpened(name))
                 .halfOpenHandler(ignored -> circuitHalfOpened(name))
                 .closeHandler(ignored -> circuitClosed(name));
 
-        createCircuitBreakerGauge(name, circuitBreaker, metrics);
+        metrics.createHttpClientCircuitBreakerGauge(idFrom(name), circuitBreaker::isOpen);
 
         return circuitBreaker;
     }
 
-    private void createCircuitBreakerGauge(String name, CircuitBreaker circuitBreaker, Metrics metrics) {
-        metrics.createHttpClientCircuitBreakerGauge(idFrom(name), circuitBreaker::isOpen);
-    }
-
     private void removeCircuitBreakerGauge(String name, Metrics metrics) {
         metrics.removeHttpClientCircuitBreakerGauge(idFrom(name));
     }
 
     private void circuitOpened(String name) {
+        metrics.updateHttpClientCircuitBreakerTransitionMetric(idFrom(name), MetricName.transitions_open);
         conditionalLogger.warn(
                 "Http client request to %s is failed, circuit opened.".formatted(name),
                 LOG_PERIOD_SECONDS,
@@ -127,10 +145,12 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     }
 
     private void circuitHalfOpened(String name) {
+        metrics.updateHttpClientCircuitBreakerTransitionMetric(idFrom(name), MetricName.transitions_half_open);
         logger.warn("Http client request to {} will try again, circuit half-opened.", name);
     }
 
     private void circuitClosed(String name) {
+        metrics.updateHttpClientCircuitBreakerTransitionMetric(idFrom(name), MetricName.transitions_closed);
         logger.warn("Http client request to {} becomes succeeded, circuit closed.", name);
     }
 
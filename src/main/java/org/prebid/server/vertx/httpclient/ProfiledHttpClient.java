@@ -0,0 +1,84 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Routes requests to the {@link HttpClient} dedicated to the request host (for example, configured by bidder
+ * http-client profile), requests to all other hosts are made by the default one.
+ */
+public class ProfiledHttpClient implements HttpClient {
+
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private final HttpClient defaultHttpClient;
+    private final Map<String, HttpClient> hostToHttpClient;
+
+    public ProfiledHttpClient(HttpClient defaultHttpClient, Map<String, HttpClient> hostToHttpClient) {
+        this.defaultHttpClient = Objects.requireNonNull(defaultHttpClient);
+        this.hostToHttpClient = toLowerCaseHosts(Objects.requireNonNull(hostToHttpClient));
+    }
+
+    private static Map<String, HttpClient> toLowerCaseHosts(Map<String, HttpClient> hostToHttpClient) {
+        final Map<String, HttpClient> result = new HashMap<>();
+        hostToHttpClient.forEach((host, httpClient) -> result.put(host.toLowerCase(Locale.ROOT), httpClient));
+        return result;
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              String body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return httpClientFor(url).request(method, url, headers, body, timeoutMs, maxResponseSize);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return httpClientFor(url).request(method, url, headers, body, timeoutMs, maxResponseSize);
+    }
+
+    private HttpClient httpClientFor(String url) {
+        final String host = hostFrom(url);
+        final HttpClient httpClient = host != null ? hostToHttpClient.get(host) : null;
+        return httpClient != null ? httpClient : defaultHttpClient;
+    }
+
+    /**
+     * Extracts host without parsing the whole url, urls with unexpected format are routed to the default client.
+     */
+    private static String hostFrom(String url) {
+        final int schemeEnd = url != null ? url.indexOf(SCHEME_SEPARATOR) : -1;
+        if (schemeEnd < 0) {
+            return null;
+        }
+
+        final int hostStart = schemeEnd + SCHEME_SEPARATOR.length();
+        int hostEnd = hostStart;
+        while (hostEnd < url.length() && !isHostTerminator(url.charAt(hostEnd))) {
+            hostEnd++;
+        }
+
+        return url.substring(hostStart, hostEnd).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isHostTerminator(char character) {
+        return character == ':' || character == '/' || character == '?' || character == '#';
+    }
+}
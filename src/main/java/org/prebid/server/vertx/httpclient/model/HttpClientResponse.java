@@ -2,18 +2,27 @@ package org.prebid.server.vertx.httpclient.model;
 
 import io.vertx.core.MultiMap;
 import lombok.Value;
+import org.prebid.server.model.HttpBody;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
  */
-@Value(staticConstructor = "of")
+@Value(staticConstructor = "ofHttpBody")
 public class HttpClientResponse {
 
     int statusCode;
 
     MultiMap headers;
 
-    String body;
+    HttpBody httpBody;
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return ofHttpBody(statusCode, headers, HttpBody.of(body));
+    }
+
+    public String getBody() {
+        return httpBody.asString();
+    }
 }
@@ -14,6 +14,7 @@ enum BidRejectionReason {
     REQUEST_BLOCKED_GENERAL(200),
     REQUEST_BLOCKED_UNSUPPORTED_CHANNEL(201),
     REQUEST_BLOCKED_UNSUPPORTED_MEDIA_TYPE(202),
+    REQUEST_BLOCKED_OPTIMIZED(203),
     REQUEST_BLOCKED_PRIVACY(204),
     REQUEST_BLOCKED_UNACCEPTABLE_CURRENCY(205),
 
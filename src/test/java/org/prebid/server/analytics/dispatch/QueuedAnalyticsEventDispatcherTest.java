@@ -0,0 +1,234 @@
+package org.prebid.server.analytics.dispatch;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.BatchAnalyticsReporter;
+import org.prebid.server.analytics.dispatch.QueuedAnalyticsEventDispatcher.OverflowPolicy;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class QueuedAnalyticsEventDispatcherTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
+    private final List<Object> processed = new ArrayList<>();
+    private final List<AsyncResult<Void>> results = new ArrayList<>();
+    private int executedDrains;
+
+    @Test
+    public void creationShouldFailOnInvalidSamplingRate() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new QueuedAnalyticsEventDispatcher(
+                vertx, metrics, CLOCK, 10, 10, OverflowPolicy.sample, 1.5));
+    }
+
+    @Test
+    public void dispatchShouldProcessEventsOfReporterInOrderBySingleDrain() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = givenTarget(10, 10, OverflowPolicy.dropNewest);
+        final AnalyticsReporter reporter = givenReporter("reporter");
+
+        // when
+        target.dispatch(reporter, "event1", results::add);
+        target.dispatch(reporter, "event2", results::add);
+        runScheduledDrains(1);
+
+        // then
+        assertThat(processed).containsExactly("event1", "event2");
+        assertThat(results).hasSize(2).allMatch(AsyncResult::succeeded);
+        verify(metrics).createAnalyticsDispatchQueueGauge(eq("reporter"), any());
+        verify(metrics, times(2)).updateAnalyticsDispatchLag(eq("reporter"), anyLong());
+    }
+
+    @Test
+    public void dispatchShouldProcessNotMoreThanBatchSizeEventsInARow() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = givenTarget(10, 2, OverflowPolicy.dropNewest);
+        final AnalyticsReporter reporter = givenReporter("reporter");
+
+        target.dispatch(reporter, "event1", results::add);
+        target.dispatch(reporter, "event2", results::add);
+        target.dispatch(reporter, "event3", results::add);
+
+        // when
+        runScheduledDrains(1);
+
+        // then
+        assertThat(processed).containsExactly("event1", "event2");
+
+        // when
+        runScheduledDrains(2);
+
+        // then
+        assertThat(processed).containsExactly("event1", "event2", "event3");
+    }
+
+    @Test
+    public void dispatchShouldPassBatchToBatchReporterAtOnce() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = givenTarget(10, 2, OverflowPolicy.dropNewest);
+        final BatchAnalyticsReporter reporter = mock(BatchAnalyticsReporter.class);
+        given(reporter.name()).willReturn("reporter");
+        given(reporter.processEvents(any())).willAnswer(invocation -> {
+            processed.add(invocation.getArgument(0));
+            return Future.failedFuture("error");
+        });
+
+        target.dispatch(reporter, "event1", results::add);
+        target.dispatch(reporter, "event2", results::add);
+        target.dispatch(reporter, "event3", results::add);
+
+        // when
+        runScheduledDrains(1);
+        runScheduledDrains(2);
+
+        // then
+        assertThat(processed).containsExactly(List.of("event1", "event2"), List.of("event3"));
+        assertThat(results).hasSize(3).allMatch(AsyncResult::failed);
+        verify(reporter, never()).processEvent(any());
+    }
+
+    @Test
+    public void dispatchShouldContinueDrainingIfEventProcessingFailed() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = givenTarget(10, 10, OverflowPolicy.dropNewest);
+        final AnalyticsReporter reporter = givenReporter("reporter");
+
+        // when
+        target.dispatch(reporter, "fail", results::add);
+        target.dispatch(reporter, "event", results::add);
+        runScheduledDrains(1);
+
+        // then
+        assertThat(processed).containsExactly("event");
+        assertThat(results).extracting(AsyncResult::succeeded).containsExactly(false, true);
+    }
+
+    @Test
+    public void dispatchShouldDropNewestEventIfQueueIsFull() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = givenTarget(2, 10, OverflowPolicy.dropNewest);
+        final AnalyticsReporter reporter = givenReporter("reporter");
+
+        // when
+        target.dispatch(reporter, "event1", results::add);
+        target.dispatch(reporter, "event2", results::add);
+        target.dispatch(reporter, "event3", results::add);
+        runScheduledDrains(1);
+
+        // then
+        assertThat(processed).containsExactly("event1", "event2");
+        verify(metrics).updateAnalyticsDispatchMetric(eq("reporter"), eq(MetricName.dropped));
+    }
+
+    @Test
+    public void dispatchShouldDropOldestEventIfQueueIsFull() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = givenTarget(2, 10, OverflowPolicy.dropOldest);
+        final AnalyticsReporter reporter = givenReporter("reporter");
+
+        // when
+        target.dispatch(reporter, "event1", results::add);
+        target.dispatch(reporter, "event2", results::add);
+        target.dispatch(reporter, "event3", results::add);
+        runScheduledDrains(1);
+
+        // then
+        assertThat(processed).containsExactly("event2", "event3");
+        verify(metrics).updateAnalyticsDispatchMetric(eq("reporter"), eq(MetricName.dropped));
+    }
+
+    @Test
+    public void dispatchShouldSampleEventsIfQueueIsHalfFull() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = new QueuedAnalyticsEventDispatcher(
+                vertx, metrics, CLOCK, 4, 10, OverflowPolicy.sample, 0.0);
+        final AnalyticsReporter reporter = givenReporter("reporter");
+
+        // when
+        target.dispatch(reporter, "event1", results::add);
+        target.dispatch(reporter, "event2", results::add);
+        target.dispatch(reporter, "event3", results::add);
+        runScheduledDrains(1);
+
+        // then
+        assertThat(processed).containsExactly("event1", "event2");
+        verify(metrics).updateAnalyticsDispatchMetric(eq("reporter"), eq(MetricName.sampled_out));
+        verify(metrics, never()).updateAnalyticsDispatchMetric(eq("reporter"), eq(MetricName.dropped));
+    }
+
+    @Test
+    public void dispatchShouldUseSeparateQueuesForDifferentReporters() {
+        // given
+        final QueuedAnalyticsEventDispatcher target = givenTarget(1, 10, OverflowPolicy.dropNewest);
+
+        // when
+        target.dispatch(givenReporter("reporter1"), "event1", results::add);
+        target.dispatch(givenReporter("reporter2"), "event2", results::add);
+        runScheduledDrains(2);
+
+        // then
+        assertThat(processed).containsExactlyInAnyOrder("event1", "event2");
+        verify(metrics, never()).updateAnalyticsDispatchMetric(any(), eq(MetricName.dropped));
+    }
+
+    private QueuedAnalyticsEventDispatcher givenTarget(int queueCapacity, int batchSize, OverflowPolicy policy) {
+        return new QueuedAnalyticsEventDispatcher(vertx, metrics, CLOCK, queueCapacity, batchSize, policy, 1.0);
+    }
+
+    private AnalyticsReporter givenReporter(String name) {
+        final AnalyticsReporter reporter = mock(AnalyticsReporter.class);
+        given(reporter.name()).willReturn(name);
+        given(reporter.processEvent(any())).willAnswer(invocation -> {
+            final Object event = invocation.getArgument(0);
+            if ("fail".equals(event)) {
+                throw new IllegalStateException("error");
+            }
+            processed.add(event);
+            return Future.succeededFuture();
+        });
+        return reporter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runScheduledDrains(int expectedScheduledTimes) {
+        final ArgumentCaptor<Handler<Void>> drainCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx, times(expectedScheduledTimes)).runOnContext(drainCaptor.capture());
+
+        final List<Handler<Void>> drains = drainCaptor.getAllValues();
+        for (Handler<Void> drain : List.copyOf(drains.subList(executedDrains, drains.size()))) {
+            executedDrains++;
+            drain.handle(null);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.analytics.AnalyticsReporter;
+import org.prebid.server.analytics.dispatch.ContextAnalyticsEventDispatcher;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.NotificationEvent;
@@ -105,7 +106,7 @@ public class AnalyticsReporterDelegatorTest extends VertxTest {
                 .willReturn(Future.succeededFuture(enforcementActionMap));
 
         target = new AnalyticsReporterDelegator(
-                vertx,
+                new ContextAnalyticsEventDispatcher(vertx),
                 List.of(firstReporter, secondReporter),
                 tcfEnforcement,
                 userFpdActivityMask,
@@ -8,6 +8,10 @@ import org.prebid.server.analytics.model.CookieSyncEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
 import org.prebid.server.analytics.model.VideoEvent;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class LogAnalyticsReporterTest extends VertxTest {
 
     @Test
@@ -20,4 +24,14 @@ public class LogAnalyticsReporterTest extends VertxTest {
         reporter.processEvent(SetuidEvent.builder().build());
         reporter.processEvent(CookieSyncEvent.builder().build());
     }
+
+    @Test
+    public void processEventsShouldLogBatchOfEvents() {
+        // given
+        final LogAnalyticsReporter reporter = new LogAnalyticsReporter(jacksonMapper);
+
+        // when and then
+        assertThat(reporter.processEvents(List.of(AuctionEvent.builder().build(), SetuidEvent.builder().build()))
+                .succeeded()).isTrue();
+    }
 }
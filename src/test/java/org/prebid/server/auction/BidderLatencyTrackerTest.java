@@ -0,0 +1,95 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderLatencyTrackerTest {
+
+    @Mock
+    private Clock clock;
+
+    private BidderLatencyTracker target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new BidderLatencyTracker(4, 2, 0.95, 1000L, 3, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidArguments() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(0, 1, 0.95, 1000L, 3, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(4, 5, 0.95, 1000L, 3, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(4, 2, 0.4, 1000L, 3, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(4, 2, 0.95, 1000L, 0, clock));
+    }
+
+    @Test
+    public void probeShouldReturnTrueForEveryProbePeriodCallOfObservedBidder() {
+        // given
+        target.record("bidder", 100L);
+
+        // when and then
+        assertThat(target.probe("unknown")).isFalse();
+        assertThat(target.probe("bidder")).isFalse();
+        assertThat(target.probe("bidder")).isFalse();
+        assertThat(target.probe("bidder")).isTrue();
+        assertThat(target.probe("bidder")).isFalse();
+    }
+
+    @Test
+    public void quantilesShouldReturnNullWhenNotEnoughResponsesObserved() {
+        // when
+        target.record("bidder", 100L);
+
+        // then
+        assertThat(target.quantiles("bidder")).isNull();
+        assertThat(target.quantiles("unknown")).isNull();
+    }
+
+    @Test
+    public void quantilesShouldReturnMedianAndTailOfLastResponses() {
+        // given
+        given(clock.millis()).willReturn(0L);
+
+        // when
+        target.record("bidder", 500L);
+        target.record("bidder", 10L);
+        target.record("bidder", 20L);
+        target.record("bidder", 30L);
+        target.record("bidder", 40L);
+
+        // then
+        assertThat(target.quantiles("bidder")).isEqualTo(new BidderLatencyTracker.Quantiles(25L, 40L));
+    }
+
+    @Test
+    public void quantilesShouldBeRecalculatedOnlyAfterRefreshPeriod() {
+        // given
+        given(clock.millis()).willReturn(0L, 500L, 1000L);
+        target.record("bidder", 10L);
+        target.record("bidder", 10L);
+        target.quantiles("bidder");
+
+        // when
+        target.record("bidder", 50L);
+        target.record("bidder", 50L);
+
+        // then
+        assertThat(target.quantiles("bidder")).isEqualTo(new BidderLatencyTracker.Quantiles(10L, 10L));
+        assertThat(target.quantiles("bidder")).isEqualTo(new BidderLatencyTracker.Quantiles(30L, 50L));
+    }
+}
@@ -29,6 +29,8 @@ import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -43,6 +45,9 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.auction.completion.AuctionCompletionPolicy;
+import org.prebid.server.auction.completion.AuctionCompletionTrackerFactory;
+import org.prebid.server.auction.completion.CollectedBidsCompletionTrackerFactory;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
@@ -170,6 +175,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -201,9 +210,13 @@ import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.prebid.server.auction.model.BidRejectionReason.ERROR_TIMED_OUT;
+import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED;
+import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_PRIVACY;
 import static org.prebid.server.auction.model.BidRejectionReason.REQUEST_BLOCKED_UNACCEPTABLE_CURRENCY;
 import static org.prebid.server.proto.openrtb.ext.response.BidType.banner;
 import static org.prebid.server.proto.openrtb.ext.response.BidType.video;
@@ -601,6 +614,187 @@ public class ExchangeServiceTest extends VertxTest {
                 .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldExtractMultipleRequestsInParallelWhenAuctionIsLargeEnough() {
+        // given
+        final WorkerExecutor workerExecutor = mock(WorkerExecutor.class);
+        given(workerExecutor.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation ->
+                Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call()));
+        givenTarget(
+                false,
+                AuctionCompletionTrackerFactory.noOp(),
+                new WorkerPoolBidderRequestsPreparationExecutor(workerExecutor, 2, 4, metrics));
+
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(Map.of("bidder1", 1, "bidder2", 2), identity()),
+                givenImp(singletonMap("bidder1", 3), identity())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(workerExecutor, times(2)).executeBlocking(any(Callable.class), anyBoolean());
+        verify(metrics).updateBidderRequestsParallelPreparationMetric();
+
+        final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        assertThat(bidRequest1Captor.getValue().getBidRequest().getImp()).hasSize(2)
+                .extracting(imp -> imp.getExt().get("bidder").asInt())
+                .containsOnly(1, 3);
+
+        final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        assertThat(bidRequest2Captor.getValue().getBidRequest().getImp()).hasSize(1)
+                .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldResolveFloorsAndRejectBlockedBiddersOnCallingThreadWhenRequestsArePreparedInParallel()
+            throws Exception {
+
+        // given
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final WorkerExecutor workerExecutor = mock(WorkerExecutor.class);
+        given(workerExecutor.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation -> {
+            final Promise<Object> promise = Promise.promise();
+            pool.execute(() -> {
+                try {
+                    promise.complete(((Callable<?>) invocation.getArgument(0)).call());
+                } catch (Exception e) {
+                    promise.fail(e);
+                }
+            });
+            return promise.future();
+        });
+        givenTarget(
+                false,
+                AuctionCompletionTrackerFactory.noOp(),
+                new WorkerPoolBidderRequestsPreparationExecutor(workerExecutor, 4, 1, metrics));
+
+        final Map<String, Integer> impBidders = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            final String bidderName = "bidder" + i;
+            givenBidder(bidderName, mock(Bidder.class), givenEmptySeatBid());
+            impBidders.put(bidderName, i);
+        }
+
+        final List<BidderPrivacyResult> privacyResults = new ArrayList<>();
+        given(privacyEnforcementService.mask(any(), anyMap(), any())).willAnswer(invocation -> {
+            ((Map<String, User>) invocation.getArgument(1)).keySet().forEach(bidder -> privacyResults.add(
+                    BidderPrivacyResult.builder()
+                            .requestBidder(bidder)
+                            .blockedRequestByTcf(bidder.endsWith("5"))
+                            .build()));
+            return Future.succeededFuture(privacyResults);
+        });
+
+        final Thread callingThread = Thread.currentThread();
+        final List<Thread> floorsThreads = Collections.synchronizedList(new ArrayList<>());
+        given(priceFloorProcessor.enrichWithPriceFloors(any(), any(), any(), any(), any())).willAnswer(invocation -> {
+            floorsThreads.add(Thread.currentThread());
+            ((List<String>) invocation.getArgument(3)).add("floors error " + invocation.getArgument(2));
+            return invocation.getArgument(0);
+        });
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(impBidders, builder -> builder.id("impId1")),
+                givenImp(impBidders, builder -> builder.id("impId2"))));
+
+        // when
+        final AuctionContext result;
+        try {
+            result = target.holdAuction(givenRequestContext(bidRequest))
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // then
+        assertThat(floorsThreads).hasSize(36).containsOnly(callingThread);
+        assertThat(result.getPrebidErrors()).containsExactlyElementsOf(privacyResults.stream()
+                .filter(privacyResult -> !privacyResult.isBlockedRequestByTcf())
+                .map(privacyResult -> "floors error " + privacyResult.getRequestBidder())
+                .toList());
+
+        final Map<String, BidRejectionTracker> trackers = result.getBidRejectionTrackers();
+        assertThat(List.of("bidder5", "bidder15", "bidder25", "bidder35")).allSatisfy(bidder ->
+                assertThat(trackers.get(bidder).getRejectedImps()).containsOnly(
+                        entry("impId1", Pair.of(bidder, REQUEST_BLOCKED_PRIVACY)),
+                        entry("impId2", Pair.of(bidder, REQUEST_BLOCKED_PRIVACY))));
+        verify(httpBidderRequester, times(36)).requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldFailWithInvalidRequestExceptionWhenRequestsArePreparedInParallelAndStrictValidationEnabled() {
+        // given
+        final WorkerExecutor workerExecutor = mock(WorkerExecutor.class);
+        given(workerExecutor.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation -> {
+            try {
+                return Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call());
+            } catch (Exception e) {
+                return Future.failedFuture(e);
+            }
+        });
+        givenTarget(
+                true,
+                AuctionCompletionTrackerFactory.noOp(),
+                new WorkerPoolBidderRequestsPreparationExecutor(workerExecutor, 2, 1, metrics));
+
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+        final BidRequest bidRequest = givenBidRequest(
+                givenSingleImp(Map.of("bidder1", 1, "bidder2", 2)),
+                bidRequestBuilder -> bidRequestBuilder.dooh(Dooh.builder().build()));
+
+        given(fpdResolver.resolveSite(any(), any())).willReturn(Site.builder().build());
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(InvalidRequestException.class)
+                .hasMessage("dooh and site are present, but no more than one of site or app or dooh can be defined");
+        verifyNoInteractions(httpBidderRequester);
+    }
+
+    @Test
+    public void shouldExtractRequestsSequentiallyWhenAuctionIsNotLargeEnough() {
+        // given
+        final WorkerExecutor workerExecutor = mock(WorkerExecutor.class);
+        givenTarget(
+                false,
+                AuctionCompletionTrackerFactory.noOp(),
+                new WorkerPoolBidderRequestsPreparationExecutor(workerExecutor, 2, 5, metrics));
+
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(Map.of("bidder1", 1, "bidder2", 2), identity()),
+                givenImp(singletonMap("bidder1", 3), identity())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verifyNoInteractions(workerExecutor);
+        verify(metrics, never()).updateBidderRequestsParallelPreparationMetric();
+        verify(httpBidderRequester, times(2)).requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+    }
+
     @Test
     public void shouldSkipBidderWhenRejectedByBidderRequestHooks() {
         // given
@@ -1361,7 +1555,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1391,7 +1585,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -4062,6 +4256,230 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(timeoutCaptor.getAllValues()).containsExactly(450L);
     }
 
+    @Test
+    public void shouldPassTimeoutAllocatedFromBidderLatencyToAdapter() {
+        // given
+        given(timeoutResolver.limitToMax(any())).willReturn(500L);
+        given(timeoutResolver.allocateForBidder(eq("bidderName"), eq(500L)))
+                .willReturn(ExtDebugTmaxBudget.of(500L, 100L, 200L, false));
+        given(timeout.getDeadline()).willReturn(clock.millis() + 1000L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidderName", 1)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .tmaxBudgets(new HashMap<>())
+                .build();
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        assertThat(captureBidRequest().getTmax()).isEqualTo(200L);
+        verify(timeoutFactory).create(anyLong(), eq(200L));
+        verify(metrics).updateAdapterTmaxBudgetMetrics("bidderName", 300L, false);
+        assertThat(auctionContext.getTmaxBudgets())
+                .containsOnly(entry("bidderName", ExtDebugTmaxBudget.of(500L, 100L, 200L, false)));
+    }
+
+    @Test
+    public void shouldNotCallBidderWhenItsMedianResponseTimeExceedsTimeout() {
+        // given
+        given(timeoutResolver.limitToMax(any())).willReturn(500L);
+        given(timeoutResolver.allocateForBidder(eq("bidderName"), eq(500L)))
+                .willReturn(ExtDebugTmaxBudget.of(500L, 600L, null, true));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidderName", 1)));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .tmaxBudgets(new HashMap<>())
+                .build();
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(auctionContext);
+
+        // then
+        verifyNoInteractions(httpBidderRequester);
+        verify(metrics).updateAdapterTmaxBudgetMetrics("bidderName", 500L, true);
+        assertThat(result.result())
+                .extracting(AuctionContext::getBidRejectionTrackers)
+                .extracting(rejectionTrackers -> rejectionTrackers.get("bidderName"))
+                .extracting(BidRejectionTracker::getRejectedImps)
+                .isEqualTo(Map.of("impId", Pair.of("bidderName", REQUEST_BLOCKED_OPTIMIZED)));
+    }
+
+    @Test
+    public void shouldRequestBidsWithSharedContextWhenAuctionCannotBeCompletedEarly() {
+        // given
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+
+        final AuctionContext auctionContext = givenRequestContext(
+                givenBidRequest(givenSingleImp("impId", singletonMap("bidder1", 1))));
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
+        verify(hookStageExecutor).executeBidderRequestStage(any(), captor.capture());
+        assertThat(captor.getValue().getHookExecutionContext()).isSameAs(auctionContext.getHookExecutionContext());
+    }
+
+    @Test
+    public void shouldRequestBidsWithIsolatedContextWhenAuctionCanBeCompletedEarly() {
+        // given
+        givenTarget(false, new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.top_bids, 1, 0));
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+
+        final AuctionContext auctionContext = givenRequestContext(
+                givenBidRequest(givenSingleImp("impId", singletonMap("bidder1", 1))));
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
+        verify(hookStageExecutor).executeBidderRequestStage(any(), captor.capture());
+        assertThat(captor.getValue().getHookExecutionContext()).isNotSameAs(auctionContext.getHookExecutionContext());
+    }
+
+    @Test
+    public void shouldCompleteAuctionWithoutWaitingForRemainingBiddersWhenCompletionPolicyIsSatisfied() {
+        // given
+        givenTarget(false, new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.top_bids, 1, 0));
+
+        final Bid bid = Bid.builder().id("bidId").impid("impId").price(BigDecimal.ONE).build();
+        givenBidder("bidder1", mock(Bidder.class), givenSeatBid(singletonList(givenBidderBid(bid))));
+
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Promise.<BidderSeatBid>promise().future());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", Map.of("bidder1", 1, "bidder2", 2)));
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(captureAuctionParticipations())
+                .extracting(AuctionParticipation::getBidderResponse)
+                .extracting(BidderResponse::getBidder, response -> response.getSeatBid().getBids().size())
+                .containsOnly(tuple("bidder1", 1), tuple("bidder2", 0));
+        assertThat(result.result().getBidRejectionTrackers().get("bidder2").getRejectedImps())
+                .containsOnly(entry("impId", Pair.of("bidder2", ERROR_TIMED_OUT)));
+        verify(metrics).updateAdapterRequestErrorMetric("bidder2", MetricName.not_waited);
+    }
+
+    @Test
+    public void shouldWaitForAllBiddersWhenCompletionPolicyIsNotSatisfied() {
+        // given
+        givenTarget(false, new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.deals, 1, 0));
+
+        final Bid bid = Bid.builder().id("bidId").impid("impId").price(BigDecimal.ONE).build();
+        givenBidder("bidder1", mock(Bidder.class), givenSeatBid(singletonList(givenBidderBid(bid))));
+
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Promise.<BidderSeatBid>promise().future());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", Map.of("bidder1", 1, "bidder2", 2)));
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verifyNoInteractions(bidResponseCreator);
+    }
+
+    @Test
+    public void shouldIgnoreBidderResponseReceivedAfterAuctionCompletion() {
+        // given
+        givenTarget(false, new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.top_bids, 1, 0));
+
+        final Bid bid = Bid.builder().id("bidId").impid("impId").price(BigDecimal.ONE).build();
+        givenBidder("bidder1", mock(Bidder.class), givenSeatBid(singletonList(givenBidderBid(bid))));
+
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        final Promise<BidderSeatBid> bidder2SeatBid = Promise.promise();
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(bidder2SeatBid.future());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", Map.of("bidder1", 1, "bidder2", 2)));
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // when
+        bidder2SeatBid.complete(givenSeatBid(singletonList(givenBidderBid(bid.toBuilder().id("lateBidId").build()))));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result().getBidRejectionTrackers().get("bidder2").getRejectedImps())
+                .containsOnly(entry("impId", Pair.of("bidder2", ERROR_TIMED_OUT)));
+        verify(bidsAdjuster, times(1)).validateAndAdjustBids(any(), any(), any());
+        verify(bidResponseCreator, times(1)).create(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldNotCompleteAuctionEarlyOnBidsDroppedByValidation() {
+        // given
+        givenTarget(false, new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.top_bids, 1, 0));
+
+        final Bid bid = Bid.builder().id("bidId").impid("impId").price(BigDecimal.ONE).build();
+        givenBidder("bidder1", mock(Bidder.class), givenSeatBid(singletonList(givenBidderBid(bid))));
+
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Promise.<BidderSeatBid>promise().future());
+
+        given(bidsAdjuster.validateAndAdjustBids(any(), any(), any()))
+                .willAnswer(invocation -> ((List<AuctionParticipation>) invocation.getArgument(0)).stream()
+                        .map(participation -> participation.with(
+                                participation.getBidderResponse().with(BidderSeatBid.empty())))
+                        .toList());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", Map.of("bidder1", 1, "bidder2", 2)));
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verifyNoInteractions(bidResponseCreator);
+    }
+
+    @Test
+    public void shouldFailAuctionWhenBidderFailedBeforeEarlyCompletion() {
+        // given
+        givenTarget(false, new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.top_bids, 1, 0));
+
+        final Bid bid = Bid.builder().id("bidId").impid("impId").price(BigDecimal.ONE).build();
+        givenBidder("bidder1", mock(Bidder.class), givenSeatBid(singletonList(givenBidderBid(bid))));
+
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.failedFuture(new PreBidException("bidder2 failure")));
+
+        final Bidder<?> bidder3 = mock(Bidder.class);
+        doReturn(bidder3).when(bidderCatalog).bidderByName(eq("bidder3"));
+        given(httpBidderRequester.requestBids(same(bidder3), any(), any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Promise.<BidderSeatBid>promise().future());
+
+        final BidRequest bidRequest = givenBidRequest(
+                givenSingleImp("impId", Map.of("bidder1", 1, "bidder2", 2, "bidder3", 3)));
+
+        // when
+        final Future<AuctionContext> result = target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(PreBidException.class).hasMessage("bidder2 failure");
+        verify(metrics, never()).updateAdapterRequestErrorMetric(any(), eq(MetricName.not_waited));
+    }
+
     @Test
     public void shouldDropBidsWithInvalidPrice() {
         // given
@@ -4123,6 +4541,22 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenTarget(boolean enabledStrictAppSiteDoohValidation) {
+        givenTarget(enabledStrictAppSiteDoohValidation, AuctionCompletionTrackerFactory.noOp());
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation,
+                             AuctionCompletionTrackerFactory completionTrackerFactory) {
+
+        givenTarget(
+                enabledStrictAppSiteDoohValidation,
+                completionTrackerFactory,
+                BidderRequestsPreparationExecutor.noOp());
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation,
+                             AuctionCompletionTrackerFactory completionTrackerFactory,
+                             BidderRequestsPreparationExecutor requestsPreparationExecutor) {
+
         target = new ExchangeService(
                 0,
                 bidderCatalog,
@@ -4137,6 +4571,8 @@ public class ExchangeServiceTest extends VertxTest {
                 timeoutFactory,
                 ortbVersionConversionManager,
                 httpBidderRequester,
+                completionTrackerFactory,
+                requestsPreparationExecutor,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 hookStageExecutor,
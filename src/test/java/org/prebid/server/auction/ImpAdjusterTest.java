@@ -3,9 +3,17 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Audio;
+import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.Deal;
+import com.iab.openrtb.request.Format;
 import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Metric;
+import com.iab.openrtb.request.Native;
 import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.request.Qty;
+import com.iab.openrtb.request.Refresh;
+import com.iab.openrtb.request.Video;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,7 +31,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -196,7 +206,7 @@ public class ImpAdjusterTest extends VertxTest {
                         .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")))
                 .build();
 
-        verify(impValidator).validateImp(expectedImp);
+        verify(impValidator).validateImp(expectedImp, Set.of("bidfloor", "pmp"));
         assertThat(result).isEqualTo(expectedImp);
         assertThat(debugMessages).isEmpty();
     }
@@ -224,7 +234,7 @@ public class ImpAdjusterTest extends VertxTest {
                         .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")))
                 .build();
 
-        verify(impValidator).validateImp(expectedImp);
+        verify(impValidator).validateImp(expectedImp, Set.of("bidfloor", "pmp"));
         assertThat(result).isEqualTo(expectedImp);
         assertThat(debugMessages).isEmpty();
     }
@@ -252,7 +262,7 @@ public class ImpAdjusterTest extends VertxTest {
                         .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")))
                 .build();
 
-        verify(impValidator).validateImp(expectedImp);
+        verify(impValidator).validateImp(expectedImp, Set.of("bidfloor", "pmp"));
         assertThat(result).isEqualTo(expectedImp);
         assertThat(debugMessages).isEmpty();
     }
@@ -260,7 +270,7 @@ public class ImpAdjusterTest extends VertxTest {
     @Test
     public void resolveImpShouldReturnImpWithoutExpImpWhenResultingImpValidationFailed() throws ValidationException {
         // given
-        doThrow(new ValidationException("imp validation failed")).when(impValidator).validateImp(any());
+        doThrow(new ValidationException("imp validation failed")).when(impValidator).validateImp(any(), any());
 
         final ObjectNode givenBidderImp = mapper.createObjectNode()
                 .put("bidfloor", "2.0")
@@ -312,6 +322,187 @@ public class ImpAdjusterTest extends VertxTest {
                                 + " reason: Cannot construct instance of `com.iab.openrtb.request.Pmp`"));
     }
 
+    @Test
+    public void resolveImpShouldMergeOnlyPresentFieldsOfBidderSpecificImpSection() throws ValidationException {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode()
+                .set("banner", mapper.createObjectNode().put("w", 300).put("h", 250));
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp).toBuilder()
+                .banner(Banner.builder()
+                        .format(Collections.singletonList(Format.builder().w(728).h(90).build()))
+                        .pos(1)
+                        .build())
+                .build();
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+
+        // then
+        assertThat(result.getBanner()).isEqualTo(Banner.builder()
+                .format(Collections.singletonList(Format.builder().w(728).h(90).build()))
+                .pos(1)
+                .w(300)
+                .h(250)
+                .build());
+        assertThat(result.getPmp()).isSameAs(givenImp.getPmp());
+        verify(impValidator).validateImp(result, Set.of("banner"));
+        assertThat(debugMessages).isEmpty();
+    }
+
+    @Test
+    public void resolveImpShouldRemoveImpFieldsWithNullValueInBidderSpecificImp() throws ValidationException {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode()
+                .putNull("tagid")
+                .putNull("pmp");
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp);
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+
+        // then
+        assertThat(result.getTagid()).isNull();
+        assertThat(result.getPmp()).isNull();
+        verify(impValidator).validateImp(result, Set.of("tagid", "pmp"));
+        assertThat(debugMessages).isEmpty();
+    }
+
+    @Test
+    public void resolveImpShouldMergeBidderSpecificImpExtWithoutModifyingOriginalImpExt() {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode()
+                .set("ext", mapper.createObjectNode().put("bidderAttr", "bidderValue").putNull("originAttr"));
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp);
+        final ObjectNode givenImpExt = givenImp.getExt().deepCopy();
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+
+        // then
+        assertThat(result.getExt()).isEqualTo(mapper.createObjectNode()
+                .put("bidderAttr", "bidderValue")
+                .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")));
+        assertThat(givenImp.getExt()).isEqualTo(givenImpExt);
+        assertThat(debugMessages).isEmpty();
+    }
+
+    @Test
+    public void adjustShouldOverrideScalarImpProperties() throws ValidationException {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode()
+                .put("id", "bidderImpId")
+                .put("displaymanager", "displaymanager")
+                .put("displaymanagerver", "displaymanagerver")
+                .put("instl", 1)
+                .put("tagid", "bidderTagId")
+                .put("bidfloor", new BigDecimal("2.5"))
+                .put("bidfloorcur", "EUR")
+                .put("clickbrowser", 1)
+                .put("secure", 0)
+                .put("rwdd", 1)
+                .put("ssai", 2)
+                .put("exp", 10)
+                .put("dt", 1.5);
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp);
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+
+        // then
+        assertThat(result)
+                .extracting(Imp::getId, Imp::getDisplaymanager, Imp::getDisplaymanagerver, Imp::getInstl,
+                        Imp::getTagid, Imp::getBidfloor, Imp::getBidfloorcur, Imp::getClickbrowser, Imp::getSecure,
+                        Imp::getRwdd, Imp::getSsai, Imp::getExp, Imp::getDt)
+                .containsExactly("bidderImpId", "displaymanager", "displaymanagerver", 1, "bidderTagId",
+                        new BigDecimal("2.5"), "EUR", 1, 0, 1, 2, 10, 1.5);
+        verify(impValidator).validateImp(result, Set.of("id", "displaymanager", "displaymanagerver", "instl",
+                "tagid", "bidfloor", "bidfloorcur", "clickbrowser", "secure", "rwdd", "ssai", "exp", "dt"));
+        assertThat(debugMessages).isEmpty();
+    }
+
+    @Test
+    public void adjustShouldReplaceListImpProperties() {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode();
+        givenBidderImp.set("metric", mapper.createArrayNode()
+                .add(mapper.createObjectNode().put("type", "viewability").put("value", 0.5)));
+        givenBidderImp.set("iframebuster", mapper.createArrayNode().add("bidderIframebuster"));
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp);
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+
+        // then
+        assertThat(result.getMetric()).containsExactly(Metric.builder().type("viewability").value(0.5f).build());
+        assertThat(result.getIframebuster()).containsExactly("bidderIframebuster");
+        assertThat(debugMessages).isEmpty();
+    }
+
+    @Test
+    public void adjustShouldMergeObjectImpPropertiesIntoOriginalOnes() {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode();
+        givenBidderImp.set("video", mapper.createObjectNode().put("w", 640));
+        givenBidderImp.set("audio", mapper.createObjectNode().put("minduration", 5));
+        givenBidderImp.set("native", mapper.createObjectNode().put("ver", "1.2"));
+        givenBidderImp.set("refresh", mapper.createObjectNode().put("count", 2));
+        givenBidderImp.set("qty", mapper.createObjectNode().put("sourcetype", 1));
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp).toBuilder()
+                .video(Video.builder().mimes(singletonList("video/mp4")).build())
+                .audio(Audio.builder().mimes(singletonList("audio/mp4")).build())
+                .xNative(Native.builder().request("{}").build())
+                .refresh(Refresh.builder().count(1).build())
+                .qty(Qty.builder().multiplier(BigDecimal.TEN).build())
+                .build();
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+
+        // then
+        assertThat(result.getVideo()).isEqualTo(Video.builder().mimes(singletonList("video/mp4")).w(640).build());
+        assertThat(result.getAudio())
+                .isEqualTo(Audio.builder().mimes(singletonList("audio/mp4")).minduration(5).build());
+        assertThat(result.getXNative()).isEqualTo(Native.builder().request("{}").ver("1.2").build());
+        assertThat(result.getRefresh()).isEqualTo(Refresh.builder().count(2).build());
+        assertThat(result.getQty()).isEqualTo(Qty.builder().multiplier(BigDecimal.TEN).sourcetype(1).build());
+        assertThat(debugMessages).isEmpty();
+    }
+
+    @Test
+    public void adjustShouldIgnoreUnknownImpPropertiesAndMergeKnownOnes() {
+        // given
+        final ObjectNode givenBidderImp = mapper.createObjectNode()
+                .put("unknownField", "unknownValue")
+                .put("tagid", "bidderTagId");
+
+        final Imp givenImp = givenImp("someBidder", givenBidderImp);
+        final List<String> debugMessages = new ArrayList<>();
+
+        // when
+        final Imp result = target.adjust(givenImp, "someBidder", bidderAliases, debugMessages);
+
+        // then
+        assertThat(result).isEqualTo(givenImp.toBuilder()
+                .tagid("bidderTagId")
+                .ext(mapper.createObjectNode()
+                        .put("originAttr", "originValue")
+                        .set("prebid", mapper.createObjectNode().put("prebidOriginAttr", "prebidOriginValue")))
+                .build());
+        assertThat(debugMessages).isEmpty();
+    }
+
     private static Imp givenImp(String bidder, ObjectNode bidderImpNode) {
         final JsonNode givenExtPrebid = mapper.createObjectNode()
                 .put("prebidOriginAttr", "prebidOriginValue")
@@ -328,5 +519,4 @@ public class ImpAdjusterTest extends VertxTest {
                 .ext(mapper.createObjectNode().put("originAttr", "originValue").set("prebid", givenExtPrebid))
                 .build();
     }
-
 }
@@ -4,10 +4,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigOrtb;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -560,6 +566,119 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void decodeBidRequestShouldBindConsistentRequestAsIs() throws IOException {
+        // given
+        final String bidRequest = """
+                {"id":"123","imp":[{"id":"imp","bidfloor":1.10,"ext":{"data":{"gender":["a"]}}}],
+                "site":{"page":"page","keywords":"k1,k2","ext":{"data":{}}},
+                "user":{"gender":null,"data":[{"id":"d"}],"ext":{"data":{"keywords":["k"]}}},
+                "ext":{"prebid":{"debug":1}}}""";
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeBidRequest(bytes(bidRequest), warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(mapper.readValue(bidRequest, BidRequest.class));
+        assertThat(result.getImp()).extracting(Imp::getBidfloor).containsExactly(new BigDecimal("1.10"));
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    public void decodeBidRequestShouldResolveFpdFieldsTypes() throws IOException {
+        // given
+        final String bidRequest = """
+                {"user":{"gender":["male","female"],"keywords":["k1","k2"]},
+                "app":{"bundle":["bundle1","bundle2"],"name":[1]},
+                "site":{"page":"page","keywords":["k1"]}}""";
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeBidRequest(bytes(bidRequest), warnings, "referer");
+
+        // then
+        assertThat(result.getUser().getGender()).isEqualTo("male");
+        assertThat(result.getUser().getKeywords()).isEqualTo("k1,k2");
+        assertThat(result.getApp().getBundle()).isEqualTo("bundle1");
+        assertThat(result.getApp().getName()).isNull();
+        assertThat(result.getSite().getPage()).isEqualTo("page");
+        assertThat(result.getSite().getKeywords()).isEqualTo("k1");
+        assertThat(warnings).containsExactlyInAnyOrder(
+                """
+                        WARNING: Incorrect type for first party data field bidrequest.user.gender, expected is \
+                        string, but was an array of strings. Converted to string by taking first element of array.""",
+                """
+                        WARNING: Incorrect type for first party data field bidrequest.user.keywords, expected is \
+                        string, but was an array of strings. Converted to string by separating values with comma.""",
+                """
+                        WARNING: Incorrect type for first party data field bidrequest.app.name, expected strings, \
+                        but was `ARRAY of different types`. Failed to convert to correct type.""",
+                """
+                        WARNING: Incorrect type for first party data field bidrequest.app.bundle, expected is \
+                        string, but was an array of strings. Converted to string by taking first element of array.""",
+                """
+                        WARNING: Incorrect type for first party data field bidrequest.site.keywords, expected is \
+                        string, but was an array of strings. Converted to string by separating values with comma.""");
+    }
+
+    @Test
+    public void decodeBidRequestShouldIgnoreFpdContainerOfNotObjectType() throws IOException {
+        // given
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeBidRequest(
+                bytes("{\"id\":\"123\",\"site\":[]}"), warnings, "referer");
+
+        // then
+        assertThat(result.getId()).isEqualTo("123");
+        assertThat(result.getSite()).isNull();
+        assertThat(warnings).containsExactly(
+                "WARNING: bidrequest.site field ignored. Expected type is object, but was `ARRAY`.");
+    }
+
+    @Test
+    public void decodeBidRequestShouldMoveFpdDataToExtData() throws IOException {
+        // given
+        final String bidRequest = """
+                {"user":{"data":{"id":"1"},"ext":{"data":{"keywords":"k"}}},
+                "site":{"data":{"id":"2"}}}""";
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeBidRequest(bytes(bidRequest), new ArrayList<>(), null);
+
+        // then
+        assertThat(result.getUser().getData()).isNull();
+        assertThat(result.getUser().getExt().getData()).isEqualTo(obj("keywords", "k").put("id", "1"));
+        assertThat(result.getSite().getExt().getData()).isEqualTo(obj("id", "2"));
+    }
+
+    @Test
+    public void decodeBidRequestShouldMergeFpdToOrtb2AndNormalizeBidderConfigs() throws IOException {
+        // given
+        final String bidRequest = """
+                {"ext":{"prebid":{"bidderconfig":[{"bidders":["bidder"],"config":{
+                "fpd":{"context":{"name":["name1","name2"]}},
+                "ortb2":{"site":{"id":"id"},"user":{"gender":["male"]}}}}]}}}""";
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeBidRequest(bytes(bidRequest), warnings, null);
+
+        // then
+        final ExtBidderConfigOrtb ortb2 = result.getExt().getPrebid().getBidderconfig().getFirst()
+                .getConfig().getOrtb2();
+        assertThat(ortb2.getSite()).isEqualTo(obj("id", "id").put("name", "name1"));
+        assertThat(ortb2.getUser()).isEqualTo(obj("gender", "male"));
+        assertThat(warnings).hasSize(2)
+                .allMatch(warning -> warning.contains("bidrequest.ext.prebid.bidderconfig."));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
@@ -22,6 +22,7 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -29,6 +30,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 
@@ -90,7 +92,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
     }
 
     @Test
@@ -142,6 +145,50 @@ public class StoredRequestProcessorTest extends VertxTest {
                         .build());
     }
 
+    @Test
+    public void shouldReturnMergedImpsUsingParsedStoredDataCache() throws IOException {
+        // given
+        storedRequestProcessor = new StoredRequestProcessor(
+                DEFAULT_TIMEOUT,
+                null,
+                false,
+                fileSystem,
+                applicationSettings,
+                idGenerator,
+                metrics,
+                timeoutFactory,
+                jacksonMapper,
+                new JsonMerger(jacksonMapper),
+                new ParsedStoredDataCache(10, 10, 0, jacksonMapper, metrics));
+
+        final BidRequest bidRequest = givenBidRequest(builder -> builder
+                .imp(singletonList(givenImp(impBuilder -> impBuilder
+                        .ext(mapper.valueToTree(
+                                ExtImp.of(ExtImpPrebid.builder().storedrequest(ExtStoredRequest.of("imp")).build(),
+                                        null)))))));
+
+        final String storedRequestImpJson = mapper.writeValueAsString(Imp.builder().banner(Banner.builder()
+                .format(singletonList(Format.builder().w(300).h(250).build())).build()).build());
+
+        given(applicationSettings.getStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(emptyMap(), singletonMap("imp", storedRequestImpJson), emptyList())));
+
+        // when
+        storedRequestProcessor.processAuctionRequest(null, bidRequest);
+        final Future<AuctionStoredResult> bidRequestFuture =
+                storedRequestProcessor.processAuctionRequest(null, bidRequest);
+
+        // then
+        assertThat(bidRequestFuture.result().bidRequest().getImp())
+                .extracting(Imp::getBanner)
+                .containsExactly(Banner.builder()
+                        .format(singletonList(Format.builder().w(300).h(250).build()))
+                        .build());
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.miss);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.hit);
+    }
+
     @Test
     public void shouldReturnMergedBidRequest() throws IOException {
         // given
@@ -193,7 +240,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
 
         final BidRequest bidRequest = givenBidRequest(builder -> builder
                 .id("request-id")
@@ -242,7 +290,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
 
         final BidRequest bidRequest = givenBidRequest(builder -> builder
                 .app(App.builder().build())
@@ -339,7 +388,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
 
         given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
@@ -373,7 +423,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
 
         given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
@@ -999,7 +1050,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                null);
 
         final Video storedImpVideo = Video.builder().mimes(singletonList("video/mp4")).w(640).h(480).build();
         final String storedImpJson = mapper.writeValueAsString(givenImp(builder -> builder.video(storedImpVideo)));
@@ -5,6 +5,7 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.auction.model.ImpIndex;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidAdservertargetingRule;
@@ -36,7 +37,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().build(), null);
 
         // then
@@ -55,7 +56,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().build(), null);
 
         // then
@@ -75,7 +76,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().build(), null);
 
         // then
@@ -101,7 +102,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().build(), null);
 
         // then
@@ -120,7 +121,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().build(), null);
 
         // then
@@ -139,7 +140,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().build(), null);
 
         // then
@@ -161,7 +162,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().impid("impId").build(), null);
 
         // then
@@ -188,7 +189,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().impid("impId").build(), null);
 
         // then
@@ -210,7 +211,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().impid("impId").build(), null);
 
         // then
@@ -232,7 +233,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().impid("impId").build(), null);
 
         // then
@@ -251,7 +252,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(Bid.builder().impid("impId2").build(), null);
 
         // then
@@ -270,7 +271,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(
                         Bid.builder()
                                 .ext(mapper.valueToTree(singletonMap("attr1", "value4")))
@@ -299,7 +300,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(
                         Bid.builder()
                                 .ext(mapper.valueToTree(bidExt))
@@ -322,7 +323,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(
                         Bid.builder()
                                 .ext(mapper.valueToTree(singletonMap("attr1", 4)))
@@ -345,7 +346,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(
                         Bid.builder()
                                 .ext(mapper.valueToTree(singletonMap("attr1", singletonList("value4"))))
@@ -368,7 +369,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(
                         Bid.builder()
                                 .ext(mapper.valueToTree(singletonMap("attr1", "value5")))
@@ -407,7 +408,7 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 .build();
 
         // when
-        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+        final Map<String, String> keywords = givenResolver(bidRequest)
                 .resolve(
                         Bid.builder()
                                 .impid("impId")
@@ -423,4 +424,8 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 entry("keyword4", "value4"),
                 entry("bidder_keyword5", "value5"));
     }
+
+    private static TargetingKeywordsResolver givenResolver(BidRequest bidRequest) {
+        return TargetingKeywordsResolver.create(bidRequest, ImpIndex.of(bidRequest.getImp()), jacksonMapper);
+    }
 }
@@ -2,6 +2,9 @@ package org.prebid.server.auction;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.response.ExtDebugTmaxBudget;
+
+import java.time.Clock;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -70,4 +73,95 @@ public class TimeoutResolverTest {
     public void adjustForRequestShouldReturnMinTimeout() {
         assertThat(timeoutResolver.adjustForRequest(80L, 10L)).isEqualTo(MIN_TIMEOUT);
     }
+
+    @Test
+    public void allocateForBidderShouldReturnNullWhenLatencyTrackingIsDisabled() {
+        // when
+        timeoutResolver.updateBidderResponseTime("bidder", 120L);
+
+        // then
+        assertThat(timeoutResolver.allocateForBidder("bidder", 180L)).isNull();
+    }
+
+    @Test
+    public void allocateForBidderShouldReturnNullWhenBidderResponseTimesAreUnknown() {
+        // given
+        timeoutResolver = givenLatencyAwareTimeoutResolver();
+
+        // when and then
+        assertThat(timeoutResolver.allocateForBidder("bidder", 180L)).isNull();
+    }
+
+    @Test
+    public void allocateForBidderShouldReturnTailResponseTime() {
+        // given
+        timeoutResolver = givenLatencyAwareTimeoutResolver(120L, 130L, 150L);
+
+        // when and then
+        assertThat(timeoutResolver.allocateForBidder("bidder", 180L))
+                .isEqualTo(ExtDebugTmaxBudget.of(180L, 130L, 150L, false));
+    }
+
+    @Test
+    public void allocateForBidderShouldNotReturnMoreThanGivenTimeout() {
+        // given
+        timeoutResolver = givenLatencyAwareTimeoutResolver(120L, 130L, 150L);
+
+        // when and then
+        assertThat(timeoutResolver.allocateForBidder("bidder", 140L))
+                .isEqualTo(ExtDebugTmaxBudget.of(140L, 130L, 140L, false));
+    }
+
+    @Test
+    public void allocateForBidderShouldNotReturnLessThanMinTimeout() {
+        // given
+        timeoutResolver = givenLatencyAwareTimeoutResolver(20L, 30L, 40L);
+
+        // when and then
+        assertThat(timeoutResolver.allocateForBidder("bidder", 180L))
+                .isEqualTo(ExtDebugTmaxBudget.of(180L, 30L, MIN_TIMEOUT, false));
+    }
+
+    @Test
+    public void allocateForBidderShouldSkipBidderWhenMedianResponseTimeExceedsTimeout() {
+        // given
+        timeoutResolver = givenLatencyAwareTimeoutResolver(120L, 130L, 150L);
+
+        // when and then
+        assertThat(timeoutResolver.allocateForBidder("bidder", 125L))
+                .isEqualTo(ExtDebugTmaxBudget.of(125L, 130L, null, true));
+    }
+
+    @Test
+    public void allocateForBidderShouldAllocateTimeoutAgainWhenSkippedBidderGotFaster() {
+        // given
+        timeoutResolver = new TimeoutResolver(
+                MIN_TIMEOUT, MAX_TIMEOUT, 10L, new BidderLatencyTracker(3, 3, 0.95, 0L, 2, Clock.systemUTC()));
+        timeoutResolver.updateBidderResponseTime("bidder", 300L);
+        timeoutResolver.updateBidderResponseTime("bidder", 300L);
+        timeoutResolver.updateBidderResponseTime("bidder", 300L);
+
+        // when
+        final ExtDebugTmaxBudget firstBudget = timeoutResolver.allocateForBidder("bidder", 180L);
+        final ExtDebugTmaxBudget firstProbeBudget = timeoutResolver.allocateForBidder("bidder", 180L);
+        timeoutResolver.updateBidderResponseTime("bidder", 50L);
+        timeoutResolver.allocateForBidder("bidder", 180L);
+        timeoutResolver.allocateForBidder("bidder", 180L);
+        timeoutResolver.updateBidderResponseTime("bidder", 50L);
+
+        // then
+        assertThat(firstBudget).isEqualTo(ExtDebugTmaxBudget.of(180L, 300L, null, true));
+        assertThat(firstProbeBudget).isEqualTo(ExtDebugTmaxBudget.of(180L, 300L, 180L, false));
+        assertThat(timeoutResolver.allocateForBidder("bidder", 180L))
+                .isEqualTo(ExtDebugTmaxBudget.of(180L, 50L, 180L, false));
+    }
+
+    private static TimeoutResolver givenLatencyAwareTimeoutResolver(long... responseTimes) {
+        final TimeoutResolver timeoutResolver = new TimeoutResolver(
+                MIN_TIMEOUT, MAX_TIMEOUT, 10L, new BidderLatencyTracker(10, 3, 0.95, 0L, 100, Clock.systemUTC()));
+        for (long responseTime : responseTimes) {
+            timeoutResolver.updateBidderResponseTime("bidder", responseTime);
+        }
+        return timeoutResolver;
+    }
 }
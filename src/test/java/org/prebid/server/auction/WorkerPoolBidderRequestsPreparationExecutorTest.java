@@ -0,0 +1,117 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkerPoolBidderRequestsPreparationExecutorTest {
+
+    @Mock(strictness = LENIENT)
+    private WorkerExecutor workerExecutor;
+    @Mock
+    private Metrics metrics;
+
+    private List<Future<?>> chunkFutures;
+
+    private WorkerPoolBidderRequestsPreparationExecutor target;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        chunkFutures = new ArrayList<>();
+        given(workerExecutor.executeBlocking(any(Callable.class), anyBoolean())).willAnswer(invocation -> {
+            final Future<?> chunkFuture = execute(invocation.getArgument(0));
+            chunkFutures.add(chunkFuture);
+            return chunkFuture;
+        });
+
+        target = new WorkerPoolBidderRequestsPreparationExecutor(workerExecutor, 3, 10, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidParallelism() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new WorkerPoolBidderRequestsPreparationExecutor(workerExecutor, 0, 10, metrics));
+    }
+
+    @Test
+    public void isApplicableShouldReturnTrueOnlyForLargeEnoughAuctions() {
+        // when and then
+        assertThat(target.isApplicable(5, 2)).isTrue();
+        assertThat(target.isApplicable(3, 3)).isFalse();
+        assertThat(target.isApplicable(1, 20)).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void prepareShouldSplitItemsIntoChunksAndKeepOrder() {
+        // when
+        final Future<List<String>> result = target.prepare(List.of(1, 2, 3, 4, 5, 6, 7), item -> "prepared" + item);
+
+        // then
+        verify(workerExecutor, times(3)).executeBlocking(any(Callable.class), eq(false));
+        assertThat(chunkFutures).extracting(Future::result)
+                .containsExactly(
+                        List.of("prepared1", "prepared2", "prepared3"),
+                        List.of("prepared4", "prepared5", "prepared6"),
+                        List.of("prepared7"));
+        assertThat(result.result())
+                .containsExactly("prepared1", "prepared2", "prepared3", "prepared4", "prepared5", "prepared6",
+                        "prepared7");
+        verify(metrics).updateBidderRequestsParallelPreparationMetric();
+        verify(metrics).updateBidderRequestsPreparationCpuTime(eq(MetricName.preparation_requests), anyLong());
+    }
+
+    @Test
+    public void prepareShouldFailWhenItemPreparationFailed() {
+        // when
+        final Future<List<String>> result = target.prepare(List.of(1, 2), item -> {
+            throw new IllegalStateException("failed");
+        });
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("failed");
+    }
+
+    @Test
+    public void prepareShouldReturnEmptyListForNoItems() {
+        // when
+        final Future<List<String>> result = target.prepare(List.of(), item -> "prepared" + item);
+
+        // then
+        assertThat(result.result()).isEmpty();
+        verifyNoInteractions(workerExecutor);
+    }
+
+    private static Future<?> execute(Callable<?> callable) {
+        try {
+            return Future.succeededFuture(callable.call());
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+}
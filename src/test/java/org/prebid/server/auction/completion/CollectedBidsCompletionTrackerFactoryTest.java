@@ -0,0 +1,104 @@
+package org.prebid.server.auction.completion;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CollectedBidsCompletionTrackerFactoryTest {
+
+    @Test
+    public void creationShouldFailOnInvalidArguments() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.top_bids, 0, 0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CollectedBidsCompletionTrackerFactory(AuctionCompletionPolicy.top_bids, 1, 2));
+    }
+
+    @Test
+    public void topBidsTrackerShouldCompleteWhenEnoughPricedBidsCollectedForEachImp() {
+        // given
+        final AuctionCompletionTracker tracker = new CollectedBidsCompletionTrackerFactory(
+                AuctionCompletionPolicy.top_bids, 2, 0).create(givenBidRequest("imp1", "imp2"), 3);
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse(givenBid("imp1", 1), givenBid("imp2", 1)));
+        tracker.processBidderResponse(givenBidderResponse(givenBid("imp1", 2), givenBid("imp2", 0)));
+
+        // then
+        assertThat(tracker.future().isComplete()).isFalse();
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse(givenBid("imp2", 3)));
+
+        // then
+        assertThat(tracker.future().succeeded()).isTrue();
+    }
+
+    @Test
+    public void dealsTrackerShouldCompleteWhenDealBidCollectedForEachImp() {
+        // given
+        final AuctionCompletionTracker tracker = new CollectedBidsCompletionTrackerFactory(
+                AuctionCompletionPolicy.deals, 5, 0).create(givenBidRequest("imp1"), 3);
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse(givenBid("imp1", 10)));
+
+        // then
+        assertThat(tracker.future().isComplete()).isFalse();
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse(givenBid("imp1", 1).toBuilder().dealid("deal").build()));
+
+        // then
+        assertThat(tracker.future().succeeded()).isTrue();
+    }
+
+    @Test
+    public void trackerShouldNotCompleteUntilMinShareOfBiddersResponded() {
+        // given
+        final AuctionCompletionTracker tracker = new CollectedBidsCompletionTrackerFactory(
+                AuctionCompletionPolicy.top_bids, 1, 0.5).create(givenBidRequest("imp1"), 4);
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse(givenBid("imp1", 1)));
+
+        // then
+        assertThat(tracker.future().isComplete()).isFalse();
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse());
+
+        // then
+        assertThat(tracker.future().succeeded()).isTrue();
+    }
+
+    private static BidRequest givenBidRequest(String... impIds) {
+        return BidRequest.builder()
+                .imp(Arrays.stream(impIds).map(impId -> Imp.builder().id(impId).build()).toList())
+                .build();
+    }
+
+    private static BidderResponse givenBidderResponse(Bid... bids) {
+        final List<BidderBid> bidderBids = Arrays.stream(bids)
+                .map(bid -> BidderBid.of(bid, BidType.banner, "USD"))
+                .toList();
+
+        return BidderResponse.of("bidder", BidderSeatBid.of(bidderBids), 0);
+    }
+
+    private static Bid givenBid(String impId, int price) {
+        return Bid.builder().impid(impId).price(BigDecimal.valueOf(price)).build();
+    }
+}
@@ -239,6 +239,23 @@ public class BidRejectionTrackerTest {
                         + "that there is a rejected bid that shouldn't be lost");
     }
 
+    @Test
+    public void copyShouldReturnTrackerWithSameStateNotAffectingOriginalOne() {
+        // given
+        final BidderBid bid = givenBid("bidId1", "impId1");
+        target.rejectBid(bid, ERROR_GENERAL);
+
+        // when
+        final BidRejectionTracker copy = target.copy();
+        copy.rejectAllImps(ERROR_TIMED_OUT);
+
+        // then
+        assertThat(target.getRejectedBids())
+                .containsOnly(entry("impId1", List.of(Pair.of(bid, ERROR_GENERAL))));
+        assertThat(copy.getRejectedBids())
+                .containsOnly(entry("impId1", List.of(Pair.of(bid, ERROR_GENERAL), Pair.of(null, ERROR_TIMED_OUT))));
+    }
+
     private BidderBid givenBid(String bidId, String impId) {
         return BidderBid.builder()
                 .seat("seat")
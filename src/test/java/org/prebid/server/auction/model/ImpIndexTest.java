@@ -0,0 +1,89 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Video;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImpIndexTest {
+
+    @Test
+    public void getShouldReturnImpById() {
+        // given
+        final Imp imp1 = Imp.builder().id("impId1").build();
+        final Imp imp2 = Imp.builder().id("impId2").build();
+
+        // when
+        final ImpIndex result = ImpIndex.of(List.of(imp1, imp2));
+
+        // then
+        assertThat(result.get("impId1")).isSameAs(imp1);
+        assertThat(result.get("impId2")).isSameAs(imp2);
+        assertThat(result.find("impId2")).containsSame(imp2);
+        assertThat(result.contains("impId1")).isTrue();
+    }
+
+    @Test
+    public void getShouldReturnNullForUnknownOrNullId() {
+        // given
+        final ImpIndex impIndex = ImpIndex.of(List.of(Imp.builder().id("impId").build()));
+
+        // when and then
+        assertThat(impIndex.get("unknown")).isNull();
+        assertThat(impIndex.get(null)).isNull();
+        assertThat(impIndex.find("unknown")).isEmpty();
+        assertThat(impIndex.contains(null)).isFalse();
+    }
+
+    @Test
+    public void getShouldReturnFirstImpForDuplicatedIds() {
+        // given
+        final Imp first = Imp.builder().id("impId").tagid("first").build();
+        final Imp second = Imp.builder().id("impId").tagid("second").build();
+
+        // when
+        final ImpIndex result = ImpIndex.of(List.of(first, second));
+
+        // then
+        assertThat(result.get("impId")).isSameAs(first);
+    }
+
+    @Test
+    public void findShouldReturnFirstImpMatchingFilter() {
+        // given
+        final Imp imp = Imp.builder().id("impId").tagid("tagId").build();
+        final ImpIndex impIndex = ImpIndex.of(List.of(imp));
+
+        // when and then
+        assertThat(impIndex.find("impId", candidate -> candidate.getTagid() != null)).containsSame(imp);
+        assertThat(impIndex.find("impId", candidate -> candidate.getVideo() != null)).isEmpty();
+        assertThat(impIndex.find(null, candidate -> true)).isEmpty();
+    }
+
+    @Test
+    public void findShouldLookupAllImpsWithDuplicatedIdForFirstImpMatchingFilter() {
+        // given
+        final Imp first = Imp.builder().id("impId").build();
+        final Imp second = Imp.builder().id("impId").video(Video.builder().build()).build();
+        final Imp third = Imp.builder().id("impId").video(Video.builder().build()).build();
+
+        // when
+        final ImpIndex result = ImpIndex.of(List.of(first, second, third));
+
+        // then
+        assertThat(result.get("impId")).isSameAs(first);
+        assertThat(result.find("impId", imp -> imp.getVideo() != null)).containsSame(second);
+        assertThat(result.find("unknown", imp -> true)).isEmpty();
+    }
+
+    @Test
+    public void ofShouldTolerateNullAndEmptyImps() {
+        // when and then
+        assertThat(ImpIndex.of(null).get("impId")).isNull();
+        assertThat(ImpIndex.of(Collections.emptyList()).get("impId")).isNull();
+    }
+}
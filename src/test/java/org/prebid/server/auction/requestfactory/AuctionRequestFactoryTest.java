@@ -14,6 +14,7 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.ext.web.RequestBody;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.DebugResolver;
@@ -43,6 +45,7 @@ import org.prebid.server.bidadjustments.model.BidAdjustments;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.HttpRequestContext;
@@ -59,6 +62,8 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
 import org.prebid.server.settings.model.Account;
 
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +83,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -102,8 +108,9 @@ public class AuctionRequestFactoryTest extends VertxTest {
     private Ortb2ImplicitParametersResolver paramsResolver;
     @Mock(strictness = LENIENT)
     private InterstitialProcessor interstitialProcessor;
-    @Mock
-    private OrtbTypesResolver ortbTypesResolver;
+    @Spy
+    private OrtbTypesResolver ortbTypesResolver =
+            new OrtbTypesResolver(0, jacksonMapper, new JsonMerger(jacksonMapper));
     @Mock(strictness = LENIENT)
     private AuctionPrivacyContextFactory auctionPrivacyContextFactory;
     @Mock(strictness = LENIENT)
@@ -216,7 +223,6 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 auctionPrivacyContextFactory,
                 debugResolver,
-                jacksonMapper,
                 geoLocationServiceWrapper,
                 bidAdjustmentsRetriever);
     }
@@ -252,7 +258,6 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 auctionPrivacyContextFactory,
                 debugResolver,
-                jacksonMapper,
                 geoLocationServiceWrapper,
                 bidAdjustmentsRetriever);
 
@@ -557,7 +562,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
     }
 
     @Test
-    public void shouldCallOrtbFieldsResolver() {
+    public void shouldDecodeBidRequestWithOrtbTypesResolver() throws IOException {
         // given
         givenValidBidRequest();
 
@@ -565,7 +570,63 @@ public class AuctionRequestFactoryTest extends VertxTest {
         target.parseRequest(routingContext, 0L).result();
 
         // then
-        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+        verify(ortbTypesResolver).decodeBidRequest(any(), any(), any());
+    }
+
+    @Test
+    public void shouldDecodeReceivedBytesWhenBodyIsNotChangedByHooks() {
+        // given
+        final String body = "{\"id\":\"received\"}";
+        given(requestBody.asString()).willReturn(body);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(body));
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getId()).isEqualTo("received");
+    }
+
+    @Test
+    public void shouldDecodeBodyChangedByHooks() {
+        // given
+        final String body = "{\"id\":\"received\"}";
+        given(requestBody.asString()).willReturn(body);
+        given(requestBody.buffer()).willReturn(Buffer.buffer(body));
+        given(ortb2RequestFactory.executeEntrypointHooks(any(), any(), any()))
+                .willAnswer(invocation -> toHttpRequest(invocation.getArgument(0), "{\"id\":\"changed\"}"));
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getId()).isEqualTo("changed");
+    }
+
+    @Test
+    public void shouldBindSameValuesWhetherNormalizationIsRequiredOrNot() {
+        // given
+        given(requestBody.asString()).willReturn(
+                "{\"imp\":[{\"id\":\"impId\",\"bidfloor\":1.10}],\"site\":{\"page\":[\"page\"]}}",
+                "{\"imp\":[{\"id\":\"impId\",\"bidfloor\":1.10}],\"site\":{\"page\":\"page\"}}");
+
+        // when
+        target.parseRequest(routingContext, 0L);
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory, times(2)).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+
+        final List<BidRequest> capturedRequests = captor.getAllValues();
+        assertThat(capturedRequests.getFirst()).isEqualTo(capturedRequests.getLast());
+        assertThat(capturedRequests.getFirst().getImp())
+                .extracting(Imp::getBidfloor)
+                .containsExactly(new BigDecimal("1.10"));
     }
 
     @Test
@@ -537,6 +537,54 @@ public class BidAdjustmentsProcessorTest extends VertxTest {
                 eq("dealId"));
     }
 
+    @Test
+    public void shouldResolveVideoMediaTypeByFirstImpWithVideoWhenImpIdsAreDuplicated() {
+        // given
+        final BidderSeatBid seatBid = BidderSeatBid.builder().bids(List.of(givenBidderBid(Bid.builder()
+                                .impid("123")
+                                .price(BigDecimal.valueOf(2))
+                                .dealid("dealId")
+                                .ext(mapper.createObjectNode().set("prebid", mapper.valueToTree(ExtBidPrebid.builder()
+                                        .meta(ExtBidPrebidMeta.builder().adapterCode("adapter").build())
+                                        .build())))
+                                .build(),
+                        "USD", video)))
+                .build();
+        final BidderResponse bidderResponse = BidderResponse.of("bidder", seatBid, 1);
+
+        final ExtRequestBidAdjustmentFactors givenAdjustments = ExtRequestBidAdjustmentFactors.builder()
+                .mediatypes(new EnumMap<>(singletonMap(ImpMediaType.video,
+                        singletonMap("bidder", BigDecimal.valueOf(3.456)))))
+                .build();
+        given(bidAdjustmentFactorResolver.resolve(ImpMediaType.video, givenAdjustments, "adapter", "seat"))
+                .willReturn(BigDecimal.valueOf(3.456));
+
+        final BidRequest bidRequest = givenBidRequest(
+                List.of(
+                        givenImp(singletonMap("bidder", 2), impBuilder -> impBuilder.id("123")),
+                        givenImp(singletonMap("bidder", 2), impBuilder ->
+                                impBuilder.id("123").video(Video.builder().plcmt(1).build()))),
+                builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .aliases(emptyMap())
+                        .bidadjustmentfactors(givenAdjustments)
+                        .auctiontimestamp(1000L)
+                        .build())));
+
+        final AuctionParticipation auctionParticipation = givenAuctionParticipation(bidderResponse, bidRequest);
+
+        // when
+        target.enrichWithAdjustedBids(auctionParticipation, bidRequest, givenBidAdjustments());
+
+        // then
+        verify(bidAdjustmentsResolver).resolve(
+                eq(Price.of("USD", BigDecimal.valueOf(6.912))),
+                eq(bidRequest),
+                eq(givenBidAdjustments()),
+                eq(ImpMediaType.video_instream),
+                eq("bidder"),
+                eq("dealId"));
+    }
+
     @Test
     public void shouldReturnBidsWithAdjustedPricesWithVideoOutstreamMediaTypeIfVideoPlacementAndPlcmtIsMissing() {
         // given
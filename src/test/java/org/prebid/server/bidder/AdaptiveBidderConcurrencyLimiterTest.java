@@ -0,0 +1,125 @@
+package org.prebid.server.bidder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class AdaptiveBidderConcurrencyLimiterTest {
+
+    @Mock
+    private Clock clock;
+
+    private AdaptiveBidderConcurrencyLimiter target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new AdaptiveBidderConcurrencyLimiter(2, 1, 10, 0.5, 0.5, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidArguments() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderConcurrencyLimiter(0, 0, 1, 0.5, 0.5, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderConcurrencyLimiter(5, 1, 3, 0.5, 0.5, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderConcurrencyLimiter(2, 1, 3, 0, 0.5, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderConcurrencyLimiter(2, 1, 3, 0.5, 1, clock));
+    }
+
+    @Test
+    public void tryAcquireShouldReturnNullWhenLimitIsReached() {
+        // when and then
+        assertThat(target.tryAcquire("bidder", 100L)).isNotNull();
+        assertThat(target.tryAcquire("bidder", 100L)).isNotNull();
+        assertThat(target.tryAcquire("bidder", 100L)).isNull();
+        assertThat(target.tryAcquire("otherBidder", 100L)).isNotNull();
+    }
+
+    @Test
+    public void releaseShouldAllowNextRequest() {
+        // given
+        target.tryAcquire("bidder", 100L);
+        final BidderConcurrencyLimiter.Permit permit = target.tryAcquire("bidder", 100L);
+
+        // when
+        permit.release(false);
+
+        // then
+        assertThat(target.tryAcquire("bidder", 100L)).isNotNull();
+    }
+
+    @Test
+    public void releaseShouldIncreaseLimitWhenResponsesAreInTime() {
+        // given
+        given(clock.millis()).willReturn(0L);
+
+        // when
+        givenRoundsOfRequests(3);
+
+        // then
+        assertThat(target.limit("bidder")).isEqualTo(3);
+    }
+
+    @Test
+    public void releaseShouldNotIncreaseLimitAboveMax() {
+        // given
+        given(clock.millis()).willReturn(0L);
+        target = new AdaptiveBidderConcurrencyLimiter(2, 1, 3, 0.5, 0.5, clock);
+
+        // when
+        givenRoundsOfRequests(100);
+
+        // then
+        assertThat(target.limit("bidder")).isEqualTo(3);
+    }
+
+    @Test
+    public void releaseShouldDecreaseLimitWhenRequestFailed() {
+        // given
+        given(clock.millis()).willReturn(0L);
+
+        // when
+        target.tryAcquire("bidder", 100L).release(true);
+
+        // then
+        assertThat(target.limit("bidder")).isEqualTo(1);
+    }
+
+    @Test
+    public void releaseShouldDecreaseLimitWhenResponseIsSlow() {
+        // given
+        given(clock.millis()).willReturn(0L, 60L);
+
+        // when
+        target.tryAcquire("bidder", 100L).release(false);
+
+        // then
+        assertThat(target.limit("bidder")).isEqualTo(1);
+    }
+
+    @Test
+    public void limitShouldReturnInitialLimitForUnknownBidder() {
+        // when and then
+        assertThat(target.limit("bidder")).isEqualTo(2);
+    }
+
+    private void givenRoundsOfRequests(int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            final BidderConcurrencyLimiter.Permit first = target.tryAcquire("bidder", 100L);
+            final BidderConcurrencyLimiter.Permit second = target.tryAcquire("bidder", 100L);
+            first.release(false);
+            second.release(false);
+        }
+    }
+}
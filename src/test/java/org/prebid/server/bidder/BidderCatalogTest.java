@@ -330,6 +330,22 @@ public class BidderCatalogTest {
         assertThat(target.usersyncReadyBidders()).containsExactly("bidder-with-usersync");
     }
 
+    @Test
+    public void httpClientProfileByNameShouldReturnProfileForKnownBidderIgnoringCase() {
+        // given
+        final BidderHttpClientProfile httpClientProfile = BidderHttpClientProfile.builder().http2(true).build();
+        final BidderDeps bidderDeps = BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                .name("BIDder")
+                .deprecatedNames(emptyList())
+                .httpClientProfile(httpClientProfile)
+                .build()));
+        target = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(target.httpClientProfileByName("bidDER")).isSameAs(httpClientProfile);
+        assertThat(target.httpClientProfileByName("unknown_bidder")).isNull();
+    }
+
     @Test
     public void usersyncerByNameShouldReturnNullForUnknownBidder() {
         // given
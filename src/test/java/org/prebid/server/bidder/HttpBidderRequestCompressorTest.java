@@ -0,0 +1,71 @@
+package org.prebid.server.bidder;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.MultiMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.GzipUtil;
+import org.prebid.server.util.HttpUtil;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class HttpBidderRequestCompressorTest {
+
+    private static final byte[] BODY = "{\"id\":\"request-id\"}".repeat(10).getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private BidderAliases bidderAliases;
+
+    private HttpBidderRequestCompressor target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new HttpBidderRequestCompressor(bidderCatalog, metrics);
+    }
+
+    @Test
+    public void compressIfRequiredShouldReturnSameBodyIfContentEncodingIsNotGzip() {
+        // when
+        final byte[] result = target.compressIfRequired(
+                "bidder", bidderAliases, BODY, MultiMap.caseInsensitiveMultiMap());
+
+        // then
+        assertThat(result).isSameAs(BODY);
+        verifyNoInteractions(bidderCatalog, metrics);
+    }
+
+    @Test
+    public void compressIfRequiredShouldCompressWithLevelOfResolvedBidderAndUpdateMetrics() {
+        // given
+        given(bidderAliases.resolveBidder("alias")).willReturn("bidder");
+        given(bidderCatalog.compressionLevelByName("bidder")).willReturn(1);
+
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP);
+
+        // when
+        final byte[] result = target.compressIfRequired("alias", bidderAliases, BODY, headers);
+
+        // then
+        assertThat(result).isEqualTo(GzipUtil.gzip(BODY, 1));
+        verify(metrics).updateAdapterRequestCompressionMetrics(
+                eq("alias"), eq(BODY.length), eq(result.length), anyLong());
+    }
+}
@@ -35,11 +35,13 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgs;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.util.GzipUtil;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
@@ -62,6 +64,7 @@ import static java.util.Collections.singletonMap;
 import static java.util.function.UnaryOperator.identity;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
@@ -96,10 +99,16 @@ public class HttpBidderRequesterTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private HttpBidderRequestEnricher requestEnricher;
     @Mock(strictness = LENIENT)
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
+    @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
     private HttpServerRequest httpServerRequest;
 
+    private HttpBidderRequestCompressor requestCompressor;
+
     private HttpBidderRequester target;
 
     private Timeout timeout;
@@ -118,8 +127,19 @@ public class HttpBidderRequesterTest extends VertxTest {
         timeout = timeoutFactory.create(500L);
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
+        given(bidderCatalog.compressionLevelByName(any())).willReturn(GzipUtil.DEFAULT_LEVEL);
+
+        requestCompressor = new HttpBidderRequestCompressor(bidderCatalog, metrics);
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient,
+                null,
+                bidderErrorNotifier,
+                requestEnricher,
+                requestCompressor,
+                BidderConcurrencyLimiter.noOp(),
+                jacksonMapper,
+                false,
+                0.0);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -528,6 +548,8 @@ public class HttpBidderRequesterTest extends VertxTest {
         final ArgumentCaptor<byte[]> actualRequestBody = ArgumentCaptor.forClass(byte[].class);
         verify(httpClient).request(any(), anyString(), any(), actualRequestBody.capture(), anyLong());
         assertThat(actualRequestBody.getValue()).isNotSameAs(EMPTY_BYTE_BODY);
+        verify(metrics).updateAdapterRequestCompressionMetrics(
+                eq("bidder"), eq(EMPTY_BYTE_BODY.length), eq(actualRequestBody.getValue().length), anyLong());
 
         verify(bidRejectionTracker, never()).rejectImp(anyString(), any());
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
@@ -557,7 +579,10 @@ public class HttpBidderRequesterTest extends VertxTest {
                 },
                 bidderErrorNotifier,
                 requestEnricher,
+                requestCompressor,
+                BidderConcurrencyLimiter.noOp(),
                 jacksonMapper,
+                false,
                 0.0);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
@@ -1058,6 +1083,62 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker).rejectImps(singleton("impId"), BidRejectionReason.ERROR_BIDDER_UNREACHABLE);
     }
 
+    @Test
+    public void shouldNotSendRequestsAboveBidderConcurrencyLimit() {
+        // given
+        target = new HttpBidderRequester(
+                httpClient,
+                null,
+                bidderErrorNotifier,
+                requestEnricher,
+                requestCompressor,
+                new AdaptiveBidderConcurrencyLimiter(1, 1, 1, 1.0, 0.5, Clock.systemUTC()),
+                jacksonMapper,
+                false,
+                0.0);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(asList(
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder
+                                .uri("uri1")
+                                .impIds(singleton("impId1"))),
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder
+                                .uri("uri2")
+                                .impIds(singleton("impId2")))),
+                emptyList()));
+
+        final Promise<HttpClientResponse> responsePromise = Promise.promise();
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong()))
+                .willReturn(responsePromise.future());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final Future<BidderSeatBid> result = target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+        responsePromise.complete(HttpClientResponse.of(204, null, null));
+
+        // then
+        verify(httpClient).request(any(), eq("uri1"), any(), any(byte[].class), anyLong());
+        verify(httpClient, never()).request(any(), eq("uri2"), any(), any(byte[].class), anyLong());
+
+        assertThat(result.result().getErrors())
+                .extracting(BidderError::getType, BidderError::getMessage)
+                .containsExactly(tuple(
+                        BidderError.Type.overloaded,
+                        "Request was not sent: concurrency limit of bidder bidder is reached"));
+
+        verify(bidRejectionTracker).rejectImps(singleton("impId2"), BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED);
+    }
+
     @Test
     public void shouldTolerateAlreadyExpiredGlobalTimeout() throws JsonProcessingException {
         // given
@@ -0,0 +1,127 @@
+package org.prebid.server.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRatesTest {
+
+    @Test
+    public void compileShouldReturnNullForEmptyRates() {
+        // when and then
+        assertThat(CurrencyRates.compile(null)).isNull();
+        assertThat(CurrencyRates.compile(emptyMap())).isNull();
+    }
+
+    @Test
+    public void rateShouldReturnDirectRate() {
+        // given
+        final CurrencyRates target = CurrencyRates.compile(Map.of("USD", Map.of("EUR", new BigDecimal("0.9"))));
+
+        // when and then
+        assertThat(target.rate("USD", "EUR")).isEqualTo(new BigDecimal("0.9"));
+    }
+
+    @Test
+    public void rateShouldReturnReverseRate() {
+        // given
+        final CurrencyRates target = CurrencyRates.compile(Map.of("USD", Map.of("EUR", new BigDecimal("1.25"))));
+
+        // when and then
+        assertThat(target.rate("EUR", "USD")).isEqualTo(new BigDecimal("0.800"));
+    }
+
+    @Test
+    public void rateShouldReturnIntermediateRate() {
+        // given
+        final CurrencyRates target = CurrencyRates.compile(Map.of(
+                "USD", Map.of("AUD", new BigDecimal("1.2")),
+                "EUR", Map.of("AUD", new BigDecimal("1.5"))));
+
+        // when and then
+        assertThat(target.rate("USD", "EUR")).isEqualTo(new BigDecimal("0.800"));
+    }
+
+    @Test
+    public void rateShouldReturnCrossRate() {
+        // given
+        final CurrencyRates target = CurrencyRates.compile(Map.of(
+                "USD", Map.of("EUR", new BigDecimal("0.8"), "GBP", new BigDecimal("0.5"))));
+
+        // when and then
+        assertThat(target.rate("EUR", "GBP")).isEqualTo(new BigDecimal("0.625"));
+    }
+
+    @Test
+    public void rateShouldReturnNullForUnknownCurrency() {
+        // given
+        final CurrencyRates target = CurrencyRates.compile(Map.of("USD", Map.of("EUR", new BigDecimal("0.9"))));
+
+        // when and then
+        assertThat(target.rate("USD", "JPY")).isNull();
+        assertThat(target.rate("JPY", "USD")).isNull();
+        assertThat(target.rate(null, "USD")).isNull();
+    }
+
+    @Test
+    public void rateShouldResolveOtherPairsIfSomeRateIsInvalid() {
+        // given
+        final Map<String, BigDecimal> usdRates = new LinkedHashMap<>();
+        usdRates.put("EUR", BigDecimal.ZERO);
+        usdRates.put("GBP", new BigDecimal("0.5"));
+
+        final CurrencyRates target = CurrencyRates.compile(Map.of("USD", usdRates));
+
+        // when and then
+        assertThat(target.rate("EUR", "USD")).isNull();
+        assertThat(target.rate("GBP", "USD")).isEqualTo(new BigDecimal("2.000"));
+    }
+
+    @Test
+    public void rateShouldSkipIntermediateRateWithAbsentValue() {
+        // given
+        final Map<String, BigDecimal> usdRates = new LinkedHashMap<>();
+        usdRates.put("EUR", null);
+
+        final CurrencyRates target = CurrencyRates.compile(Map.of(
+                "USD", usdRates,
+                "JPY", Map.of("EUR", new BigDecimal("150")),
+                "GBP", Map.of("USD", new BigDecimal("0.8"), "JPY", new BigDecimal("160"))));
+
+        // when and then
+        assertThat(target.rate("USD", "JPY")).isEqualTo(new BigDecimal("200.000"));
+    }
+
+    @Test
+    public void lazyShouldReturnNullForEmptyRates() {
+        // when and then
+        assertThat(CurrencyRates.lazy(null)).isNull();
+        assertThat(CurrencyRates.lazy(emptyMap())).isNull();
+    }
+
+    @Test
+    public void lazyShouldResolveSameRatesAsCompiled() {
+        // given
+        final Map<String, Map<String, BigDecimal>> rates = Map.of(
+                "USD", Map.of("EUR", new BigDecimal("0.8"), "AUD", new BigDecimal("1.2")),
+                "GBP", Map.of("AUD", new BigDecimal("1.5"), "JPY", new BigDecimal("190")));
+
+        final CurrencyRates compiled = CurrencyRates.compile(rates);
+        final CurrencyRates target = CurrencyRates.lazy(rates);
+
+        // when and then
+        for (String fromCurrency : List.of("USD", "EUR", "AUD", "GBP", "JPY", "CAD")) {
+            for (String toCurrency : List.of("USD", "EUR", "AUD", "GBP", "JPY", "CAD")) {
+                assertThat(target.rate(fromCurrency, toCurrency))
+                        .isEqualTo(compiled.rate(fromCurrency, toCurrency))
+                        .isEqualTo(target.rate(fromCurrency, toCurrency));
+            }
+        }
+    }
+}
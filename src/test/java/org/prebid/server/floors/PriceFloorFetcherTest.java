@@ -109,6 +109,25 @@ public class PriceFloorFetcherTest extends VertxTest {
 
     }
 
+    @Test
+    public void fetchShouldNotStartAnotherFetchingWhileFetchIsInProgress() {
+        // given
+        final Account givenAccount = givenAccount(identity());
+        given(httpClient.get(anyString(), anyLong(), anyLong()))
+                .willReturn(Promise.<HttpClientResponse>promise().future());
+
+        // when
+        final FetchResult firstInvocationResult = priceFloorFetcher.fetch(givenAccount);
+        final FetchResult secondInvocationResult = priceFloorFetcher.fetch(givenAccount);
+
+        // then
+        assertThat(firstInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
+        assertThat(secondInvocationResult.getFetchStatus()).isEqualTo(FetchStatus.inprogress);
+        verify(httpClient).get("http://test.host.com", 1300, 10240);
+        verifyNoMoreInteractions(httpClient);
+        verifyNoInteractions(vertx);
+    }
+
     @Test
     public void fetchShouldReturnEmptyRulesAndInProgressStatusForTheFirstInvocation() {
         // given
@@ -0,0 +1,75 @@
+package org.prebid.server.floors.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceFloorRuleIndexTest {
+
+    @Test
+    public void ofShouldNormalizeRulesToLowerCase() {
+        // given
+        final PriceFloorModelGroup modelGroup = PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of("|", List.of(PriceFloorField.siteDomain, PriceFloorField.mediaType)))
+                .value("Example.COM|Banner", BigDecimal.ONE)
+                .value("*|video", BigDecimal.TEN)
+                .build();
+
+        // when
+        final PriceFloorRuleIndex result = PriceFloorRuleIndex.of(modelGroup);
+
+        // then
+        assertThat(result.floor("example.com|banner")).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(result.floor("*|video")).isEqualByComparingTo(BigDecimal.TEN);
+        assertThat(result.floor("Example.COM|Banner")).isNull();
+        assertThat(result.source().rules()).containsExactlyInAnyOrder("example.com|banner", "*|video");
+    }
+
+    @Test
+    public void ofShouldUseDefaultDelimiterAndWildcard() {
+        // given
+        final PriceFloorModelGroup modelGroup = PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of(null, List.of(PriceFloorField.siteDomain)))
+                .value("example.com", BigDecimal.ONE)
+                .build();
+
+        // when
+        final PriceFloorRuleIndex result = PriceFloorRuleIndex.of(modelGroup);
+
+        // then
+        assertThat(result.source().separator()).isEqualTo("|");
+        assertThat(result.source().wildcard()).isEqualTo("*");
+    }
+
+    @Test
+    public void floorShouldReturnNullForNullRule() {
+        // given
+        final PriceFloorModelGroup modelGroup = PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of("|", List.of(PriceFloorField.siteDomain)))
+                .value("example.com", BigDecimal.ONE)
+                .build();
+
+        // when and then
+        assertThat(PriceFloorRuleIndex.of(modelGroup).floor(null)).isNull();
+    }
+
+    @Test
+    public void modelGroupShouldBuildRuleIndexOnceAndNotCompareIt() {
+        // given
+        final PriceFloorModelGroup modelGroup = PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of("|", List.of(PriceFloorField.siteDomain)))
+                .value("example.com", BigDecimal.ONE)
+                .build();
+        final PriceFloorRuleIndex ruleIndex = modelGroup.getRuleIndex();
+
+        // when and then
+        assertThat(modelGroup.getRuleIndex()).isSameAs(ruleIndex);
+        assertThat(modelGroup).isEqualTo(PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of("|", List.of(PriceFloorField.siteDomain)))
+                .value("example.com", BigDecimal.ONE)
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package org.prebid.server.geolocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IpPrefixCacheTest {
+
+    private final IpPrefixCache<String> target = new IpPrefixCache<>(10);
+
+    @Test
+    public void getShouldReturnValueCachedForAddressOfTheSameIpv4Prefix() throws UnknownHostException {
+        // given
+        target.put(address("192.168.1.10"), 24, "value");
+
+        // when and then
+        assertThat(target.get(address("192.168.1.200"))).isEqualTo("value");
+        assertThat(target.get(address("192.168.2.10"))).isNull();
+    }
+
+    @Test
+    public void getShouldReturnValueCachedForAddressOfTheSameIpv6Prefix() throws UnknownHostException {
+        // given
+        target.put(address("2001:db8:1::1"), 32, "value");
+
+        // when and then
+        assertThat(target.get(address("2001:db8:1:ffff::1"))).isEqualTo("value");
+        assertThat(target.get(address("2001:db8:2::1"))).isNull();
+    }
+
+    @Test
+    public void getShouldNotMixIpv4AndIpv6Prefixes() throws UnknownHostException {
+        // given
+        target.put(address("::1"), 48, "value");
+
+        // when and then
+        assertThat(target.get(address("0.0.0.1"))).isNull();
+    }
+
+    @Test
+    public void putShouldNotCacheValueOfNetworkNarrowerThanPrefix() throws UnknownHostException {
+        // when
+        target.put(address("192.168.1.10"), 25, "value");
+        target.put(address("2001:db8:1::1"), 64, "value");
+        target.put(address("10.0.0.1"), -1, "value");
+
+        // then
+        assertThat(target.get(address("192.168.1.10"))).isNull();
+        assertThat(target.get(address("2001:db8:1::1"))).isNull();
+        assertThat(target.get(address("10.0.0.1"))).isNull();
+    }
+
+    @Test
+    public void invalidateAllShouldDropCachedValues() throws UnknownHostException {
+        // given
+        target.put(address("192.168.1.10"), 16, "value");
+
+        // when
+        target.invalidateAll();
+
+        // then
+        assertThat(target.get(address("192.168.1.10"))).isNull();
+    }
+
+    private static InetAddress address(String ip) throws UnknownHostException {
+        return InetAddress.getByName(ip);
+    }
+}
@@ -1,21 +1,27 @@
 package org.prebid.server.geolocation;
 
+import com.maxmind.db.Network;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
+import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.City;
 import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import com.maxmind.geoip2.record.Traits;
 import io.vertx.core.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -23,11 +29,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class MaxMindGeoLocationServiceTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    private final Metrics metrics = Mockito.mock(Metrics.class);
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @BeforeEach
@@ -127,4 +139,93 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void lookupShouldReturnCachedResultForAddressOfTheSamePrefix() throws Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(metrics, 10, false);
+
+        final CityResponse cityResponse = givenCityResponse("fr", 16);
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+        givenDatabase(databaseReader, new IpPrefixCache<>(10));
+
+        // when
+        final Future<GeoInfo> firstFuture = maxMindGeoLocationService.lookup("80.215.195.122", null);
+        final Future<GeoInfo> secondFuture = maxMindGeoLocationService.lookup("80.215.195.1", null);
+
+        // then
+        assertThat(secondFuture.result()).isSameAs(firstFuture.result());
+        verify(databaseReader).city(any());
+        verify(metrics).updateGeoLocationCacheMetric(false);
+        verify(metrics).updateGeoLocationCacheMetric(true);
+    }
+
+    @Test
+    public void lookupShouldNotCacheResultOfNetworkNarrowerThanPrefix() throws Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(metrics, 10, false);
+
+        final CityResponse cityResponse = givenCityResponse("fr", 28);
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+        givenDatabase(databaseReader, new IpPrefixCache<>(10));
+
+        // when
+        maxMindGeoLocationService.lookup("80.215.195.122", null);
+        maxMindGeoLocationService.lookup("80.215.195.1", null);
+
+        // then
+        verify(databaseReader, times(2)).city(any());
+        verify(metrics, times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldUseCountryLookupIfOnlyCountryIsRequired() throws Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(metrics, 0, true);
+
+        final Country country = Mockito.mock(Country.class);
+        given(country.getIsoCode()).willReturn("FR");
+        final CountryResponse countryResponse = Mockito.mock(CountryResponse.class);
+        given(countryResponse.getCountry()).willReturn(country);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.country(any())).willReturn(countryResponse);
+        givenDatabase(databaseReader, null);
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").country("fr").build());
+        verify(databaseReader, never()).city(any());
+        verifyNoInteractions(metrics);
+    }
+
+    private static CityResponse givenCityResponse(String countryCode, int networkPrefixLength)
+            throws UnknownHostException {
+
+        final Country country = Mockito.mock(Country.class);
+        given(country.getIsoCode()).willReturn(countryCode);
+
+        final Traits traits = Mockito.mock(Traits.class);
+        given(traits.getNetwork()).willReturn(
+                new Network(InetAddress.getByName("80.215.0.0"), networkPrefixLength));
+
+        final CityResponse cityResponse = Mockito.mock(CityResponse.class);
+        given(cityResponse.getCountry()).willReturn(country);
+        given(cityResponse.getTraits()).willReturn(traits);
+        return cityResponse;
+    }
+
+    private void givenDatabase(DatabaseReader databaseReader, IpPrefixCache<GeoInfo> cache)
+            throws NoSuchFieldException, IllegalAccessException {
+
+        final ReflectionMemberAccessor accessor = new ReflectionMemberAccessor();
+        accessor.set(MaxMindGeoLocationService.class.getDeclaredField("databaseReader"),
+                maxMindGeoLocationService, databaseReader);
+        accessor.set(MaxMindGeoLocationService.class.getDeclaredField("cache"),
+                maxMindGeoLocationService, cache);
+    }
 }
@@ -38,6 +38,7 @@ import org.prebid.server.hooks.execution.model.ExecutionAction;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.ExecutionPlan;
 import org.prebid.server.hooks.execution.model.ExecutionStatus;
+import org.prebid.server.hooks.execution.model.GroupExecutionMode;
 import org.prebid.server.hooks.execution.model.GroupExecutionOutcome;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookExecutionOutcome;
@@ -82,6 +83,7 @@ import org.prebid.server.hooks.v1.entrypoint.EntrypointHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointHook;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
@@ -110,6 +112,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -125,6 +128,8 @@ public class HookStageExecutorTest extends VertxTest {
 
     @Mock(strictness = LENIENT)
     private HookCatalog hookCatalog;
+    @Mock
+    private Metrics metrics;
     private TimeoutFactory timeoutFactory;
     private Vertx vertx;
     private Clock clock;
@@ -453,8 +458,10 @@ public class HookStageExecutorTest extends VertxTest {
                 timeoutFactory,
                 vertx,
                 clock,
+                metrics,
                 jacksonMapper,
-                false);
+                false,
+                GroupExecutionMode.ordered);
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
 
@@ -855,6 +862,94 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldCompleteGroupRightAfterRejectionWhenFailFastModeIsUsed(VertxTestContext context) {
+        // given
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-a",
+                delayedHook(InvocationResultUtils.succeeded(payload -> EntrypointPayloadImpl.of(
+                        payload.queryParams(), payload.headers(), payload.body() + "-abc")), 500));
+
+        givenEntrypointHook(
+                "module-beta",
+                "hook-a",
+                immediateHook(InvocationResultUtils.rejected("Request is of low quality")));
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.entrypoint,
+                                StageExecutionPlan.of(singletonList(
+                                        ExecutionGroup.of(
+                                                1000L,
+                                                asList(
+                                                        HookId.of("module-alpha", "hook-a"),
+                                                        HookId.of("module-beta", "hook-a"))))))))),
+                null,
+                GroupExecutionMode.fail_fast);
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final long startTime = clock.millis();
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                hookExecutionContext);
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(clock.millis() - startTime).isLessThan(500L);
+            assertThat(result.isShouldReject()).isTrue();
+
+            assertThat(hookExecutionContext.getStageOutcomes().get(Stage.entrypoint))
+                    .flatExtracting(StageExecutionOutcome::getGroups)
+                    .flatExtracting(GroupExecutionOutcome::getHooks)
+                    .extracting(HookExecutionOutcome::getHookId, HookExecutionOutcome::getAction)
+                    .containsOnly(tuple(HookId.of("module-beta", "hook-a"), ExecutionAction.reject));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldUpdateStageDurationAndHookQueueTimeMetrics(VertxTestContext context) {
+        // given
+        givenEntrypointHook(
+                "module-alpha",
+                "hook-a",
+                immediateHook(InvocationResultUtils.succeeded(payload -> EntrypointPayloadImpl.of(
+                        payload.queryParams(), payload.headers(), payload.body() + "-abc"))));
+
+        final HookStageExecutor executor = createExecutor(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(
+                                Stage.entrypoint,
+                                StageExecutionPlan.of(singletonList(
+                                        ExecutionGroup.of(
+                                                200L,
+                                                singletonList(HookId.of("module-alpha", "hook-a"))))))))));
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                HookExecutionContext.of(Endpoint.openrtb2_auction));
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            verify(metrics).updateHooksStageDuration(eq(Stage.entrypoint), anyLong());
+            verify(metrics).updateHooksQueueTime(eq("module-alpha"), eq(Stage.entrypoint), eq("hook-a"), anyLong());
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldExecuteEntrypointHooksWhenRequestIsRejectedBySecondGroup(VertxTestContext context) {
         // given
@@ -1427,8 +1522,10 @@ public class HookStageExecutorTest extends VertxTest {
                 timeoutFactory,
                 vertx,
                 clock,
+                metrics,
                 jacksonMapper,
-                false);
+                false,
+                GroupExecutionMode.ordered);
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
 
@@ -1544,8 +1641,10 @@ public class HookStageExecutorTest extends VertxTest {
                 timeoutFactory,
                 vertx,
                 clock,
+                metrics,
                 jacksonMapper,
-                true);
+                true,
+                GroupExecutionMode.ordered);
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
 
@@ -3412,6 +3511,13 @@ public class HookStageExecutorTest extends VertxTest {
     }
 
     private HookStageExecutor createExecutor(String hostExecutionPlan, String defaultAccountExecutionPlan) {
+        return createExecutor(hostExecutionPlan, defaultAccountExecutionPlan, GroupExecutionMode.ordered);
+    }
+
+    private HookStageExecutor createExecutor(String hostExecutionPlan,
+                                             String defaultAccountExecutionPlan,
+                                             GroupExecutionMode groupExecutionMode) {
+
         return HookStageExecutor.create(
                 hostExecutionPlan,
                 defaultAccountExecutionPlan,
@@ -3420,8 +3526,10 @@ public class HookStageExecutorTest extends VertxTest {
                 timeoutFactory,
                 vertx,
                 clock,
+                metrics,
                 jacksonMapper,
-                false);
+                false,
+                groupExecutionMode);
     }
 
     @Value(staticConstructor = "of")
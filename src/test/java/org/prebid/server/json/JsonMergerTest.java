@@ -85,4 +85,17 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldMergeObjectWithStoredDataNodeAndLeaveStoredDataNodeUnchanged() {
+        // given
+        final Site site = Site.builder().page("originalPage").build();
+        final ObjectNode storedNode = mapper.createObjectNode().put("page", "storedPage").put("domain", "domain");
+
+        // when
+        final Site result = target.merge(site, storedNode, "storedId", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("originalPage").domain("domain").build());
+        assertThat(storedNode).isEqualTo(mapper.createObjectNode().put("page", "storedPage").put("domain", "domain"));
+    }
 }
@@ -0,0 +1,90 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SerializedFragmentsModuleTest extends VertxTest {
+
+    @Test
+    public void encodeShouldProduceSameResultWithinSerializedFragmentsScope() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(mapper.createObjectNode().put("pos", 1));
+        final String expected = jacksonMapper.encodeToString(bidRequest);
+
+        // when
+        final String result = new SerializedFragments().apply(() -> jacksonMapper.encodeToString(bidRequest));
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    public void encodeShouldReuseFragmentOfTheSameInstanceWithinSerializedFragmentsScope() {
+        // given
+        final ObjectNode bannerExt = mapper.createObjectNode().put("pos", 1);
+        final BidRequest bidRequest = givenBidRequest(bannerExt);
+        final SerializedFragments serializedFragments = new SerializedFragments();
+        serializedFragments.apply(() -> jacksonMapper.encodeToString(bidRequest));
+
+        // when
+        bannerExt.put("pos", 2);
+        final String result = serializedFragments.apply(() -> jacksonMapper.encodeToString(
+                bidRequest.toBuilder().id("otherId").build()));
+
+        // then
+        assertThat(result).contains("\"id\":\"otherId\"", "\"pos\":1");
+    }
+
+    @Test
+    public void encodeShouldNotReuseFragmentOfModifiedObject() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(mapper.createObjectNode().put("pos", 1));
+        final SerializedFragments serializedFragments = new SerializedFragments();
+        serializedFragments.apply(() -> jacksonMapper.encodeToString(bidRequest));
+
+        final BidRequest modifiedBidRequest = bidRequest.toBuilder()
+                .site(bidRequest.getSite().toBuilder().page("otherPage").build())
+                .build();
+
+        // when
+        final String result = serializedFragments.apply(() -> jacksonMapper.encodeToString(modifiedBidRequest));
+
+        // then
+        assertThat(result).isEqualTo(jacksonMapper.encodeToString(modifiedBidRequest));
+    }
+
+    @Test
+    public void valueToTreeShouldNotBeAffectedBySerializedFragmentsScope() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(mapper.createObjectNode().put("pos", 1));
+        final SerializedFragments serializedFragments = new SerializedFragments();
+        serializedFragments.apply(() -> jacksonMapper.encodeToString(bidRequest));
+
+        // when
+        final JsonNode result = serializedFragments.apply(() -> mapper.valueToTree(bidRequest));
+
+        // then
+        assertThat(result).isEqualTo(mapper.valueToTree(bidRequest));
+        assertThat(result.at("/site/page").textValue()).isEqualTo("page");
+    }
+
+    private static BidRequest givenBidRequest(ObjectNode bannerExt) {
+        return BidRequest.builder()
+                .id("id")
+                .site(Site.builder().page("page").domain("domain").build())
+                .imp(singletonList(Imp.builder()
+                        .id("impId")
+                        .banner(Banner.builder().w(300).h(250).ext(bannerExt).build())
+                        .build()))
+                .build();
+    }
+}
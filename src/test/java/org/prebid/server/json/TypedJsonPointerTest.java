@@ -0,0 +1,129 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Native;
+import com.iab.openrtb.request.Site;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypedJsonPointerTest extends VertxTest {
+
+    @Test
+    public void findShouldResolveBeanProperties() {
+        // given
+        final BidRequest bidRequest = givenBidRequest();
+
+        // when and then
+        assertSameAsTree(bidRequest, "/id");
+        assertSameAsTree(bidRequest, "/tmax");
+        assertSameAsTree(bidRequest, "/site/page");
+        assertSameAsTree(bidRequest, "/imp/0/bidfloor");
+        assertSameAsTree(bidRequest, "/imp/0/native/request");
+        assertThat(TypedJsonPointer.compile("/site/page", jacksonMapper).asText(bidRequest)).isEqualTo("page");
+    }
+
+    @Test
+    public void findShouldResolveListElements() {
+        // given
+        final BidRequest bidRequest = givenBidRequest();
+
+        // when and then
+        assertSameAsTree(bidRequest, "/imp/0/banner/format/1/w");
+        assertSameAsTree(bidRequest, "/cur/1");
+        assertSameAsTree(bidRequest, "/cur/2");
+        assertSameAsTree(bidRequest, "/cur/3");
+        assertSameAsTree(bidRequest, "/cur/first");
+    }
+
+    @Test
+    public void findShouldResolveExtensionsAndJsonNodes() {
+        // given
+        final BidRequest bidRequest = givenBidRequest();
+
+        // when and then
+        assertSameAsTree(bidRequest, "/ext/prebid/debug");
+        assertSameAsTree(bidRequest, "/ext/data/attr");
+        assertSameAsTree(bidRequest, "/ext/data/list/0");
+        assertSameAsTree(bidRequest, "/imp/0/ext/gpid");
+        assertThat(TypedJsonPointer.compile("/ext/data/attr", jacksonMapper).asText(bidRequest)).isEqualTo("value");
+    }
+
+    @Test
+    public void findShouldReturnMissingNodeForAbsentValues() {
+        // given
+        final BidRequest bidRequest = givenBidRequest();
+
+        // when and then
+        assertSameAsTree(bidRequest, "/app/id");
+        assertSameAsTree(bidRequest, "/site/unknown");
+        assertSameAsTree(bidRequest, "/imp/5/id");
+        assertSameAsTree(bidRequest, "/imp/0/id/nested");
+        assertSameAsTree(bidRequest, "/ext/unknown/attr");
+        assertThat(TypedJsonPointer.compile("/app/id", jacksonMapper).find(bidRequest).isMissingNode()).isTrue();
+    }
+
+    @Test
+    public void findShouldReturnNonValueNodesAsInTree() {
+        // given
+        final BidRequest bidRequest = givenBidRequest();
+
+        // when and then
+        assertSameAsTree(bidRequest, "/site");
+        assertSameAsTree(bidRequest, "/imp");
+        assertSameAsTree(bidRequest, "/ext/data");
+        assertThat(TypedJsonPointer.compile("/site", jacksonMapper).asText(bidRequest)).isEmpty();
+    }
+
+    @Test
+    public void findShouldReuseResolvedPropertiesForObjectsOfDifferentTypes() {
+        // given
+        final TypedJsonPointer pointer = TypedJsonPointer.compile("/id", jacksonMapper);
+
+        // when and then
+        assertThat(pointer.asText(givenBidRequest())).isEqualTo("request-id");
+        assertThat(pointer.asText(Imp.builder().id("imp-id").build())).isEqualTo("imp-id");
+        assertThat(pointer.asText(givenBidRequest())).isEqualTo("request-id");
+    }
+
+    private static void assertSameAsTree(Object object, String pointer) {
+        final JsonNode expected = mapper.valueToTree(object).at(pointer);
+        assertThat(TypedJsonPointer.compile(pointer, jacksonMapper).find(object)).isEqualTo(expected);
+    }
+
+    private static BidRequest givenBidRequest() {
+        final ExtRequest extRequest = ExtRequest.of(ExtRequestPrebid.builder().debug(1).build());
+        extRequest.addProperty("data", mapper.valueToTree(Map.of("attr", "value", "list", List.of(1, 2))));
+
+        return BidRequest.builder()
+                .id("request-id")
+                .tmax(1000L)
+                .cur(Arrays.asList("USD", "EUR", null))
+                .site(Site.builder().page("page").build())
+                .imp(List.of(Imp.builder()
+                        .id("imp-id")
+                        .bidfloor(new BigDecimal("1.50"))
+                        .banner(Banner.builder()
+                                .format(List.of(
+                                        Format.builder().w(300).h(250).build(),
+                                        Format.builder().w(728).h(90).build()))
+                                .build())
+                        .xNative(Native.builder().request("{}").build())
+                        .ext(mapper.createObjectNode().put("gpid", "gpid"))
+                        .build()))
+                .ext(extRequest)
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.codahale.metrics.Counter;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.UniformSnapshot;
 import com.iab.openrtb.request.Audio;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.Imp;
@@ -592,6 +593,41 @@ public class MetricsTest {
                 .isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterBidMetricsShouldCreatePricesHistogramsWithConfiguredReservoir() {
+        // given
+        metrics = new Metrics(metricRegistry, CounterType.counter, ReservoirType.uniform,
+                accountMetricsVerbosityResolver);
+
+        // when
+        metrics.updateAdapterBidMetrics(RUBICON, Account.empty(ACCOUNT_ID), 1234L, true, "banner");
+        metrics.updateAdapterResponseTime(RUBICON, Account.empty(ACCOUNT_ID), 500);
+
+        // then
+        assertThat(metricRegistry.histogram("adapter.rubicon.prices").getSnapshot())
+                .isInstanceOf(UniformSnapshot.class);
+        assertThat(metricRegistry.histogram("account.accountId.adapter.rubicon.prices").getSnapshot())
+                .isInstanceOf(UniformSnapshot.class);
+        assertThat(metricRegistry.timer("adapter.rubicon.request_time").getSnapshot())
+                .isInstanceOf(UniformSnapshot.class);
+        assertThat(metricRegistry.timer("account.accountId.adapter.rubicon.request_time").getSnapshot())
+                .isInstanceOf(UniformSnapshot.class);
+    }
+
+    @Test
+    public void incCounterShouldUpdateSameRegistryCounterOnSuccessiveCalls() {
+        // given
+        final Counter counter = metricRegistry.counter("bids_received");
+
+        // when
+        metrics.incCounter(MetricName.bids_received);
+        metrics.incCounter(MetricName.bids_received, 2);
+
+        // then
+        assertThat(metricRegistry.counter("bids_received")).isSameAs(counter);
+        assertThat(counter.getCount()).isEqualTo(3);
+    }
+
     @Test
     public void updateAdapterBidMetricsShouldUpdateMetrics() {
         // when
@@ -658,6 +694,20 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("adapter.conversant.requests.badinput").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterRequestCompressionMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterRequestCompressionMetrics(RUBICON, 1000, 250, 40_000L);
+
+        // then
+        assertThat(metricRegistry.histogram("adapter.rubicon.compression.bytes").getSnapshot().getValues())
+                .containsOnly(250L);
+        assertThat(metricRegistry.histogram("adapter.rubicon.compression.ratio").getSnapshot().getValues())
+                .containsOnly(25L);
+        assertThat(metricRegistry.timer("adapter.rubicon.compression.time").getSnapshot().getValues())
+                .containsOnly(40_000L);
+    }
+
     @Test
     public void updateSizeValidationMetricsShouldIncrementMetrics() {
         // when
@@ -1130,6 +1180,39 @@ public class MetricsTest {
                 .isEqualTo(1L);
     }
 
+    @Test
+    public void shouldRecreateHttpClientCircuitBreakerGaugeMetricAfterRemoval() {
+        // given
+        metrics.createHttpClientCircuitBreakerGauge("id", () -> true);
+
+        // when
+        metrics.removeHttpClientCircuitBreakerGauge("id");
+        metrics.createHttpClientCircuitBreakerGauge("id", () -> false);
+
+        // then
+        assertThat(metricRegistry.gauge("circuit-breaker.http.named.id.opened.count", () -> null).getValue())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    public void updateHttpClientCircuitBreakerRejectedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHttpClientCircuitBreakerRejectedMetric("id");
+
+        // then
+        assertThat(metricRegistry.counter("circuit-breaker.http.named.id.rejected.count").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateHttpClientCircuitBreakerTransitionMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHttpClientCircuitBreakerTransitionMetric("id", MetricName.transitions_half_open);
+
+        // then
+        assertThat(metricRegistry.counter("circuit-breaker.http.named.id.transitions.half-open.count").getCount())
+                .isEqualTo(1);
+    }
+
     @Test
     public void shouldCreateHttpClientCircuitBreakerNumberGaugeMetric() {
         // when
@@ -1139,6 +1222,23 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("circuit-breaker.http.existing.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateHttpClientPoolMetricsShouldUpdatePerHostMetrics() {
+        // when
+        metrics.updateHttpClientPoolQueued("bidder.example.com", 1);
+        metrics.updateHttpClientPoolQueued("bidder.example.com", 1);
+        metrics.updateHttpClientPoolQueued("bidder.example.com", -1);
+        metrics.updateHttpClientPoolInUse("bidder.example.com", 1);
+        metrics.updateHttpClientPoolWaitTime("bidder.example.com", 15L);
+
+        // then
+        assertThat(metricRegistry.gauge("http-client.host.bidder_example_com.pool_queued", () -> null).getValue())
+                .isEqualTo(1L);
+        assertThat(metricRegistry.gauge("http-client.host.bidder_example_com.pool_in_use", () -> null).getValue())
+                .isEqualTo(1L);
+        assertThat(metricRegistry.timer("http-client.host.bidder_example_com.pool_wait").getCount()).isOne();
+    }
+
     @Test
     public void shouldCreateGeoLocationCircuitBreakerGaugeMetric() {
         // when
@@ -1265,6 +1365,18 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("currency-rates.stale.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void shouldCreatePrivacyTcfVendorListCacheGaugeMetrics() {
+        // when
+        metrics.createPrivacyTcfVendorListCacheGauges(2, "v3", () -> 5L, () -> 1024L);
+
+        // then
+        assertThat(metricRegistry.gauge("privacy.tcf.v2.vendorlist.v3.cached-versions", () -> null).getValue())
+                .isEqualTo(5L);
+        assertThat(metricRegistry.gauge("privacy.tcf.v2.vendorlist.v3.cached-bytes", () -> null).getValue())
+                .isEqualTo(1024L);
+    }
+
     @Test
     public void updateSettingsCacheRefreshTimeShouldUpdateTimer() {
         // when
@@ -1399,6 +1511,25 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateHooksQueueTimeShouldUpdateTimer() {
+        // when
+        metrics.updateHooksQueueTime("module1", Stage.entrypoint, "hook1", 5L);
+
+        // then
+        assertThat(metricRegistry.timer("modules.module.module1.stage.entrypoint.hook.hook1.queue-time").getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void updateHooksStageDurationShouldUpdateTimer() {
+        // when
+        metrics.updateHooksStageDuration(Stage.processed_auction_request, 10L);
+
+        // then
+        assertThat(metricRegistry.timer("modules.stage.procauction.duration").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateAccountHooksMetricsShouldIncrementMetricsIfVerbosityIsDetailed() {
         // given
@@ -0,0 +1,50 @@
+package org.prebid.server.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpBodyTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void asStringShouldDecodeBytesOnce() {
+        // given
+        final HttpBody body = HttpBody.ofBytes("{\"key\":\"значение\"}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        final String result = body.asString();
+
+        // then
+        assertThat(result).isEqualTo("{\"key\":\"значение\"}");
+        assertThat(body.asString()).isSameAs(result);
+    }
+
+    @Test
+    public void decodeShouldReadValueFromEitherRepresentation() throws IOException {
+        // when
+        final ObjectNode fromBytes = HttpBody.ofBytes("{\"key\":1}".getBytes(StandardCharsets.UTF_8))
+                .decode(MAPPER, ObjectNode.class);
+        final ObjectNode fromString = HttpBody.of("{\"key\":1}").decode(MAPPER, ObjectNode.class);
+
+        // then
+        assertThat(fromBytes).isEqualTo(fromString);
+        assertThat(fromBytes.get("key").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void equalsShouldCompareContentRegardlessOfRepresentation() {
+        // when and then
+        assertThat(HttpBody.ofBytes("body".getBytes(StandardCharsets.UTF_8))).isEqualTo(HttpBody.of("body"))
+                .hasSameHashCodeAs(HttpBody.of("body"));
+        assertThat(HttpBody.of(null)).isEqualTo(HttpBody.ofBytes(null));
+        assertThat(HttpBody.of(null).asString()).isNull();
+        assertThat(HttpBody.of("body")).isNotEqualTo(HttpBody.of("other"));
+    }
+}
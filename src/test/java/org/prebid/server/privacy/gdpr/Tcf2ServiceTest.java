@@ -15,8 +15,9 @@ import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.specialfeature.SpecialFeaturesStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.CompactVendorList;
+import org.prebid.server.privacy.gdpr.vendorlist.GvlVendor;
 import org.prebid.server.privacy.gdpr.vendorlist.VersionedVendorListService;
-import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.EnforcePurpose;
 import org.prebid.server.settings.model.GdprConfig;
@@ -34,7 +35,6 @@ import java.util.function.Consumer;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.collections4.SetUtils.hashSet;
@@ -103,7 +103,7 @@ public class Tcf2ServiceTest extends VertxTest {
 
     @BeforeEach
     public void setUp() {
-        given(vendorListService.forConsent(any())).willReturn(Future.succeededFuture(emptyMap()));
+        given(vendorListService.forConsent(any())).willReturn(Future.succeededFuture(CompactVendorList.EMPTY));
 
         given(purposeStrategyOne.getPurpose()).willReturn(ONE);
         given(purposeStrategyTwo.getPurpose()).willReturn(TWO);
@@ -180,7 +180,7 @@ public class Tcf2ServiceTest extends VertxTest {
         final VendorPermission expectedVendorPermission = VendorPermission.of(1, "rubicon", restrictAll());
         assertThat(result).succeededWith(singletonList(expectedVendorPermission));
 
-        verifyEachPurposeStrategyReceive(singletonList(withGvl(expectedVendorPermission, 1)));
+        verifyEachPurposeStrategyReceive(singletonList(withGvl(expectedVendorPermission)));
         verifyEachSpecialFeatureStrategyReceive(singletonList(expectedVendorPermission));
 
         verify(vendorListService).forConsent(argThat(tcString -> tcString.getVendorListVersion() == 10));
@@ -204,7 +204,7 @@ public class Tcf2ServiceTest extends VertxTest {
                 purpose7.getEnforceVendors(),
                 purpose7.getVendorExceptions(),
                 purpose7.getEid());
-        final List<VendorPermissionWithGvl> permissionsWithGvl = singletonList(withGvl(expectedVendorPermission, 1));
+        final List<VendorPermissionWithGvl> permissionsWithGvl = singletonList(withGvl(expectedVendorPermission));
         verify(purposeStrategyOne).processTypePurposeStrategy(tcString, purpose1, permissionsWithGvl, true);
         verify(purposeStrategyTwo).processTypePurposeStrategy(tcString, purpose2, permissionsWithGvl, true);
         verify(purposeStrategyFour).processTypePurposeStrategy(tcString, purpose4, permissionsWithGvl, true);
@@ -234,7 +234,7 @@ public class Tcf2ServiceTest extends VertxTest {
         verify(purposeStrategyOne).processTypePurposeStrategy(
                 tcString,
                 accountPurposeOne,
-                singletonList(withGvl(expectedVendorPermission, null)),
+                singletonList(withGvl(expectedVendorPermission)),
                 false);
 
         verify(vendorIdResolver).resolve(anyString());
@@ -281,8 +281,8 @@ public class Tcf2ServiceTest extends VertxTest {
         final VendorPermission expectedVendorPermission2 = VendorPermission.of(2, "b2", restrictAll());
         assertThat(result).succeededWith(asList(expectedVendorPermission2, expectedVendorPermission1));
 
-        verifyEachPurposeStrategyReceive(singletonList(withGvl(expectedVendorPermission1, 1)));
-        verifyEachPurposeStrategyReceiveWeak(singletonList(withGvl(expectedVendorPermission2, 2)));
+        verifyEachPurposeStrategyReceive(singletonList(withGvl(expectedVendorPermission1)));
+        verifyEachPurposeStrategyReceiveWeak(singletonList(withGvl(expectedVendorPermission2)));
         verifyEachSpecialFeatureStrategyReceive(asList(expectedVendorPermission2, expectedVendorPermission1));
 
         verify(vendorIdResolver, times(2)).resolve(anyString());
@@ -304,8 +304,8 @@ public class Tcf2ServiceTest extends VertxTest {
         assertThat(result).succeededWith(asList(expectedVendorPermission2, expectedVendorPermission1));
 
         verifyEachPurposeStrategyReceive(asList(
-                withGvl(expectedVendorPermission2, null),
-                withGvl(expectedVendorPermission1, 1)));
+                withGvl(expectedVendorPermission2),
+                withGvl(expectedVendorPermission1)));
         verifyEachSpecialFeatureStrategyReceive(asList(expectedVendorPermission2, expectedVendorPermission1));
 
         verify(vendorIdResolver, times(2)).resolve(anyString());
@@ -326,8 +326,8 @@ public class Tcf2ServiceTest extends VertxTest {
         assertThat(result).succeededWith(asList(expectedVendorPermission1, expectedVendorPermission2));
 
         verifyEachPurposeStrategyReceive(asList(
-                withGvl(expectedVendorPermission1, 1),
-                withGvl(expectedVendorPermission2, 2)));
+                withGvl(expectedVendorPermission1),
+                withGvl(expectedVendorPermission2)));
         verifyEachSpecialFeatureStrategyReceive(asList(expectedVendorPermission1, expectedVendorPermission2));
 
         verify(vendorListService).forConsent(any());
@@ -347,7 +347,7 @@ public class Tcf2ServiceTest extends VertxTest {
         final VendorPermission expectedVendorPermission = VendorPermission.of(1, "rubicon", restrictAll());
         assertThat(result).succeededWith(singletonList(expectedVendorPermission));
 
-        final List<VendorPermissionWithGvl> permissions = singletonList(withGvl(expectedVendorPermission, 1));
+        final List<VendorPermissionWithGvl> permissions = singletonList(withGvl(expectedVendorPermission));
         verify(purposeStrategyOne, never())
                 .processTypePurposeStrategy(any(), any(), anyCollection(), anyBoolean());
         verify(purposeStrategyTwo).processTypePurposeStrategy(any(), any(), eq(permissions), eq(false));
@@ -375,7 +375,7 @@ public class Tcf2ServiceTest extends VertxTest {
         final VendorPermission expectedVendorPermission = VendorPermission.of(1, "rubicon", restrictAll());
         assertThat(result).succeededWith(singletonList(expectedVendorPermission));
 
-        final List<VendorPermissionWithGvl> permissions = singletonList(withGvl(expectedVendorPermission, 1));
+        final List<VendorPermissionWithGvl> permissions = singletonList(withGvl(expectedVendorPermission));
         verify(purposeStrategyOne, never())
                 .processTypePurposeStrategy(any(), any(), anyCollection(), anyBoolean());
         verify(purposeStrategyOne).allow(any());
@@ -404,7 +404,7 @@ public class Tcf2ServiceTest extends VertxTest {
         final VendorPermission expectedVendorPermission = VendorPermission.of(1, "rubicon", restrictAll());
         assertThat(result).succeededWith(singletonList(expectedVendorPermission));
 
-        final List<VendorPermissionWithGvl> standardPermissions = singletonList(withGvl(expectedVendorPermission, 1));
+        final List<VendorPermissionWithGvl> standardPermissions = singletonList(withGvl(expectedVendorPermission));
         verify(purposeStrategyOne, never()).allow(any());
         verifyEachPurposeStrategyReceive(standardPermissions);
         verifyEachPurposeStrategyReceiveWeak(emptyList());
@@ -594,8 +594,8 @@ public class Tcf2ServiceTest extends VertxTest {
         verify(specialFeaturesStrategyOne).processSpecialFeaturesStrategy(tcString, specialFeature1, vendorPermission);
     }
 
-    private static VendorPermissionWithGvl withGvl(VendorPermission vendorPermission, Integer vendorId) {
-        return VendorPermissionWithGvl.of(vendorPermission, Vendor.empty(vendorId));
+    private static VendorPermissionWithGvl withGvl(VendorPermission vendorPermission) {
+        return VendorPermissionWithGvl.of(vendorPermission, GvlVendor.EMPTY);
     }
 
     @SafeVarargs
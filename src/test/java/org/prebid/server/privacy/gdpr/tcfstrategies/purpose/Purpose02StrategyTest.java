@@ -12,6 +12,7 @@ import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.BasicEnforcePurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.FullEnforcePurposeStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.NoEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.GvlVendor;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 import org.prebid.server.settings.model.EnforcePurpose;
@@ -336,7 +337,7 @@ public class Purpose02StrategyTest {
     }
 
     private static VendorPermissionWithGvl withGvl(VendorPermission vendorPermission, Vendor vendor) {
-        return VendorPermissionWithGvl.of(vendorPermission, vendor);
+        return VendorPermissionWithGvl.of(vendorPermission, GvlVendor.of(vendor));
     }
 
     private static VendorPermission vendorPermissionResult(Integer vendorId, String bidderName) {
@@ -0,0 +1,57 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode.ONE;
+
+public class CompactVendorListTest {
+
+    @Test
+    public void vendorShouldReturnVendorById() {
+        // given
+        final Vendor vendor = Vendor.builder().id(52).purposes(EnumSet.of(ONE)).build();
+
+        // when
+        final CompactVendorList result = CompactVendorList.of(Map.of(52, vendor));
+
+        // then
+        assertThat(result.vendor(52)).isEqualTo(GvlVendor.of(vendor));
+        assertThat(result.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void vendorShouldReturnNullForAbsentVendor() {
+        // given
+        final CompactVendorList result = CompactVendorList.of(Map.of(52, Vendor.empty(52)));
+
+        // when and then
+        assertThat(result.vendor(51)).isNull();
+        assertThat(result.vendor(53)).isNull();
+        assertThat(result.vendor(-1)).isNull();
+        assertThat(result.vendor(null)).isNull();
+    }
+
+    @Test
+    public void ofShouldSkipVendorsWithIdsOutOfTcfRange() {
+        // given
+        final Map<Integer, Vendor> idToVendor = new HashMap<>();
+        idToVendor.put(1, Vendor.empty(1));
+        idToVendor.put(-1, Vendor.empty(-1));
+        idToVendor.put(100_000, Vendor.empty(100_000));
+        idToVendor.put(null, Vendor.empty(null));
+
+        // when
+        final CompactVendorList result = CompactVendorList.of(idToVendor);
+
+        // then
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.vendor(100_000)).isNull();
+        assertThat(result.estimatedSizeBytes()).isLessThan(100L);
+    }
+}
@@ -0,0 +1,58 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode.ONE;
+import static org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode.THREE;
+import static org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode.TWO;
+
+public class GvlVendorTest {
+
+    @Test
+    public void ofShouldReturnEmptyForNullOrEmptyVendor() {
+        // when and then
+        assertThat(GvlVendor.of(null)).isSameAs(GvlVendor.EMPTY);
+        assertThat(GvlVendor.of(Vendor.empty(1))).isSameAs(GvlVendor.EMPTY);
+        assertThat(GvlVendor.of(Vendor.builder().id(1).build())).isSameAs(GvlVendor.EMPTY);
+    }
+
+    @Test
+    public void ofShouldKeepPurposesDeclarations() {
+        // when
+        final GvlVendor result = GvlVendor.of(Vendor.builder()
+                .id(1)
+                .purposes(EnumSet.of(ONE))
+                .legIntPurposes(EnumSet.of(TWO))
+                .flexiblePurposes(EnumSet.of(ONE, TWO))
+                .build());
+
+        // then
+        assertThat(result.hasPurpose(ONE)).isTrue();
+        assertThat(result.hasPurpose(TWO)).isFalse();
+        assertThat(result.hasLegIntPurpose(TWO)).isTrue();
+        assertThat(result.hasLegIntPurpose(ONE)).isFalse();
+        assertThat(result.hasFlexiblePurpose(ONE)).isTrue();
+        assertThat(result.hasFlexiblePurpose(TWO)).isTrue();
+        assertThat(result.hasFlexiblePurpose(THREE)).isFalse();
+        assertThat(result.hasPurpose(null)).isFalse();
+    }
+
+    @Test
+    public void ofShouldReturnSameInstanceForVendorsWithEqualDeclarations() {
+        // when
+        final GvlVendor first = GvlVendor.of(givenVendor(1, EnumSet.of(PurposeCode.TEN)));
+        final GvlVendor second = GvlVendor.of(givenVendor(2, EnumSet.of(PurposeCode.TEN)));
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    private static Vendor givenVendor(int id, EnumSet<PurposeCode> purposes) {
+        return Vendor.builder().id(id).purposes(purposes).build();
+    }
+}
@@ -27,6 +27,7 @@ import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -36,6 +37,8 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -45,6 +48,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
@@ -56,6 +60,7 @@ public class VendorListServiceTest extends VertxTest {
 
     private static final String CACHE_DIR = "/cache/dir";
     private static final long REFRESH_MISSING_LIST_PERIOD_MS = 3600000L;
+    private static final int CACHE_MAX_SIZE = 10;
     private static final String FALLBACK_VENDOR_LIST_PATH = "fallback.json";
     private static final String GENERATION_VERSION = "v0";
 
@@ -91,6 +96,7 @@ public class VendorListServiceTest extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_MAX_SIZE,
                 false,
                 FALLBACK_VENDOR_LIST_PATH,
                 vertx,
@@ -117,6 +123,7 @@ public class VendorListServiceTest extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_MAX_SIZE,
                         false,
                         FALLBACK_VENDOR_LIST_PATH,
                         vertx,
@@ -138,6 +145,7 @@ public class VendorListServiceTest extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_MAX_SIZE,
                 true,
                 FALLBACK_VENDOR_LIST_PATH,
                 vertx,
@@ -149,20 +157,13 @@ public class VendorListServiceTest extends VertxTest {
                 fetchThrottler);
 
         // when
-        final Future<Map<Integer, Vendor>> future = target.forVersion(1);
+        final Future<CompactVendorList> future = target.forVersion(1);
 
         // then
         verifyNoInteractions(httpClient);
-        assertThat(future).succeededWith(singletonMap(
-                52, Vendor.builder()
-                        .id(52)
-                        .purposes(EnumSet.of(ONE))
-                        .legIntPurposes(EnumSet.of(TWO))
-                        .flexiblePurposes(EnumSet.noneOf(PurposeCode.class))
-                        .specialPurposes(EnumSet.noneOf(SpecialPurpose.class))
-                        .features(EnumSet.noneOf(Feature.class))
-                        .specialFeatures(EnumSet.noneOf(SpecialFeature.class))
-                        .build()));
+        assertThat(future).isSucceeded().unwrap()
+                .extracting(vendorList -> vendorList.vendor(52))
+                .isEqualTo(GvlVendor.of(givenVendor(52)));
     }
 
     @Test
@@ -174,6 +175,7 @@ public class VendorListServiceTest extends VertxTest {
                 "http://vendorlist/{VERSION}",
                 0,
                 REFRESH_MISSING_LIST_PERIOD_MS,
+                CACHE_MAX_SIZE,
                 true,
                 null,
                 vertx,
@@ -200,6 +202,7 @@ public class VendorListServiceTest extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_MAX_SIZE,
                         false,
                         FALLBACK_VENDOR_LIST_PATH,
                         vertx,
@@ -227,6 +230,7 @@ public class VendorListServiceTest extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_MAX_SIZE,
                         false,
                         FALLBACK_VENDOR_LIST_PATH,
                         vertx,
@@ -254,6 +258,7 @@ public class VendorListServiceTest extends VertxTest {
                         "http://vendorlist/%s",
                         0,
                         REFRESH_MISSING_LIST_PERIOD_MS,
+                        CACHE_MAX_SIZE,
                         false,
                         FALLBACK_VENDOR_LIST_PATH,
                         vertx,
@@ -267,6 +272,69 @@ public class VendorListServiceTest extends VertxTest {
                 .hasMessage("Cannot parse vendor list from: invalid");
     }
 
+    @Test
+    public void creationShouldFailIfCacheMaxSizeIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new VendorListService(
+                0,
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                0,
+                false,
+                FALLBACK_VENDOR_LIST_PATH,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                GENERATION_VERSION,
+                jacksonMapper,
+                fetchThrottler));
+    }
+
+    @Test
+    public void creationShouldLoadOnlyLatestVersionsUpToCacheMaxSize() throws JsonProcessingException {
+        // given
+        given(fileSystem.readDirBlocking(anyString())).willReturn(Arrays.asList("1.json", "2.json"));
+        given(fileSystem.readFileBlocking(eq("2.json")))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenVendorList())));
+        given(fileSystem.readFile(eq(new File(CACHE_DIR, "1.json").getPath())))
+                .willReturn(Future.succeededFuture(Buffer.buffer(mapper.writeValueAsString(givenVendorList()))));
+
+        target = new VendorListService(
+                0,
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                1,
+                false,
+                FALLBACK_VENDOR_LIST_PATH,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                GENERATION_VERSION,
+                jacksonMapper,
+                fetchThrottler);
+
+        // when
+        final Future<CompactVendorList> future = target.forVersion(1);
+
+        // then
+        verify(fileSystem, never()).readFileBlocking(eq("1.json"));
+        verifyNoInteractions(httpClient);
+        assertThat(future).isSucceeded().unwrap()
+                .extracting(vendorList -> vendorList.vendor(52))
+                .isEqualTo(GvlVendor.of(givenVendor(52)));
+    }
+
+    @Test
+    public void creationShouldRegisterCacheGauges() {
+        // then
+        verify(metrics).createPrivacyTcfVendorListCacheGauges(eq(2), eq(GENERATION_VERSION), any(), any());
+    }
+
     // Http related tests
 
     @Test
@@ -444,7 +512,7 @@ public class VendorListServiceTest extends VertxTest {
         givenHttpClientProducesException(new RuntimeException());
 
         // when
-        final Future<Map<Integer, Vendor>> future = target.forVersion(1);
+        final Future<CompactVendorList> future = target.forVersion(1);
 
         // then
         assertThat(future).isFailed()
@@ -461,19 +529,12 @@ public class VendorListServiceTest extends VertxTest {
 
         // when
         target.forVersion(1); // populate cache
-        final Future<Map<Integer, Vendor>> result = target.forVersion(1);
+        final Future<CompactVendorList> result = target.forVersion(1);
 
         // then
-        assertThat(result).succeededWith(singletonMap(
-                52, Vendor.builder()
-                        .id(52)
-                        .purposes(EnumSet.of(ONE))
-                        .legIntPurposes(EnumSet.of(TWO))
-                        .flexiblePurposes(EnumSet.noneOf(PurposeCode.class))
-                        .specialPurposes(EnumSet.noneOf(SpecialPurpose.class))
-                        .features(EnumSet.noneOf(Feature.class))
-                        .specialFeatures(EnumSet.noneOf(SpecialFeature.class))
-                        .build()));
+        assertThat(result).isSucceeded().unwrap()
+                .extracting(vendorList -> vendorList.vendor(52))
+                .isEqualTo(GvlVendor.of(givenVendor(52)));
     }
 
     @Test
@@ -509,10 +570,54 @@ public class VendorListServiceTest extends VertxTest {
 
         // when
         target.forVersion(1); // populate cache
-        final Future<Map<Integer, Vendor>> future = target.forVersion(1);
+        final Future<CompactVendorList> future = target.forVersion(1);
+
+        // then
+        assertThat(future).isSucceeded().unwrap()
+                .satisfies(result -> {
+                    assertThat(result.vendor(52)).isEqualTo(GvlVendor.of(firstExternalV2));
+                    assertThat(result.vendor(42)).isEqualTo(GvlVendor.of(secondExternalV2));
+                });
+    }
+
+    @Test
+    public void shouldLoadVersionEvictedFromCacheFromFile() throws JsonProcessingException {
+        // given
+        target = new VendorListService(
+                0,
+                CACHE_DIR,
+                "http://vendorlist/{VERSION}",
+                0,
+                REFRESH_MISSING_LIST_PERIOD_MS,
+                1,
+                false,
+                FALLBACK_VENDOR_LIST_PATH,
+                vertx,
+                fileSystem,
+                httpClient,
+                metrics,
+                GENERATION_VERSION,
+                jacksonMapper,
+                fetchThrottler);
+
+        final String vendorListAsString = mapper.writeValueAsString(givenVendorList());
+        givenHttpClientReturnsResponse(200, vendorListAsString);
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+        given(fileSystem.readFile(anyString())).willReturn(Future.succeededFuture(Buffer.buffer(vendorListAsString)));
+
+        target.forVersion(1); // populate cache
+        target.forVersion(2); // populate cache evicting one of versions
+
+        // when
+        final Future<CompactVendorList> result1 = target.forVersion(1);
+        final Future<CompactVendorList> result2 = target.forVersion(2);
 
         // then
-        assertThat(future).succeededWith(idToVendor);
+        assertThat(result1).isSucceeded();
+        assertThat(result2).isSucceeded();
+        verify(httpClient, times(2)).get(anyString(), anyLong());
+        verify(fileSystem).readFile(anyString());
     }
 
     @Test
@@ -523,22 +628,15 @@ public class VendorListServiceTest extends VertxTest {
         // when
 
         // first call triggers http request that results in 404
-        final Future<Map<Integer, Vendor>> future1 = target.forVersion(1);
+        final Future<CompactVendorList> future1 = target.forVersion(1);
         // second call yields fallback vendor list
-        final Future<Map<Integer, Vendor>> future2 = target.forVersion(1);
+        final Future<CompactVendorList> future2 = target.forVersion(1);
 
         // then
         assertThat(future1).isFailed();
-        assertThat(future2).succeededWith(singletonMap(
-                52, Vendor.builder()
-                        .id(52)
-                        .purposes(EnumSet.of(ONE))
-                        .legIntPurposes(EnumSet.of(TWO))
-                        .flexiblePurposes(EnumSet.noneOf(PurposeCode.class))
-                        .specialPurposes(EnumSet.noneOf(SpecialPurpose.class))
-                        .features(EnumSet.noneOf(Feature.class))
-                        .specialFeatures(EnumSet.noneOf(SpecialFeature.class))
-                        .build()));
+        assertThat(future2).isSucceeded().unwrap()
+                .extracting(vendorList -> vendorList.vendor(52))
+                .isEqualTo(GvlVendor.of(givenVendor(52)));
     }
 
     // Metrics tests
@@ -614,8 +712,12 @@ public class VendorListServiceTest extends VertxTest {
     }
 
     private static VendorList givenVendorList() {
-        final Vendor vendor = Vendor.builder()
-                .id(52)
+        return VendorList.of(1, new Date(), singletonMap(52, givenVendor(52)));
+    }
+
+    private static Vendor givenVendor(int id) {
+        return Vendor.builder()
+                .id(id)
                 .purposes(EnumSet.of(ONE))
                 .legIntPurposes(EnumSet.of(TWO))
                 .flexiblePurposes(EnumSet.noneOf(PurposeCode.class))
@@ -623,7 +725,6 @@ public class VendorListServiceTest extends VertxTest {
                 .features(EnumSet.noneOf(Feature.class))
                 .specialFeatures(EnumSet.noneOf(SpecialFeature.class))
                 .build();
-        return VendorList.of(1, new Date(), singletonMap(52, vendor));
     }
 
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +37,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -64,6 +66,7 @@ public class CachingApplicationSettingsTest {
                 metrics,
                 360,
                 100,
+                0,
                 0);
     }
 
@@ -273,6 +276,74 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldCoalesceConcurrentCallsForTheSameAccount() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout))).willReturn(promise.future());
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        promise.complete(Account.empty("accountId"));
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(secondFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateAgainAfterCoalescedCallFailed() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(promise.future())
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        promise.fail(new TimeoutException("timeout"));
+        final Future<Account> thirdFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(firstFuture.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(secondFuture.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(thirdFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldNotRefreshAccountWhichIsNotCloseToExpiration() {
+        // given
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0,
+                10);
+
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics, never())
+                .updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.refresh_ahead));
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -429,6 +500,64 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(delegateSettings);
     }
 
+    @Test
+    public void getStoredDataShouldCoalesceConcurrentCallsForTheSameIds() {
+        // given
+        final Promise<StoredDataResult> promise = Promise.promise();
+        given(delegateSettings.getStoredData(any(), any(), any(), any())).willReturn(promise.future());
+
+        // when
+        final Future<StoredDataResult> firstFuture =
+                target.getStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+        final Future<StoredDataResult> secondFuture =
+                target.getStoredData("1001", singleton("reqid"), singleton("impid"), timeout);
+        promise.complete(StoredDataResult.of(
+                singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList()));
+
+        // then
+        final StoredDataResult expectedResult = StoredDataResult.of(
+                singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList());
+        assertThat(firstFuture.result()).isEqualTo(expectedResult);
+        assertThat(secondFuture.result()).isEqualTo(expectedResult);
+        verify(delegateSettings)
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid")), same(timeout));
+        verifyNoMoreInteractions(delegateSettings);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getStoredDataShouldNotCoalesceCallsForDifferentIds() {
+        // given
+        given(delegateSettings.getStoredData(any(), any(), any(), any()))
+                .willReturn(Promise.<StoredDataResult>promise().future());
+
+        // when
+        target.getStoredData("1001", singleton("reqid1"), emptySet(), timeout);
+        target.getStoredData("1001", singleton("reqid2"), emptySet(), timeout);
+
+        // then
+        verify(delegateSettings).getStoredData(eq("1001"), eq(singleton("reqid1")), eq(emptySet()), same(timeout));
+        verify(delegateSettings).getStoredData(eq("1001"), eq(singleton("reqid2")), eq(emptySet()), same(timeout));
+        verify(metrics, never())
+                .updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getStoredDataShouldUpdateMetricsOfCorrespondingCache() {
+        // given
+        given(delegateSettings.getAmpStoredData(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList())));
+
+        // when
+        target.getAmpStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        target.getAmpStoredData("1001", singleton("reqid"), emptySet(), timeout);
+
+        // then
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.amp_stored_request), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.amp_stored_request), eq(MetricName.hit));
+    }
+
     @Test
     public void getStoredResponseShouldPropagateFailure() {
         // given
@@ -0,0 +1,87 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ParsedStoredDataCacheTest extends VertxTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private ParsedStoredDataCache target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ParsedStoredDataCache(10, 10, 0, jacksonMapper, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidTtl() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ParsedStoredDataCache(0, 10, 0, jacksonMapper, metrics))
+                .withMessage("ttl and size must be positive");
+    }
+
+    @Test
+    public void getShouldReturnParsedStoredData() {
+        // when
+        final JsonNode result = target.get("id", "{\"field\":\"value\"}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("field", "value"));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.parsed_stored_data), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheParseTime(eq(MetricName.parsed_stored_data), anyLong());
+    }
+
+    @Test
+    public void getShouldReturnSameNodeForSameStoredData() {
+        // given
+        final JsonNode firstResult = target.get("id", "{\"field\":\"value\"}");
+
+        // when
+        final JsonNode secondResult = target.get("id", "{\"field\":\"value\"}");
+
+        // then
+        assertThat(secondResult).isSameAs(firstResult);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.parsed_stored_data), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.parsed_stored_data), eq(MetricName.hit));
+    }
+
+    @Test
+    public void getShouldParseAgainWhenStoredDataChanged() {
+        // given
+        target.get("id", "{\"field\":\"value\"}");
+
+        // when
+        final JsonNode result = target.get("id", "{\"field\":\"updated\"}");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("field", "updated"));
+        verify(metrics, times(2))
+                .updateSettingsCacheEventMetric(eq(MetricName.parsed_stored_data), eq(MetricName.miss));
+    }
+
+    @Test
+    public void getShouldFailOnInvalidStoredData() {
+        assertThatThrownBy(() -> target.get("id", "{invalid"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Can't parse Json for stored request with id id");
+    }
+}
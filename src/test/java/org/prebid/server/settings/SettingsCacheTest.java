@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.util.concurrent.TimeUnit;
+
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -48,6 +50,32 @@ public class SettingsCacheTest {
                 .containsEntry("impId1", singleton(StoredItem.of("1001", "impValue1")));
     }
 
+    @Test
+    public void saveRequestCacheShouldReplaceItemOfTheSameAccountAndKeepOthers() {
+        // given
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+        settingsCache.saveRequestCache("1002", "reqId1", "reqValue2");
+
+        // when
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue3");
+
+        // then
+        assertThat(settingsCache.getRequestCache().get("reqId1"))
+                .containsOnly(StoredItem.of("1001", "reqValue3"), StoredItem.of("1002", "reqValue2"));
+    }
+
+    @Test
+    public void isRequestExpiringWithinShouldReturnTrueOnlyForPresentEntryExpiringInGivenTime() {
+        // given
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+
+        // when and then
+        assertThat(settingsCache.isRequestExpiringWithin("reqId1", TimeUnit.SECONDS.toNanos(10))).isTrue();
+        assertThat(settingsCache.isRequestExpiringWithin("reqId1", TimeUnit.SECONDS.toNanos(1))).isFalse();
+        assertThat(settingsCache.isRequestExpiringWithin("reqId2", TimeUnit.SECONDS.toNanos(10))).isFalse();
+        assertThat(settingsCache.isImpExpiringWithin("reqId1", TimeUnit.SECONDS.toNanos(10))).isFalse();
+    }
+
     @Test
     public void saveShouldAddNewItemsToCache() {
         // when
@@ -0,0 +1,198 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class SingleFlightTest {
+
+    private final SingleFlight<String> target = new SingleFlight<>();
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void executeShouldReturnFutureOfLoadInFlightForTheSameKey() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        final AtomicInteger loads = new AtomicInteger();
+        final AtomicInteger coalesced = new AtomicInteger();
+
+        // when
+        final Future<String> firstFuture = target.execute("key", () -> {
+            loads.incrementAndGet();
+            return promise.future();
+        }, coalesced::incrementAndGet);
+        final Future<String> secondFuture = target.execute("key", () -> {
+            loads.incrementAndGet();
+            return Future.succeededFuture("other");
+        }, coalesced::incrementAndGet);
+        promise.complete("value");
+
+        // then
+        assertThat(firstFuture.result()).isEqualTo("value");
+        assertThat(secondFuture.result()).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(coalesced).hasValue(1);
+        assertThat(target.isInFlight("key")).isFalse();
+    }
+
+    @Test
+    public void executeShouldNotCoalesceLoadsOfDifferentKeys() {
+        // given
+        final Promise<String> promise = Promise.promise();
+
+        // when
+        target.execute("key1", promise::future, () -> { });
+        final Future<String> future = target.execute("key2", () -> Future.succeededFuture("value"), () -> { });
+
+        // then
+        assertThat(future.result()).isEqualTo("value");
+        assertThat(target.isInFlight("key1")).isTrue();
+        assertThat(target.isInFlight("key2")).isFalse();
+    }
+
+    @Test
+    public void executeShouldStartNewLoadAfterPreviousOneFailed() {
+        // given
+        target.execute("key", () -> Future.failedFuture("error"), () -> { });
+
+        // when
+        final Future<String> future = target.execute("key", () -> Future.succeededFuture("value"), () -> { });
+
+        // then
+        assertThat(future.result()).isEqualTo("value");
+    }
+
+    @Test
+    public void executeShouldReturnFailedFutureIfLoaderThrowsException() {
+        // when
+        final Future<String> future = target.execute("key", () -> {
+            throw new IllegalStateException("error");
+        }, () -> { });
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(IllegalStateException.class).hasMessage("error");
+        assertThat(target.isInFlight("key")).isFalse();
+    }
+
+    @Test
+    public void executeShouldCompleteFutureOfEachCallerOnItsOwnContext() throws Exception {
+        // given
+        final Context leaderContext = givenContext();
+        final Context followerContext = givenContext();
+        final Promise<String> promise = Promise.promise();
+
+        final AtomicReference<Context> leaderCompletionContext = new AtomicReference<>();
+        final AtomicReference<Context> followerCompletionContext = new AtomicReference<>();
+        final CountDownLatch executed = new CountDownLatch(2);
+        final CountDownLatch completed = new CountDownLatch(2);
+
+        // when
+        leaderContext.runOnContext(ignored -> {
+            target.execute("key", promise::future, () -> { })
+                    .onComplete(result -> {
+                        leaderCompletionContext.set(Vertx.currentContext());
+                        completed.countDown();
+                    });
+            executed.countDown();
+        });
+        followerContext.runOnContext(ignored -> {
+            target.execute("key", () -> Future.succeededFuture("other"), () -> { })
+                    .onComplete(result -> {
+                        followerCompletionContext.set(Vertx.currentContext());
+                        completed.countDown();
+                    });
+            executed.countDown();
+        });
+
+        assertThat(executed.await(1, TimeUnit.SECONDS)).isTrue();
+        promise.complete("value");
+
+        // then
+        assertThat(completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(leaderContext).isNotSameAs(followerContext);
+        assertThat(leaderCompletionContext.get()).isSameAs(leaderContext);
+        assertThat(followerCompletionContext.get()).isSameAs(followerContext);
+    }
+
+    @Test
+    public void executeShouldStartOwnLoadOfCoalescedCallerWhenLoadInFlightTimedOut() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        final AtomicInteger loads = new AtomicInteger();
+
+        // when
+        final Future<String> firstFuture = target.execute("key", () -> {
+            loads.incrementAndGet();
+            return promise.future();
+        }, () -> { });
+        final Future<String> secondFuture = target.execute("key", () -> {
+            loads.incrementAndGet();
+            return Future.succeededFuture("value");
+        }, () -> { });
+        promise.fail(new TimeoutException("Timeout has been exceeded"));
+
+        // then
+        assertThat(firstFuture.failed()).isTrue();
+        assertThat(secondFuture.result()).isEqualTo("value");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void executeShouldFailCoalescedCallerWhenLoadInFlightFailedNotByTimeout() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        final AtomicInteger loads = new AtomicInteger();
+
+        // when
+        target.execute("key", () -> {
+            loads.incrementAndGet();
+            return promise.future();
+        }, () -> { });
+        final Future<String> future = target.execute("key", () -> {
+            loads.incrementAndGet();
+            return Future.succeededFuture("value");
+        }, () -> { });
+        promise.fail(new IllegalStateException("error"));
+
+        // then
+        assertThat(future.cause()).isInstanceOf(IllegalStateException.class).hasMessage("error");
+        assertThat(loads).hasValue(1);
+    }
+
+    private Context givenContext() throws InterruptedException {
+        // context created from non-vertx thread sticks to that thread, so each one is created in its own thread
+        final AtomicReference<Context> context = new AtomicReference<>();
+        final Thread thread = new Thread(() -> context.set(vertx.getOrCreateContext()));
+        thread.start();
+        thread.join();
+        return context.get();
+    }
+}
@@ -0,0 +1,84 @@
+package org.prebid.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class GzipUtilTest {
+
+    @Test
+    public void gzipShouldProduceValidGzipForEachLevel() throws IOException {
+        // given
+        final byte[] value = "{\"id\":\"request-id\",\"imp\":[{\"id\":\"imp-id\"}]}".repeat(100)
+                .getBytes(StandardCharsets.UTF_8);
+
+        for (int level = -1; level <= 9; level++) {
+            // when
+            final byte[] result = GzipUtil.gzip(value, level);
+
+            // then
+            assertThat(gunzip(result)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    public void gzipShouldProduceValidGzipForEmptyAndIncompressibleValues() throws IOException {
+        // given
+        final byte[] incompressible = new byte[100_000];
+        new Random(1).nextBytes(incompressible);
+
+        // when and then
+        assertThat(gunzip(GzipUtil.gzip(new byte[0]))).isEmpty();
+        assertThat(gunzip(GzipUtil.gzip(incompressible))).isEqualTo(incompressible);
+    }
+
+    @Test
+    public void gzipShouldReuseThreadStateBetweenCalls() throws IOException {
+        // given
+        final byte[] large = "large".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        final byte[] small = "small".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] largeResult = GzipUtil.gzip(large);
+        final byte[] smallResult = GzipUtil.gzip(small);
+
+        // then
+        assertThat(gunzip(largeResult)).isEqualTo(large);
+        assertThat(gunzip(smallResult)).isEqualTo(small);
+    }
+
+    @Test
+    public void gzipShouldProduceSameResultWithReusedDeflater() {
+        // given
+        final byte[] value = "value".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+        final byte[] firstResult = GzipUtil.gzip(value, 1);
+        GzipUtil.gzip("other".getBytes(StandardCharsets.UTF_8), 1);
+
+        // when
+        final byte[] result = GzipUtil.gzip(value, 1);
+
+        // then
+        assertThat(result).isEqualTo(firstResult);
+    }
+
+    @Test
+    public void gzipShouldFailOnInvalidLevel() {
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> GzipUtil.gzip(new byte[1], 10))
+                .withMessage("Invalid gzip compression level: 10");
+    }
+
+    private static byte[] gunzip(byte[] value) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
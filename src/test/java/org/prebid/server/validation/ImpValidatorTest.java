@@ -35,6 +35,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.UnaryOperator;
 
 import static java.util.Arrays.asList;
@@ -1672,6 +1673,46 @@ public class ImpValidatorTest extends VertxTest {
                 .hasMessage("imp[id=null] missing required field: \"id\"");
     }
 
+    @Test
+    public void validateImpShouldNotValidateSectionsThatAreNotChanged() {
+        // given
+        final Imp givenImp = validImpBuilder()
+                .id(null)
+                .audio(Audio.builder().mimes(emptyList()).build())
+                .build();
+
+        // when and then
+        assertThatNoException().isThrownBy(() -> target.validateImp(givenImp, Set.of("tagid", "bidfloor")));
+    }
+
+    @Test
+    public void validateImpShouldValidateChangedSections() {
+        // given
+        final Imp givenImp = validImpBuilder()
+                .id(null)
+                .audio(Audio.builder().mimes(emptyList()).build())
+                .build();
+
+        // when and then
+        assertThatThrownBy(() -> target.validateImp(givenImp, Set.of("audio")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("imp[id=null].audio.mimes must contain at least one supported MIME type");
+    }
+
+    @Test
+    public void validateImpShouldValidateBannerWhenInterstitialFlagChanged() {
+        // given
+        final Imp givenImp = validImpBuilder()
+                .instl(0)
+                .banner(Banner.builder().format(emptyList()).build())
+                .build();
+
+        // when and then
+        assertThatThrownBy(() -> target.validateImp(givenImp, Set.of("instl")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("imp[id=200].banner has no sizes. Define \"w\" and \"h\", or include \"format\" elements");
+    }
+
     @Test
     public void validateImpShouldReturnValidationMessageWhenBannerHasEmptyFormatAndNoWidth() {
         // given
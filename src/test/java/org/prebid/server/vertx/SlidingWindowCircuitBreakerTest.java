@@ -0,0 +1,200 @@
+package org.prebid.server.vertx;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.vertx.SlidingWindowCircuitBreaker.Permit;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+
+@ExtendWith(MockitoExtension.class)
+public class SlidingWindowCircuitBreakerTest {
+
+    @Mock(strictness = LENIENT)
+    private Clock clock;
+
+    private long currentTime;
+
+    @BeforeEach
+    public void setUp() {
+        currentTime = 1000L;
+        given(clock.millis()).willAnswer(invocation -> currentTime);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidArguments() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SlidingWindowCircuitBreaker(0, 100L, 0.5, 0L, 1.0, 200L, 1, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SlidingWindowCircuitBreaker(1, 5L, 0.5, 0L, 1.0, 200L, 1, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SlidingWindowCircuitBreaker(1, 100L, 1.5, 0L, 1.0, 200L, 1, clock));
+    }
+
+    @Test
+    public void tryAcquireShouldRejectCallsWhenFailuresReachThresholds() {
+        // given
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(2, 0.5, 0L, 1);
+
+        // when
+        call(target, false, 0L);
+        call(target, true, 0L);
+
+        // then
+        assertThat(target.tryAcquire()).isNotNull();
+
+        // when
+        call(target, true, 0L);
+
+        // then
+        assertThat(target.isOpen()).isTrue();
+        assertThat(target.tryAcquire()).isNull();
+    }
+
+    @Test
+    public void tryAcquireShouldNotCountFailuresOutsideOfWindow() {
+        // given
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(2, 0.0, 0L, 1);
+
+        // when
+        call(target, true, 0L);
+        currentTime += 100L;
+        call(target, true, 0L);
+
+        // then
+        assertThat(target.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    public void tryAcquireShouldRejectCallsWhenSlowCallsReachThresholds() {
+        // given
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(2, 0.0, 50L, 1);
+
+        // when
+        call(target, false, 60L);
+        call(target, false, 40L);
+        call(target, false, 70L);
+
+        // then
+        assertThat(target.tryAcquire()).isNull();
+    }
+
+    @Test
+    public void tryAcquireShouldLimitProbesWhenCircuitIsHalfOpened() {
+        // given
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(1, 0.0, 0L, 2);
+        call(target, true, 0L);
+
+        // when
+        currentTime += 200L;
+
+        // then
+        assertThat(target.tryAcquire()).isNotNull();
+        assertThat(target.tryAcquire()).isNotNull();
+        assertThat(target.tryAcquire()).isNull();
+    }
+
+    @Test
+    public void recordResultShouldCloseCircuitWhenAllProbesSucceeded() {
+        // given
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(1, 0.0, 0L, 2);
+        call(target, true, 0L);
+        currentTime += 200L;
+        final Permit firstProbe = target.tryAcquire();
+        final Permit secondProbe = target.tryAcquire();
+
+        // when
+        target.recordResult(firstProbe, false, 0L);
+
+        // then
+        assertThat(target.isOpen()).isTrue();
+
+        // when
+        target.recordResult(secondProbe, false, 0L);
+
+        // then
+        assertThat(target.isOpen()).isFalse();
+        assertThat(target.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    public void recordResultShouldOpenCircuitAgainWhenProbeFailed() {
+        // given
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(1, 0.0, 0L, 2);
+        call(target, true, 0L);
+        currentTime += 200L;
+        final Permit probe = target.tryAcquire();
+
+        // when
+        target.recordResult(probe, true, 0L);
+
+        // then
+        assertThat(target.tryAcquire()).isNull();
+    }
+
+    @Test
+    public void recordResultShouldIgnoreCallsPermittedBeforeCurrentHalfOpenState() {
+        // given
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(1, 0.0, 0L, 1);
+        final Permit closedCall = target.tryAcquire();
+        call(target, true, 0L);
+        currentTime += 200L;
+        final Permit staleProbe = target.tryAcquire();
+        target.recordResult(staleProbe, true, 0L);
+        currentTime += 200L;
+        final Permit probe = target.tryAcquire();
+
+        // when
+        target.recordResult(closedCall, true, 0L);
+        target.recordResult(staleProbe, true, 0L);
+
+        // then
+        assertThat(target.isOpen()).isTrue();
+        assertThat(target.tryAcquire()).isNull();
+
+        // when
+        target.recordResult(probe, false, 0L);
+
+        // then
+        assertThat(target.isOpen()).isFalse();
+    }
+
+    @Test
+    public void circuitBreakerShouldNotifyAboutStateTransitions() {
+        // given
+        final StringBuilder transitions = new StringBuilder();
+        final SlidingWindowCircuitBreaker target = givenCircuitBreaker(1, 0.0, 0L, 1)
+                .openHandler(ignored -> transitions.append("open;"))
+                .halfOpenHandler(ignored -> transitions.append("half-open;"))
+                .closeHandler(ignored -> transitions.append("closed;"));
+
+        // when
+        call(target, true, 0L);
+        currentTime += 200L;
+        target.tryAcquire();
+        call(target, false, 0L);
+
+        // then
+        assertThat(transitions).hasToString("open;half-open;closed;");
+    }
+
+    private SlidingWindowCircuitBreaker givenCircuitBreaker(int openingThreshold,
+                                                            double failureRateThreshold,
+                                                            long slowCallDurationMs,
+                                                            int halfOpenMaxProbes) {
+
+        return new SlidingWindowCircuitBreaker(
+                openingThreshold, 100L, failureRateThreshold, slowCallDurationMs, 0.5, 200L, halfOpenMaxProbes, clock);
+    }
+
+    private static void call(SlidingWindowCircuitBreaker target, boolean failed, long durationMs) {
+        target.recordResult(target.tryAcquire(), failed, durationMs);
+    }
+}
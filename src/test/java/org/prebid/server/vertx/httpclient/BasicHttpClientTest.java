@@ -15,8 +15,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.HttpBody;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -24,6 +27,7 @@ import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.time.Clock;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -31,9 +35,14 @@ import java.util.concurrent.TimeoutException;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -93,6 +102,59 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldReturnResponseWithRawBodyBytes() {
+        // given
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(Buffer.buffer("response")));
+
+        // when
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        assertThat(future.result().getHttpBody()).isEqualTo(HttpBody.ofBytes("response".getBytes()));
+        assertThat(future.result().getBody()).isEqualTo("response");
+    }
+
+    @Test
+    public void requestShouldUpdatePoolMetricsWhenMetricsGiven() {
+        // given
+        final Metrics metrics = mock(Metrics.class);
+        final Clock clock = mock(Clock.class);
+        given(clock.millis()).willReturn(100L, 130L);
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(Buffer.buffer("response")));
+
+        final BasicHttpClient httpClient = new BasicHttpClient(vertx, wrappedHttpClient, metrics, clock);
+
+        // when
+        httpClient.request(HttpMethod.GET, "http://www.example.com/path", null, (String) null, 1L);
+
+        // then
+        final InOrder inOrder = inOrder(metrics);
+        inOrder.verify(metrics).updateHttpClientPoolQueued("www.example.com", 1);
+        inOrder.verify(metrics).updateHttpClientPoolQueued("www.example.com", -1);
+        inOrder.verify(metrics).updateHttpClientPoolWaitTime("www.example.com", 30L);
+        inOrder.verify(metrics).updateHttpClientPoolInUse("www.example.com", 1);
+        inOrder.verify(metrics).updateHttpClientPoolInUse("www.example.com", -1);
+    }
+
+    @Test
+    public void requestShouldNotUpdateInUsePoolMetricWhenConnectionWasNotObtained() {
+        // given
+        final Metrics metrics = mock(Metrics.class);
+        given(wrappedHttpClient.request(any())).willReturn(Future.failedFuture("Request exception"));
+
+        final BasicHttpClient httpClient = new BasicHttpClient(vertx, wrappedHttpClient, metrics, Clock.systemUTC());
+
+        // when
+        httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        verify(metrics).updateHttpClientPoolQueued("www.example.com", 1);
+        verify(metrics).updateHttpClientPoolQueued("www.example.com", -1);
+        verify(metrics, never()).updateHttpClientPoolInUse(anyString(), anyInt());
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // given and when
@@ -1,12 +1,7 @@
 package org.prebid.server.vertx.httpclient;
 
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.junit5.VertxExtension;
-import io.vertx.junit5.VertxTestContext;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,12 +10,11 @@ import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.time.Clock;
-import java.time.Instant;
-import java.time.ZoneId;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
 
@@ -31,15 +25,14 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
-@ExtendWith(VertxExtension.class)
 public class CircuitBreakerSecuredHttpClientTest {
 
-    private Vertx vertx;
-
+    @Mock(strictness = LENIENT)
     private Clock clock;
     @Mock
     private HttpClient wrappedHttpClient;
@@ -48,16 +41,14 @@ public class CircuitBreakerSecuredHttpClientTest {
 
     private CircuitBreakerSecuredHttpClient httpClient;
 
+    private long currentTime;
+
     @BeforeEach
     public void setUp() {
-        vertx = Vertx.vertx();
-        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L, 24, clock);
-    }
+        currentTime = 1000L;
+        given(clock.millis()).willAnswer(invocation -> currentTime);
 
-    @AfterEach
-    public void tearDown(VertxTestContext context) {
-        vertx.close(context.succeedingThenComplete());
+        httpClient = givenHttpClient(1, 0.0);
     }
 
     @Test
@@ -115,6 +106,10 @@ public class CircuitBreakerSecuredHttpClientTest {
 
         assertThat(future2.failed()).isTrue();
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+
+        verify(metrics).updateHttpClientCircuitBreakerRejectedMetric("http_url");
+        verify(metrics)
+                .updateHttpClientCircuitBreakerTransitionMetric("http_url", MetricName.transitions_open);
     }
 
     @Test
@@ -140,6 +135,8 @@ public class CircuitBreakerSecuredHttpClientTest {
 
         assertThat(future3.failed()).isTrue();
         assertThat(future3.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception");
+
+        assertThat(doRequest().cause()).hasMessage("open circuit");
     }
 
     @Test
@@ -164,12 +161,16 @@ public class CircuitBreakerSecuredHttpClientTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
 
         assertThat(future3.succeeded()).isTrue();
+
+        verify(metrics)
+                .updateHttpClientCircuitBreakerTransitionMetric("http_url", MetricName.transitions_half_open);
+        verify(metrics).updateHttpClientCircuitBreakerTransitionMetric("http_url", MetricName.transitions_closed);
     }
 
     @Test
     public void requestShouldFailWithOriginalExceptionIfOpeningIntervalExceeds() {
         // given
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 2, 100L, 200L, 24, clock);
+        httpClient = givenHttpClient(2, 0.0);
 
         givenHttpClientReturning(new RuntimeException("exception1"), new RuntimeException("exception2"));
 
@@ -189,6 +190,30 @@ public class CircuitBreakerSecuredHttpClientTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void requestShouldNotOpenCircuitIfFailureRateIsBelowThreshold() {
+        // given
+        httpClient = givenHttpClient(1, 0.5);
+
+        givenHttpClientReturning(
+                HttpClientResponse.of(200, null, null),
+                HttpClientResponse.of(200, null, null),
+                new RuntimeException("exception"),
+                HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest();
+        doRequest();
+        doRequest();
+        final Future<?> future = doRequest();
+
+        // then
+        verify(wrappedHttpClient, times(4))
+                .request(any(), anyString(), any(), (String) any(), anyLong(), anyLong());
+
+        assertThat(future.succeeded()).isTrue();
+    }
+
     @Test
     public void circuitBreakerNumberGaugeShouldReportActualNumber() {
         // when
@@ -255,15 +280,13 @@ public class CircuitBreakerSecuredHttpClientTest {
         }
     }
 
-    private Future<HttpClientResponse> doRequest() {
-        final Future<HttpClientResponse> future = httpClient
-                .request(HttpMethod.GET, "http://url", null, (String) null, 0L);
-
-        final Promise<?> promise = Promise.promise();
-        future.onComplete(ar -> promise.complete());
-        promise.future().toCompletionStage().toCompletableFuture().join();
+    private CircuitBreakerSecuredHttpClient givenHttpClient(int openingThreshold, double failureRateThreshold) {
+        return new CircuitBreakerSecuredHttpClient(
+                wrappedHttpClient, metrics, openingThreshold, 100L, failureRateThreshold, 0L, 1.0, 200L, 1, 24, clock);
+    }
 
-        return future;
+    private Future<HttpClientResponse> doRequest() {
+        return httpClient.request(HttpMethod.GET, "http://url", null, (String) null, 0L);
     }
 
     private void doWaitForOpeningInterval() {
@@ -275,8 +298,6 @@ public class CircuitBreakerSecuredHttpClientTest {
     }
 
     private void doWait(long timeout) {
-        final Promise<?> promise = Promise.promise();
-        vertx.setTimer(timeout, id -> promise.complete());
-        promise.future().toCompletionStage().toCompletableFuture().join();
+        currentTime += timeout;
     }
 }
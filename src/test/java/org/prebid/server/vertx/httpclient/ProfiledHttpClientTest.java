@@ -0,0 +1,78 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.http.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ProfiledHttpClientTest {
+
+    @Mock
+    private HttpClient defaultHttpClient;
+    @Mock
+    private HttpClient profiledHttpClient;
+
+    private ProfiledHttpClient httpClient;
+
+    @BeforeEach
+    public void setUp() {
+        httpClient = new ProfiledHttpClient(defaultHttpClient, Map.of("Bidder.Example.com", profiledHttpClient));
+    }
+
+    @Test
+    public void requestShouldUseClientDedicatedToRequestHost() {
+        // when
+        httpClient.request(HttpMethod.POST, "https://bidder.example.com:8443/bid?id=1", null, "body", 100L);
+
+        // then
+        verify(profiledHttpClient).request(
+                eq(HttpMethod.POST),
+                eq("https://bidder.example.com:8443/bid?id=1"),
+                any(),
+                eq("body"),
+                eq(100L),
+                anyLong());
+        verifyNoInteractions(defaultHttpClient);
+    }
+
+    @Test
+    public void requestShouldMatchHostCaseInsensitively() {
+        // when
+        httpClient.request(HttpMethod.POST, "http://BIDDER.example.com", null, new byte[0], 100L);
+
+        // then
+        verify(profiledHttpClient).request(any(), any(), any(), any(byte[].class), anyLong(), anyLong());
+        verifyNoInteractions(defaultHttpClient);
+    }
+
+    @Test
+    public void requestShouldUseDefaultClientForOtherHosts() {
+        // when
+        httpClient.request(HttpMethod.GET, "http://other.example.com/bidder.example.com", null, (String) null, 100L);
+
+        // then
+        verify(defaultHttpClient).request(any(), any(), any(), (String) any(), anyLong(), anyLong());
+        verifyNoInteractions(profiledHttpClient);
+    }
+
+    @Test
+    public void requestShouldUseDefaultClientForUrlWithoutScheme() {
+        // when
+        httpClient.request(HttpMethod.GET, "bidder.example.com", null, (String) null, 100L);
+
+        // then
+        verify(defaultHttpClient).request(any(), any(), any(), (String) any(), anyLong(), anyLong());
+        verifyNoInteractions(profiledHttpClient);
+    }
+}